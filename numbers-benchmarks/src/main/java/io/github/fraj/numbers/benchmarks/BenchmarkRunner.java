@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks JAR: runs the JMH benchmarks with the GC
+ * profiler enabled, so that allocation rates are reported along with
+ * throughput, and writes the results as JSON so that releases can be compared.
+ * <p>
+ * All the usual JMH command line options are accepted and take precedence.
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+		// Default private constructor
+	}
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args
+	 *            the JMH command line options
+	 * @throws CommandLineOptionException
+	 *             if the command line options are invalid
+	 * @throws RunnerException
+	 *             if the benchmarks fail to run
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		CommandLineOptions locCommandLine = new CommandLineOptions(args);
+		OptionsBuilder locBuilder = new OptionsBuilder();
+		locBuilder.parent(locCommandLine);
+		if (locCommandLine.getProfilers().isEmpty()) {
+			locBuilder.addProfiler(GCProfiler.class);
+		}
+		if (!locCommandLine.getResultFormat().hasValue()) {
+			locBuilder.resultFormat(ResultFormatType.JSON);
+		}
+		if (!locCommandLine.getResult().hasValue()) {
+			locBuilder.result("jmh-result.json");
+		}
+		Options locOptions = locBuilder.build();
+		new Runner(locOptions).run();
+	}
+
+}
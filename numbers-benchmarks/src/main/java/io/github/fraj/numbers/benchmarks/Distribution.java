@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * The operand distributions the benchmarks are run against.
+ */
+public enum Distribution {
+
+	/**
+	 * Small positive operands, as found in most everyday fractions.
+	 */
+	SMALL {
+		@Override
+		void fill(int[] argLeft, int[] argRight, Random argRandom) {
+			for (int i = 0; i < argLeft.length; i++) {
+				argLeft[i] = 1 + argRandom.nextInt(1000);
+				argRight[i] = 1 + argRandom.nextInt(1000);
+			}
+		}
+	},
+
+	/**
+	 * Random pairs of coprime operands, i.e. fractions which are already
+	 * reduced.
+	 */
+	COPRIME {
+		@Override
+		void fill(int[] argLeft, int[] argRight, Random argRandom) {
+			for (int i = 0; i < argLeft.length; i++) {
+				int locLeft;
+				int locRight;
+				do {
+					locLeft = 1 + argRandom.nextInt(1 << 20);
+					locRight = 1 + argRandom.nextInt(1 << 20);
+				} while (!BigInteger.valueOf(locLeft).gcd(BigInteger.valueOf(locRight)).equals(BigInteger.ONE));
+				argLeft[i] = locLeft;
+				argRight[i] = locRight;
+			}
+		}
+	},
+
+	/**
+	 * Operands close to {@link Integer#MAX_VALUE}.
+	 */
+	NEAR_MAX {
+		@Override
+		void fill(int[] argLeft, int[] argRight, Random argRandom) {
+			for (int i = 0; i < argLeft.length; i++) {
+				argLeft[i] = Integer.MAX_VALUE - argRandom.nextInt(1 << 20);
+				argRight[i] = Integer.MAX_VALUE - argRandom.nextInt(1 << 20);
+			}
+		}
+	},
+
+	/**
+	 * Consecutive Fibonacci numbers, the worst case of Euclid's algorithm.
+	 */
+	FIBONACCI {
+		@Override
+		void fill(int[] argLeft, int[] argRight, Random argRandom) {
+			int[] locFibonacci = new int[47];
+			locFibonacci[1] = 1;
+			for (int i = 2; i < locFibonacci.length; i++) {
+				locFibonacci[i] = locFibonacci[i - 1] + locFibonacci[i - 2];
+			}
+			for (int i = 0; i < argLeft.length; i++) {
+				int locIndex = 30 + argRandom.nextInt(locFibonacci.length - 31);
+				argLeft[i] = locFibonacci[locIndex + 1];
+				argRight[i] = locFibonacci[locIndex];
+			}
+		}
+	};
+
+	/**
+	 * The seed used to generate operands, so that successive runs and releases
+	 * are compared against the very same data.
+	 */
+	static final long SEED = 0x5DEECE66DL;
+
+	/**
+	 * Fills the two provided arrays with (non-zero) operands following this
+	 * distribution.
+	 *
+	 * @param argLeft
+	 *            the array receiving the left operands
+	 * @param argRight
+	 *            the array receiving the right operands
+	 * @param argRandom
+	 *            the source of randomness
+	 */
+	abstract void fill(int[] argLeft, int[] argRight, Random argRandom);
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.FareySequence;
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * Benchmarks for {@link FareySequence}, against nested loops over numerators
+ * and denominators filtered by {@link GCD#of(int, int)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FareySequenceBenchmark {
+
+	@Param({ "100", "1000" })
+	int order;
+
+	/**
+	 * Measures {@link FareySequence#packed(int)}.
+	 *
+	 * @return the sum of the packed fractions
+	 */
+	@Benchmark
+	public long packed() {
+		return FareySequence.packed(order).sum();
+	}
+
+	/**
+	 * Measures nested loops filtered by {@link GCD#of(int, int)}, as the
+	 * baseline, which does not even sort the fractions.
+	 *
+	 * @return the sum of the packed fractions
+	 */
+	@Benchmark
+	public long nestedLoops() {
+		long locSum = 0;
+		for (int locDenominator = 1; locDenominator <= order; locDenominator++) {
+			for (int locNumerator = 0; locNumerator <= locDenominator; locNumerator++) {
+				if (GCD.of(locNumerator, locDenominator) == 1) {
+					locSum += ((long) locNumerator << 32) | locDenominator;
+				}
+			}
+		}
+		return locSum;
+	}
+
+}
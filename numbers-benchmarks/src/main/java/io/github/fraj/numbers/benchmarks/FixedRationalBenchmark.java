@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.FixedRational;
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.LongFraction;
+
+/**
+ * Benchmarks for {@link FixedRational}, summing amounts of cents, against
+ * loops of {@link Fraction#add(Fraction)} and
+ * {@link LongFraction#add(LongFraction)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FixedRationalBenchmark {
+
+	static final int OPERANDS = 1024;
+
+	private static final long CENTS = 100;
+
+	FixedRational[] fixedRationals;
+	Fraction[] fractions;
+	LongFraction[] longFractions;
+
+	/**
+	 * Generates the operands.
+	 */
+	@Setup
+	public void setUp() {
+		Random locRandom = new Random(Distribution.SEED);
+		fixedRationals = new FixedRational[OPERANDS];
+		fractions = new Fraction[OPERANDS];
+		longFractions = new LongFraction[OPERANDS];
+		for (int i = 0; i < OPERANDS; i++) {
+			fractions[i] = new Fraction(locRandom.nextInt(200001) - 100000, 100);
+			fixedRationals[i] = FixedRational.of(fractions[i], CENTS);
+			longFractions[i] = new LongFraction(fractions[i]);
+		}
+	}
+
+	/**
+	 * Measures the sum of all the operands with
+	 * {@link FixedRational#add(FixedRational)}.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public FixedRational sumWithFixedRational() {
+		FixedRational locSum = FixedRational.of(0, CENTS);
+		for (int i = 0; i < OPERANDS; i++) {
+			locSum = locSum.add(fixedRationals[i]);
+		}
+		return locSum;
+	}
+
+	/**
+	 * Measures the sum of all the operands with {@link Fraction#add(Fraction)}.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public Fraction sumWithFraction() {
+		Fraction locSum = Fraction.ZERO;
+		for (int i = 0; i < OPERANDS; i++) {
+			locSum = locSum.add(fractions[i]);
+		}
+		return locSum;
+	}
+
+	/**
+	 * Measures the sum of all the operands with
+	 * {@link LongFraction#add(LongFraction)}.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public LongFraction sumWithLongFraction() {
+		LongFraction locSum = LongFraction.ZERO;
+		for (int i = 0; i < OPERANDS; i++) {
+			locSum = locSum.add(longFractions[i]);
+		}
+		return locSum;
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.FractionAccumulator;
+
+/**
+ * Benchmarks for {@link FractionAccumulator}, against a loop of
+ * {@link Fraction#add(Fraction)}.
+ * <p>
+ * Operands have everyday denominators, so that their exact sum still fits in a
+ * {@link Fraction} and both loops compute the same value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FractionAccumulatorBenchmark {
+
+	static final int OPERANDS = 1024;
+
+	private static final int[] DENOMINATORS = { 1, 2, 3, 4, 5, 6, 8, 10, 12, 16, 100 };
+
+	Fraction[] fractions;
+
+	/**
+	 * Generates the operands.
+	 */
+	@Setup
+	public void setUp() {
+		Random locRandom = new Random(Distribution.SEED);
+		fractions = new Fraction[OPERANDS];
+		for (int i = 0; i < OPERANDS; i++) {
+			fractions[i] = new Fraction(locRandom.nextInt(2001) - 1000,
+					DENOMINATORS[locRandom.nextInt(DENOMINATORS.length)]);
+		}
+	}
+
+	/**
+	 * Measures the sum of all the operands with {@link Fraction#add(Fraction)}.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public Fraction sumWithAdd() {
+		Fraction locSum = Fraction.ZERO;
+		for (int i = 0; i < OPERANDS; i++) {
+			locSum = locSum.add(fractions[i]);
+		}
+		return locSum;
+	}
+
+	/**
+	 * Measures the sum of all the operands with a {@link FractionAccumulator}.
+	 *
+	 * @return the sum
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public Fraction sumWithAccumulator() {
+		FractionAccumulator locSum = new FractionAccumulator();
+		for (int i = 0; i < OPERANDS; i++) {
+			locSum.add(fractions[i]);
+		}
+		return locSum.toFraction();
+	}
+
+}
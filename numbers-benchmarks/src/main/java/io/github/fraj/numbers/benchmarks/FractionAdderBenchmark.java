@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.BigFraction;
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.FractionAdder;
+
+/**
+ * Benchmarks for {@link FractionAdder} under contention, against a compare and
+ * set loop on an {@link AtomicReference}.
+ * <p>
+ * Run with <code>-t</code> to change the number of threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class FractionAdderBenchmark {
+
+	static final Fraction OPERAND = new Fraction(1, 3);
+	static final BigFraction BIG_OPERAND = new BigFraction(OPERAND);
+
+	FractionAdder adder;
+	AtomicReference<BigFraction> reference;
+
+	/**
+	 * Resets the shared sums.
+	 */
+	@Setup
+	public void setUp() {
+		adder = new FractionAdder();
+		reference = new AtomicReference<>(BigFraction.ZERO);
+	}
+
+	/**
+	 * Measures {@link FractionAdder#add(Fraction)}.
+	 */
+	@Benchmark
+	public void adder() {
+		adder.add(OPERAND);
+	}
+
+	/**
+	 * Measures {@link AtomicReference#accumulateAndGet}, as the baseline.
+	 *
+	 * @return the updated sum
+	 */
+	@Benchmark
+	public BigFraction atomicReference() {
+		return reference.accumulateAndGet(BIG_OPERAND, BigFraction::add);
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.FractionArrays;
+
+/**
+ * Benchmarks for sorting with {@link FractionArrays}, against
+ * {@link Arrays#sort(Object[])} on {@link Fraction}s.
+ * <p>
+ * Each invocation sorts a fresh copy of the same shuffled data, which is large
+ * enough for the copy to be negligible.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FractionArraysBenchmark {
+
+	static final int SIZE = 1 << 20;
+
+	@Param
+	Distribution distribution;
+
+	int[] sourceNumerators;
+	int[] sourceDenominators;
+	int[] numerators;
+	int[] denominators;
+	long[] packed;
+	Fraction[] fractions;
+
+	/**
+	 * Generates the fractions to be sorted.
+	 */
+	@Setup
+	public void setUp() {
+		sourceNumerators = new int[SIZE];
+		sourceDenominators = new int[SIZE];
+		distribution.fill(sourceNumerators, sourceDenominators, new Random(Distribution.SEED));
+		numerators = new int[SIZE];
+		denominators = new int[SIZE];
+		packed = new long[SIZE];
+		fractions = new Fraction[SIZE];
+	}
+
+	/**
+	 * Restores the unsorted fractions before each sort.
+	 */
+	@Setup(Level.Invocation)
+	public void reset() {
+		for (int i = 0; i < SIZE; i++) {
+			Fraction locFraction = new Fraction(sourceNumerators[i], sourceDenominators[i]);
+			numerators[i] = locFraction.getNumerator();
+			denominators[i] = locFraction.getDenominator();
+			packed[i] = FractionArrays.pack(locFraction);
+			fractions[i] = locFraction;
+		}
+	}
+
+	/**
+	 * Measures {@link FractionArrays#sort(int[], int[])}.
+	 *
+	 * @return the sorted numerators
+	 */
+	@Benchmark
+	public int[] sortParallelArrays() {
+		FractionArrays.sort(numerators, denominators);
+		return numerators;
+	}
+
+	/**
+	 * Measures {@link FractionArrays#parallelSort(int[], int[])}.
+	 *
+	 * @return the sorted numerators
+	 */
+	@Benchmark
+	public int[] parallelSortParallelArrays() {
+		FractionArrays.parallelSort(numerators, denominators);
+		return numerators;
+	}
+
+	/**
+	 * Measures {@link FractionArrays#sort(long[])}.
+	 *
+	 * @return the sorted fractions
+	 */
+	@Benchmark
+	public long[] sortPacked() {
+		FractionArrays.sort(packed);
+		return packed;
+	}
+
+	/**
+	 * Measures {@link Arrays#sort(Object[])}, as the baseline.
+	 *
+	 * @return the sorted fractions
+	 */
+	@Benchmark
+	public Fraction[] sortObjects() {
+		Arrays.sort(fractions);
+		return fractions;
+	}
+
+	/**
+	 * Measures {@link FractionArrays#select(int[], int[], int)} of the median.
+	 *
+	 * @return the median
+	 */
+	@Benchmark
+	public Fraction selectMedian() {
+		return FractionArrays.select(numerators, denominators, SIZE / 2);
+	}
+
+}
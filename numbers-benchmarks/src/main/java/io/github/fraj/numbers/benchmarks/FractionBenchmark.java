@@ -0,0 +1,289 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.fraj.numbers.fractions.Fraction;
+
+/**
+ * Benchmarks for {@link Fraction} construction and arithmetic.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FractionBenchmark {
+
+	static final int OPERANDS = 1024;
+
+	@Param
+	Distribution distribution;
+
+	int[] numerators;
+	int[] denominators;
+	Fraction[] fractions;
+	double[] doubles;
+	String[] strings;
+	byte[] bytes;
+	int[] offsets;
+
+	/**
+	 * Generates the operands.
+	 */
+	@Setup
+	public void setUp() {
+		numerators = new int[OPERANDS];
+		denominators = new int[OPERANDS];
+		distribution.fill(numerators, denominators, new Random(Distribution.SEED));
+		fractions = new Fraction[OPERANDS];
+		doubles = new double[OPERANDS];
+		for (int i = 0; i < OPERANDS; i++) {
+			fractions[i] = new Fraction(numerators[i], denominators[i]);
+			doubles[i] = fractions[i].doubleValue();
+		}
+		strings = new String[OPERANDS];
+		bytes = new byte[OPERANDS * 24];
+		offsets = new int[OPERANDS + 1];
+		for (int i = 0; i < OPERANDS; i++) {
+			strings[i] = fractions[i].toString();
+			offsets[i + 1] = fractions[i].formatTo(bytes, offsets[i]);
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#Fraction(int, int)}, i.e. the reduction of
+	 * numerator and denominator.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void construct(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(new Fraction(numerators[i], denominators[i]));
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#valueOf(int, int)}, which skips the reduction
+	 * and the allocation for small fractions.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void valueOf(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(Fraction.valueOf(numerators[i], denominators[i]));
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#add(Fraction)}.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void add(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(fractions[i].add(fractions[(i + 1) & (OPERANDS - 1)]));
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#multiply(Fraction)}.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void multiply(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(fractions[i].multiply(fractions[(i + 1) & (OPERANDS - 1)]));
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#divide(Fraction)}.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void divide(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(fractions[i].divide(fractions[(i + 1) & (OPERANDS - 1)]));
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#compareTo(Fraction)}.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void compareTo(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(fractions[i].compareTo(fractions[(i + 1) & (OPERANDS - 1)]));
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#approximate(double, int)}, with denominators
+	 * below 1000.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void approximate(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(Fraction.approximate(doubles[i], 1000));
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#approximate(double, double)}, within 10^-9.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void approximateEpsilon(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(Fraction.approximate(doubles[i], 1e-9));
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#parse(byte[], int, int)}.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void parse(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(Fraction.parse(bytes, offsets[i], offsets[i + 1]));
+		}
+	}
+
+	/**
+	 * Measures the usual parsing of Strings with {@link String#split(String)}
+	 * and {@link Integer#parseInt(String)}, as a baseline.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void parseSplit(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			String[] locParts = strings[i].split("/");
+			argBlackhole.consume(new Fraction(Integer.parseInt(locParts[0]),
+					(locParts.length == 1) ? 1 : Integer.parseInt(locParts[1])));
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#formatTo(byte[], int)}.
+	 *
+	 * @return the written bytes
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public byte[] formatTo() {
+		int locOffset = 0;
+		for (int i = 0; i < OPERANDS; i++) {
+			locOffset = fractions[i].formatTo(bytes, locOffset);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Measures {@link Fraction#toString()}, as a baseline.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void toString(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(fractions[i].toString());
+		}
+	}
+
+	/**
+	 * Measures {@link Fraction#round(RoundingMode)}, which is exact.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void round(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(fractions[i].round(RoundingMode.HALF_EVEN));
+		}
+	}
+
+	/**
+	 * Measures the rounding of {@link Fraction#doubleValue()}, which is not
+	 * exact, as the baseline.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void roundWithDouble(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume((int) Math.rint(fractions[i].doubleValue()));
+		}
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.Fraction;
+
+/**
+ * Benchmarks for {@link Fraction#dot(Fraction[], Fraction[])} and
+ * {@link Fraction#multiplyAdd(Fraction, Fraction)}, against a loop of
+ * {@link Fraction#add(Fraction)} and {@link Fraction#multiply(Fraction)}.
+ * <p>
+ * Operands have small numerators and decimal denominators, so that their exact
+ * dot product still fits in a {@link Fraction} and all loops compute the same
+ * value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FractionDotBenchmark {
+
+	static final int OPERANDS = 1024;
+
+	private static final int[] DENOMINATORS = { 1, 2, 4, 5, 10, 100 };
+
+	Fraction[] left;
+	Fraction[] right;
+
+	/**
+	 * Generates the operands.
+	 */
+	@Setup
+	public void setUp() {
+		Random locRandom = new Random(Distribution.SEED);
+		left = new Fraction[OPERANDS];
+		right = new Fraction[OPERANDS];
+		for (int i = 0; i < OPERANDS; i++) {
+			left[i] = new Fraction(locRandom.nextInt(61) - 30, DENOMINATORS[locRandom.nextInt(DENOMINATORS.length)]);
+			right[i] = new Fraction(locRandom.nextInt(61) - 30, DENOMINATORS[locRandom.nextInt(DENOMINATORS.length)]);
+		}
+	}
+
+	/**
+	 * Measures the dot product with {@link Fraction#add(Fraction)} and
+	 * {@link Fraction#multiply(Fraction)}.
+	 *
+	 * @return the dot product
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public Fraction dotWithAddMultiply() {
+		Fraction locSum = Fraction.ZERO;
+		for (int i = 0; i < OPERANDS; i++) {
+			locSum = locSum.add(left[i].multiply(right[i]));
+		}
+		return locSum;
+	}
+
+	/**
+	 * Measures the dot product with
+	 * {@link Fraction#multiplyAdd(Fraction, Fraction)}.
+	 *
+	 * @return the dot product
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public Fraction dotWithMultiplyAdd() {
+		Fraction locSum = Fraction.ZERO;
+		for (int i = 0; i < OPERANDS; i++) {
+			locSum = locSum.multiplyAdd(left[i], right[i]);
+		}
+		return locSum;
+	}
+
+	/**
+	 * Measures {@link Fraction#dot(Fraction[], Fraction[])}.
+	 *
+	 * @return the dot product
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public Fraction dot() {
+		return Fraction.dot(left, right);
+	}
+
+}
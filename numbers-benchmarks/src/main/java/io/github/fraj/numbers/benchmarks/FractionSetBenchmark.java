@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.FractionSet;
+import io.github.fraj.numbers.fractions.FractionToIntMap;
+
+/**
+ * Benchmarks for {@link FractionSet} and {@link FractionToIntMap}, against
+ * {@link HashSet} and {@link HashMap}, looking up all the fractions of a Farey
+ * sequence, whose regular structure collides under {@link Fraction#hashCode()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FractionSetBenchmark {
+
+	@Param({ "100", "1000" })
+	int order;
+
+	Fraction[] fractions;
+	FractionSet fractionSet;
+	Set<Fraction> hashSet;
+	FractionToIntMap fractionToIntMap;
+	Map<Fraction, Integer> hashMap;
+
+	/**
+	 * Fills the collections with the Farey sequence of the benchmarked order.
+	 */
+	@Setup
+	public void setUp() {
+		fractionSet = new FractionSet();
+		hashSet = new HashSet<>();
+		fractionToIntMap = new FractionToIntMap();
+		hashMap = new HashMap<>();
+		for (int locDenominator = 1; locDenominator <= order; locDenominator++) {
+			for (int locNumerator = 0; locNumerator <= locDenominator; locNumerator++) {
+				if (fractionSet.add(locNumerator, locDenominator)) {
+					Fraction locFraction = new Fraction(locNumerator, locDenominator);
+					hashSet.add(locFraction);
+					fractionToIntMap.put(locFraction, hashMap.size());
+					hashMap.put(locFraction, hashMap.size());
+				}
+			}
+		}
+		fractions = fractionSet.toFractionArray().toArray();
+	}
+
+	/**
+	 * Measures {@link FractionSet#contains(Fraction)}.
+	 *
+	 * @return the number of fractions found
+	 */
+	@Benchmark
+	public int fractionSet() {
+		int locFound = 0;
+		for (Fraction locFraction : fractions) {
+			if (fractionSet.contains(locFraction)) {
+				locFound++;
+			}
+		}
+		return locFound;
+	}
+
+	/**
+	 * Measures {@link HashSet#contains(Object)}, as the baseline.
+	 *
+	 * @return the number of fractions found
+	 */
+	@Benchmark
+	public int hashSet() {
+		int locFound = 0;
+		for (Fraction locFraction : fractions) {
+			if (hashSet.contains(locFraction)) {
+				locFound++;
+			}
+		}
+		return locFound;
+	}
+
+	/**
+	 * Measures {@link FractionToIntMap#getOrDefault(Fraction, int)}.
+	 *
+	 * @return the sum of the values found
+	 */
+	@Benchmark
+	public int fractionToIntMap() {
+		int locSum = 0;
+		for (Fraction locFraction : fractions) {
+			locSum += fractionToIntMap.getOrDefault(locFraction, 0);
+		}
+		return locSum;
+	}
+
+	/**
+	 * Measures {@link HashMap#get(Object)}, as the baseline.
+	 *
+	 * @return the sum of the values found
+	 */
+	@Benchmark
+	public int hashMap() {
+		int locSum = 0;
+		for (Fraction locFraction : fractions) {
+			locSum += hashMap.get(locFraction);
+		}
+		return locSum;
+	}
+
+}
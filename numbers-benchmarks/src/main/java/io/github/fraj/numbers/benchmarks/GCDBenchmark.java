@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * Benchmarks for {@link GCD}.
+ * <p>
+ * Euclid's algorithm is measured alongside as the baseline the binary
+ * algorithm used by {@link GCD} has to beat.
+ * <p>
+ * Batch methods only run on SIMD vectors when the incubator module is added,
+ * e.g. <code>-jvmArgsAppend --add-modules=jdk.incubator.vector</code> on
+ * Java 17 and later.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GCDBenchmark {
+
+	static final int OPERANDS = 1024;
+
+	@Param
+	Distribution distribution;
+
+	int[] left;
+	int[] right;
+	int[] result;
+	int[] numerators;
+	int[] denominators;
+	long[] longLeft;
+	long[] longRight;
+
+	/**
+	 * Generates the operands.
+	 */
+	@Setup
+	public void setUp() {
+		left = new int[OPERANDS];
+		right = new int[OPERANDS];
+		distribution.fill(left, right, new Random(Distribution.SEED));
+		result = new int[OPERANDS];
+		numerators = new int[OPERANDS];
+		denominators = new int[OPERANDS];
+		longLeft = new long[OPERANDS];
+		longRight = new long[OPERANDS];
+		for (int i = 0; i < OPERANDS; i++) {
+			longLeft[i] = (long) left[i] * right[i];
+			longRight[i] = right[i];
+		}
+	}
+
+	/**
+	 * Measures {@link GCD#of(int, int)}.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void of(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(GCD.of(left[i], right[i]));
+		}
+	}
+
+	/**
+	 * Measures {@link GCD#of(long, long)}.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void ofLong(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(GCD.of(longLeft[i], longRight[i]));
+		}
+	}
+
+	/**
+	 * Measures {@link GCD#ofAll(int[], int[], int[])}.
+	 *
+	 * @return the computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public int[] ofAll() {
+		GCD.ofAll(left, right, result);
+		return result;
+	}
+
+	/**
+	 * Measures {@link GCD#reduceAll(int[], int[])}, on copies of the operands
+	 * so that each invocation has the same work to do.
+	 *
+	 * @return the reduced numerators
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public int[] reduceAll() {
+		System.arraycopy(left, 0, numerators, 0, OPERANDS);
+		System.arraycopy(right, 0, denominators, 0, OPERANDS);
+		GCD.reduceAll(numerators, denominators);
+		return numerators;
+	}
+
+	/**
+	 * Measures the recursive Euclid's algorithm.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void euclidRecursive(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(euclidRecursive(left[i], right[i]));
+		}
+	}
+
+	/**
+	 * Measures the iterative Euclid's algorithm.
+	 *
+	 * @param argBlackhole
+	 *            the sink for computed values
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void euclidIterative(Blackhole argBlackhole) {
+		for (int i = 0; i < OPERANDS; i++) {
+			argBlackhole.consume(euclidIterative(left[i], right[i]));
+		}
+	}
+
+	private static int euclidRecursive(int argLeft, int argRight) {
+		return argRight == 0 ? argLeft : euclidRecursive(argRight, argLeft % argRight);
+	}
+
+	private static int euclidIterative(int argLeft, int argRight) {
+		int locLeft = argLeft;
+		int locRight = argRight;
+		while (locRight != 0) {
+			int locRemainder = locLeft % locRight;
+			locLeft = locRight;
+			locRight = locRemainder;
+		}
+		return locLeft;
+	}
+
+}
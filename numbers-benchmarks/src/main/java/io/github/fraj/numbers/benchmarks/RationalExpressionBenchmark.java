@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.RationalExpression;
+
+/**
+ * Benchmarks for {@link RationalExpression}, evaluating the formula
+ * <code>(a + b) * c / d - a</code>, against the same chain of {@link Fraction}
+ * operations.
+ * <p>
+ * Operands have everyday denominators, so that the chain of {@link Fraction}
+ * operations does not overflow and both compute the same value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RationalExpressionBenchmark {
+
+	static final int FORMULAS = 1024;
+
+	private static final int[] DENOMINATORS = { 1, 2, 3, 4, 5, 6, 8, 10, 12, 16, 100 };
+
+	Fraction[][] operands;
+
+	/**
+	 * Generates the operands.
+	 */
+	@Setup
+	public void setUp() {
+		Random locRandom = new Random(Distribution.SEED);
+		operands = new Fraction[FORMULAS][4];
+		for (int i = 0; i < FORMULAS; i++) {
+			for (int j = 0; j < 4; j++) {
+				operands[i][j] = new Fraction(1 + locRandom.nextInt(100),
+						DENOMINATORS[locRandom.nextInt(DENOMINATORS.length)]);
+			}
+		}
+	}
+
+	/**
+	 * Measures the formula with a chain of {@link Fraction} operations.
+	 *
+	 * @return the last value
+	 */
+	@Benchmark
+	@OperationsPerInvocation(FORMULAS)
+	public Fraction evaluateWithFraction() {
+		Fraction locValue = null;
+		for (int i = 0; i < FORMULAS; i++) {
+			Fraction[] locOperands = operands[i];
+			locValue = locOperands[0].add(locOperands[1]).multiply(locOperands[2]).divide(locOperands[3])
+					.substract(locOperands[0]);
+		}
+		return locValue;
+	}
+
+	/**
+	 * Measures the formula built and evaluated as a
+	 * {@link RationalExpression}.
+	 *
+	 * @return the last value
+	 */
+	@Benchmark
+	@OperationsPerInvocation(FORMULAS)
+	public Fraction evaluateWithExpression() {
+		Fraction locValue = null;
+		for (int i = 0; i < FORMULAS; i++) {
+			Fraction[] locOperands = operands[i];
+			RationalExpression locA = RationalExpression.of(locOperands[0]);
+			locValue = locA.add(locOperands[1]).multiply(locOperands[2]).divide(locOperands[3]).substract(locA)
+					.toFraction();
+		}
+		return locValue;
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.BigFraction;
+import io.github.fraj.numbers.matrices.RationalMatrix;
+
+/**
+ * Benchmarks for {@link RationalMatrix}, on matrices of random small
+ * fractions, against a naive Gaussian elimination on {@link BigFraction}s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RationalMatrixBenchmark {
+
+	@Param({ "4", "8", "16" })
+	int size;
+
+	RationalMatrix matrix;
+	BigFraction[][] fractions;
+
+	/**
+	 * Generates the matrix.
+	 */
+	@Setup
+	public void setUp() {
+		Random locRandom = new Random(Distribution.SEED);
+		matrix = new RationalMatrix(size, size);
+		fractions = new BigFraction[size][size];
+		for (int i = 0; i < size; i++) {
+			for (int j = 0; j < size; j++) {
+				int locNumerator = locRandom.nextInt(19) - 9;
+				int locDenominator = 1 + locRandom.nextInt(9);
+				matrix.set(i, j, locNumerator, locDenominator);
+				fractions[i][j] = new BigFraction(locNumerator, locDenominator);
+			}
+		}
+	}
+
+	/**
+	 * Measures {@link RationalMatrix#determinant()}.
+	 *
+	 * @return the determinant
+	 */
+	@Benchmark
+	public BigFraction determinant() {
+		return matrix.determinant();
+	}
+
+	/**
+	 * Measures the determinant computed by a naive Gaussian elimination on
+	 * {@link BigFraction}s, as the baseline.
+	 *
+	 * @return the determinant
+	 */
+	@Benchmark
+	public BigFraction determinantNaive() {
+		BigFraction[][] locRows = new BigFraction[size][];
+		for (int i = 0; i < size; i++) {
+			locRows[i] = fractions[i].clone();
+		}
+		BigFraction locDeterminant = new BigFraction(1);
+		for (int k = 0; k < size; k++) {
+			int locPivotRow = k;
+			while (locPivotRow < size && locRows[locPivotRow][k].signum() == 0) {
+				locPivotRow++;
+			}
+			if (locPivotRow == size) {
+				return BigFraction.ZERO;
+			}
+			if (locPivotRow != k) {
+				BigFraction[] locRow = locRows[k];
+				locRows[k] = locRows[locPivotRow];
+				locRows[locPivotRow] = locRow;
+				locDeterminant = locDeterminant.negate();
+			}
+			locDeterminant = locDeterminant.multiply(locRows[k][k]);
+			for (int i = k + 1; i < size; i++) {
+				BigFraction locFactor = locRows[i][k].divide(locRows[k][k]);
+				for (int j = k; j < size; j++) {
+					locRows[i][j] = locRows[i][j].substract(locFactor.multiply(locRows[k][j]));
+				}
+			}
+		}
+		return locDeterminant;
+	}
+
+}
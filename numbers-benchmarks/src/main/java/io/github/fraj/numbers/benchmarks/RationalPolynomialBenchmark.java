@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.fraj.numbers.fractions.BigFraction;
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.FractionArray;
+import io.github.fraj.numbers.polynomials.RationalPolynomial;
+
+/**
+ * Benchmarks for {@link RationalPolynomial}, on polynomials with random small
+ * fractions as coefficients, against lists of {@link BigFraction}s multiplied
+ * and evaluated coefficient by coefficient.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RationalPolynomialBenchmark {
+
+	@Param({ "8", "64", "256" })
+	int length;
+
+	RationalPolynomial left;
+	RationalPolynomial right;
+	List<BigFraction> leftList;
+	List<BigFraction> rightList;
+	FractionArray points;
+
+	/**
+	 * Generates the polynomials and the points of evaluation.
+	 */
+	@Setup
+	public void setUp() {
+		Random locRandom = new Random(Distribution.SEED);
+		leftList = randomList(locRandom);
+		rightList = randomList(locRandom);
+		left = RationalPolynomial.of(leftList.toArray(new BigFraction[length]));
+		right = RationalPolynomial.of(rightList.toArray(new BigFraction[length]));
+		points = new FractionArray(64);
+		for (int i = 0; i < points.length(); i++) {
+			points.set(i, locRandom.nextInt(19) - 9, 1 + locRandom.nextInt(9));
+		}
+	}
+
+	private List<BigFraction> randomList(Random argRandom) {
+		List<BigFraction> locList = new ArrayList<>(length);
+		for (int i = 0; i < length; i++) {
+			locList.add(new BigFraction(argRandom.nextInt(19) - 9, 1 + argRandom.nextInt(9)));
+		}
+		return locList;
+	}
+
+	/**
+	 * Measures {@link RationalPolynomial#multiply(RationalPolynomial)}.
+	 *
+	 * @return the product
+	 */
+	@Benchmark
+	public RationalPolynomial multiply() {
+		return left.multiply(right);
+	}
+
+	/**
+	 * Measures the schoolbook product of lists of {@link BigFraction}s, as the
+	 * baseline.
+	 *
+	 * @return the product
+	 */
+	@Benchmark
+	public List<BigFraction> multiplyNaive() {
+		BigFraction[] locProduct = new BigFraction[2 * length - 1];
+		Arrays.fill(locProduct, BigFraction.ZERO);
+		for (int i = 0; i < length; i++) {
+			for (int j = 0; j < length; j++) {
+				locProduct[i + j] = locProduct[i + j].add(leftList.get(i).multiply(rightList.get(j)));
+			}
+		}
+		return Arrays.asList(locProduct);
+	}
+
+	/**
+	 * Measures {@link RationalPolynomial#evaluate(FractionArray)}.
+	 *
+	 * @return the values
+	 */
+	@Benchmark
+	public BigFraction[] evaluate() {
+		return left.evaluate(points);
+	}
+
+	/**
+	 * Measures Horner's scheme on a list of {@link BigFraction}s at each point,
+	 * as the baseline.
+	 *
+	 * @return the values
+	 */
+	@Benchmark
+	public BigFraction[] evaluateNaive() {
+		BigFraction[] locValues = new BigFraction[points.length()];
+		for (int i = 0; i < locValues.length; i++) {
+			BigFraction locPoint = new BigFraction(points.getNumerator(i), points.getDenominator(i));
+			BigFraction locValue = BigFraction.ZERO;
+			for (int j = length - 1; j >= 0; j--) {
+				locValue = locValue.multiply(locPoint).add(leftList.get(j));
+			}
+			locValues[i] = locValue;
+		}
+		return locValues;
+	}
+
+	/**
+	 * Measures {@link RationalPolynomial#evaluate(Fraction)} at a single point.
+	 *
+	 * @return the value
+	 */
+	@Benchmark
+	public BigFraction evaluateOne() {
+		return left.evaluate(new Fraction(points.getNumerator(0), points.getDenominator(0)));
+	}
+
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * An immutable number defined as the fraction of 2 arbitrary-precision
+ * integers.
+ * <p>
+ * Much like {@link BigDecimal} does with its compact long, values whose reduced
+ * numerator and denominator fit in a long are held inline and computed with
+ * primitive, overflow-checked arithmetic. {@link BigInteger} components are
+ * only created when an operation overflows, and the result goes back to the
+ * compact form as soon as it fits again, so arithmetic never loses precision
+ * while small values keep the speed of {@link LongFraction}.
+ */
+public class BigFraction extends Number implements Comparable<BigFraction> {
+
+	/**
+	 * A {@link BigFraction} instance for zero
+	 */
+	public static final BigFraction ZERO = new BigFraction(0);
+
+	private static final long serialVersionUID = 1L;
+
+	/*
+	 * The greatest long such that it and all smaller positive longs are exact
+	 * doubles.
+	 */
+	private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+	/*
+	 * The compact components: only meaningful when the big ones are null.
+	 */
+	private final long numerator;
+	private final long denominator;
+
+	/*
+	 * The inflated components: only set when the value does not fit the
+	 * compact form.
+	 */
+	private final BigInteger bigNumerator;
+	private final BigInteger bigDenominator;
+
+	/**
+	 * Constructs a fraction from the two provided long integers as its
+	 * numerator and denominator.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public BigFraction(long argNumerator, long argDenominator) {
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		long locGcd = GCD.of(argNumerator, argDenominator);
+		long locNumerator = argNumerator / locGcd;
+		long locDenominator = argDenominator / locGcd;
+		if (locDenominator > 0) {
+			numerator = locNumerator;
+			denominator = locDenominator;
+			bigNumerator = null;
+			bigDenominator = null;
+		} else if (locNumerator != Long.MIN_VALUE && locDenominator != Long.MIN_VALUE) {
+			numerator = -locNumerator;
+			denominator = -locDenominator;
+			bigNumerator = null;
+			bigDenominator = null;
+		} else {
+			numerator = 0;
+			denominator = 0;
+			bigNumerator = BigInteger.valueOf(locNumerator).negate();
+			bigDenominator = BigInteger.valueOf(locDenominator).negate();
+		}
+	}
+
+	/**
+	 * Constructs a fraction from the single provided long integer as its
+	 * numerator (denominator is 1).
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 */
+	public BigFraction(long argNumerator) {
+		this(argNumerator, 1L, true);
+	}
+
+	/**
+	 * Constructs a fraction from the two provided arbitrary-precision integers
+	 * as its numerator and denominator.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public BigFraction(BigInteger argNumerator, BigInteger argDenominator) {
+		this(reduceNumerator(argNumerator, argDenominator), reduceDenominator(argNumerator, argDenominator), true);
+	}
+
+	/**
+	 * Constructs a fraction with the same value as the provided
+	 * {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be converted
+	 */
+	public BigFraction(Fraction argFraction) {
+		this(argFraction.getNumerator(), argFraction.getDenominator(), true);
+	}
+
+	/**
+	 * Constructs a fraction with the same value as the provided
+	 * {@link LongFraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link LongFraction} to be converted
+	 */
+	public BigFraction(LongFraction argFraction) {
+		this(argFraction.getNumerator(), argFraction.getDenominator(), true);
+	}
+
+	/*
+	 * Constructor for compact components which are already known to be
+	 * reduced, with a positive denominator.
+	 */
+	private BigFraction(long argNumerator, long argDenominator, boolean argReduced) {
+		numerator = argNumerator;
+		denominator = argDenominator;
+		bigNumerator = null;
+		bigDenominator = null;
+	}
+
+	/*
+	 * Constructor for components which are already known to be reduced, with a
+	 * positive denominator: deflates them to the compact form when they fit.
+	 */
+	private BigFraction(BigInteger argNumerator, BigInteger argDenominator, boolean argReduced) {
+		if (argNumerator.bitLength() < Long.SIZE && argDenominator.bitLength() < Long.SIZE) {
+			numerator = argNumerator.longValue();
+			denominator = argDenominator.longValue();
+			bigNumerator = null;
+			bigDenominator = null;
+		} else {
+			numerator = 0;
+			denominator = 0;
+			bigNumerator = argNumerator;
+			bigDenominator = argDenominator;
+		}
+	}
+
+	private static BigInteger reduceNumerator(BigInteger argNumerator, BigInteger argDenominator) {
+		if (argDenominator.signum() == 0) {
+			throw new ArithmeticException();
+		}
+		BigInteger locNumerator = argNumerator.divide(argNumerator.gcd(argDenominator));
+		return (argDenominator.signum() < 0) ? locNumerator.negate() : locNumerator;
+	}
+
+	private static BigInteger reduceDenominator(BigInteger argNumerator, BigInteger argDenominator) {
+		return argDenominator.abs().divide(argNumerator.gcd(argDenominator));
+	}
+
+	private boolean isCompact() {
+		return bigDenominator == null;
+	}
+
+	/**
+	 * Gets the fraction's (reduced) numerator.
+	 *
+	 * @return the fraction's (reduced) numerator
+	 */
+	public BigInteger getNumerator() {
+		return isCompact() ? BigInteger.valueOf(numerator) : bigNumerator;
+	}
+
+	/**
+	 * Gets the fraction's (reduced) denominator.
+	 *
+	 * @return the fraction's (reduced) denominator
+	 */
+	public BigInteger getDenominator() {
+		return isCompact() ? BigInteger.valueOf(denominator) : bigDenominator;
+	}
+
+	/**
+	 * Gets the signum of this fraction.
+	 *
+	 * @return -1, 0 or 1 as the value of this fraction is negative, zero or
+	 *         positive
+	 */
+	public int signum() {
+		return isCompact() ? Long.signum(numerator) : bigNumerator.signum();
+	}
+
+	@Override
+	public int intValue() {
+		return (int) longValue();
+	}
+
+	@Override
+	public long longValue() {
+		return isCompact() ? (numerator / denominator) : bigNumerator.divide(bigDenominator).longValue();
+	}
+
+	@Override
+	public float floatValue() {
+		return (float) doubleValue();
+	}
+
+	@Override
+	public double doubleValue() {
+		if (isCompact() && Math.abs(numerator) <= MAX_EXACT_DOUBLE && denominator <= MAX_EXACT_DOUBLE) {
+			// Both operands are exact doubles, so that the division rounds once
+			return (double) numerator / denominator;
+		}
+		return toDouble(getNumerator(), getDenominator());
+	}
+
+	/*
+	 * Correctly rounds the quotient of the provided integers (the denominator
+	 * being positive) to the nearest double, ties to even: the quotient is
+	 * computed to at least 54 significant bits, then rounded by hand with the
+	 * division remainder as sticky bit, so that it is never rounded twice, even
+	 * in the subnormal range.
+	 */
+	private static double toDouble(BigInteger argNumerator, BigInteger argDenominator) {
+		if (argNumerator.signum() == 0) {
+			return 0.0;
+		}
+		BigInteger locNumerator = argNumerator.abs();
+		BigInteger locDenominator = argDenominator;
+		// Weight of the quotient's last bit is 2^-locShift, quotient has 54 or
+		// 55 bits
+		int locShift = 54 - locNumerator.bitLength() + locDenominator.bitLength();
+		if (locShift > 0) {
+			locNumerator = locNumerator.shiftLeft(locShift);
+		} else {
+			locDenominator = locDenominator.shiftLeft(-locShift);
+		}
+		BigInteger[] locDivision = locNumerator.divideAndRemainder(locDenominator);
+		BigInteger locQuotient = locDivision[0];
+		// Dropped bits: down to 53 significant bits, or to 2^-1074 for
+		// subnormals
+		int locDropped = Math.max(locQuotient.bitLength() - 53, locShift - 1074);
+		long locMantissa = locQuotient.shiftRight(locDropped).longValue();
+		if (locQuotient.testBit(locDropped - 1) && ((locMantissa & 1) != 0 || locDivision[1].signum() != 0
+				|| locQuotient.getLowestSetBit() < locDropped - 1)) {
+			locMantissa++;
+		}
+		double locResult = Math.scalb((double) locMantissa, locDropped - locShift);
+		return (argNumerator.signum() < 0) ? -locResult : locResult;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		if (isCompact()) {
+			result = prime * result + Long.hashCode(numerator);
+			result = prime * result + Long.hashCode(denominator);
+		} else {
+			result = prime * result + bigNumerator.hashCode();
+			result = prime * result + bigDenominator.hashCode();
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BigFraction other = (BigFraction) obj;
+		// Both forms are canonical, so a compact value never equals an inflated one
+		if (isCompact()) {
+			return other.isCompact() && (numerator == other.numerator) && (denominator == other.denominator);
+		}
+		return !other.isCompact() && bigNumerator.equals(other.bigNumerator)
+				&& bigDenominator.equals(other.bigDenominator);
+	}
+
+	@Override
+	public String toString() {
+		if (isCompact()) {
+			return (denominator == 1) ? (Long.toString(numerator))
+					: (Long.toString(numerator) + "/" + Long.toString(denominator));
+		}
+		return bigDenominator.equals(BigInteger.ONE) ? bigNumerator.toString()
+				: (bigNumerator.toString() + "/" + bigDenominator.toString());
+	}
+
+	@Override
+	public int compareTo(BigFraction argOther) {
+		if (isCompact() && argOther.isCompact()) {
+			if (denominator == argOther.denominator) {
+				return Long.compare(numerator, argOther.numerator);
+			}
+			try {
+				return Long.compare(Math.multiplyExact(numerator, argOther.denominator),
+						Math.multiplyExact(argOther.numerator, denominator));
+			} catch (ArithmeticException e) {
+				// Falls through to the arbitrary-precision comparison
+			}
+		}
+		return getNumerator().multiply(argOther.getDenominator())
+				.compareTo(argOther.getNumerator().multiply(getDenominator()));
+	}
+
+	/**
+	 * Returns a {@link BigFraction} resulting from adding the specified
+	 * {@link BigFraction} to this.
+	 *
+	 * @param argOther
+	 *            the {@link BigFraction} to be added
+	 * @return this + argOther
+	 */
+	public BigFraction add(BigFraction argOther) {
+		if (argOther.signum() == 0) {
+			return this;
+		}
+		if (signum() == 0) {
+			return argOther;
+		}
+		if (isCompact() && argOther.isCompact()) {
+			try {
+				return addCompact(argOther.numerator, argOther.denominator);
+			} catch (ArithmeticException e) {
+				// Falls through to the arbitrary-precision addition
+			}
+		}
+		return addBig(argOther.getNumerator(), argOther.getDenominator());
+	}
+
+	/**
+	 * Returns a {@link BigFraction} resulting from substracting the specified
+	 * {@link BigFraction} from this.
+	 *
+	 * @param argOther
+	 *            the {@link BigFraction} to be substracted
+	 * @return this - argOther
+	 */
+	public BigFraction substract(BigFraction argOther) {
+		return add(argOther.negate());
+	}
+
+	/*
+	 * Same algorithm as LongFraction: divides out the GCD of the denominators
+	 * so that the result comes out reduced.
+	 */
+	private BigFraction addCompact(long argNumerator, long argDenominator) {
+		long locGcd = GCD.of(denominator, argDenominator);
+		if (locGcd == 1) {
+			long locNewNumerator = Math.addExact(Math.multiplyExact(numerator, argDenominator),
+					Math.multiplyExact(argNumerator, denominator));
+			return new BigFraction(locNewNumerator, Math.multiplyExact(denominator, argDenominator), true);
+		}
+		long locNewNumerator = Math.addExact(Math.multiplyExact(numerator, argDenominator / locGcd),
+				Math.multiplyExact(argNumerator, denominator / locGcd));
+		if (locNewNumerator == 0) {
+			return ZERO;
+		}
+		long locSecondGcd = GCD.of(locNewNumerator, locGcd);
+		return new BigFraction(locNewNumerator / locSecondGcd,
+				Math.multiplyExact(denominator / locGcd, argDenominator / locSecondGcd), true);
+	}
+
+	private BigFraction addBig(BigInteger argNumerator, BigInteger argDenominator) {
+		BigInteger locNumerator = getNumerator();
+		BigInteger locDenominator = getDenominator();
+		BigInteger locNewNumerator = locNumerator.multiply(argDenominator).add(argNumerator.multiply(locDenominator));
+		if (locNewNumerator.signum() == 0) {
+			return ZERO;
+		}
+		BigInteger locNewDenominator = locDenominator.multiply(argDenominator);
+		BigInteger locGcd = locNewNumerator.gcd(locNewDenominator);
+		return new BigFraction(locNewNumerator.divide(locGcd), locNewDenominator.divide(locGcd), true);
+	}
+
+	/**
+	 * Returns a {@link BigFraction} resulting from negating this.
+	 *
+	 * @return -this
+	 */
+	public BigFraction negate() {
+		if (isCompact() && numerator != Long.MIN_VALUE) {
+			return new BigFraction(-numerator, denominator, true);
+		}
+		return new BigFraction(getNumerator().negate(), getDenominator(), true);
+	}
+
+	/**
+	 * Returns a {@link BigFraction} resulting from multiplying this by the
+	 * specified {@link BigFraction}.
+	 *
+	 * @param argOther
+	 *            the {@link BigFraction} to be multiplied by
+	 * @return this * argOther
+	 */
+	public BigFraction multiply(BigFraction argOther) {
+		if (signum() == 0 || argOther.signum() == 0) {
+			return ZERO;
+		}
+		if (isCompact() && argOther.isCompact()) {
+			try {
+				return multiplyCompact(argOther.numerator, argOther.denominator);
+			} catch (ArithmeticException e) {
+				// Falls through to the arbitrary-precision multiplication
+			}
+		}
+		return multiplyBig(argOther.getNumerator(), argOther.getDenominator());
+	}
+
+	/*
+	 * Multiplies by a non-zero reduced fraction after cross-reducing each
+	 * numerator with the other denominator, so that the product comes out
+	 * reduced.
+	 */
+	private BigFraction multiplyCompact(long argNumerator, long argDenominator) {
+		long locLeftGcd = GCD.of(numerator, argDenominator);
+		long locRightGcd = GCD.of(argNumerator, denominator);
+		long locNewNumerator = Math.multiplyExact(numerator / locLeftGcd, argNumerator / locRightGcd);
+		long locNewDenominator = Math.multiplyExact(denominator / locRightGcd, argDenominator / locLeftGcd);
+		if (locNewDenominator < 0) {
+			locNewNumerator = Math.negateExact(locNewNumerator);
+			locNewDenominator = Math.negateExact(locNewDenominator);
+		}
+		return new BigFraction(locNewNumerator, locNewDenominator, true);
+	}
+
+	private BigFraction multiplyBig(BigInteger argNumerator, BigInteger argDenominator) {
+		BigInteger locNumerator = getNumerator();
+		BigInteger locDenominator = getDenominator();
+		BigInteger locLeftGcd = locNumerator.gcd(argDenominator);
+		BigInteger locRightGcd = argNumerator.gcd(locDenominator);
+		BigInteger locNewNumerator = locNumerator.divide(locLeftGcd).multiply(argNumerator.divide(locRightGcd));
+		BigInteger locNewDenominator = locDenominator.divide(locRightGcd).multiply(argDenominator.divide(locLeftGcd));
+		if (locNewDenominator.signum() < 0) {
+			locNewNumerator = locNewNumerator.negate();
+			locNewDenominator = locNewDenominator.negate();
+		}
+		return new BigFraction(locNewNumerator, locNewDenominator, true);
+	}
+
+	/**
+	 * Returns a {@link BigFraction} resulting from inverting this.
+	 *
+	 * @return this^-1
+	 * @throws ArithmeticException
+	 *             if this is zero
+	 */
+	public BigFraction invert() {
+		if (signum() == 0) {
+			throw new ArithmeticException();
+		}
+		if (isCompact() && numerator != Long.MIN_VALUE) {
+			return (numerator < 0) ? new BigFraction(-denominator, -numerator, true)
+					: new BigFraction(denominator, numerator, true);
+		}
+		BigInteger locNumerator = getNumerator();
+		BigInteger locDenominator = getDenominator();
+		return (locNumerator.signum() < 0) ? new BigFraction(locDenominator.negate(), locNumerator.negate(), true)
+				: new BigFraction(locDenominator, locNumerator, true);
+	}
+
+	/**
+	 * Returns a {@link BigFraction} resulting from dividing this by the
+	 * specified {@link BigFraction}.
+	 *
+	 * @param argOther
+	 *            the {@link BigFraction} to be divided by
+	 * @return this / argOther
+	 * @throws ArithmeticException
+	 *             if argOther is zero
+	 */
+	public BigFraction divide(BigFraction argOther) {
+		if (argOther.signum() == 0) {
+			throw new ArithmeticException();
+		}
+		if (signum() == 0) {
+			return ZERO;
+		}
+		if (isCompact() && argOther.isCompact()) {
+			try {
+				return multiplyCompact(argOther.denominator, argOther.numerator);
+			} catch (ArithmeticException e) {
+				// Falls through to the arbitrary-precision division
+			}
+		}
+		return multiplyBig(argOther.getDenominator(), argOther.getNumerator());
+	}
+
+	/**
+	 * Tells whether this {@link BigFraction} holds an integer value.
+	 *
+	 * @return <code>true</code> if this holds an integer value, otherwise false
+	 */
+	public boolean isInteger() {
+		return isCompact() ? (denominator == 1) : bigDenominator.equals(BigInteger.ONE);
+	}
+
+	/**
+	 * Converts this to a {@link LongFraction}.
+	 *
+	 * @return a {@link LongFraction} with the same value as this
+	 * @throws ArithmeticException
+	 *             if numerator or denominator does not fit in a long
+	 */
+	public LongFraction toLongFraction() {
+		if (!isCompact()) {
+			throw new ArithmeticException("long overflow");
+		}
+		return new LongFraction(numerator, denominator);
+	}
+
+	/**
+	 * Converts this to a {@link Fraction}.
+	 *
+	 * @return a {@link Fraction} with the same value as this
+	 * @throws ArithmeticException
+	 *             if numerator or denominator does not fit in an int
+	 */
+	public Fraction toFraction() {
+		if (!isCompact()) {
+			throw new ArithmeticException("integer overflow");
+		}
+		return new Fraction(Math.toIntExact(numerator), Math.toIntExact(denominator));
+	}
+
+}
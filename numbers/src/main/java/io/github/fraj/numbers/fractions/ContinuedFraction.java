@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.math.BigInteger;
+
+/**
+ * The exact continued fraction expansion <code>[a0; a1, a2, ...]</code> of a
+ * finite non-negative double, whose terms are returned one by one.
+ * <p>
+ * A double is a dyadic rational <code>a0 + m / 2^k</code> with an odd
+ * <code>m</code> below 2^53, so the expansion is Euclid's algorithm run on
+ * <code>2^k</code> and <code>m</code>, with long arithmetic only: no rounding
+ * error creeps in, unlike with the usual floating-point recurrence. When
+ * <code>2^k</code> does not fit in a long, the first division is done by
+ * chunks of bits, and the first term saturates to {@link Long#MAX_VALUE} if it
+ * is too large for a long, which exceeds any int denominator anyway.
+ */
+final class ContinuedFraction {
+
+	/*
+	 * Number of bits shifted into the remainder per step of the chunked
+	 * division: a remainder below 2^53 shifted by 10 bits stays below 2^63.
+	 */
+	private static final int CHUNK_BITS = 10;
+
+	private long integerPart;
+	private boolean integerPartReturned;
+	private int pendingShift;
+
+	// The complete quotient still to be expanded is numerator / denominator
+	private long numerator;
+	private long denominator;
+
+	/**
+	 * Starts the expansion of a double.
+	 *
+	 * @param argValue
+	 *            a finite double, positive or zero, below 2^63
+	 */
+	ContinuedFraction(double argValue) {
+		integerPart = (long) argValue;
+		double locFractionalPart = argValue - integerPart;
+		if (locFractionalPart == 0) {
+			return;
+		}
+		long locBits = Double.doubleToRawLongBits(locFractionalPart);
+		int locExponent = (int) (locBits >>> 52) & 0x7ff;
+		long locMantissa = locBits & ((1L << 52) - 1);
+		int locShift;
+		if (locExponent == 0) {
+			// Subnormal value: mantissa * 2^-1074
+			locShift = 1074;
+		} else {
+			locMantissa |= 1L << 52;
+			locShift = 1075 - locExponent;
+		}
+		int locTrailingZeros = Long.numberOfTrailingZeros(locMantissa);
+		locShift -= locTrailingZeros;
+		denominator = locMantissa >>> locTrailingZeros;
+		if (locShift < Long.SIZE - 1) {
+			numerator = 1L << locShift;
+		} else {
+			pendingShift = locShift;
+		}
+	}
+
+	/**
+	 * Returns the next term of the expansion.
+	 *
+	 * @return the next term, positive except the first one which may be zero,
+	 *         or -1 if the expansion is complete
+	 */
+	long next() {
+		if (!integerPartReturned) {
+			integerPartReturned = true;
+			return integerPart;
+		}
+		if (denominator == 0) {
+			return -1;
+		}
+		long locTerm;
+		long locRemainder;
+		if (pendingShift > 0) {
+			// Long division of 2^pendingShift by the denominator
+			locTerm = 0;
+			locRemainder = 1;
+			for (int locBits = pendingShift; locBits > 0; locBits -= CHUNK_BITS) {
+				int locChunk = Math.min(CHUNK_BITS, locBits);
+				locRemainder <<= locChunk;
+				locTerm = (locTerm > Long.MAX_VALUE >>> (CHUNK_BITS + 1)) ? Long.MAX_VALUE
+						: (locTerm << locChunk) + locRemainder / denominator;
+				locRemainder %= denominator;
+			}
+			pendingShift = 0;
+		} else {
+			locTerm = numerator / denominator;
+			locRemainder = numerator % denominator;
+		}
+		numerator = denominator;
+		denominator = locRemainder;
+		return locTerm;
+	}
+
+	/**
+	 * Compares the fractional part of the complete quotient whose integer part
+	 * was the last returned term, i.e. the inverse of the next complete
+	 * quotient, to a fraction.
+	 *
+	 * @param argNumerator
+	 *            the numerator of the fraction, positive or zero
+	 * @param argDenominator
+	 *            the denominator of the fraction, positive
+	 * @return a negative integer, zero, or a positive integer as the fractional
+	 *         part is less than, equal to, or greater than the fraction
+	 */
+	int compareFractionalPart(long argNumerator, long argDenominator) {
+		// Rarely needed, hence no attempt to avoid allocations
+		return BigInteger.valueOf(denominator).multiply(BigInteger.valueOf(argDenominator))
+				.compareTo(BigInteger.valueOf(argNumerator).multiply(BigInteger.valueOf(numerator)));
+	}
+
+}
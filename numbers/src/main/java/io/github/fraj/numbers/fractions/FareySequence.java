@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * A utility class to enumerate Farey sequences lazily: the Farey sequence of
+ * order <code>N</code> is the ascending sequence of the reduced fractions
+ * between 0 and 1 whose denominators do not exceed <code>N</code>.
+ * <p>
+ * Each fraction follows from the two previous ones, <code>a/b</code> and
+ * <code>c/d</code>, by the recurrence <code>(k c - a) / (k d - b)</code> with
+ * <code>k = (N + b) / d</code>, so that enumerating costs a few multiplications
+ * and divisions per fraction, instead of a GCD per candidate. Enumeration can
+ * start from any fraction, since the successor of <code>c/d</code> can be
+ * derived from the Bézout coefficients of <code>c</code> and <code>d</code>:
+ * this lets streams split at fractions of the sequence for parallel
+ * processing, and extends the enumeration to any range of fractions with
+ * bounded denominators.
+ * <p>
+ * Fractions are enumerated either as {@link Fraction}s, or as <code>long</code>s
+ * packed as by {@link FractionArrays#pack(Fraction)}, without any allocation.
+ */
+public final class FareySequence {
+
+	/*
+	 * Ranges with fewer estimated fractions than this are not split.
+	 */
+	private static final long SPLIT_THRESHOLD = 1 << 10;
+
+	/*
+	 * The density of reduced fractions with denominators up to N is about
+	 * 3 N^2 / pi^2 per unit length.
+	 */
+	private static final double DENSITY = 3 / (Math.PI * Math.PI);
+
+	private FareySequence() {
+		// Default private constructor
+	}
+
+	/**
+	 * Streams the Farey sequence of the provided order, from 0 to 1.
+	 *
+	 * @param argOrder
+	 *            the order of the sequence, i.e. its maximum denominator
+	 * @return an ordered stream of {@link Fraction}s
+	 * @throws IllegalArgumentException
+	 *             if the order is not positive
+	 */
+	public static Stream<Fraction> stream(int argOrder) {
+		return stream(argOrder, Fraction.valueOf(0), Fraction.valueOf(1));
+	}
+
+	/**
+	 * Streams the reduced fractions of a closed range whose denominators do
+	 * not exceed the provided order, in ascending order.
+	 *
+	 * @param argOrder
+	 *            the maximum denominator
+	 * @param argFrom
+	 *            the lower bound (inclusive)
+	 * @param argTo
+	 *            the upper bound (inclusive)
+	 * @return an ordered stream of {@link Fraction}s
+	 * @throws IllegalArgumentException
+	 *             if the order is not positive
+	 * @throws ArithmeticException
+	 *             if a fraction of the range does not fit in int components
+	 */
+	public static Stream<Fraction> stream(int argOrder, Fraction argFrom, Fraction argTo) {
+		return packed(argOrder, argFrom, argTo).mapToObj(argPacked -> Fraction
+				.ofReduced(FractionArrays.numerator(argPacked), FractionArrays.denominator(argPacked)));
+	}
+
+	/**
+	 * Streams the Farey sequence of the provided order, from 0 to 1, as packed
+	 * fractions.
+	 *
+	 * @param argOrder
+	 *            the order of the sequence, i.e. its maximum denominator
+	 * @return an ordered stream of packed fractions
+	 * @throws IllegalArgumentException
+	 *             if the order is not positive
+	 */
+	public static LongStream packed(int argOrder) {
+		return packed(argOrder, Fraction.valueOf(0), Fraction.valueOf(1));
+	}
+
+	/**
+	 * Streams the reduced fractions of a closed range whose denominators do
+	 * not exceed the provided order, in ascending order, as packed fractions.
+	 *
+	 * @param argOrder
+	 *            the maximum denominator
+	 * @param argFrom
+	 *            the lower bound (inclusive)
+	 * @param argTo
+	 *            the upper bound (inclusive)
+	 * @return an ordered stream of packed fractions
+	 * @throws IllegalArgumentException
+	 *             if the order is not positive
+	 * @throws ArithmeticException
+	 *             if a fraction of the range does not fit in int components
+	 */
+	public static LongStream packed(int argOrder, Fraction argFrom, Fraction argTo) {
+		return StreamSupport.longStream(spliterator(argOrder, argFrom, argTo), false);
+	}
+
+	/**
+	 * Creates a spliterator over the reduced fractions of a closed range whose
+	 * denominators do not exceed the provided order, in ascending order, as
+	 * packed fractions. It splits at fractions of the sequence close to the
+	 * middle of its range, so that parallel streams share it evenly.
+	 *
+	 * @param argOrder
+	 *            the maximum denominator
+	 * @param argFrom
+	 *            the lower bound (inclusive)
+	 * @param argTo
+	 *            the upper bound (inclusive)
+	 * @return a spliterator of packed fractions
+	 * @throws IllegalArgumentException
+	 *             if the order is not positive
+	 * @throws ArithmeticException
+	 *             if a fraction of the range does not fit in int components
+	 */
+	public static Spliterator.OfLong spliterator(int argOrder, Fraction argFrom, Fraction argTo) {
+		Fraction locFirst = SternBrocotTree.ceiling(argFrom, argOrder);
+		Fraction locLast = SternBrocotTree.floor(argTo, argOrder);
+		long[] locEnd = successor(locLast.getNumerator(), locLast.getDenominator(), argOrder);
+		long[] locSecond = successor(locFirst.getNumerator(), locFirst.getDenominator(), argOrder);
+		return new FareySpliterator(argOrder, locFirst.getNumerator(), locFirst.getDenominator(), locSecond[0],
+				locSecond[1], locEnd[0], locEnd[1]);
+	}
+
+	/*
+	 * The successor e/f of c/d satisfies e d - c f = 1 with the greatest f up
+	 * to N, so f = -x mod d where c x + d y = 1.
+	 */
+	private static long[] successor(long argNumerator, long argDenominator, int argOrder) {
+		long[] locCoefficients = new long[2];
+		GCD.extended(argNumerator, argDenominator, locCoefficients);
+		long locDenominator = Math.floorMod(-locCoefficients[0], argDenominator);
+		locDenominator += (argOrder - locDenominator) / argDenominator * argDenominator;
+		return new long[] { (1 + argNumerator * locDenominator) / argDenominator, locDenominator };
+	}
+
+	/*
+	 * Enumerates a/b, then c/d and so on by the recurrence, up to the end
+	 * (exclusive), which is itself a fraction of the sequence.
+	 */
+	private static final class FareySpliterator implements Spliterator.OfLong {
+
+		private final int order;
+		private long a;
+		private long b;
+		private long c;
+		private long d;
+		private final long endNumerator;
+		private final long endDenominator;
+
+		FareySpliterator(int argOrder, long argA, long argB, long argC, long argD, long argEndNumerator,
+				long argEndDenominator) {
+			order = argOrder;
+			a = argA;
+			b = argB;
+			c = argC;
+			d = argD;
+			endNumerator = argEndNumerator;
+			endDenominator = argEndDenominator;
+		}
+
+		@Override
+		public boolean tryAdvance(LongConsumer argAction) {
+			if (a * endDenominator >= endNumerator * b) {
+				return false;
+			}
+			argAction.accept(FractionArrays.pack(Math.toIntExact(a), (int) b));
+			long k = (order + b) / d;
+			long locNumerator = k * c - a;
+			long locDenominator = k * d - b;
+			a = c;
+			b = d;
+			c = locNumerator;
+			d = locDenominator;
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(LongConsumer argAction) {
+			while (tryAdvance(argAction)) {
+				// Everything is done in tryAdvance
+			}
+		}
+
+		@Override
+		public Spliterator.OfLong trySplit() {
+			if (estimateSize() < SPLIT_THRESHOLD) {
+				return null;
+			}
+			double locMiddle = ((double) a / b + (double) endNumerator / endDenominator) / 2;
+			Fraction locSplit;
+			try {
+				locSplit = Fraction.approximate(locMiddle, order);
+			} catch (ArithmeticException e) {
+				return null;
+			}
+			long locSplitNumerator = locSplit.getNumerator();
+			long locSplitDenominator = locSplit.getDenominator();
+			if (locSplitNumerator * b <= a * locSplitDenominator
+					|| locSplitNumerator * endDenominator >= endNumerator * locSplitDenominator) {
+				return null;
+			}
+			FareySpliterator locPrefix = new FareySpliterator(order, a, b, c, d, locSplitNumerator,
+					locSplitDenominator);
+			long[] locNext = successor(locSplitNumerator, locSplitDenominator, order);
+			a = locSplitNumerator;
+			b = locSplitDenominator;
+			c = locNext[0];
+			d = locNext[1];
+			return locPrefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			double locLength = (double) endNumerator / endDenominator - (double) a / b;
+			return Math.max(0, (long) Math.ceil(locLength * DENSITY * order * order));
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+		}
+
+	}
+
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * An immutable rational number held, as long as possible, as a number of units
+ * of a fixed scale, such as cents for a scale of 100: its value is then
+ * <code>units / scale</code>, with a denominator which is not reduced.
+ * <p>
+ * Values sharing the same scale are added and substracted with a single long
+ * addition, compared with a single long comparison, and multiplied or divided
+ * with a single rescale, without any GCD. Operations mixing scales, or whose
+ * exact result is not a whole number of units, are detected at runtime and
+ * fall back to the general arithmetic of {@link LongFraction}, so that results
+ * are always exact: the result is then brought back to the scale of the
+ * operands if its denominator divides it, and otherwise held in general form.
+ * An {@link ArithmeticException} is only thrown when the general arithmetic
+ * overflows.
+ * <p>
+ * Equality and ordering are those of the values, whatever their forms.
+ */
+public final class FixedRational extends Number implements Comparable<FixedRational> {
+
+	private static final long serialVersionUID = 1L;
+
+	/*
+	 * Fixed form, used while fraction is null: a positive scale and the number
+	 * of units of it.
+	 */
+	private final long units;
+	private final long scale;
+
+	/*
+	 * General form, with a scale of zero.
+	 */
+	private final LongFraction fraction;
+
+	private FixedRational(long argUnits, long argScale) {
+		units = argUnits;
+		scale = argScale;
+		fraction = null;
+	}
+
+	private FixedRational(LongFraction argFraction) {
+		units = 0;
+		scale = 0;
+		fraction = argFraction;
+	}
+
+	/**
+	 * Returns a rational number from a number of units of a scale.
+	 *
+	 * @param argUnits
+	 *            the number of units
+	 * @param argScale
+	 *            the scale, i.e. the number of units in 1
+	 * @return a {@link FixedRational} of value argUnits / argScale
+	 * @throws IllegalArgumentException
+	 *             if the scale is not positive
+	 */
+	public static FixedRational ofUnits(long argUnits, long argScale) {
+		return new FixedRational(argUnits, checkScale(argScale));
+	}
+
+	/**
+	 * Returns a rational number holding an integer, in fixed form with the
+	 * provided scale if it fits.
+	 *
+	 * @param argValue
+	 *            the integer
+	 * @param argScale
+	 *            the scale, i.e. the number of units in 1
+	 * @return a {@link FixedRational} of value argValue
+	 * @throws IllegalArgumentException
+	 *             if the scale is not positive
+	 */
+	public static FixedRational of(long argValue, long argScale) {
+		return fix(new LongFraction(argValue), checkScale(argScale));
+	}
+
+	/**
+	 * Returns a rational number holding the value of a {@link Fraction}
+	 * exactly: in fixed form with the provided scale if its denominator
+	 * divides the scale, otherwise in general form.
+	 *
+	 * @param argFraction
+	 *            the value
+	 * @param argScale
+	 *            the scale, i.e. the number of units in 1
+	 * @return a {@link FixedRational} with the value of argFraction
+	 * @throws IllegalArgumentException
+	 *             if the scale is not positive
+	 */
+	public static FixedRational of(Fraction argFraction, long argScale) {
+		return fix(new LongFraction(argFraction), checkScale(argScale));
+	}
+
+	/**
+	 * Returns a rational number holding the value of a {@link LongFraction}
+	 * exactly: in fixed form with the provided scale if its denominator
+	 * divides the scale, otherwise in general form.
+	 *
+	 * @param argFraction
+	 *            the value
+	 * @param argScale
+	 *            the scale, i.e. the number of units in 1
+	 * @return a {@link FixedRational} with the value of argFraction
+	 * @throws IllegalArgumentException
+	 *             if the scale is not positive
+	 */
+	public static FixedRational of(LongFraction argFraction, long argScale) {
+		return fix(argFraction, checkScale(argScale));
+	}
+
+	/**
+	 * Tells whether this is held in fixed form.
+	 *
+	 * @return <code>true</code> if this is a number of units of a scale,
+	 *         otherwise false
+	 */
+	public boolean isFixed() {
+		return fraction == null;
+	}
+
+	/**
+	 * Gets the number of units of this, in fixed form.
+	 *
+	 * @return the number of units
+	 * @throws IllegalStateException
+	 *             if this is in general form
+	 */
+	public long getUnits() {
+		checkFixed();
+		return units;
+	}
+
+	/**
+	 * Gets the scale of this, in fixed form.
+	 *
+	 * @return the scale, i.e. the number of units in 1
+	 * @throws IllegalStateException
+	 *             if this is in general form
+	 */
+	public long getScale() {
+		checkFixed();
+		return scale;
+	}
+
+	/**
+	 * Returns a rational number with the same value as this, in fixed form with
+	 * the provided scale if it holds a whole number of units of it, otherwise
+	 * in general form.
+	 *
+	 * @param argScale
+	 *            the new scale
+	 * @return a {@link FixedRational} with the same value as this
+	 * @throws IllegalArgumentException
+	 *             if the scale is not positive
+	 */
+	public FixedRational withScale(long argScale) {
+		checkScale(argScale);
+		if (fraction == null) {
+			if (argScale == scale) {
+				return this;
+			}
+			if (argScale % scale == 0) {
+				try {
+					return new FixedRational(Math.multiplyExact(units, argScale / scale), argScale);
+				} catch (ArithmeticException e) {
+					// Falls through to the general case
+				}
+			} else if (scale % argScale == 0 && units % (scale / argScale) == 0) {
+				return new FixedRational(units / (scale / argScale), argScale);
+			}
+		}
+		return fix(toLongFraction(), argScale);
+	}
+
+	@Override
+	public int intValue() {
+		return (int) longValue();
+	}
+
+	@Override
+	public long longValue() {
+		return (fraction == null) ? units / scale : fraction.longValue();
+	}
+
+	@Override
+	public float floatValue() {
+		return (float) doubleValue();
+	}
+
+	@Override
+	public double doubleValue() {
+		return (fraction == null) ? (double) units / (double) scale : fraction.doubleValue();
+	}
+
+	@Override
+	public int hashCode() {
+		return toLongFraction().hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		FixedRational other = (FixedRational) obj;
+		if (fraction == null && other.fraction == null && scale == other.scale) {
+			return units == other.units;
+		}
+		return toLongFraction().equals(other.toLongFraction());
+	}
+
+	@Override
+	public String toString() {
+		return toLongFraction().toString();
+	}
+
+	@Override
+	public int compareTo(FixedRational argOther) {
+		if (fraction == null && argOther.fraction == null && scale == argOther.scale) {
+			return Long.compare(units, argOther.units);
+		}
+		return toLongFraction().compareTo(argOther.toLongFraction());
+	}
+
+	/**
+	 * Returns a {@link FixedRational} resulting from adding the specified
+	 * {@link FixedRational} to this.
+	 *
+	 * @param argOther
+	 *            the {@link FixedRational} to be added
+	 * @return this + argOther
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public FixedRational add(FixedRational argOther) {
+		if (isSameScale(argOther)) {
+			try {
+				return new FixedRational(Math.addExact(units, argOther.units), scale);
+			} catch (ArithmeticException e) {
+				// Falls through to the general case
+			}
+		}
+		return fix(toLongFraction().add(argOther.toLongFraction()), commonScale(argOther));
+	}
+
+	/**
+	 * Returns a {@link FixedRational} resulting from substracting the
+	 * specified {@link FixedRational} from this.
+	 *
+	 * @param argOther
+	 *            the {@link FixedRational} to be substracted
+	 * @return this - argOther
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public FixedRational substract(FixedRational argOther) {
+		if (isSameScale(argOther)) {
+			try {
+				return new FixedRational(Math.subtractExact(units, argOther.units), scale);
+			} catch (ArithmeticException e) {
+				// Falls through to the general case
+			}
+		}
+		return fix(toLongFraction().substract(argOther.toLongFraction()), commonScale(argOther));
+	}
+
+	/**
+	 * Returns a {@link FixedRational} resulting from negating this.
+	 *
+	 * @return -this
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public FixedRational negate() {
+		if (fraction == null && units != Long.MIN_VALUE) {
+			return new FixedRational(-units, scale);
+		}
+		return fix(toLongFraction().negate(), scale);
+	}
+
+	/**
+	 * Returns a {@link FixedRational} resulting from multiplying this by the
+	 * specified {@link FixedRational}: in fixed form, the product of the units
+	 * is rescaled once, if it holds a whole number of units.
+	 *
+	 * @param argOther
+	 *            the {@link FixedRational} to be multiplied by
+	 * @return this * argOther
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public FixedRational multiply(FixedRational argOther) {
+		if (isSameScale(argOther)) {
+			try {
+				long locProduct = Math.multiplyExact(units, argOther.units);
+				if (locProduct % scale == 0) {
+					return new FixedRational(locProduct / scale, scale);
+				}
+			} catch (ArithmeticException e) {
+				// Falls through to the general case
+			}
+		}
+		return fix(toLongFraction().multiply(argOther.toLongFraction()), commonScale(argOther));
+	}
+
+	/**
+	 * Returns a {@link FixedRational} resulting from multiplying this by the
+	 * specified long integer, which keeps its form.
+	 *
+	 * @param argFactor
+	 *            the long integer to be multiplied by
+	 * @return this * argFactor
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public FixedRational multiply(long argFactor) {
+		if (fraction == null) {
+			try {
+				return new FixedRational(Math.multiplyExact(units, argFactor), scale);
+			} catch (ArithmeticException e) {
+				// Falls through to the general case
+			}
+		}
+		return fix(toLongFraction().multiply(new LongFraction(argFactor)), scale);
+	}
+
+	/**
+	 * Returns a {@link FixedRational} resulting from dividing this by the
+	 * specified {@link FixedRational}: in fixed form, the rescaled units are
+	 * divided once, if the quotient holds a whole number of units.
+	 *
+	 * @param argOther
+	 *            the {@link FixedRational} to be divided by
+	 * @return this / argOther
+	 * @throws ArithmeticException
+	 *             if argOther is zero, or if the result overflows
+	 */
+	public FixedRational divide(FixedRational argOther) {
+		if (isSameScale(argOther) && argOther.units != 0) {
+			try {
+				long locDividend = Math.multiplyExact(units, scale);
+				if (locDividend % argOther.units == 0 && (locDividend != Long.MIN_VALUE || argOther.units != -1)) {
+					return new FixedRational(locDividend / argOther.units, scale);
+				}
+			} catch (ArithmeticException e) {
+				// Falls through to the general case
+			}
+		}
+		return fix(toLongFraction().divide(argOther.toLongFraction()), commonScale(argOther));
+	}
+
+	/**
+	 * Converts this to a {@link LongFraction}, with a single GCD in fixed form.
+	 *
+	 * @return a {@link LongFraction} with the value of this
+	 */
+	public LongFraction toLongFraction() {
+		return (fraction == null) ? new LongFraction(units, scale) : fraction;
+	}
+
+	/**
+	 * Converts this to a {@link Fraction}, with a single GCD in fixed form.
+	 *
+	 * @return a {@link Fraction} with the value of this
+	 * @throws ArithmeticException
+	 *             if the reduced numerator or denominator does not fit in an int
+	 */
+	public Fraction toFraction() {
+		if (fraction != null) {
+			return fraction.toFraction();
+		}
+		long locGcd = GCD.of(units, scale);
+		return Fraction.ofReduced(Math.toIntExact(units / locGcd), Math.toIntExact(scale / locGcd));
+	}
+
+	private boolean isSameScale(FixedRational argOther) {
+		return fraction == null && argOther.fraction == null && scale == argOther.scale;
+	}
+
+	/*
+	 * The scale to bring a general result back to: the one of the operands if
+	 * they share it, otherwise the larger one.
+	 */
+	private long commonScale(FixedRational argOther) {
+		return Math.max(scale, argOther.scale);
+	}
+
+	private void checkFixed() {
+		if (fraction != null) {
+			throw new IllegalStateException("Not in fixed form: " + this);
+		}
+	}
+
+	private static long checkScale(long argScale) {
+		if (argScale <= 0) {
+			throw new IllegalArgumentException("Scale must be positive: " + argScale);
+		}
+		return argScale;
+	}
+
+	/*
+	 * Holds the value of a fraction in fixed form if its denominator divides
+	 * the scale, otherwise in general form: a scale of zero always gives the
+	 * general form.
+	 */
+	private static FixedRational fix(LongFraction argFraction, long argScale) {
+		if (argScale > 0 && argScale % argFraction.getDenominator() == 0) {
+			try {
+				return new FixedRational(
+						Math.multiplyExact(argFraction.getNumerator(), argScale / argFraction.getDenominator()),
+						argScale);
+			} catch (ArithmeticException e) {
+				// Falls through to the general form
+			}
+		}
+		return new FixedRational(argFraction);
+	}
+
+}
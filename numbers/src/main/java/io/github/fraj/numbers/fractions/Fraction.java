@@ -15,17 +15,30 @@
  */
 package io.github.fraj.numbers.fractions;
 
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
 import io.github.fraj.numbers.util.GCD;
 
 /**
  * An immutable number defined as the fraction of 2 integers.
+ * <p>
+ * Like {@link Integer#valueOf(int)}, the {@link #valueOf(int, int)} factory
+ * returns shared instances for small fractions, whose numerator is within
+ * [-bound, bound] and denominator within [1, bound]. The bound defaults to 16
+ * and can be set (up to 256) with the
+ * <code>io.github.fraj.numbers.fractions.Fraction.cache.bound</code> system
+ * property. Arithmetic operations return shared instances as well whenever
+ * their result is in this range.
  */
 public class Fraction extends Number implements Comparable<Fraction> {
 
 	/**
 	 * A {@link Fraction} instance for zero
 	 */
-	public static final Fraction ZERO = new Fraction(0);
+	public static final Fraction ZERO = valueOf(0);
 
 	private static final long serialVersionUID = 1L;
 
@@ -66,6 +79,371 @@ public class Fraction extends Number implements Comparable<Fraction> {
 		this(argNumerator, 1);
 	}
 
+	/*
+	 * Constructor for components which are already known to be reduced, with a
+	 * positive denominator: the boolean is only there to tell it apart from the
+	 * public constructor.
+	 */
+	Fraction(int argNumerator, int argDenominator, boolean argReduced) {
+		numerator = argNumerator;
+		denominator = argDenominator;
+	}
+
+	/**
+	 * Returns a fraction from the two provided integers as its numerator and
+	 * denominator, which is a shared instance for small fractions.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return a {@link Fraction} with the provided value
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public static Fraction valueOf(int argNumerator, int argDenominator) {
+		if (Cache.contains(argNumerator, argDenominator)) {
+			// Cache entries for non reduced fractions hold the reduced value
+			return Cache.get(argNumerator, argDenominator);
+		}
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		int locGcd = GCD.of(argNumerator, argDenominator);
+		int locSignum = Integer.signum(argDenominator);
+		return ofReduced(locSignum * argNumerator / locGcd, locSignum * argDenominator / locGcd);
+	}
+
+	/**
+	 * Returns a fraction from the single provided integer as its numerator
+	 * (denominator is 1), which is a shared instance for small integers.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @return a {@link Fraction} with the provided value
+	 */
+	public static Fraction valueOf(int argNumerator) {
+		return ofReduced(argNumerator, 1);
+	}
+
+	/**
+	 * Returns the fraction closest to a double among those whose denominator
+	 * does not exceed the provided bound, i.e. its best rational approximation.
+	 * The numerator is bounded too, so that it fits in an int.
+	 * <p>
+	 * The approximation is either a convergent of the exact continued fraction
+	 * expansion of the double, or the best of its semiconvergents, so it is
+	 * found in a logarithmic number of steps. When two fractions are equally
+	 * close, the one with the smaller denominator is returned.
+	 * 
+	 * @param argValue
+	 *            the double to be approximated
+	 * @param argMaxDenominator
+	 *            the maximum denominator of the approximation
+	 * @return the best rational approximation of the double
+	 * @throws IllegalArgumentException
+	 *             if the maximum denominator is not positive
+	 * @throws ArithmeticException
+	 *             if the double is not finite, or if its floor does not fit in
+	 *             an int, i.e. if it is below {@link Integer#MIN_VALUE} or not
+	 *             below 2^31
+	 */
+	public static Fraction approximate(double argValue, int argMaxDenominator) {
+		if (argMaxDenominator < 1) {
+			throw new IllegalArgumentException("Maximum denominator must be positive");
+		}
+		ContinuedFraction locExpansion = expand(argValue);
+		// Convergents p(n-2) / q(n-2) and p(n-1) / q(n-1), starting with 1/0 and a0/1
+		long locPreviousNumerator = 1;
+		long locPreviousDenominator = 0;
+		long locNumerator = locExpansion.next();
+		long locDenominator = 1;
+		long locMaxNumerator = maxNumerator(argValue);
+		if (locNumerator > locMaxNumerator) {
+			throw new ArithmeticException("Value cannot be approximated with int components: " + argValue);
+		}
+		for (long locTerm = locExpansion.next(); locTerm > 0; locTerm = locExpansion.next()) {
+			long locMultiple = (argMaxDenominator - locPreviousDenominator) / locDenominator;
+			if (locNumerator > 0) {
+				locMultiple = Math.min(locMultiple, (locMaxNumerator - locPreviousNumerator) / locNumerator);
+			}
+			if (locTerm > locMultiple) {
+				/*
+				 * The semiconvergent with the largest allowed multiple beats the
+				 * last convergent iff the complete quotient x = term + frac is
+				 * below 2 * multiple + q(n-2) / q(n-1).
+				 */
+				if (2 * locMultiple > locTerm || (2 * locMultiple == locTerm
+						&& locExpansion.compareFractionalPart(locPreviousDenominator, locDenominator) < 0)) {
+					locNumerator = locMultiple * locNumerator + locPreviousNumerator;
+					locDenominator = locMultiple * locDenominator + locPreviousDenominator;
+				}
+				break;
+			}
+			long locNextNumerator = locTerm * locNumerator + locPreviousNumerator;
+			long locNextDenominator = locTerm * locDenominator + locPreviousDenominator;
+			locPreviousNumerator = locNumerator;
+			locPreviousDenominator = locDenominator;
+			locNumerator = locNextNumerator;
+			locDenominator = locNextDenominator;
+		}
+		return ofReduced((int) ((argValue < 0) ? -locNumerator : locNumerator), (int) locDenominator);
+	}
+
+	/**
+	 * Returns the fraction with the smallest denominator whose distance to a
+	 * double does not exceed the provided tolerance.
+	 * <p>
+	 * Such a fraction is the first convergent or semiconvergent of the exact
+	 * continued fraction expansion of the double which is close enough, so it
+	 * is found in a logarithmic number of steps. Distances are computed with
+	 * double arithmetic.
+	 * 
+	 * @param argValue
+	 *            the double to be approximated
+	 * @param argEpsilon
+	 *            the maximum distance between the double and the fraction
+	 * @return the simplest rational approximation of the double
+	 * @throws IllegalArgumentException
+	 *             if the tolerance is negative or not a number
+	 * @throws ArithmeticException
+	 *             if the double is not finite or its absolute value exceeds
+	 *             2^31, or if no fraction close enough can be represented with
+	 *             int components
+	 */
+	public static Fraction approximate(double argValue, double argEpsilon) {
+		if (!(argEpsilon >= 0)) {
+			throw new IllegalArgumentException("Epsilon must be positive or zero");
+		}
+		double locValue = Math.abs(argValue);
+		ContinuedFraction locExpansion = expand(argValue);
+		long locMaxNumerator = maxNumerator(argValue);
+		// Convergents p(n-2) / q(n-2) and p(n-1) / q(n-1), starting with 0/1 and 1/0
+		long locPreviousNumerator = 0;
+		long locPreviousDenominator = 1;
+		long locNumerator = 1;
+		long locDenominator = 0;
+		for (long locTerm = locExpansion.next(); locTerm >= 0; locTerm = locExpansion.next()) {
+			// Semiconvergents (t * p(n-1) + p(n-2)) / (t * q(n-1) + q(n-2)) get closer as t grows
+			long locMaxMultiple = Math.min(locTerm, (locNumerator == 0) ? locTerm
+					: (locMaxNumerator - locPreviousNumerator) / locNumerator);
+			if (locDenominator != 0) {
+				locMaxMultiple = Math.min(locMaxMultiple,
+						(Integer.MAX_VALUE - locPreviousDenominator) / locDenominator);
+			}
+			if (Math.abs(locValue - (double) (locMaxMultiple * locNumerator + locPreviousNumerator)
+					/ (locMaxMultiple * locDenominator + locPreviousDenominator)) <= argEpsilon) {
+				long locLow = (locDenominator == 0) ? locMaxMultiple : 1;
+				long locHigh = locMaxMultiple;
+				while (locLow < locHigh) {
+					long locMiddle = (locLow + locHigh) >>> 1;
+					if (Math.abs(locValue - (double) (locMiddle * locNumerator + locPreviousNumerator)
+							/ (locMiddle * locDenominator + locPreviousDenominator)) <= argEpsilon) {
+						locHigh = locMiddle;
+					} else {
+						locLow = locMiddle + 1;
+					}
+				}
+				long locResult = locLow * locNumerator + locPreviousNumerator;
+				return ofReduced((int) ((argValue < 0) ? -locResult : locResult),
+						(int) (locLow * locDenominator + locPreviousDenominator));
+			}
+			if (locMaxMultiple < locTerm) {
+				break;
+			}
+			long locNextNumerator = locTerm * locNumerator + locPreviousNumerator;
+			long locNextDenominator = locTerm * locDenominator + locPreviousDenominator;
+			locPreviousNumerator = locNumerator;
+			locPreviousDenominator = locDenominator;
+			locNumerator = locNextNumerator;
+			locDenominator = locNextDenominator;
+		}
+		throw new ArithmeticException("No fraction with int components within " + argEpsilon + " of " + argValue);
+	}
+
+	/*
+	 * Returns the largest absolute value of an int numerator with the sign of
+	 * the provided value.
+	 */
+	private static long maxNumerator(double argValue) {
+		return (argValue < 0) ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+	}
+
+	/*
+	 * Starts the continued fraction expansion of the absolute value of a
+	 * double, whose integer part must not exceed 2^31 for the numerator of
+	 * approximations to have a chance to fit in an int.
+	 */
+	private static ContinuedFraction expand(double argValue) {
+		if (!(Math.abs(argValue) <= 0x1p31)) {
+			throw new ArithmeticException("Value cannot be approximated with int components: " + argValue);
+		}
+		return new ContinuedFraction(Math.abs(argValue));
+	}
+
+	/**
+	 * Parses a fraction from characters, in the format of {@link #toString()}:
+	 * a numerator, optionally followed by a slash and a denominator, each of
+	 * them parsed as by {@link Integer#parseInt(String)}.
+	 * 
+	 * @param argText
+	 *            the characters to be parsed
+	 * @return the parsed {@link Fraction}, reduced
+	 * @throws NumberFormatException
+	 *             if the characters do not hold a fraction
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public static Fraction parse(CharSequence argText) {
+		return parse(argText, 0, argText.length());
+	}
+
+	/**
+	 * Parses a fraction from a range of characters, without creating any
+	 * intermediate String, in the format of {@link #toString()}.
+	 * 
+	 * @param argText
+	 *            the characters holding the fraction
+	 * @param argFrom
+	 *            the index of the first character, inclusive
+	 * @param argTo
+	 *            the index of the last character, exclusive
+	 * @return the parsed {@link Fraction}, reduced
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 * @throws NumberFormatException
+	 *             if the range does not hold a fraction
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public static Fraction parse(CharSequence argText, int argFrom, int argTo) {
+		int locSlash = Numerals.indexOfSlash(argText, argFrom, argTo);
+		return (locSlash < 0) ? valueOf(Numerals.parseInt(argText, argFrom, argTo))
+				: valueOf(Numerals.parseInt(argText, argFrom, locSlash),
+						Numerals.parseInt(argText, locSlash + 1, argTo));
+	}
+
+	/**
+	 * Parses a fraction from a range of ASCII bytes, without creating any
+	 * intermediate String, in the format of {@link #toString()}.
+	 * 
+	 * @param argBytes
+	 *            the bytes holding the fraction
+	 * @param argFrom
+	 *            the index of the first byte, inclusive
+	 * @param argTo
+	 *            the index of the last byte, exclusive
+	 * @return the parsed {@link Fraction}, reduced
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 * @throws NumberFormatException
+	 *             if the range does not hold a fraction
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public static Fraction parse(byte[] argBytes, int argFrom, int argTo) {
+		int locSlash = Numerals.indexOfSlash(argBytes, argFrom, argTo);
+		return (locSlash < 0) ? valueOf(Numerals.parseInt(argBytes, argFrom, argTo))
+				: valueOf(Numerals.parseInt(argBytes, argFrom, locSlash),
+						Numerals.parseInt(argBytes, locSlash + 1, argTo));
+	}
+
+	/**
+	 * Parses a fraction from a range of ASCII bytes of a buffer, without
+	 * creating any intermediate String, in the format of {@link #toString()}.
+	 * The range is given as absolute indexes, and the position of the buffer
+	 * is left unchanged.
+	 * 
+	 * @param argBuffer
+	 *            the buffer holding the fraction
+	 * @param argFrom
+	 *            the index of the first byte, inclusive
+	 * @param argTo
+	 *            the index of the last byte, exclusive
+	 * @return the parsed {@link Fraction}, reduced
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the limit of the buffer
+	 * @throws NumberFormatException
+	 *             if the range does not hold a fraction
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public static Fraction parse(ByteBuffer argBuffer, int argFrom, int argTo) {
+		int locSlash = Numerals.indexOfSlash(argBuffer, argFrom, argTo);
+		return (locSlash < 0) ? valueOf(Numerals.parseInt(argBuffer, argFrom, argTo))
+				: valueOf(Numerals.parseInt(argBuffer, argFrom, locSlash),
+						Numerals.parseInt(argBuffer, locSlash + 1, argTo));
+	}
+
+	/*
+	 * Raises an integer to a non-negative power by squaring, only squaring the
+	 * base while there are bits of the exponent left, so that it only
+	 * overflows if the result does.
+	 */
+	private static int powExact(int argBase, long argExponent) {
+		if (argBase == 0 || argBase == 1 || argExponent == 0) {
+			return (argExponent == 0) ? 1 : argBase;
+		}
+		if (argBase == -1) {
+			return ((argExponent & 1) == 0) ? 1 : -1;
+		}
+		int locResult = 1;
+		int locBase = argBase;
+		long locExponent = argExponent;
+		while (true) {
+			if ((locExponent & 1) != 0) {
+				locResult = Math.multiplyExact(locResult, locBase);
+			}
+			locExponent >>>= 1;
+			if (locExponent == 0) {
+				return locResult;
+			}
+			locBase = Math.multiplyExact(locBase, locBase);
+		}
+	}
+
+	/*
+	 * Returns the square root of a non-negative integer if it is a perfect
+	 * square, -1 otherwise. The double square root is exact enough to be off
+	 * by one at most.
+	 */
+	private static int sqrtExact(int argValue) {
+		int locRoot = (int) Math.sqrt(argValue);
+		if ((long) locRoot * locRoot > argValue) {
+			locRoot--;
+		} else if ((long) (locRoot + 1) * (locRoot + 1) <= argValue) {
+			locRoot++;
+		}
+		return ((long) locRoot * locRoot == argValue) ? locRoot : -1;
+	}
+
+	/*
+	 * Adds the product of two fractions to an accumulator: as components are
+	 * ints, the product never overflows long integers and needs no reduction.
+	 */
+	private static FractionAccumulator addProduct(FractionAccumulator argSum, Fraction argLeft, Fraction argRight) {
+		return argSum.add((long) argLeft.numerator * (long) argRight.numerator,
+				(long) argLeft.denominator * (long) argRight.denominator);
+	}
+
+	/*
+	 * Reduces long components, with a positive denominator, into a fraction
+	 * with a single GCD.
+	 */
+	private static Fraction reduce(long argNumerator, long argDenominator) {
+		long locGcd = GCD.of(argNumerator, argDenominator);
+		return ofReduced(Math.toIntExact(argNumerator / locGcd), Math.toIntExact(argDenominator / locGcd));
+	}
+
+	/*
+	 * Returns a fraction from components which are already known to be reduced,
+	 * with a positive denominator.
+	 */
+	static Fraction ofReduced(int argNumerator, int argDenominator) {
+		return Cache.contains(argNumerator, argDenominator) ? Cache.get(argNumerator, argDenominator)
+				: new Fraction(argNumerator, argDenominator, true);
+	}
+
 	/**
 	 * Gets the fraction's (reduced) numerator.
 	 * 
@@ -131,6 +509,72 @@ public class Fraction extends Number implements Comparable<Fraction> {
 				: (Integer.toString(numerator) + "/" + Integer.toString(denominator));
 	}
 
+	/**
+	 * Appends the characters of {@link #toString()} to the provided
+	 * destination, without creating any intermediate String.
+	 * 
+	 * @param argAppendable
+	 *            the destination, e.g. a {@link StringBuilder} or a
+	 *            {@link java.io.Writer}
+	 * @throws IOException
+	 *             if the destination fails
+	 */
+	public void formatTo(Appendable argAppendable) throws IOException {
+		Numerals.appendTo(argAppendable, numerator);
+		if (denominator != 1) {
+			argAppendable.append('/');
+			Numerals.appendTo(argAppendable, denominator);
+		}
+	}
+
+	/**
+	 * Writes the characters of {@link #toString()} as ASCII bytes into the
+	 * provided array, without creating any intermediate String.
+	 * 
+	 * @param argBytes
+	 *            the destination
+	 * @param argOffset
+	 *            the index of the first byte to be written
+	 * @return the index following the last written byte
+	 * @throws IndexOutOfBoundsException
+	 *             if the array is too short, in which case nothing is written
+	 */
+	public int formatTo(byte[] argBytes, int argOffset) {
+		int locLength = Numerals.length(numerator) + ((denominator == 1) ? 0 : 1 + Numerals.length(denominator));
+		if (argOffset < 0 || argOffset > argBytes.length - locLength) {
+			throw new IndexOutOfBoundsException("Not enough room for " + locLength + " bytes at " + argOffset);
+		}
+		int locOffset = Numerals.writeTo(argBytes, argOffset, numerator);
+		if (denominator != 1) {
+			argBytes[locOffset] = '/';
+			locOffset = Numerals.writeTo(argBytes, locOffset + 1, denominator);
+		}
+		return locOffset;
+	}
+
+	/**
+	 * Writes the characters of {@link #toString()} as ASCII bytes at the
+	 * position of the provided buffer, which is moved past them, without
+	 * creating any intermediate String.
+	 * 
+	 * @param argBuffer
+	 *            the destination
+	 * @throws BufferOverflowException
+	 *             if the buffer has not enough remaining bytes, in which case
+	 *             nothing is written
+	 */
+	public void formatTo(ByteBuffer argBuffer) {
+		int locLength = Numerals.length(numerator) + ((denominator == 1) ? 0 : 1 + Numerals.length(denominator));
+		if (argBuffer.remaining() < locLength) {
+			throw new BufferOverflowException();
+		}
+		Numerals.writeTo(argBuffer, numerator);
+		if (denominator != 1) {
+			argBuffer.put((byte) '/');
+			Numerals.writeTo(argBuffer, denominator);
+		}
+	}
+
 	@Override
 	public int compareTo(Fraction argOther) {
 		return Long.signum(
@@ -149,7 +593,7 @@ public class Fraction extends Number implements Comparable<Fraction> {
 		int locNewNumerator = (int) ((long) numerator * (long) argOther.denominator
 				+ (long) argOther.numerator * (long) denominator);
 		int locNewDenominator = (int) ((long) denominator * (long) argOther.denominator);
-		return new Fraction(locNewNumerator, locNewDenominator);
+		return valueOf(locNewNumerator, locNewDenominator);
 	}
 
 	/**
@@ -170,7 +614,7 @@ public class Fraction extends Number implements Comparable<Fraction> {
 	 * @return -this
 	 */
 	public Fraction negate() {
-		return new Fraction(-numerator, denominator);
+		return valueOf(-numerator, denominator);
 	}
 
 	/**
@@ -184,7 +628,7 @@ public class Fraction extends Number implements Comparable<Fraction> {
 	public Fraction multiply(Fraction argOther) {
 		int locNewNumerator = (int) ((long) numerator * (long) argOther.numerator);
 		int locNewDenominator = (int) ((long) denominator * (long) argOther.denominator);
-		return new Fraction(locNewNumerator, locNewDenominator);
+		return valueOf(locNewNumerator, locNewDenominator);
 	}
 
 	/**
@@ -198,7 +642,7 @@ public class Fraction extends Number implements Comparable<Fraction> {
 		if (numerator == 0) {
 			throw new ArithmeticException();
 		}
-		return new Fraction(denominator, numerator);
+		return valueOf(denominator, numerator);
 	}
 
 	/**
@@ -215,6 +659,287 @@ public class Fraction extends Number implements Comparable<Fraction> {
 		return multiply(argOther.invert());
 	}
 
+	/**
+	 * Returns a {@link Fraction} resulting from adding the product of the
+	 * specified {@link Fraction}s to this, as a fused operation: the result is
+	 * computed on long integers and reduced once, instead of allocating and
+	 * reducing the product first. The denominator of the product is
+	 * cross-reduced against the one of this beforehand, so that the sum is
+	 * computed over their least common multiple.
+	 * 
+	 * @param argLeft
+	 *            the left {@link Fraction} of the product to be added
+	 * @param argRight
+	 *            the right {@link Fraction} of the product to be added
+	 * @return this + argLeft * argRight
+	 * @throws ArithmeticException
+	 *             if the reduced result does not fit in a {@link Fraction}
+	 */
+	public Fraction multiplyAdd(Fraction argLeft, Fraction argRight) {
+		long locProductNumerator = (long) argLeft.numerator * (long) argRight.numerator;
+		long locProductDenominator = (long) argLeft.denominator * (long) argRight.denominator;
+		long locGcd = GCD.of(locProductDenominator, (long) denominator);
+		long locProductFactor = locProductDenominator / locGcd;
+		long locNewNumerator;
+		long locNewDenominator;
+		try {
+			locNewNumerator = Math.addExact(Math.multiplyExact((long) numerator, locProductFactor),
+					Math.multiplyExact(locProductNumerator, denominator / locGcd));
+			locNewDenominator = Math.multiplyExact((long) denominator, locProductFactor);
+		} catch (ArithmeticException e) {
+			return addProduct(new FractionAccumulator(this), argLeft, argRight).toFraction();
+		}
+		return reduce(locNewNumerator, locNewDenominator);
+	}
+
+	/**
+	 * Computes the dot product of two arrays of {@link Fraction}s, i.e. the sum
+	 * of the products of their elements of same indices, as a fused operation:
+	 * the sum is accumulated on long integers, only reduced when it would
+	 * otherwise overflow, and reduced once at the end.
+	 * 
+	 * @param argLeft
+	 *            the left operands
+	 * @param argRight
+	 *            the right operands
+	 * @return the dot product, zero for empty arrays
+	 * @throws IllegalArgumentException
+	 *             if the arrays do not have the same length
+	 * @throws ArithmeticException
+	 *             if the reduced result does not fit in a {@link Fraction}
+	 */
+	public static Fraction dot(Fraction[] argLeft, Fraction[] argRight) {
+		if (argLeft.length != argRight.length) {
+			throw new IllegalArgumentException("Operands must have the same length");
+		}
+		FractionAccumulator locSum = new FractionAccumulator();
+		for (int i = 0; i < argLeft.length; i++) {
+			addProduct(locSum, argLeft[i], argRight[i]);
+		}
+		return locSum.toFraction();
+	}
+
+	/**
+	 * Computes the dot product of two arrays of fractions given as parallel
+	 * arrays of numerators and denominators, as {@link #dot(Fraction[],
+	 * Fraction[])} does, without any {@link Fraction} instance.
+	 * 
+	 * @param argLeftNumerators
+	 *            the numerators of the left operands
+	 * @param argLeftDenominators
+	 *            the denominators of the left operands
+	 * @param argRightNumerators
+	 *            the numerators of the right operands
+	 * @param argRightDenominators
+	 *            the denominators of the right operands
+	 * @return the dot product, zero for empty arrays
+	 * @throws IllegalArgumentException
+	 *             if the arrays do not have the same length
+	 * @throws ArithmeticException
+	 *             if a denominator is zero, or if the reduced result does not
+	 *             fit in a {@link Fraction}
+	 */
+	public static Fraction dot(int[] argLeftNumerators, int[] argLeftDenominators, int[] argRightNumerators,
+			int[] argRightDenominators) {
+		int locLength = argLeftNumerators.length;
+		if (argLeftDenominators.length != locLength || argRightNumerators.length != locLength
+				|| argRightDenominators.length != locLength) {
+			throw new IllegalArgumentException("Operands must have the same length");
+		}
+		FractionAccumulator locSum = new FractionAccumulator();
+		for (int i = 0; i < locLength; i++) {
+			locSum.add((long) argLeftNumerators[i] * (long) argRightNumerators[i],
+					(long) argLeftDenominators[i] * (long) argRightDenominators[i]);
+		}
+		return locSum.toFraction();
+	}
+
+	/**
+	 * Computes the linear combination of two terms a1 * b1 + a2 * b2, as a
+	 * fused operation reduced once.
+	 * 
+	 * @param argA1
+	 *            the left operand of the first term
+	 * @param argB1
+	 *            the right operand of the first term
+	 * @param argA2
+	 *            the left operand of the second term
+	 * @param argB2
+	 *            the right operand of the second term
+	 * @return a1 * b1 + a2 * b2
+	 * @throws ArithmeticException
+	 *             if the reduced result does not fit in a {@link Fraction}
+	 */
+	public static Fraction linearCombination(Fraction argA1, Fraction argB1, Fraction argA2, Fraction argB2) {
+		return addProduct(addProduct(new FractionAccumulator(), argA1, argB1), argA2, argB2).toFraction();
+	}
+
+	/**
+	 * Computes the linear combination of three terms a1 * b1 + a2 * b2 + a3 *
+	 * b3, as a fused operation reduced once.
+	 * 
+	 * @param argA1
+	 *            the left operand of the first term
+	 * @param argB1
+	 *            the right operand of the first term
+	 * @param argA2
+	 *            the left operand of the second term
+	 * @param argB2
+	 *            the right operand of the second term
+	 * @param argA3
+	 *            the left operand of the third term
+	 * @param argB3
+	 *            the right operand of the third term
+	 * @return a1 * b1 + a2 * b2 + a3 * b3
+	 * @throws ArithmeticException
+	 *             if the reduced result does not fit in a {@link Fraction}
+	 */
+	public static Fraction linearCombination(Fraction argA1, Fraction argB1, Fraction argA2, Fraction argB2,
+			Fraction argA3, Fraction argB3) {
+		FractionAccumulator locSum = addProduct(new FractionAccumulator(), argA1, argB1);
+		return addProduct(addProduct(locSum, argA2, argB2), argA3, argB3).toFraction();
+	}
+
+	/**
+	 * Returns a {@link Fraction} resulting from raising this to the specified
+	 * power, by exponentiation by squaring: as powers of coprime integers are
+	 * coprime, the result needs no reduction.
+	 * 
+	 * @param argExponent
+	 *            the exponent, which may be negative
+	 * @return this^argExponent, which is 1 for a zero exponent
+	 * @throws ArithmeticException
+	 *             if this is zero and the exponent negative, or if the result
+	 *             does not fit in a {@link Fraction}
+	 */
+	public Fraction pow(int argExponent) {
+		if (argExponent >= 0) {
+			return ofReduced(powExact(numerator, argExponent), powExact(denominator, argExponent));
+		}
+		if (numerator == 0) {
+			throw new ArithmeticException();
+		}
+		// The exponent is negated as a long, so that MIN_VALUE does not overflow
+		long locExponent = -(long) argExponent;
+		int locDenominator = powExact(numerator, locExponent);
+		if (locDenominator == Integer.MIN_VALUE) {
+			throw new ArithmeticException("integer overflow");
+		}
+		int locNumerator = powExact(denominator, locExponent);
+		return (locDenominator > 0) ? ofReduced(locNumerator, locDenominator)
+				: ofReduced(-locNumerator, -locDenominator);
+	}
+
+	/**
+	 * Gets the greatest integer which is lower than or equal to this.
+	 * 
+	 * @return the floor of this
+	 */
+	public int floor() {
+		return Math.floorDiv(numerator, denominator);
+	}
+
+	/**
+	 * Gets the least integer which is greater than or equal to this.
+	 * 
+	 * @return the ceiling of this
+	 */
+	public int ceil() {
+		return -(int) Math.floorDiv(-(long) numerator, (long) denominator);
+	}
+
+	/**
+	 * Rounds this to an integer, exactly, with the specified rounding mode.
+	 * 
+	 * @param argMode
+	 *            the rounding mode
+	 * @return this rounded to an integer
+	 * @throws ArithmeticException
+	 *             if the rounding mode is {@link RoundingMode#UNNECESSARY} and
+	 *             this is not an integer
+	 */
+	public int round(RoundingMode argMode) {
+		int locFloor = Math.floorDiv(numerator, denominator);
+		int locRemainder = Math.floorMod(numerator, denominator);
+		if (locRemainder == 0) {
+			return locFloor;
+		}
+		boolean locUp;
+		switch (argMode) {
+		case UP:
+			locUp = numerator > 0;
+			break;
+		case DOWN:
+			locUp = numerator < 0;
+			break;
+		case CEILING:
+			locUp = true;
+			break;
+		case FLOOR:
+			locUp = false;
+			break;
+		case UNNECESSARY:
+			throw new ArithmeticException("Rounding necessary");
+		default:
+			// Compares the remainder to one half, without overflow
+			int locHalf = Long.compare(2L * locRemainder, denominator);
+			if (locHalf != 0) {
+				locUp = locHalf > 0;
+			} else if (argMode == RoundingMode.HALF_UP) {
+				locUp = numerator > 0;
+			} else if (argMode == RoundingMode.HALF_DOWN) {
+				locUp = numerator < 0;
+			} else {
+				locUp = (locFloor & 1) != 0;
+			}
+			break;
+		}
+		return locUp ? locFloor + 1 : locFloor;
+	}
+
+	/**
+	 * Returns the exact square root of this, which must be the square of a
+	 * fraction: as this is reduced, both its numerator and its denominator must
+	 * then be perfect squares.
+	 * 
+	 * @return the non-negative square root of this
+	 * @throws ArithmeticException
+	 *             if this is not the square of a fraction
+	 */
+	public Fraction sqrtExact() {
+		if (numerator < 0) {
+			throw new ArithmeticException("Negative value: " + this);
+		}
+		int locNumerator = sqrtExact(numerator);
+		int locDenominator = sqrtExact(denominator);
+		if (locNumerator < 0 || locDenominator < 0) {
+			throw new ArithmeticException("Not a perfect square: " + this);
+		}
+		return ofReduced(locNumerator, locDenominator);
+	}
+
+	/**
+	 * Gets the integer part of this, truncated toward zero, so that this is
+	 * the sum of its integer part and of its {@link #fractionalPart()}.
+	 * 
+	 * @return the integer part of this
+	 */
+	public int integerPart() {
+		return numerator / denominator;
+	}
+
+	/**
+	 * Gets the fractional part of this, of the same sign as this and lower
+	 * than 1 in absolute value, so that this is the sum of its
+	 * {@link #integerPart()} and of its fractional part. As the remainder of
+	 * the numerator is coprime with the denominator, it needs no reduction.
+	 * 
+	 * @return the fractional part of this
+	 */
+	public Fraction fractionalPart() {
+		return ofReduced(numerator % denominator, denominator);
+	}
+
 	/**
 	 * Tells whether this {@link Fraction} holds an integer value.
 	 * 
@@ -224,4 +949,59 @@ public class Fraction extends Number implements Comparable<Fraction> {
 		return denominator == 1;
 	}
 
+	/*
+	 * The shared instances, in an array indexed by (denominator - 1) and
+	 * (numerator + bound). Slots of non reduced pairs point to the instance of
+	 * the reduced value, so that lookups never need a GCD.
+	 */
+	private static final class Cache {
+
+		private static final int DEFAULT_BOUND = 16;
+		private static final int MAX_BOUND = 256;
+
+		private static final int BOUND;
+		private static final int WIDTH;
+		private static final Fraction[] INSTANCES;
+
+		static {
+			int locBound = DEFAULT_BOUND;
+			String locProperty = System.getProperty(Fraction.class.getName() + ".cache.bound");
+			if (locProperty != null) {
+				try {
+					locBound = Math.max(0, Math.min(MAX_BOUND, Integer.parseInt(locProperty.trim())));
+				} catch (NumberFormatException e) {
+					// Keeps the default bound
+				}
+			}
+			BOUND = locBound;
+			WIDTH = 2 * locBound + 1;
+			INSTANCES = new Fraction[locBound * WIDTH];
+			for (int locDenominator = 1; locDenominator <= locBound; locDenominator++) {
+				for (int locNumerator = -locBound; locNumerator <= locBound; locNumerator++) {
+					int locGcd = GCD.of(locNumerator, locDenominator);
+					INSTANCES[index(locNumerator, locDenominator)] = (locGcd == 1)
+							? new Fraction(locNumerator, locDenominator, true)
+							: INSTANCES[index(locNumerator / locGcd, locDenominator / locGcd)];
+				}
+			}
+		}
+
+		private Cache() {
+			// Default private constructor
+		}
+
+		static boolean contains(int argNumerator, int argDenominator) {
+			return argDenominator > 0 && argDenominator <= BOUND && argNumerator >= -BOUND && argNumerator <= BOUND;
+		}
+
+		static Fraction get(int argNumerator, int argDenominator) {
+			return INSTANCES[index(argNumerator, argDenominator)];
+		}
+
+		private static int index(int argNumerator, int argDenominator) {
+			return (argDenominator - 1) * WIDTH + argNumerator + BOUND;
+		}
+
+	}
+
 }
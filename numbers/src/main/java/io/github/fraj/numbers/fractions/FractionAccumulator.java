@@ -0,0 +1,535 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.math.BigInteger;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * A mutable fraction, updated in place by arithmetic operations so that
+ * aggregation loops do not allocate intermediate results.
+ * <p>
+ * The running numerator and denominator are kept as long integers and are not
+ * reduced after each operation: they are only reduced when an operation would
+ * otherwise overflow, or when the result is requested. When they do not fit in
+ * long integers even once reduced, they are promoted to {@link BigInteger}s, so
+ * that the accumulated value is always exact.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class FractionAccumulator {
+
+	/*
+	 * Minimum bit length of the denominator in arbitrary-precision form before
+	 * it gets reduced.
+	 */
+	private static final int MIN_BIG_REDUCTION_THRESHOLD = 2 * Long.SIZE;
+
+	/*
+	 * Compact form, with a positive (but not necessarily reduced) denominator,
+	 * used while bigDenominator is null.
+	 */
+	private long numerator;
+	private long denominator;
+
+	/*
+	 * Arbitrary-precision form, with a positive (but not necessarily reduced)
+	 * denominator.
+	 */
+	private BigInteger bigNumerator;
+	private BigInteger bigDenominator;
+	private int bigReductionThreshold;
+
+	/**
+	 * Constructs an accumulator holding zero.
+	 */
+	public FractionAccumulator() {
+		denominator = 1;
+	}
+
+	/**
+	 * Constructs an accumulator holding the value of the provided
+	 * {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the initial value
+	 */
+	public FractionAccumulator(Fraction argFraction) {
+		numerator = argFraction.getNumerator();
+		denominator = argFraction.getDenominator();
+	}
+
+	/**
+	 * Resets this accumulator to zero.
+	 *
+	 * @return this
+	 */
+	public FractionAccumulator reset() {
+		numerator = 0;
+		denominator = 1;
+		bigNumerator = null;
+		bigDenominator = null;
+		return this;
+	}
+
+	/**
+	 * Gets the sign of the accumulated value.
+	 *
+	 * @return -1, 0 or 1 as the accumulated value is negative, zero or
+	 *         positive
+	 */
+	public int signum() {
+		return isCompact() ? Long.signum(numerator) : bigNumerator.signum();
+	}
+
+	/**
+	 * Adds the specified {@link Fraction} to this.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be added
+	 * @return this
+	 */
+	public FractionAccumulator add(Fraction argFraction) {
+		return addPositive(argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Adds the specified {@link LongFraction} to this.
+	 *
+	 * @param argFraction
+	 *            the {@link LongFraction} to be added
+	 * @return this
+	 */
+	public FractionAccumulator add(LongFraction argFraction) {
+		return addPositive(argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Adds the value held by the specified {@link FractionAccumulator} to this.
+	 *
+	 * @param argOther
+	 *            the {@link FractionAccumulator} to be added
+	 * @return this
+	 */
+	public FractionAccumulator add(FractionAccumulator argOther) {
+		return argOther.isCompact() ? addPositive(argOther.numerator, argOther.denominator)
+				: addBig(argOther.bigNumerator, argOther.bigDenominator);
+	}
+
+	/**
+	 * Adds the fraction of the two provided long integers to this.
+	 *
+	 * @param argNumerator
+	 *            the numerator of the fraction to be added
+	 * @param argDenominator
+	 *            the denominator of the fraction to be added
+	 * @return this
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public FractionAccumulator add(long argNumerator, long argDenominator) {
+		if (argDenominator > 0) {
+			return addPositive(argNumerator, argDenominator);
+		}
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		if (argNumerator == Long.MIN_VALUE || argDenominator == Long.MIN_VALUE) {
+			return addBig(BigInteger.valueOf(argNumerator), BigInteger.valueOf(argDenominator));
+		}
+		return addPositive(-argNumerator, -argDenominator);
+	}
+
+	/**
+	 * Substracts the specified {@link Fraction} from this.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be substracted
+	 * @return this
+	 */
+	public FractionAccumulator substract(Fraction argFraction) {
+		return addPositive(-(long) argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Substracts the specified {@link LongFraction} from this.
+	 *
+	 * @param argFraction
+	 *            the {@link LongFraction} to be substracted
+	 * @return this
+	 */
+	public FractionAccumulator substract(LongFraction argFraction) {
+		return substract(argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Substracts the fraction of the two provided long integers from this.
+	 *
+	 * @param argNumerator
+	 *            the numerator of the fraction to be substracted
+	 * @param argDenominator
+	 *            the denominator of the fraction to be substracted
+	 * @return this
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public FractionAccumulator substract(long argNumerator, long argDenominator) {
+		if (argNumerator == Long.MIN_VALUE) {
+			if (argDenominator == 0) {
+				throw new ArithmeticException();
+			}
+			return addBig(BigInteger.valueOf(argNumerator).negate(), BigInteger.valueOf(argDenominator));
+		}
+		return add(-argNumerator, argDenominator);
+	}
+
+	/**
+	 * Multiplies this by the specified {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be multiplied by
+	 * @return this
+	 */
+	public FractionAccumulator multiply(Fraction argFraction) {
+		return multiplyPositive(argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Multiplies this by the specified {@link LongFraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link LongFraction} to be multiplied by
+	 * @return this
+	 */
+	public FractionAccumulator multiply(LongFraction argFraction) {
+		return multiplyPositive(argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Multiplies this by the value held by the specified
+	 * {@link FractionAccumulator}.
+	 *
+	 * @param argOther
+	 *            the {@link FractionAccumulator} to be multiplied by
+	 * @return this
+	 */
+	public FractionAccumulator multiply(FractionAccumulator argOther) {
+		return argOther.isCompact() ? multiplyPositive(argOther.numerator, argOther.denominator)
+				: multiplyBig(argOther.bigNumerator, argOther.bigDenominator);
+	}
+
+	/**
+	 * Multiplies this by the fraction of the two provided long integers.
+	 *
+	 * @param argNumerator
+	 *            the numerator of the fraction to be multiplied by
+	 * @param argDenominator
+	 *            the denominator of the fraction to be multiplied by
+	 * @return this
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public FractionAccumulator multiply(long argNumerator, long argDenominator) {
+		if (argDenominator > 0) {
+			return multiplyPositive(argNumerator, argDenominator);
+		}
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		if (argNumerator == Long.MIN_VALUE || argDenominator == Long.MIN_VALUE) {
+			return multiplyBig(BigInteger.valueOf(argNumerator), BigInteger.valueOf(argDenominator));
+		}
+		return multiplyPositive(-argNumerator, -argDenominator);
+	}
+
+	/**
+	 * Divides this by the specified {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be divided by
+	 * @return this
+	 * @throws ArithmeticException
+	 *             if argFraction is zero
+	 */
+	public FractionAccumulator divide(Fraction argFraction) {
+		return divide(argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Divides this by the specified {@link LongFraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link LongFraction} to be divided by
+	 * @return this
+	 * @throws ArithmeticException
+	 *             if argFraction is zero
+	 */
+	public FractionAccumulator divide(LongFraction argFraction) {
+		return divide(argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Divides this by the fraction of the two provided long integers.
+	 *
+	 * @param argNumerator
+	 *            the numerator of the fraction to be divided by
+	 * @param argDenominator
+	 *            the denominator of the fraction to be divided by
+	 * @return this
+	 * @throws ArithmeticException
+	 *             if numerator or denominator is zero
+	 */
+	public FractionAccumulator divide(long argNumerator, long argDenominator) {
+		if (argNumerator == 0) {
+			throw new ArithmeticException();
+		}
+		return multiply(argDenominator, argNumerator);
+	}
+
+	/**
+	 * Reduces the accumulated value and converts it to a {@link Fraction}.
+	 *
+	 * @return a {@link Fraction} with the accumulated value
+	 * @throws ArithmeticException
+	 *             if the reduced numerator or denominator does not fit in an int
+	 */
+	public Fraction toFraction() {
+		reduce();
+		if (!isCompact()) {
+			throw new ArithmeticException();
+		}
+		return Fraction.ofReduced(Math.toIntExact(numerator), Math.toIntExact(denominator));
+	}
+
+	/**
+	 * Reduces the accumulated value and converts it to a {@link LongFraction}.
+	 *
+	 * @return a {@link LongFraction} with the accumulated value
+	 * @throws ArithmeticException
+	 *             if the reduced numerator or denominator does not fit in a long
+	 */
+	public LongFraction toLongFraction() {
+		reduce();
+		if (!isCompact()) {
+			throw new ArithmeticException();
+		}
+		return new LongFraction(numerator, denominator);
+	}
+
+	/**
+	 * Reduces the accumulated value and converts it to a {@link BigFraction}.
+	 *
+	 * @return a {@link BigFraction} with the accumulated value
+	 */
+	public BigFraction toBigFraction() {
+		reduce();
+		return isCompact() ? new BigFraction(numerator, denominator) : new BigFraction(bigNumerator, bigDenominator);
+	}
+
+	@Override
+	public String toString() {
+		return toBigFraction().toString();
+	}
+
+	private boolean isCompact() {
+		return bigDenominator == null;
+	}
+
+	/*
+	 * Adds a fraction with a positive denominator, in compact form as long as
+	 * possible.
+	 */
+	private FractionAccumulator addPositive(long argNumerator, long argDenominator) {
+		if (isCompact() && addCompact(argNumerator, argDenominator)) {
+			return this;
+		}
+		return addBig(BigInteger.valueOf(argNumerator), BigInteger.valueOf(argDenominator));
+	}
+
+	/*
+	 * Tries the cheapest forms of the compact addition first, when the
+	 * denominator of the operand divides the running one, and otherwise
+	 * divides out the GCD of the denominators, so that the running denominator
+	 * stays the LCM of the denominators added so far. Only on overflow is this
+	 * reduced. Returns false if the sum does not fit in long integers, leaving
+	 * the value unchanged.
+	 */
+	private boolean addCompact(long argNumerator, long argDenominator) {
+		try {
+			if (denominator == argDenominator) {
+				numerator = Math.addExact(numerator, argNumerator);
+				return true;
+			}
+			if (denominator % argDenominator == 0) {
+				numerator = Math.addExact(numerator, Math.multiplyExact(argNumerator, denominator / argDenominator));
+				return true;
+			}
+		} catch (ArithmeticException e) {
+			// Falls through to the general addition
+		}
+		if (addCompactLcm(argNumerator, argDenominator)) {
+			return true;
+		}
+		reduceCompact();
+		return addCompactLcm(argNumerator, argDenominator);
+	}
+
+	private boolean addCompactLcm(long argNumerator, long argDenominator) {
+		long locGcd = GCD.of(denominator, argDenominator);
+		try {
+			long locNewNumerator = Math.addExact(Math.multiplyExact(numerator, argDenominator / locGcd),
+					Math.multiplyExact(argNumerator, denominator / locGcd));
+			denominator = Math.multiplyExact(denominator, argDenominator / locGcd);
+			numerator = locNewNumerator;
+			return true;
+		} catch (ArithmeticException e) {
+			return false;
+		}
+	}
+
+	/*
+	 * Adds a fraction with a non-zero denominator of any sign in
+	 * arbitrary-precision form, dividing out the GCD of the denominators so
+	 * that the denominator grows as their LCM rather than their product.
+	 */
+	private FractionAccumulator addBig(BigInteger argNumerator, BigInteger argDenominator) {
+		if (argDenominator.signum() < 0) {
+			return addBig(argNumerator.negate(), argDenominator.negate());
+		}
+		inflate();
+		BigInteger locGcd = bigDenominator.gcd(argDenominator);
+		if (locGcd.equals(BigInteger.ONE)) {
+			bigNumerator = bigNumerator.multiply(argDenominator).add(argNumerator.multiply(bigDenominator));
+			bigDenominator = bigDenominator.multiply(argDenominator);
+		} else {
+			BigInteger locFactor = argDenominator.divide(locGcd);
+			bigNumerator = bigNumerator.multiply(locFactor).add(argNumerator.multiply(bigDenominator.divide(locGcd)));
+			bigDenominator = bigDenominator.multiply(locFactor);
+		}
+		return shrink();
+	}
+
+	/*
+	 * Multiplies by a fraction with a positive denominator, in compact form as
+	 * long as possible.
+	 */
+	private FractionAccumulator multiplyPositive(long argNumerator, long argDenominator) {
+		if (argNumerator == 0) {
+			return reset();
+		}
+		if (isCompact() && multiplyCompact(argNumerator, argDenominator)) {
+			return this;
+		}
+		return multiplyBig(BigInteger.valueOf(argNumerator), BigInteger.valueOf(argDenominator));
+	}
+
+	/*
+	 * Tries the plain product first, and only on overflow reduces this and
+	 * cross-reduces each numerator with the other denominator. Returns false
+	 * if the product does not fit in long integers, leaving the value
+	 * unchanged.
+	 */
+	private boolean multiplyCompact(long argNumerator, long argDenominator) {
+		try {
+			long locNewNumerator = Math.multiplyExact(numerator, argNumerator);
+			denominator = Math.multiplyExact(denominator, argDenominator);
+			numerator = locNewNumerator;
+			return true;
+		} catch (ArithmeticException e) {
+			// Falls through to the cross-reduced multiplication
+		}
+		reduceCompact();
+		long locLeftGcd = GCD.of(numerator, argDenominator);
+		long locRightGcd = GCD.of(argNumerator, denominator);
+		try {
+			long locNewNumerator = Math.multiplyExact(numerator / locLeftGcd, argNumerator / locRightGcd);
+			denominator = Math.multiplyExact(denominator / locRightGcd, argDenominator / locLeftGcd);
+			numerator = locNewNumerator;
+			return true;
+		} catch (ArithmeticException e) {
+			return false;
+		}
+	}
+
+	/*
+	 * Multiplies by a fraction with a non-zero denominator of any sign in
+	 * arbitrary-precision form.
+	 */
+	private FractionAccumulator multiplyBig(BigInteger argNumerator, BigInteger argDenominator) {
+		if (argNumerator.signum() == 0) {
+			return reset();
+		}
+		if (argDenominator.signum() < 0) {
+			return multiplyBig(argNumerator.negate(), argDenominator.negate());
+		}
+		inflate();
+		bigNumerator = bigNumerator.multiply(argNumerator);
+		bigDenominator = bigDenominator.multiply(argDenominator);
+		return shrink();
+	}
+
+	private void inflate() {
+		if (isCompact()) {
+			bigNumerator = BigInteger.valueOf(numerator);
+			bigDenominator = BigInteger.valueOf(denominator);
+			bigReductionThreshold = MIN_BIG_REDUCTION_THRESHOLD;
+		}
+	}
+
+	/*
+	 * Reduces the arbitrary-precision form once its denominator has doubled in
+	 * size since the last reduction, so that reductions stay amortized, and
+	 * deflates it back to the compact form when it fits.
+	 */
+	private FractionAccumulator shrink() {
+		if (bigDenominator.bitLength() > bigReductionThreshold) {
+			reduceBig();
+		}
+		return this;
+	}
+
+	private void reduce() {
+		if (isCompact()) {
+			reduceCompact();
+		} else {
+			reduceBig();
+		}
+	}
+
+	private void reduceCompact() {
+		long locGcd = GCD.of(numerator, denominator);
+		numerator /= locGcd;
+		denominator /= locGcd;
+	}
+
+	private void reduceBig() {
+		BigInteger locGcd = bigNumerator.gcd(bigDenominator);
+		if (!locGcd.equals(BigInteger.ONE)) {
+			bigNumerator = bigNumerator.divide(locGcd);
+			bigDenominator = bigDenominator.divide(locGcd);
+		}
+		if (bigNumerator.bitLength() < Long.SIZE && bigDenominator.bitLength() < Long.SIZE) {
+			numerator = bigNumerator.longValue();
+			denominator = bigDenominator.longValue();
+			bigNumerator = null;
+			bigDenominator = null;
+		} else {
+			bigReductionThreshold = Math.max(MIN_BIG_REDUCTION_THRESHOLD, 2 * bigDenominator.bitLength());
+		}
+	}
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A thread-safe exact sum of fractions, designed for frequent updates from
+ * many threads, in the manner of
+ * {@link java.util.concurrent.atomic.LongAdder}.
+ * <p>
+ * Updates are spread over a set of cells, each holding a
+ * {@link FractionAccumulator}: a thread updates the cell it is currently
+ * assigned to, and moves to another cell whenever it finds its own busy. The
+ * set of cells grows on contention, up to the number of processors. Cells are
+ * only combined by {@link #sum()}, which is therefore much more expensive than
+ * updates.
+ * <p>
+ * Like {@link java.util.concurrent.atomic.LongAdder#sum()}, {@link #sum()} is
+ * not an atomic snapshot: updates made while it runs may or may not be taken
+ * into account.
+ */
+public class FractionAdder {
+
+	private static final int MAX_CELLS = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+
+	/*
+	 * The index of the cell each thread is currently assigned to, before
+	 * masking, changed whenever the thread finds its cell busy. Initialized
+	 * from the thread id, mixed so that consecutive ids spread over cells, and
+	 * never zero, which xorshift would keep forever.
+	 */
+	private static final ThreadLocal<int[]> PROBE = ThreadLocal
+			.withInitial(() -> new int[] { (int) (Thread.currentThread().getId() * 0x9E3779B97F4A7C15L >>> 32) | 1 });
+
+	private volatile Cell[] cells = { new Cell() };
+
+	/**
+	 * Adds the specified {@link Fraction} to this.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be added
+	 */
+	public void add(Fraction argFraction) {
+		Cell locCell = lockCell();
+		try {
+			locCell.accumulator.add(argFraction);
+		} finally {
+			locCell.unlock();
+		}
+	}
+
+	/**
+	 * Adds the specified {@link LongFraction} to this.
+	 *
+	 * @param argFraction
+	 *            the {@link LongFraction} to be added
+	 */
+	public void add(LongFraction argFraction) {
+		Cell locCell = lockCell();
+		try {
+			locCell.accumulator.add(argFraction);
+		} finally {
+			locCell.unlock();
+		}
+	}
+
+	/**
+	 * Adds the fraction of the two provided long integers to this.
+	 *
+	 * @param argNumerator
+	 *            the numerator of the fraction to be added
+	 * @param argDenominator
+	 *            the denominator of the fraction to be added
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public void add(long argNumerator, long argDenominator) {
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		Cell locCell = lockCell();
+		try {
+			locCell.accumulator.add(argNumerator, argDenominator);
+		} finally {
+			locCell.unlock();
+		}
+	}
+
+	/**
+	 * Returns the exact current sum.
+	 *
+	 * @return the sum
+	 */
+	public BigFraction sum() {
+		FractionAccumulator locSum = new FractionAccumulator();
+		for (Cell locCell : cells) {
+			locCell.lock();
+			try {
+				locSum.add(locCell.accumulator);
+			} finally {
+				locCell.unlock();
+			}
+		}
+		return locSum.toBigFraction();
+	}
+
+	/**
+	 * Resets this to zero.
+	 */
+	public void reset() {
+		for (Cell locCell : cells) {
+			locCell.lock();
+			locCell.accumulator.reset();
+			locCell.unlock();
+		}
+	}
+
+	/**
+	 * Returns the exact current sum, and resets this to zero, which is
+	 * equivalent to {@link #sum()} followed by {@link #reset()}, except that
+	 * no update can be lost between them.
+	 *
+	 * @return the sum
+	 */
+	public BigFraction sumThenReset() {
+		FractionAccumulator locSum = new FractionAccumulator();
+		for (Cell locCell : cells) {
+			locCell.lock();
+			try {
+				locSum.add(locCell.accumulator);
+				locCell.accumulator.reset();
+			} finally {
+				locCell.unlock();
+			}
+		}
+		return locSum.toBigFraction();
+	}
+
+	@Override
+	public String toString() {
+		return sum().toString();
+	}
+
+	/*
+	 * Locks the cell assigned to the current thread, assigning it another cell
+	 * as long as the current one is busy, and adding cells if there are fewer
+	 * than processors.
+	 */
+	private Cell lockCell() {
+		int[] locProbe = PROBE.get();
+		for (;;) {
+			Cell[] locCells = cells;
+			Cell locCell = locCells[locProbe[0] & (locCells.length - 1)];
+			if (locCell.tryLock()) {
+				return locCell;
+			}
+			// Marsaglia's xorshift, as LongAdder does
+			int locNewProbe = locProbe[0];
+			locNewProbe ^= locNewProbe << 13;
+			locNewProbe ^= locNewProbe >>> 17;
+			locNewProbe ^= locNewProbe << 5;
+			locProbe[0] = locNewProbe;
+			if (locCells.length < MAX_CELLS) {
+				expand(locCells);
+			}
+		}
+	}
+
+	private synchronized void expand(Cell[] argCells) {
+		if (cells != argCells) {
+			// Already expanded by another thread
+			return;
+		}
+		Cell[] locCells = new Cell[argCells.length << 1];
+		System.arraycopy(argCells, 0, locCells, 0, argCells.length);
+		for (int i = argCells.length; i < locCells.length; i++) {
+			locCells[i] = new Cell();
+		}
+		cells = locCells;
+	}
+
+	/*
+	 * Padding fields, on each side of the lock, keep locks of cells allocated
+	 * next to each other, and their accumulators, on distinct cache lines.
+	 * Superclass fields are laid out first, hence the class hierarchy.
+	 */
+	@SuppressWarnings("unused")
+	private static class LeftPadding {
+		private long p01, p02, p03, p04, p05, p06, p07;
+	}
+
+	private static class Lock extends LeftPadding {
+		private static final AtomicIntegerFieldUpdater<Lock> LOCKED = AtomicIntegerFieldUpdater
+				.newUpdater(Lock.class, "locked");
+
+		private volatile int locked;
+
+		boolean tryLock() {
+			return locked == 0 && LOCKED.compareAndSet(this, 0, 1);
+		}
+
+		void lock() {
+			while (!tryLock()) {
+				Thread.yield();
+			}
+		}
+
+		void unlock() {
+			locked = 0;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private static class RightPadding extends Lock {
+		private long p11, p12, p13, p14, p15, p16, p17;
+	}
+
+	private static final class Cell extends RightPadding {
+		final FractionAccumulator accumulator = new FractionAccumulator();
+	}
+
+}
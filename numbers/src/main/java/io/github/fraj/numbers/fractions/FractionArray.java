@@ -0,0 +1,417 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.Arrays;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * A fixed-length, mutable array of fractions, stored as two parallel arrays of
+ * reduced numerators and (positive) denominators rather than as an array of
+ * {@link Fraction} objects.
+ * <p>
+ * Bulk operations work on the primitive components directly and never create
+ * a {@link Fraction} per element. Values are reduced when written, exactly as
+ * {@link Fraction#Fraction(int, int)} does, and intermediate results are
+ * computed with long integers: an {@link ArithmeticException} is thrown when a
+ * reduced result does not fit in int components.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class FractionArray {
+
+	final int[] numerators;
+	final int[] denominators;
+
+	/**
+	 * Constructs an array of the provided length, filled with zeros.
+	 *
+	 * @param argLength
+	 *            the length of the array
+	 * @throws NegativeArraySizeException
+	 *             if length is negative
+	 */
+	public FractionArray(int argLength) {
+		numerators = new int[argLength];
+		denominators = new int[argLength];
+		Arrays.fill(denominators, 1);
+	}
+
+	/**
+	 * Constructs an array holding the provided fractions.
+	 *
+	 * @param argFractions
+	 *            the fractions to be held
+	 */
+	public FractionArray(Fraction... argFractions) {
+		numerators = new int[argFractions.length];
+		denominators = new int[argFractions.length];
+		for (int i = 0; i < argFractions.length; i++) {
+			numerators[i] = argFractions[i].getNumerator();
+			denominators[i] = argFractions[i].getDenominator();
+		}
+	}
+
+	/**
+	 * Constructs an array from two parallel arrays of numerators and
+	 * denominators, which are copied and reduced.
+	 *
+	 * @param argNumerators
+	 *            the numerators of the fractions
+	 * @param argDenominators
+	 *            the denominators of the fractions
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 * @throws ArithmeticException
+	 *             if a denominator is zero
+	 */
+	public FractionArray(int[] argNumerators, int[] argDenominators) {
+		if (argNumerators.length != argDenominators.length) {
+			throw new IllegalArgumentException("Numerators and denominators must have the same length");
+		}
+		numerators = argNumerators.clone();
+		denominators = argDenominators.clone();
+		for (int locDenominator : denominators) {
+			if (locDenominator == 0) {
+				throw new ArithmeticException();
+			}
+		}
+		GCD.reduceAll(numerators, denominators);
+		for (int i = 0; i < denominators.length; i++) {
+			if (denominators[i] < 0) {
+				numerators[i] = Math.negateExact(numerators[i]);
+				denominators[i] = Math.negateExact(denominators[i]);
+			}
+		}
+	}
+
+	/**
+	 * Gets the length of this array.
+	 *
+	 * @return the number of fractions in this array
+	 */
+	public int length() {
+		return numerators.length;
+	}
+
+	/**
+	 * Gets the (reduced) numerator of the fraction at the provided index.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @return the fraction's (reduced) numerator
+	 */
+	public int getNumerator(int argIndex) {
+		return numerators[argIndex];
+	}
+
+	/**
+	 * Gets the (reduced) denominator of the fraction at the provided index.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @return the fraction's (reduced) denominator
+	 */
+	public int getDenominator(int argIndex) {
+		return denominators[argIndex];
+	}
+
+	/**
+	 * Gets the fraction at the provided index.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @return a {@link Fraction} with the value at the provided index
+	 */
+	public Fraction get(int argIndex) {
+		return Fraction.ofReduced(numerators[argIndex], denominators[argIndex]);
+	}
+
+	/**
+	 * Sets the fraction at the provided index.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @param argFraction
+	 *            the value to be set
+	 */
+	public void set(int argIndex, Fraction argFraction) {
+		numerators[argIndex] = argFraction.getNumerator();
+		denominators[argIndex] = argFraction.getDenominator();
+	}
+
+	/**
+	 * Sets the fraction at the provided index from its numerator and
+	 * denominator, which are reduced.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @throws ArithmeticException
+	 *             if denominator is zero, or if the reduced fraction cannot be
+	 *             represented with a positive int denominator
+	 */
+	public void set(int argIndex, int argNumerator, int argDenominator) {
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		int locGcd = GCD.of(argNumerator, argDenominator);
+		int locNumerator = argNumerator / locGcd;
+		int locDenominator = argDenominator / locGcd;
+		if (locDenominator < 0) {
+			locNumerator = Math.negateExact(locNumerator);
+			locDenominator = Math.negateExact(locDenominator);
+		}
+		numerators[argIndex] = locNumerator;
+		denominators[argIndex] = locDenominator;
+	}
+
+	/**
+	 * Adds the fractions of the provided array to the fractions of this array,
+	 * element by element.
+	 *
+	 * @param argOther
+	 *            the array of fractions to be added
+	 * @return this array
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 * @throws ArithmeticException
+	 *             if a result overflows
+	 */
+	public FractionArray add(FractionArray argOther) {
+		checkLength(argOther);
+		for (int i = 0; i < numerators.length; i++) {
+			addAt(i, argOther.numerators[i], argOther.denominators[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies the fractions of this array by the fractions of the provided
+	 * array, element by element.
+	 *
+	 * @param argOther
+	 *            the array of fractions to multiply by
+	 * @return this array
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 * @throws ArithmeticException
+	 *             if a result overflows
+	 */
+	public FractionArray multiply(FractionArray argOther) {
+		checkLength(argOther);
+		for (int i = 0; i < numerators.length; i++) {
+			multiplyAt(i, argOther.numerators[i], argOther.denominators[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies all the fractions of this array by the provided factor.
+	 *
+	 * @param argFactor
+	 *            the {@link Fraction} to multiply by
+	 * @return this array
+	 * @throws ArithmeticException
+	 *             if a result overflows
+	 */
+	public FractionArray scale(Fraction argFactor) {
+		int locNumerator = argFactor.getNumerator();
+		int locDenominator = argFactor.getDenominator();
+		for (int i = 0; i < numerators.length; i++) {
+			multiplyAt(i, locNumerator, locDenominator);
+		}
+		return this;
+	}
+
+	/**
+	 * Computes the sum of the fractions of this array.
+	 *
+	 * @return the sum of the fractions of this array
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public Fraction sum() {
+		long[] locSum = { 0, 1 };
+		for (int i = 0; i < numerators.length; i++) {
+			accumulate(locSum, numerators[i], denominators[i]);
+		}
+		return Fraction.ofReduced(Math.toIntExact(locSum[0]), Math.toIntExact(locSum[1]));
+	}
+
+	/**
+	 * Computes the dot product of this array by the provided array, i.e. the sum
+	 * of the products of their fractions, element by element.
+	 *
+	 * @param argOther
+	 *            the other array of fractions
+	 * @return the dot product of the two arrays
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public Fraction dot(FractionArray argOther) {
+		checkLength(argOther);
+		long[] locSum = { 0, 1 };
+		for (int i = 0; i < numerators.length; i++) {
+			if (numerators[i] != 0 && argOther.numerators[i] != 0) {
+				int locLeftGcd = GCD.of(numerators[i], argOther.denominators[i]);
+				int locRightGcd = GCD.of(argOther.numerators[i], denominators[i]);
+				accumulate(locSum, (long) (numerators[i] / locLeftGcd) * (argOther.numerators[i] / locRightGcd),
+						(long) (denominators[i] / locRightGcd) * (argOther.denominators[i] / locLeftGcd));
+			}
+		}
+		return Fraction.ofReduced(Math.toIntExact(locSum[0]), Math.toIntExact(locSum[1]));
+	}
+
+	/**
+	 * Sorts the fractions of this array in ascending order.
+	 *
+	 * @return this array
+	 */
+	public FractionArray sort() {
+		FractionArrays.sort(numerators, denominators);
+		return this;
+	}
+
+	/**
+	 * Sorts the fractions of this array in ascending order, in parallel.
+	 *
+	 * @return this array
+	 */
+	public FractionArray parallelSort() {
+		FractionArrays.parallelSort(numerators, denominators);
+		return this;
+	}
+
+	/**
+	 * Copies the fractions of this array into an array of {@link Fraction}.
+	 *
+	 * @return an array of {@link Fraction} with the values of this array
+	 */
+	public Fraction[] toArray() {
+		Fraction[] locFractions = new Fraction[numerators.length];
+		for (int i = 0; i < numerators.length; i++) {
+			locFractions[i] = get(i);
+		}
+		return locFractions;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Arrays.hashCode(numerators);
+		result = prime * result + Arrays.hashCode(denominators);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		FractionArray other = (FractionArray) obj;
+		return Arrays.equals(numerators, other.numerators) && Arrays.equals(denominators, other.denominators);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder locBuilder = new StringBuilder("[");
+		for (int i = 0; i < numerators.length; i++) {
+			if (i > 0) {
+				locBuilder.append(", ");
+			}
+			locBuilder.append(numerators[i]);
+			if (denominators[i] != 1) {
+				locBuilder.append('/').append(denominators[i]);
+			}
+		}
+		return locBuilder.append(']').toString();
+	}
+
+	private void checkLength(FractionArray argOther) {
+		if (argOther.numerators.length != numerators.length) {
+			throw new IllegalArgumentException("Arrays must have the same length");
+		}
+	}
+
+	/*
+	 * Adds a reduced fraction to the one at the provided index, dividing out
+	 * the GCD of the denominators first so that the result comes out reduced.
+	 * With int components, none of the long intermediate values can overflow.
+	 */
+	private void addAt(int argIndex, int argNumerator, int argDenominator) {
+		int locDenominator = denominators[argIndex];
+		int locGcd = GCD.of(locDenominator, argDenominator);
+		long locNewNumerator = (long) numerators[argIndex] * (argDenominator / locGcd)
+				+ (long) argNumerator * (locDenominator / locGcd);
+		if (locNewNumerator == 0) {
+			numerators[argIndex] = 0;
+			denominators[argIndex] = 1;
+			return;
+		}
+		long locSecondGcd = GCD.of(locNewNumerator, locGcd);
+		numerators[argIndex] = Math.toIntExact(locNewNumerator / locSecondGcd);
+		denominators[argIndex] = Math.toIntExact((long) (locDenominator / locGcd) * (argDenominator / locSecondGcd));
+	}
+
+	/*
+	 * Multiplies the fraction at the provided index by a reduced fraction,
+	 * after cross-reducing each numerator with the other denominator.
+	 */
+	private void multiplyAt(int argIndex, int argNumerator, int argDenominator) {
+		int locNumerator = numerators[argIndex];
+		int locDenominator = denominators[argIndex];
+		if (locNumerator == 0 || argNumerator == 0) {
+			numerators[argIndex] = 0;
+			denominators[argIndex] = 1;
+			return;
+		}
+		int locLeftGcd = GCD.of(locNumerator, argDenominator);
+		int locRightGcd = GCD.of(argNumerator, locDenominator);
+		numerators[argIndex] = Math.toIntExact((long) (locNumerator / locLeftGcd) * (argNumerator / locRightGcd));
+		denominators[argIndex] = Math
+				.toIntExact((long) (locDenominator / locRightGcd) * (argDenominator / locLeftGcd));
+	}
+
+	/*
+	 * Adds a reduced fraction with a positive denominator to the running sum
+	 * held as { numerator, denominator }, keeping it reduced.
+	 */
+	private static void accumulate(long[] argSum, long argNumerator, long argDenominator) {
+		long locGcd = GCD.of(argSum[1], argDenominator);
+		long locNewNumerator = Math.addExact(Math.multiplyExact(argSum[0], argDenominator / locGcd),
+				Math.multiplyExact(argNumerator, argSum[1] / locGcd));
+		if (locNewNumerator == 0) {
+			argSum[0] = 0;
+			argSum[1] = 1;
+			return;
+		}
+		long locSecondGcd = GCD.of(locNewNumerator, locGcd);
+		argSum[1] = Math.multiplyExact(argSum[1] / locGcd, argDenominator / locSecondGcd);
+		argSum[0] = locNewNumerator / locSecondGcd;
+	}
+
+}
@@ -0,0 +1,707 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.concurrent.RecursiveAction;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * A utility class to sort, select and search fractions stored without
+ * {@link Fraction} instances, either as parallel arrays of numerators and
+ * denominators, or as packed <code>long</code>s holding the numerator in their
+ * upper 32 bits and the denominator in their lower 32 bits.
+ * <p>
+ * Denominators must be positive, but fractions need not be reduced: they are
+ * compared by their exact values, with two 64-bit products, without loading
+ * any object. Sorting is done in place by quicksort, which is not stable;
+ * parallel sorting splits its partitions across the common fork/join pool.
+ */
+public final class FractionArrays {
+
+	/*
+	 * Ranges shorter than this are sorted by insertion.
+	 */
+	private static final int INSERTION_THRESHOLD = 16;
+
+	/*
+	 * Partitions shorter than this are sorted sequentially by parallel sorts,
+	 * as in Arrays.parallelSort.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	private FractionArrays() {
+		// Default private constructor
+	}
+
+	/**
+	 * Packs a {@link Fraction} into a <code>long</code>.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction}
+	 * @return its numerator in the upper 32 bits, and its denominator in the
+	 *         lower 32 bits
+	 */
+	public static long pack(Fraction argFraction) {
+		return pack(argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Unpacks a <code>long</code> into a {@link Fraction}.
+	 *
+	 * @param argPacked
+	 *            the packed fraction
+	 * @return the {@link Fraction}
+	 * @throws ArithmeticException
+	 *             if the denominator is zero
+	 */
+	public static Fraction unpack(long argPacked) {
+		return Fraction.valueOf(numerator(argPacked), denominator(argPacked));
+	}
+
+	/**
+	 * Sorts parallel arrays of numerators and denominators in ascending order
+	 * of the fractions.
+	 *
+	 * @param argNumerators
+	 *            the numerators
+	 * @param argDenominators
+	 *            the positive denominators
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 */
+	public static void sort(int[] argNumerators, int[] argDenominators) {
+		sort(argNumerators, argDenominators, 0, checkLengths(argNumerators, argDenominators));
+	}
+
+	/**
+	 * Sorts a range of parallel arrays of numerators and denominators in
+	 * ascending order of the fractions.
+	 *
+	 * @param argNumerators
+	 *            the numerators
+	 * @param argDenominators
+	 *            the positive denominators
+	 * @param argFrom
+	 *            the index of the first fraction (inclusive)
+	 * @param argTo
+	 *            the index of the last fraction (exclusive)
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 */
+	public static void sort(int[] argNumerators, int[] argDenominators, int argFrom, int argTo) {
+		checkRange(checkLengths(argNumerators, argDenominators), argFrom, argTo);
+		sort(argNumerators, argDenominators, argFrom, argTo - 1, false);
+	}
+
+	/**
+	 * Sorts parallel arrays of numerators and denominators in ascending order
+	 * of the fractions, in parallel.
+	 *
+	 * @param argNumerators
+	 *            the numerators
+	 * @param argDenominators
+	 *            the positive denominators
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 */
+	public static void parallelSort(int[] argNumerators, int[] argDenominators) {
+		int locLength = checkLengths(argNumerators, argDenominators);
+		sort(argNumerators, argDenominators, 0, locLength - 1, locLength >= PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Sorts packed fractions in ascending order.
+	 *
+	 * @param argPacked
+	 *            the packed fractions, with positive denominators
+	 */
+	public static void sort(long[] argPacked) {
+		sort(argPacked, 0, argPacked.length);
+	}
+
+	/**
+	 * Sorts a range of packed fractions in ascending order.
+	 *
+	 * @param argPacked
+	 *            the packed fractions, with positive denominators
+	 * @param argFrom
+	 *            the index of the first fraction (inclusive)
+	 * @param argTo
+	 *            the index of the last fraction (exclusive)
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 */
+	public static void sort(long[] argPacked, int argFrom, int argTo) {
+		checkRange(argPacked.length, argFrom, argTo);
+		sort(argPacked, argFrom, argTo - 1, false);
+	}
+
+	/**
+	 * Sorts packed fractions in ascending order, in parallel.
+	 *
+	 * @param argPacked
+	 *            the packed fractions, with positive denominators
+	 */
+	public static void parallelSort(long[] argPacked) {
+		sort(argPacked, 0, argPacked.length - 1, argPacked.length >= PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Selects the k-th smallest fraction of parallel arrays of numerators and
+	 * denominators, reordering them so that it lies at index k, with no
+	 * greater fraction before it and no smaller fraction after it.
+	 *
+	 * @param argNumerators
+	 *            the numerators
+	 * @param argDenominators
+	 *            the positive denominators
+	 * @param argK
+	 *            the rank of the fraction, from 0
+	 * @return the k-th smallest fraction
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 * @throws IndexOutOfBoundsException
+	 *             if k is out of bounds
+	 */
+	public static Fraction select(int[] argNumerators, int[] argDenominators, int argK) {
+		checkIndex(checkLengths(argNumerators, argDenominators), argK);
+		select(argNumerators, argDenominators, 0, argNumerators.length - 1, argK);
+		return Fraction.valueOf(argNumerators[argK], argDenominators[argK]);
+	}
+
+	/**
+	 * Selects the k-th smallest of packed fractions, reordering them so that it
+	 * lies at index k, with no greater fraction before it and no smaller
+	 * fraction after it.
+	 *
+	 * @param argPacked
+	 *            the packed fractions, with positive denominators
+	 * @param argK
+	 *            the rank of the fraction, from 0
+	 * @return the k-th smallest packed fraction
+	 * @throws IndexOutOfBoundsException
+	 *             if k is out of bounds
+	 */
+	public static long select(long[] argPacked, int argK) {
+		checkIndex(argPacked.length, argK);
+		select(argPacked, 0, argPacked.length - 1, argK);
+		return argPacked[argK];
+	}
+
+	/**
+	 * Computes the median of parallel arrays of numerators and denominators,
+	 * which is the mean of the two middle fractions for even lengths. The
+	 * arrays are reordered as by {@link #select(int[], int[], int)}.
+	 *
+	 * @param argNumerators
+	 *            the numerators
+	 * @param argDenominators
+	 *            the positive denominators
+	 * @return the exact median
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths, or are empty
+	 * @throws ArithmeticException
+	 *             if the median overflows a {@link Fraction}
+	 */
+	public static Fraction median(int[] argNumerators, int[] argDenominators) {
+		int locLength = checkLengths(argNumerators, argDenominators);
+		if (locLength == 0) {
+			throw new IllegalArgumentException("No median of an empty array");
+		}
+		int locMiddle = (locLength - 1) >>> 1;
+		select(argNumerators, argDenominators, 0, locLength - 1, locMiddle);
+		if ((locLength & 1) != 0) {
+			return Fraction.valueOf(argNumerators[locMiddle], argDenominators[locMiddle]);
+		}
+		// The upper middle fraction is the smallest of the upper half
+		int locUpper = locMiddle + 1;
+		for (int i = locUpper + 1; i < locLength; i++) {
+			if (compare(argNumerators[i], argDenominators[i], argNumerators[locUpper],
+					argDenominators[locUpper]) < 0) {
+				locUpper = i;
+			}
+		}
+		return mean(argNumerators[locMiddle], argDenominators[locMiddle], argNumerators[locUpper],
+				argDenominators[locUpper]);
+	}
+
+	/**
+	 * Computes the median of packed fractions, which is the mean of the two
+	 * middle fractions for even lengths. The array is reordered as by
+	 * {@link #select(long[], int)}.
+	 *
+	 * @param argPacked
+	 *            the packed fractions, with positive denominators
+	 * @return the exact median
+	 * @throws IllegalArgumentException
+	 *             if the array is empty
+	 * @throws ArithmeticException
+	 *             if the median overflows a {@link Fraction}
+	 */
+	public static Fraction median(long[] argPacked) {
+		int locLength = argPacked.length;
+		if (locLength == 0) {
+			throw new IllegalArgumentException("No median of an empty array");
+		}
+		int locMiddle = (locLength - 1) >>> 1;
+		select(argPacked, 0, locLength - 1, locMiddle);
+		long locLower = argPacked[locMiddle];
+		if ((locLength & 1) != 0) {
+			return unpack(locLower);
+		}
+		long locUpper = argPacked[locMiddle + 1];
+		for (int i = locMiddle + 2; i < locLength; i++) {
+			if (compare(argPacked[i], locUpper) < 0) {
+				locUpper = argPacked[i];
+			}
+		}
+		return mean(numerator(locLower), denominator(locLower), numerator(locUpper), denominator(locUpper));
+	}
+
+	/**
+	 * Searches sorted parallel arrays of numerators and denominators for a
+	 * fraction, by its exact value.
+	 *
+	 * @param argNumerators
+	 *            the numerators, sorted in ascending order of the fractions
+	 * @param argDenominators
+	 *            the positive denominators
+	 * @param argKey
+	 *            the fraction to search for
+	 * @return the index of a fraction equal to the key, or
+	 *         <code>-(insertion point) - 1</code> if there is none, as by
+	 *         {@link java.util.Arrays#binarySearch(int[], int)}
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 */
+	public static int binarySearch(int[] argNumerators, int[] argDenominators, Fraction argKey) {
+		return binarySearch(argNumerators, argDenominators, 0, checkLengths(argNumerators, argDenominators),
+				argKey);
+	}
+
+	/**
+	 * Searches a sorted range of parallel arrays of numerators and
+	 * denominators for a fraction, by its exact value.
+	 *
+	 * @param argNumerators
+	 *            the numerators, sorted in ascending order of the fractions
+	 *            over the range
+	 * @param argDenominators
+	 *            the positive denominators
+	 * @param argFrom
+	 *            the index of the first fraction (inclusive)
+	 * @param argTo
+	 *            the index of the last fraction (exclusive)
+	 * @param argKey
+	 *            the fraction to search for
+	 * @return the index of a fraction equal to the key, or
+	 *         <code>-(insertion point) - 1</code> if there is none
+	 * @throws IllegalArgumentException
+	 *             if the two arrays have different lengths
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 */
+	public static int binarySearch(int[] argNumerators, int[] argDenominators, int argFrom, int argTo,
+			Fraction argKey) {
+		checkRange(checkLengths(argNumerators, argDenominators), argFrom, argTo);
+		int locNumerator = argKey.getNumerator();
+		int locDenominator = argKey.getDenominator();
+		int locLow = argFrom;
+		int locHigh = argTo - 1;
+		while (locLow <= locHigh) {
+			int locMiddle = (locLow + locHigh) >>> 1;
+			int locComparison = compare(argNumerators[locMiddle], argDenominators[locMiddle], locNumerator,
+					locDenominator);
+			if (locComparison < 0) {
+				locLow = locMiddle + 1;
+			} else if (locComparison > 0) {
+				locHigh = locMiddle - 1;
+			} else {
+				return locMiddle;
+			}
+		}
+		return -(locLow + 1);
+	}
+
+	/**
+	 * Searches sorted packed fractions for a fraction, by its exact value.
+	 *
+	 * @param argPacked
+	 *            the packed fractions, with positive denominators, sorted in
+	 *            ascending order
+	 * @param argKey
+	 *            the fraction to search for
+	 * @return the index of a fraction equal to the key, or
+	 *         <code>-(insertion point) - 1</code> if there is none, as by
+	 *         {@link java.util.Arrays#binarySearch(long[], long)}
+	 */
+	public static int binarySearch(long[] argPacked, Fraction argKey) {
+		long locKey = pack(argKey);
+		int locLow = 0;
+		int locHigh = argPacked.length - 1;
+		while (locLow <= locHigh) {
+			int locMiddle = (locLow + locHigh) >>> 1;
+			int locComparison = compare(argPacked[locMiddle], locKey);
+			if (locComparison < 0) {
+				locLow = locMiddle + 1;
+			} else if (locComparison > 0) {
+				locHigh = locMiddle - 1;
+			} else {
+				return locMiddle;
+			}
+		}
+		return -(locLow + 1);
+	}
+
+	/**
+	 * Packs a numerator and a denominator into a <code>long</code>.
+	 *
+	 * @param argNumerator
+	 *            the numerator
+	 * @param argDenominator
+	 *            the denominator
+	 * @return the packed fraction
+	 */
+	static long pack(int argNumerator, int argDenominator) {
+		return ((long) argNumerator << 32) | (argDenominator & 0xffffffffL);
+	}
+
+	/**
+	 * Unpacks the numerator of a packed fraction.
+	 *
+	 * @param argPacked
+	 *            the packed fraction
+	 * @return its numerator
+	 */
+	static int numerator(long argPacked) {
+		return (int) (argPacked >> 32);
+	}
+
+	/**
+	 * Unpacks the denominator of a packed fraction.
+	 *
+	 * @param argPacked
+	 *            the packed fraction
+	 * @return its denominator
+	 */
+	static int denominator(long argPacked) {
+		return (int) argPacked;
+	}
+
+	private static int compare(int argLeftNumerator, int argLeftDenominator, int argRightNumerator,
+			int argRightDenominator) {
+		return Long.compare((long) argLeftNumerator * argRightDenominator,
+				(long) argRightNumerator * argLeftDenominator);
+	}
+
+	private static int compare(long argLeft, long argRight) {
+		return compare(numerator(argLeft), denominator(argLeft), numerator(argRight), denominator(argRight));
+	}
+
+	/*
+	 * Exact mean in long: both cross products and twice the product of
+	 * denominators stay below 2^63.
+	 */
+	private static Fraction mean(int argLeftNumerator, int argLeftDenominator, int argRightNumerator,
+			int argRightDenominator) {
+		long locNumerator = (long) argLeftNumerator * argRightDenominator
+				+ (long) argRightNumerator * argLeftDenominator;
+		long locDenominator = 2L * argLeftDenominator * argRightDenominator;
+		long locGcd = GCD.of(locNumerator, locDenominator);
+		return Fraction.valueOf(Math.toIntExact(locNumerator / locGcd), Math.toIntExact(locDenominator / locGcd));
+	}
+
+	/*
+	 * Quicksort with median-of-three pivot over an inclusive range, recursing
+	 * into the smaller partition only, or forking both in parallel, and
+	 * insertion sort for short ranges.
+	 */
+	private static void sort(int[] argNumerators, int[] argDenominators, int argFrom, int argTo,
+			boolean argParallel) {
+		int locFrom = argFrom;
+		int locTo = argTo;
+		while (locTo - locFrom > INSERTION_THRESHOLD) {
+			long locBounds = partition(argNumerators, argDenominators, locFrom, locTo);
+			int i = (int) (locBounds >> 32);
+			int j = (int) locBounds;
+			if (argParallel && locTo - locFrom >= PARALLEL_THRESHOLD) {
+				RecursiveAction.invokeAll(new PairSortTask(argNumerators, argDenominators, locFrom, j),
+						new PairSortTask(argNumerators, argDenominators, i, locTo));
+				return;
+			}
+			if (j - locFrom < locTo - i) {
+				sort(argNumerators, argDenominators, locFrom, j, false);
+				locFrom = i;
+			} else {
+				sort(argNumerators, argDenominators, i, locTo, false);
+				locTo = j;
+			}
+		}
+		insertionSort(argNumerators, argDenominators, locFrom, locTo);
+	}
+
+	/*
+	 * Quickselect, narrowing down the inclusive range to the partition which
+	 * holds the k-th fraction.
+	 */
+	private static void select(int[] argNumerators, int[] argDenominators, int argFrom, int argTo, int argK) {
+		int locFrom = argFrom;
+		int locTo = argTo;
+		while (locTo - locFrom > INSERTION_THRESHOLD) {
+			long locBounds = partition(argNumerators, argDenominators, locFrom, locTo);
+			int i = (int) (locBounds >> 32);
+			int j = (int) locBounds;
+			if (argK <= j) {
+				locTo = j;
+			} else if (argK >= i) {
+				locFrom = i;
+			} else {
+				// Fractions between both partitions equal the pivot
+				return;
+			}
+		}
+		insertionSort(argNumerators, argDenominators, locFrom, locTo);
+	}
+
+	/*
+	 * Hoare partition around the median of the first, middle and last
+	 * fractions: returns i in the upper and j in the lower 32 bits, so that
+	 * [from, j] holds no greater and [i, to] no smaller fraction than the
+	 * pivot.
+	 */
+	private static long partition(int[] argNumerators, int[] argDenominators, int argFrom, int argTo) {
+		int locMiddle = (argFrom + argTo) >>> 1;
+		if (compare(argNumerators[locMiddle], argDenominators[locMiddle], argNumerators[argFrom],
+				argDenominators[argFrom]) < 0) {
+			swap(argNumerators, argDenominators, locMiddle, argFrom);
+		}
+		if (compare(argNumerators[argTo], argDenominators[argTo], argNumerators[argFrom],
+				argDenominators[argFrom]) < 0) {
+			swap(argNumerators, argDenominators, argTo, argFrom);
+		}
+		if (compare(argNumerators[argTo], argDenominators[argTo], argNumerators[locMiddle],
+				argDenominators[locMiddle]) < 0) {
+			swap(argNumerators, argDenominators, argTo, locMiddle);
+		}
+		long locPivotNumerator = argNumerators[locMiddle];
+		long locPivotDenominator = argDenominators[locMiddle];
+		int i = argFrom;
+		int j = argTo;
+		while (i <= j) {
+			while (argNumerators[i] * locPivotDenominator < locPivotNumerator * argDenominators[i]) {
+				i++;
+			}
+			while (argNumerators[j] * locPivotDenominator > locPivotNumerator * argDenominators[j]) {
+				j--;
+			}
+			if (i <= j) {
+				swap(argNumerators, argDenominators, i, j);
+				i++;
+				j--;
+			}
+		}
+		return pack(i, j);
+	}
+
+	private static void insertionSort(int[] argNumerators, int[] argDenominators, int argFrom, int argTo) {
+		for (int i = argFrom + 1; i <= argTo; i++) {
+			int locNumerator = argNumerators[i];
+			int locDenominator = argDenominators[i];
+			int j = i;
+			for (; j > argFrom && compare(locNumerator, locDenominator, argNumerators[j - 1],
+					argDenominators[j - 1]) < 0; j--) {
+				argNumerators[j] = argNumerators[j - 1];
+				argDenominators[j] = argDenominators[j - 1];
+			}
+			argNumerators[j] = locNumerator;
+			argDenominators[j] = locDenominator;
+		}
+	}
+
+	private static void swap(int[] argNumerators, int[] argDenominators, int argLeft, int argRight) {
+		int locNumerator = argNumerators[argLeft];
+		int locDenominator = argDenominators[argLeft];
+		argNumerators[argLeft] = argNumerators[argRight];
+		argDenominators[argLeft] = argDenominators[argRight];
+		argNumerators[argRight] = locNumerator;
+		argDenominators[argRight] = locDenominator;
+	}
+
+	/*
+	 * Same quicksort as for parallel arrays, on packed fractions.
+	 */
+	private static void sort(long[] argPacked, int argFrom, int argTo, boolean argParallel) {
+		int locFrom = argFrom;
+		int locTo = argTo;
+		while (locTo - locFrom > INSERTION_THRESHOLD) {
+			long locBounds = partition(argPacked, locFrom, locTo);
+			int i = (int) (locBounds >> 32);
+			int j = (int) locBounds;
+			if (argParallel && locTo - locFrom >= PARALLEL_THRESHOLD) {
+				RecursiveAction.invokeAll(new PackedSortTask(argPacked, locFrom, j),
+						new PackedSortTask(argPacked, i, locTo));
+				return;
+			}
+			if (j - locFrom < locTo - i) {
+				sort(argPacked, locFrom, j, false);
+				locFrom = i;
+			} else {
+				sort(argPacked, i, locTo, false);
+				locTo = j;
+			}
+		}
+		insertionSort(argPacked, locFrom, locTo);
+	}
+
+	private static void select(long[] argPacked, int argFrom, int argTo, int argK) {
+		int locFrom = argFrom;
+		int locTo = argTo;
+		while (locTo - locFrom > INSERTION_THRESHOLD) {
+			long locBounds = partition(argPacked, locFrom, locTo);
+			int i = (int) (locBounds >> 32);
+			int j = (int) locBounds;
+			if (argK <= j) {
+				locTo = j;
+			} else if (argK >= i) {
+				locFrom = i;
+			} else {
+				return;
+			}
+		}
+		insertionSort(argPacked, locFrom, locTo);
+	}
+
+	private static long partition(long[] argPacked, int argFrom, int argTo) {
+		int locMiddle = (argFrom + argTo) >>> 1;
+		if (compare(argPacked[locMiddle], argPacked[argFrom]) < 0) {
+			swap(argPacked, locMiddle, argFrom);
+		}
+		if (compare(argPacked[argTo], argPacked[argFrom]) < 0) {
+			swap(argPacked, argTo, argFrom);
+		}
+		if (compare(argPacked[argTo], argPacked[locMiddle]) < 0) {
+			swap(argPacked, argTo, locMiddle);
+		}
+		long locPivot = argPacked[locMiddle];
+		int i = argFrom;
+		int j = argTo;
+		while (i <= j) {
+			while (compare(argPacked[i], locPivot) < 0) {
+				i++;
+			}
+			while (compare(argPacked[j], locPivot) > 0) {
+				j--;
+			}
+			if (i <= j) {
+				swap(argPacked, i, j);
+				i++;
+				j--;
+			}
+		}
+		return pack(i, j);
+	}
+
+	private static void insertionSort(long[] argPacked, int argFrom, int argTo) {
+		for (int i = argFrom + 1; i <= argTo; i++) {
+			long locPacked = argPacked[i];
+			int j = i;
+			for (; j > argFrom && compare(locPacked, argPacked[j - 1]) < 0; j--) {
+				argPacked[j] = argPacked[j - 1];
+			}
+			argPacked[j] = locPacked;
+		}
+	}
+
+	private static void swap(long[] argPacked, int argLeft, int argRight) {
+		long locPacked = argPacked[argLeft];
+		argPacked[argLeft] = argPacked[argRight];
+		argPacked[argRight] = locPacked;
+	}
+
+	private static int checkLengths(int[] argNumerators, int[] argDenominators) {
+		if (argNumerators.length != argDenominators.length) {
+			throw new IllegalArgumentException("Numerators and denominators must have the same length");
+		}
+		return argNumerators.length;
+	}
+
+	private static void checkRange(int argLength, int argFrom, int argTo) {
+		if (argFrom < 0 || argTo > argLength || argFrom > argTo) {
+			throw new IndexOutOfBoundsException("Range [" + argFrom + ", " + argTo + ") out of bounds for length "
+					+ argLength);
+		}
+	}
+
+	private static void checkIndex(int argLength, int argIndex) {
+		if (argIndex < 0 || argIndex >= argLength) {
+			throw new IndexOutOfBoundsException("Index " + argIndex + " out of bounds for length " + argLength);
+		}
+	}
+
+	/*
+	 * Sorts an inclusive range of parallel arrays, forking while partitions
+	 * are large enough.
+	 */
+	@SuppressWarnings("serial")
+	private static final class PairSortTask extends RecursiveAction {
+
+		private final int[] numerators;
+		private final int[] denominators;
+		private final int from;
+		private final int to;
+
+		PairSortTask(int[] argNumerators, int[] argDenominators, int argFrom, int argTo) {
+			numerators = argNumerators;
+			denominators = argDenominators;
+			from = argFrom;
+			to = argTo;
+		}
+
+		@Override
+		protected void compute() {
+			sort(numerators, denominators, from, to, true);
+		}
+
+	}
+
+	/*
+	 * Sorts an inclusive range of packed fractions, forking while partitions
+	 * are large enough.
+	 */
+	@SuppressWarnings("serial")
+	private static final class PackedSortTask extends RecursiveAction {
+
+		private final long[] packed;
+		private final int from;
+		private final int to;
+
+		PackedSortTask(long[] argPacked, int argFrom, int argTo) {
+			packed = argPacked;
+			from = argFrom;
+			to = argTo;
+		}
+
+		@Override
+		protected void compute() {
+			sort(packed, from, to, true);
+		}
+
+	}
+
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * A fixed-capacity buffer of fractions held outside of the Java heap, either in
+ * direct memory or in a memory-mapped file.
+ * <p>
+ * Each fraction takes exactly {@link #BYTES} bytes: its reduced numerator then
+ * its positive denominator, as big-endian 32-bit integers. A file written
+ * through {@link #map(Path, long)} can thus be reopened with {@link #map(Path)}
+ * without any parsing. Values are reduced when written, exactly as
+ * {@link Fraction#Fraction(int, int)} does.
+ * <p>
+ * Capacity is a long: the buffer is split into segments of at most
+ * {@link #SEGMENT_CAPACITY} fractions, so that it can hold more values than a
+ * single {@link ByteBuffer} can address.
+ * <p>
+ * Like NIO buffers, this class has a position used by relative operations, and
+ * is not thread-safe.
+ */
+public class FractionBuffer {
+
+	/**
+	 * The number of bytes used to store a fraction
+	 */
+	public static final int BYTES = 2 * Integer.BYTES;
+
+	/**
+	 * The maximum number of fractions held by each underlying
+	 * {@link ByteBuffer} (1 GiB worth of fractions)
+	 */
+	public static final int SEGMENT_CAPACITY = 1 << 27;
+
+	private static final int SEGMENT_SHIFT = Integer.numberOfTrailingZeros(SEGMENT_CAPACITY);
+	private static final int SEGMENT_MASK = SEGMENT_CAPACITY - 1;
+
+	private final ByteBuffer[] segments;
+	private final long capacity;
+	private long position;
+
+	private FractionBuffer(ByteBuffer[] argSegments, long argCapacity) {
+		segments = argSegments;
+		capacity = argCapacity;
+	}
+
+	/**
+	 * Allocates a buffer of the provided capacity in direct memory, filled with
+	 * zeros.
+	 *
+	 * @param argCapacity
+	 *            the number of fractions the buffer can hold
+	 * @return the allocated buffer
+	 * @throws IllegalArgumentException
+	 *             if capacity is negative
+	 */
+	public static FractionBuffer allocateDirect(long argCapacity) {
+		ByteBuffer[] locSegments = new ByteBuffer[segmentCount(argCapacity)];
+		for (int i = 0; i < locSegments.length; i++) {
+			locSegments[i] = ByteBuffer.allocateDirect(segmentCapacity(argCapacity, i) * BYTES);
+		}
+		FractionBuffer locBuffer = new FractionBuffer(locSegments, argCapacity);
+		locBuffer.fill(Fraction.ZERO);
+		return locBuffer;
+	}
+
+	/**
+	 * Maps a buffer of the provided capacity onto a file, which is created or
+	 * extended as needed, for reading and writing. Content written to the
+	 * buffer goes to the file.
+	 * <p>
+	 * Existing content is kept as is: when the file was not written by a
+	 * {@link FractionBuffer}, {@link #normalize()} should be called. Fractions
+	 * beyond the previous end of the file are set to zero.
+	 *
+	 * @param argPath
+	 *            the path of the file
+	 * @param argCapacity
+	 *            the number of fractions the buffer can hold
+	 * @return the mapped buffer
+	 * @throws IOException
+	 *             if the file cannot be opened or mapped
+	 * @throws IllegalArgumentException
+	 *             if capacity is negative
+	 */
+	public static FractionBuffer map(Path argPath, long argCapacity) throws IOException {
+		try (FileChannel locChannel = FileChannel.open(argPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			long locSize = locChannel.size();
+			FractionBuffer locBuffer = map(locChannel, FileChannel.MapMode.READ_WRITE, argCapacity);
+			// Bytes added to the file are zeros, i.e. 0/0: make them 0/1
+			for (long i = (locSize + BYTES - 1) / BYTES; i < argCapacity; i++) {
+				locBuffer.write(i, 0, 1);
+			}
+			return locBuffer;
+		}
+	}
+
+	/**
+	 * Maps a read-only buffer onto an existing file of fractions, e.g. one
+	 * previously written through {@link #map(Path, long)}.
+	 *
+	 * @param argPath
+	 *            the path of the file
+	 * @return the mapped buffer
+	 * @throws IOException
+	 *             if the file cannot be opened or mapped
+	 */
+	public static FractionBuffer map(Path argPath) throws IOException {
+		try (FileChannel locChannel = FileChannel.open(argPath, StandardOpenOption.READ)) {
+			return map(locChannel, FileChannel.MapMode.READ_ONLY, locChannel.size() / BYTES);
+		}
+	}
+
+	private static FractionBuffer map(FileChannel argChannel, FileChannel.MapMode argMode, long argCapacity)
+			throws IOException {
+		ByteBuffer[] locSegments = new ByteBuffer[segmentCount(argCapacity)];
+		for (int i = 0; i < locSegments.length; i++) {
+			locSegments[i] = argChannel.map(argMode, (long) i * SEGMENT_CAPACITY * BYTES,
+					(long) segmentCapacity(argCapacity, i) * BYTES);
+		}
+		return new FractionBuffer(locSegments, argCapacity);
+	}
+
+	private static int segmentCount(long argCapacity) {
+		if (argCapacity < 0) {
+			throw new IllegalArgumentException("Negative capacity: " + argCapacity);
+		}
+		return Math.toIntExact((argCapacity + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+	}
+
+	private static int segmentCapacity(long argCapacity, int argSegment) {
+		return (int) Math.min(SEGMENT_CAPACITY, argCapacity - ((long) argSegment << SEGMENT_SHIFT));
+	}
+
+	/**
+	 * Gets the capacity of this buffer.
+	 *
+	 * @return the number of fractions this buffer can hold
+	 */
+	public long capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Gets the position of this buffer, i.e. the index of the next fraction to
+	 * be read or written by relative operations.
+	 *
+	 * @return the position of this buffer
+	 */
+	public long position() {
+		return position;
+	}
+
+	/**
+	 * Sets the position of this buffer.
+	 *
+	 * @param argPosition
+	 *            the new position
+	 * @return this buffer
+	 * @throws IllegalArgumentException
+	 *             if position is negative or larger than the capacity
+	 */
+	public FractionBuffer position(long argPosition) {
+		if (argPosition < 0 || argPosition > capacity) {
+			throw new IllegalArgumentException("Invalid position: " + argPosition);
+		}
+		position = argPosition;
+		return this;
+	}
+
+	/**
+	 * Tells whether there are fractions between the position and the capacity
+	 * of this buffer.
+	 *
+	 * @return <code>true</code> if at least one fraction remains, otherwise
+	 *         false
+	 */
+	public boolean hasRemaining() {
+		return position < capacity;
+	}
+
+	/**
+	 * Gets the (reduced) numerator of the fraction at the provided index.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @return the fraction's (reduced) numerator
+	 * @throws IndexOutOfBoundsException
+	 *             if index is negative or not smaller than the capacity
+	 */
+	public int getNumerator(long argIndex) {
+		return segment(argIndex).getInt(offset(argIndex));
+	}
+
+	/**
+	 * Gets the (reduced) denominator of the fraction at the provided index.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @return the fraction's (reduced) denominator
+	 * @throws IndexOutOfBoundsException
+	 *             if index is negative or not smaller than the capacity
+	 */
+	public int getDenominator(long argIndex) {
+		return segment(argIndex).getInt(offset(argIndex) + Integer.BYTES);
+	}
+
+	/**
+	 * Gets the fraction at the provided index.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @return a {@link Fraction} with the value at the provided index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is negative or not smaller than the capacity
+	 */
+	public Fraction get(long argIndex) {
+		ByteBuffer locSegment = segment(argIndex);
+		int locOffset = offset(argIndex);
+		return Fraction.ofReduced(locSegment.getInt(locOffset), locSegment.getInt(locOffset + Integer.BYTES));
+	}
+
+	/**
+	 * Gets the fraction at the position of this buffer, then increments the
+	 * position.
+	 *
+	 * @return a {@link Fraction} with the value at the position
+	 * @throws BufferUnderflowException
+	 *             if the position is not smaller than the capacity
+	 */
+	public Fraction get() {
+		if (position >= capacity) {
+			throw new BufferUnderflowException();
+		}
+		return get(position++);
+	}
+
+	/**
+	 * Sets the fraction at the provided index.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @param argFraction
+	 *            the value to be set
+	 * @return this buffer
+	 * @throws IndexOutOfBoundsException
+	 *             if index is negative or not smaller than the capacity
+	 */
+	public FractionBuffer set(long argIndex, Fraction argFraction) {
+		write(argIndex, argFraction.getNumerator(), argFraction.getDenominator());
+		return this;
+	}
+
+	/**
+	 * Sets the fraction at the provided index from its numerator and
+	 * denominator, which are reduced.
+	 *
+	 * @param argIndex
+	 *            the index of the fraction
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return this buffer
+	 * @throws IndexOutOfBoundsException
+	 *             if index is negative or not smaller than the capacity
+	 * @throws ArithmeticException
+	 *             if denominator is zero, or if the reduced fraction cannot be
+	 *             represented with a positive int denominator
+	 */
+	public FractionBuffer set(long argIndex, int argNumerator, int argDenominator) {
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		int locGcd = GCD.of(argNumerator, argDenominator);
+		int locNumerator = argNumerator / locGcd;
+		int locDenominator = argDenominator / locGcd;
+		if (locDenominator < 0) {
+			locNumerator = Math.negateExact(locNumerator);
+			locDenominator = Math.negateExact(locDenominator);
+		}
+		write(argIndex, locNumerator, locDenominator);
+		return this;
+	}
+
+	/**
+	 * Sets the fraction at the position of this buffer, then increments the
+	 * position.
+	 *
+	 * @param argFraction
+	 *            the value to be set
+	 * @return this buffer
+	 * @throws BufferOverflowException
+	 *             if the position is not smaller than the capacity
+	 */
+	public FractionBuffer put(Fraction argFraction) {
+		if (position >= capacity) {
+			throw new BufferOverflowException();
+		}
+		return set(position++, argFraction);
+	}
+
+	/**
+	 * Sets the fraction at the position of this buffer from its numerator and
+	 * denominator, which are reduced, then increments the position.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return this buffer
+	 * @throws BufferOverflowException
+	 *             if the position is not smaller than the capacity
+	 * @throws ArithmeticException
+	 *             if denominator is zero, or if the reduced fraction cannot be
+	 *             represented with a positive int denominator
+	 */
+	public FractionBuffer put(int argNumerator, int argDenominator) {
+		if (position >= capacity) {
+			throw new BufferOverflowException();
+		}
+		set(position, argNumerator, argDenominator);
+		position++;
+		return this;
+	}
+
+	/**
+	 * Sets all the fractions of this buffer to the provided value.
+	 *
+	 * @param argFraction
+	 *            the value to be set
+	 * @return this buffer
+	 */
+	public FractionBuffer fill(Fraction argFraction) {
+		for (long i = 0; i < capacity; i++) {
+			write(i, argFraction.getNumerator(), argFraction.getDenominator());
+		}
+		return this;
+	}
+
+	/**
+	 * Reduces in place all the fractions of this buffer, e.g. after mapping a
+	 * file which was not written by a {@link FractionBuffer}.
+	 *
+	 * @return this buffer
+	 * @throws ArithmeticException
+	 *             if a denominator is zero, or if a reduced fraction cannot be
+	 *             represented with a positive int denominator
+	 */
+	public FractionBuffer normalize() {
+		for (int i = 0; i < segments.length; i++) {
+			ByteBuffer locSegment = segments[i];
+			int locLimit = segmentCapacity(capacity, i) * BYTES;
+			for (int locOffset = 0; locOffset < locLimit; locOffset += BYTES) {
+				int locNumerator = locSegment.getInt(locOffset);
+				int locDenominator = locSegment.getInt(locOffset + Integer.BYTES);
+				if (locDenominator <= 0 || GCD.of(locNumerator, locDenominator) != 1) {
+					set(((long) i << SEGMENT_SHIFT) + locOffset / BYTES, locNumerator, locDenominator);
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Computes the exact sum of all the fractions of this buffer.
+	 *
+	 * @return the sum of the fractions of this buffer
+	 */
+	public BigFraction sum() {
+		return sum(0, capacity);
+	}
+
+	/**
+	 * Computes the exact sum of the fractions of this buffer within the
+	 * provided range of indexes.
+	 * <p>
+	 * The sum is accumulated with primitive arithmetic, and only folded into a
+	 * {@link BigFraction} when it would overflow, so that summing a large
+	 * buffer creates almost no object.
+	 *
+	 * @param argFrom
+	 *            the index of the first fraction to be summed (inclusive)
+	 * @param argTo
+	 *            the index of the last fraction to be summed (exclusive)
+	 * @return the sum of the fractions within the range
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not within the buffer
+	 */
+	public BigFraction sum(long argFrom, long argTo) {
+		if (argFrom < 0 || argTo > capacity || argFrom > argTo) {
+			throw new IndexOutOfBoundsException("Invalid range: [" + argFrom + ", " + argTo + ")");
+		}
+		BigFraction locTotal = BigFraction.ZERO;
+		long locNumerator = 0;
+		long locDenominator = 1;
+		for (long i = argFrom; i < argTo; i++) {
+			ByteBuffer locSegment = segment(i);
+			int locOffset = offset(i);
+			long locElementNumerator = locSegment.getInt(locOffset);
+			long locElementDenominator = locSegment.getInt(locOffset + Integer.BYTES);
+			try {
+				long locGcd = GCD.of(locDenominator, locElementDenominator);
+				long locNewNumerator = Math.addExact(
+						Math.multiplyExact(locNumerator, locElementDenominator / locGcd),
+						Math.multiplyExact(locElementNumerator, locDenominator / locGcd));
+				long locNewDenominator = Math.multiplyExact(locDenominator / locGcd, locElementDenominator);
+				long locSecondGcd = GCD.of(locNewNumerator, locNewDenominator);
+				locNumerator = locNewNumerator / locSecondGcd;
+				locDenominator = locNewDenominator / locSecondGcd;
+			} catch (ArithmeticException e) {
+				locTotal = locTotal.add(new BigFraction(locNumerator, locDenominator));
+				locNumerator = locElementNumerator;
+				locDenominator = locElementDenominator;
+			}
+		}
+		return locTotal.add(new BigFraction(locNumerator, locDenominator));
+	}
+
+	/**
+	 * Forces any change made to a buffer mapped onto a file to be written to
+	 * the storage device. Has no effect on direct buffers.
+	 *
+	 * @return this buffer
+	 */
+	public FractionBuffer force() {
+		for (ByteBuffer locSegment : segments) {
+			if (locSegment instanceof MappedByteBuffer) {
+				((MappedByteBuffer) locSegment).force();
+			}
+		}
+		return this;
+	}
+
+	private void write(long argIndex, int argNumerator, int argDenominator) {
+		ByteBuffer locSegment = segment(argIndex);
+		int locOffset = offset(argIndex);
+		locSegment.putInt(locOffset, argNumerator);
+		locSegment.putInt(locOffset + Integer.BYTES, argDenominator);
+	}
+
+	private ByteBuffer segment(long argIndex) {
+		if (argIndex < 0 || argIndex >= capacity) {
+			throw new IndexOutOfBoundsException("Index: " + argIndex + ", capacity: " + capacity);
+		}
+		return segments[(int) (argIndex >>> SEGMENT_SHIFT)];
+	}
+
+	private static int offset(long argIndex) {
+		return ((int) argIndex & SEGMENT_MASK) * BYTES;
+	}
+
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * A utility class to encode {@link Fraction}s into compact binary form, and
+ * decode them back.
+ * <p>
+ * A fraction is encoded as a variable-length integer (7 bits per byte, least
+ * significant group first, the high bit of each byte telling whether another
+ * one follows) holding the zigzag-encoded numerator shifted left by one bit,
+ * whose lowest bit tells whether a denominator follows. The denominator of
+ * non-integers, which is at least 2, follows as a variable-length integer
+ * holding the denominator minus 2. Integers from -32 to 31 thus take a single
+ * byte, common fractions two or three bytes, and no fraction more than
+ * {@link #MAX_ENCODED_LENGTH} bytes. A {@link FractionArray} is encoded as its
+ * length, as a variable-length integer, followed by its fractions.
+ * <p>
+ * Decoding checks that fractions are reduced, so that malformed input never
+ * yields an invalid {@link Fraction}. {@link FractionOutput} and
+ * {@link FractionInput} stream this format through I/O streams and channels.
+ */
+public final class FractionCodec {
+
+	/**
+	 * The maximum number of bytes of an encoded {@link Fraction}.
+	 */
+	public static final int MAX_ENCODED_LENGTH = 10;
+
+	private FractionCodec() {
+		// Default private constructor
+	}
+
+	/**
+	 * Computes the number of bytes of an encoded {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction}
+	 * @return the number of bytes of its encoding
+	 */
+	public static int encodedLength(Fraction argFraction) {
+		int locDenominator = argFraction.getDenominator();
+		return varintLength(header(argFraction.getNumerator(), locDenominator))
+				+ ((locDenominator == 1) ? 0 : varintLength(locDenominator - 2));
+	}
+
+	/**
+	 * Encodes a {@link Fraction} at the position of a buffer, which is moved
+	 * past the written bytes.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be encoded
+	 * @param argBuffer
+	 *            the destination
+	 * @throws BufferOverflowException
+	 *             if the buffer has not enough remaining bytes, in which case
+	 *             its position is left unchanged
+	 */
+	public static void encode(Fraction argFraction, ByteBuffer argBuffer) {
+		encode(argFraction.getNumerator(), argFraction.getDenominator(), argBuffer);
+	}
+
+	/**
+	 * Decodes a {@link Fraction} at the position of a buffer, which is moved
+	 * past the read bytes.
+	 *
+	 * @param argBuffer
+	 *            the source
+	 * @return the decoded {@link Fraction}
+	 * @throws BufferUnderflowException
+	 *             if the buffer ends before the encoded fraction does, in
+	 *             which case its position is left unchanged
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not hold an encoded fraction, in which case
+	 *             the position of the buffer is left unchanged
+	 */
+	public static Fraction decode(ByteBuffer argBuffer) {
+		int locStart = argBuffer.position();
+		try {
+			long locHeader = readVarint(argBuffer);
+			int locNumerator = numerator(locHeader);
+			if ((locHeader & 1) == 0) {
+				return Fraction.ofReduced(locNumerator, 1);
+			}
+			return Fraction.ofReduced(locNumerator, denominator(readVarint(argBuffer), locNumerator));
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			// Rewinds through Buffer, as ByteBuffer.position(int) only exists since Java 9
+			((Buffer) argBuffer).position(locStart);
+			throw e;
+		}
+	}
+
+	/**
+	 * Encodes a {@link FractionArray} at the position of a buffer, which is
+	 * moved past the written bytes.
+	 *
+	 * @param argArray
+	 *            the {@link FractionArray} to be encoded
+	 * @param argBuffer
+	 *            the destination
+	 * @throws BufferOverflowException
+	 *             if the buffer has not enough remaining bytes, in which case
+	 *             its position is left unchanged
+	 */
+	public static void encode(FractionArray argArray, ByteBuffer argBuffer) {
+		int locStart = argBuffer.position();
+		try {
+			encodeLength(argArray.length(), argBuffer);
+			for (int i = 0; i < argArray.length(); i++) {
+				encode(argArray.numerators[i], argArray.denominators[i], argBuffer);
+			}
+		} catch (BufferOverflowException e) {
+			((Buffer) argBuffer).position(locStart);
+			throw e;
+		}
+	}
+
+	/**
+	 * Decodes a {@link FractionArray} at the position of a buffer, which is
+	 * moved past the read bytes.
+	 *
+	 * @param argBuffer
+	 *            the source
+	 * @return the decoded {@link FractionArray}
+	 * @throws BufferUnderflowException
+	 *             if the buffer ends before the encoded array does, in which
+	 *             case its position is left unchanged
+	 * @throws IllegalArgumentException
+	 *             if the bytes do not hold an encoded array, in which case the
+	 *             position of the buffer is left unchanged
+	 */
+	public static FractionArray decodeArray(ByteBuffer argBuffer) {
+		int locStart = argBuffer.position();
+		try {
+			int locLength = decodeLength(argBuffer);
+			// Each fraction takes at least one byte, which bounds the allocation
+			if (locLength > argBuffer.remaining()) {
+				throw new BufferUnderflowException();
+			}
+			FractionArray locArray = new FractionArray(locLength);
+			for (int i = 0; i < locArray.length(); i++) {
+				decode(argBuffer, locArray, i);
+			}
+			return locArray;
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			((Buffer) argBuffer).position(locStart);
+			throw e;
+		}
+	}
+
+	/*
+	 * Encodes the length of an array, which takes at most 5 bytes.
+	 */
+	static void encodeLength(int argLength, ByteBuffer argBuffer) {
+		if (argBuffer.remaining() < varintLength(argLength)) {
+			throw new BufferOverflowException();
+		}
+		writeVarint(argLength, argBuffer);
+	}
+
+	/*
+	 * Decodes the length of an array, leaving the position of the buffer
+	 * unchanged on failure.
+	 */
+	static int decodeLength(ByteBuffer argBuffer) {
+		int locStart = argBuffer.position();
+		try {
+			long locLength = readVarint(argBuffer);
+			if (locLength > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Encoded length overflows an int");
+			}
+			return (int) locLength;
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			((Buffer) argBuffer).position(locStart);
+			throw e;
+		}
+	}
+
+	/*
+	 * Encodes reduced components, with a positive denominator.
+	 */
+	static void encode(int argNumerator, int argDenominator, ByteBuffer argBuffer) {
+		long locHeader = header(argNumerator, argDenominator);
+		if (argBuffer.remaining() < varintLength(locHeader)
+				+ ((argDenominator == 1) ? 0 : varintLength(argDenominator - 2))) {
+			throw new BufferOverflowException();
+		}
+		writeVarint(locHeader, argBuffer);
+		if (argDenominator != 1) {
+			writeVarint(argDenominator - 2, argBuffer);
+		}
+	}
+
+	/*
+	 * Decodes a fraction into an element of an array, leaving the position of
+	 * the buffer undefined on failure.
+	 */
+	static void decode(ByteBuffer argBuffer, FractionArray argArray, int argIndex) {
+		long locHeader = readVarint(argBuffer);
+		int locNumerator = numerator(locHeader);
+		argArray.numerators[argIndex] = locNumerator;
+		argArray.denominators[argIndex] = ((locHeader & 1) == 0) ? 1 : denominator(readVarint(argBuffer), locNumerator);
+	}
+
+	/*
+	 * Zigzag encoding maps 0, -1, 1, -2... to 0, 1, 2, 3... so that small
+	 * negative numerators stay short, then the lowest bit flags a denominator.
+	 */
+	private static long header(int argNumerator, int argDenominator) {
+		long locZigzag = ((argNumerator << 1) ^ (argNumerator >> 31)) & 0xffffffffL;
+		return (locZigzag << 1) | ((argDenominator == 1) ? 0 : 1);
+	}
+
+	private static int numerator(long argHeader) {
+		int locZigzag = (int) (argHeader >>> 1);
+		return (locZigzag >>> 1) ^ -(locZigzag & 1);
+	}
+
+	private static int denominator(long argValue, int argNumerator) {
+		if (argValue > Integer.MAX_VALUE - 2) {
+			throw new IllegalArgumentException("Encoded denominator overflows an int");
+		}
+		int locDenominator = (int) argValue + 2;
+		if (GCD.of(argNumerator, locDenominator) != 1) {
+			throw new IllegalArgumentException("Encoded fraction is not reduced");
+		}
+		return locDenominator;
+	}
+
+	private static int varintLength(long argValue) {
+		return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(argValue) + 6) / 7);
+	}
+
+	private static void writeVarint(long argValue, ByteBuffer argBuffer) {
+		long locValue = argValue;
+		while ((locValue & ~0x7fL) != 0) {
+			argBuffer.put((byte) ((locValue & 0x7f) | 0x80));
+			locValue >>>= 7;
+		}
+		argBuffer.put((byte) locValue);
+	}
+
+	/*
+	 * Reads a variable-length integer of at most 33 bits, the size of a
+	 * header, which takes at most 5 bytes.
+	 */
+	private static long readVarint(ByteBuffer argBuffer) {
+		long locValue = 0;
+		for (int locShift = 0; locShift < 35; locShift += 7) {
+			byte locByte = argBuffer.get();
+			locValue |= (long) (locByte & 0x7f) << locShift;
+			if (locByte >= 0) {
+				if (locValue >>> 33 != 0) {
+					throw new IllegalArgumentException("Encoded value overflows 33 bits");
+				}
+				return locValue;
+			}
+		}
+		throw new IllegalArgumentException("Encoded value is longer than 5 bytes");
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+
+/**
+ * A utility class providing {@link Collector}s which aggregate streams of
+ * {@link Fraction}s exactly.
+ * <p>
+ * Each collector accumulates into a {@link FractionAccumulator}, so that
+ * sequential streams, as well as each leaf task of parallel streams, aggregate
+ * without allocating. Partial results of parallel streams are merged by
+ * dividing out the GCD of their denominators. Results are {@link BigFraction}s,
+ * which never overflow.
+ */
+public final class FractionCollectors {
+
+	private FractionCollectors() {
+		// Default private constructor
+	}
+
+	/**
+	 * Returns a {@link Collector} computing the exact sum of {@link Fraction}s.
+	 * The sum of no {@link Fraction} is zero.
+	 *
+	 * @return a {@link Collector} computing the sum of {@link Fraction}s
+	 */
+	public static Collector<Fraction, ?, BigFraction> summing() {
+		return Collector.of(FractionAccumulator::new, FractionAccumulator::add, FractionAccumulator::add,
+				FractionAccumulator::toBigFraction, Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Returns a {@link Collector} computing the exact arithmetic mean of
+	 * {@link Fraction}s. The mean of no {@link Fraction} is zero.
+	 *
+	 * @return a {@link Collector} computing the mean of {@link Fraction}s
+	 */
+	public static Collector<Fraction, ?, BigFraction> averaging() {
+		return Collector.of(Average::new, Average::accept, Average::combine, Average::get,
+				Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Returns a {@link Collector} computing the exact product of
+	 * {@link Fraction}s. The product of no {@link Fraction} is one.
+	 *
+	 * @return a {@link Collector} computing the product of {@link Fraction}s
+	 */
+	public static Collector<Fraction, ?, BigFraction> product() {
+		return Collector.of(() -> new FractionAccumulator(Fraction.valueOf(1)), FractionAccumulator::multiply,
+				FractionAccumulator::multiply, FractionAccumulator::toBigFraction, Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Returns a {@link Collector} computing the count, exact sum, minimum,
+	 * maximum and exact average of {@link Fraction}s.
+	 *
+	 * @return a {@link Collector} computing {@link FractionSummaryStatistics}
+	 */
+	public static Collector<Fraction, ?, FractionSummaryStatistics> summaryStatistics() {
+		return Collector.of(FractionSummaryStatistics::new, FractionSummaryStatistics::accept, (argLeft, argRight) -> {
+			argLeft.combine(argRight);
+			return argLeft;
+		}, Characteristics.IDENTITY_FINISH, Characteristics.UNORDERED);
+	}
+
+	/*
+	 * The mutable state of the averaging collector.
+	 */
+	private static final class Average {
+
+		private final FractionAccumulator sum = new FractionAccumulator();
+		private long count;
+
+		void accept(Fraction argFraction) {
+			sum.add(argFraction);
+			count++;
+		}
+
+		Average combine(Average argOther) {
+			sum.add(argOther.sum);
+			count += argOther.count;
+			return this;
+		}
+
+		BigFraction get() {
+			return (count == 0) ? BigFraction.ZERO : sum.divide(count, 1).toBigFraction();
+		}
+
+	}
+
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * An open-addressing hash table of fractions, stored as reduced numerators and
+ * denominators packed into <code>long</code> keys, on which
+ * {@link FractionSet}, {@link FractionToIntMap} and {@link FractionToObjectMap}
+ * are built.
+ * <p>
+ * Collisions are resolved by linear probing, and removals by shifting the
+ * following entries back, so that no tombstone slows lookups down. Since
+ * reduced denominators are never zero, the key <code>0</code> marks empty
+ * slots. Keys are scrambled by the finalizer of MurmurHash3, which spreads the
+ * regular patterns of numerators and denominators, such as Farey fractions,
+ * over the whole table.
+ */
+abstract class FractionHashTable {
+
+	private static final int MIN_CAPACITY = 8;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	long[] keys;
+	private int mask;
+	private int size;
+	private int threshold;
+
+	/**
+	 * Constructs an empty table sized for the provided number of entries.
+	 *
+	 * @param argExpectedSize
+	 *            the expected number of entries
+	 * @throws IllegalArgumentException
+	 *             if the expected size is negative
+	 */
+	FractionHashTable(int argExpectedSize) {
+		if (argExpectedSize < 0) {
+			throw new IllegalArgumentException("Negative expected size: " + argExpectedSize);
+		}
+		int locCapacity = MIN_CAPACITY;
+		while (locCapacity < MAX_CAPACITY && maxSize(locCapacity) < argExpectedSize) {
+			locCapacity <<= 1;
+		}
+		keys = new long[locCapacity];
+		mask = locCapacity - 1;
+		threshold = maxSize(locCapacity);
+	}
+
+	/**
+	 * Gets the number of entries.
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks whether there is no entry.
+	 *
+	 * @return <code>true</code> if there is no entry
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all entries, keeping the current capacity.
+	 */
+	public void clear() {
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				keys[i] = 0;
+				clearValue(i);
+			}
+		}
+		size = 0;
+	}
+
+	/**
+	 * Packs a {@link Fraction} into a key.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction}
+	 * @return its key
+	 */
+	static long key(Fraction argFraction) {
+		return FractionArrays.pack(argFraction);
+	}
+
+	/**
+	 * Reduces a fraction and packs it into a key, exactly as the
+	 * {@link Fraction} constructor reduces it.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return its key
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	static long key(int argNumerator, int argDenominator) {
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		int locGcd = GCD.of(argNumerator, argDenominator);
+		int locSignum = Integer.signum(argDenominator);
+		return FractionArrays.pack(locSignum * argNumerator / locGcd, locSignum * argDenominator / locGcd);
+	}
+
+	/**
+	 * Unpacks a key into a {@link Fraction}.
+	 *
+	 * @param argKey
+	 *            the key
+	 * @return its {@link Fraction}
+	 */
+	static Fraction fraction(long argKey) {
+		return Fraction.ofReduced(FractionArrays.numerator(argKey), FractionArrays.denominator(argKey));
+	}
+
+	/**
+	 * Finds the slot of a key.
+	 *
+	 * @param argKey
+	 *            the key
+	 * @return its slot, or <code>-1</code> if it is absent
+	 */
+	final int find(long argKey) {
+		for (int i = hash(argKey) & mask;; i = (i + 1) & mask) {
+			long locKey = keys[i];
+			if (locKey == argKey) {
+				return i;
+			}
+			if (locKey == 0) {
+				return -1;
+			}
+		}
+	}
+
+	/**
+	 * Finds the slot of a key, or inserts it, growing the table if needed: the
+	 * arrays of values must thus be read again after an insertion.
+	 *
+	 * @param argKey
+	 *            the key
+	 * @return its slot if it was present, or <code>-1 - slot</code> if it has
+	 *         been inserted
+	 */
+	final int insert(long argKey) {
+		int i = hash(argKey) & mask;
+		for (long locKey; (locKey = keys[i]) != 0; i = (i + 1) & mask) {
+			if (locKey == argKey) {
+				return i;
+			}
+		}
+		if (size >= threshold) {
+			rehash(keys.length << 1);
+			return insert(argKey);
+		}
+		keys[i] = argKey;
+		size++;
+		return -1 - i;
+	}
+
+	/**
+	 * Decodes the result of {@link #insert(long)}.
+	 *
+	 * @param argInsertion
+	 *            the result of the insertion
+	 * @return the slot of the key
+	 */
+	static int slot(int argInsertion) {
+		return (argInsertion < 0) ? -1 - argInsertion : argInsertion;
+	}
+
+	/**
+	 * Removes the entry of a slot, shifting back the entries which probed past
+	 * it.
+	 *
+	 * @param argSlot
+	 *            the slot
+	 */
+	final void removeAt(int argSlot) {
+		int locHole = argSlot;
+		for (int i = (locHole + 1) & mask;; i = (i + 1) & mask) {
+			long locKey = keys[i];
+			if (locKey == 0) {
+				break;
+			}
+			// An entry can fill the hole unless its home lies cyclically in
+			// (hole, i]
+			if (((i - (hash(locKey) & mask)) & mask) >= ((i - locHole) & mask)) {
+				keys[locHole] = locKey;
+				moveValue(i, locHole);
+				locHole = i;
+			}
+		}
+		keys[locHole] = 0;
+		clearValue(locHole);
+		size--;
+	}
+
+	/**
+	 * Moves a value to another slot, when removing an entry.
+	 *
+	 * @param argFrom
+	 *            the slot of the value
+	 * @param argTo
+	 *            its new slot
+	 */
+	abstract void moveValue(int argFrom, int argTo);
+
+	/**
+	 * Releases the value of an emptied slot.
+	 *
+	 * @param argSlot
+	 *            the slot
+	 */
+	abstract void clearValue(int argSlot);
+
+	/**
+	 * Reallocates the values for a new capacity, moving them to their new
+	 * slots.
+	 *
+	 * @param argSlots
+	 *            the new slot of each former slot, or <code>-1</code> for
+	 *            empty ones
+	 * @param argCapacity
+	 *            the new capacity
+	 */
+	abstract void rehashValues(int[] argSlots, int argCapacity);
+
+	private void rehash(int argCapacity) {
+		if (keys.length >= MAX_CAPACITY) {
+			throw new IllegalStateException("Table is full");
+		}
+		long[] locKeys = keys;
+		int[] locSlots = new int[locKeys.length];
+		keys = new long[argCapacity];
+		mask = argCapacity - 1;
+		threshold = maxSize(argCapacity);
+		for (int i = 0; i < locKeys.length; i++) {
+			long locKey = locKeys[i];
+			if (locKey == 0) {
+				locSlots[i] = -1;
+			} else {
+				int j = hash(locKey) & mask;
+				while (keys[j] != 0) {
+					j = (j + 1) & mask;
+				}
+				keys[j] = locKey;
+				locSlots[i] = j;
+			}
+		}
+		rehashValues(locSlots, argCapacity);
+	}
+
+	/*
+	 * Keeps the load factor at most 3/4, and at least one slot empty.
+	 */
+	private static int maxSize(int argCapacity) {
+		return Math.min(argCapacity - (argCapacity >> 2), argCapacity - 1);
+	}
+
+	private static int hash(long argKey) {
+		long locHash = argKey;
+		locHash ^= locHash >>> 33;
+		locHash *= 0xff51afd7ed558ccdL;
+		locHash ^= locHash >>> 33;
+		locHash *= 0xc4ceb9fe1a85ec53L;
+		locHash ^= locHash >>> 33;
+		return (int) locHash;
+	}
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A reader of {@link Fraction}s in the compact binary format of
+ * {@link FractionCodec}, from an {@link InputStream}, a
+ * {@link ReadableByteChannel} or a {@link DataInput}.
+ * <p>
+ * Streams and channels are read ahead into an internal buffer, so they should
+ * not be read directly while this reader is in use. A {@link DataInput} is
+ * read byte by byte, exactly up to the end of each fraction, so that fractions
+ * can be interleaved with other values read directly from the
+ * {@link DataInput}.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class FractionInput implements Closeable {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	/*
+	 * Both the length of an array and the header of a fraction take at most 5
+	 * bytes.
+	 */
+	private static final int MAX_VARINT_LENGTH = 5;
+
+	/*
+	 * Lengths of arrays are read from the source, so they are allocated by
+	 * chunks as fractions are actually read: a corrupt length then ends with an
+	 * EOFException rather than exhausting the heap.
+	 */
+	private static final int ARRAY_CHUNK = 8192;
+
+	/*
+	 * Flipped, cleared and moved as a Buffer: the covariant ByteBuffer
+	 * overrides of these methods do not exist before Java 9.
+	 */
+	private final ByteBuffer buffer;
+	private final InputStream stream;
+	private final ReadableByteChannel channel;
+	private final DataInput dataInput;
+	private boolean endOfInput;
+
+	private FractionInput(InputStream argStream, ReadableByteChannel argChannel, DataInput argDataInput) {
+		stream = argStream;
+		channel = argChannel;
+		dataInput = argDataInput;
+		buffer = ByteBuffer.allocate((argDataInput == null) ? BUFFER_SIZE : FractionCodec.MAX_ENCODED_LENGTH);
+		((Buffer) buffer).flip();
+	}
+
+	/**
+	 * Creates a reader from an {@link InputStream}.
+	 *
+	 * @param argStream
+	 *            the source
+	 * @return a new reader
+	 */
+	public static FractionInput fromStream(InputStream argStream) {
+		return new FractionInput(argStream, null, null);
+	}
+
+	/**
+	 * Creates a reader from a {@link ReadableByteChannel}.
+	 *
+	 * @param argChannel
+	 *            the source, in blocking mode
+	 * @return a new reader
+	 */
+	public static FractionInput fromChannel(ReadableByteChannel argChannel) {
+		return new FractionInput(null, argChannel, null);
+	}
+
+	/**
+	 * Creates a reader from a {@link DataInput}, which never reads past the
+	 * last byte of the returned fractions.
+	 *
+	 * @param argDataInput
+	 *            the source
+	 * @return a new reader
+	 */
+	public static FractionInput fromDataInput(DataInput argDataInput) {
+		return new FractionInput(null, null, argDataInput);
+	}
+
+	/**
+	 * Reads a {@link Fraction}.
+	 *
+	 * @return the {@link Fraction}
+	 * @throws EOFException
+	 *             if the source ends before the fraction does
+	 * @throws IOException
+	 *             if the source fails, or does not hold an encoded fraction
+	 */
+	public Fraction readFraction() throws IOException {
+		prepareFraction();
+		try {
+			return FractionCodec.decode(buffer);
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		} catch (IllegalArgumentException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Reads a {@link FractionArray}, without creating any {@link Fraction}.
+	 *
+	 * @return the {@link FractionArray}
+	 * @throws EOFException
+	 *             if the source ends before the array does
+	 * @throws IOException
+	 *             if the source fails, or does not hold an encoded array
+	 */
+	public FractionArray readFractionArray() throws IOException {
+		if (dataInput == null) {
+			fill(MAX_VARINT_LENGTH);
+		} else {
+			((Buffer) buffer).clear();
+			readVarint();
+			((Buffer) buffer).flip();
+		}
+		int locLength;
+		try {
+			locLength = FractionCodec.decodeLength(buffer);
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		} catch (IllegalArgumentException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+		FractionArray locArray = new FractionArray(Math.min(locLength, ARRAY_CHUNK));
+		try {
+			for (int i = 0; i < locLength; i++) {
+				if (i == locArray.length()) {
+					locArray = grow(locArray, (int) Math.min(locLength, 2L * i));
+				}
+				prepareFraction();
+				FractionCodec.decode(buffer, locArray, i);
+			}
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		} catch (IllegalArgumentException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+		return locArray;
+	}
+
+	/**
+	 * Closes the source if it is {@link Closeable}.
+	 *
+	 * @throws IOException
+	 *             if the source fails
+	 */
+	@Override
+	public void close() throws IOException {
+		if (stream != null) {
+			stream.close();
+		} else if (channel != null) {
+			channel.close();
+		} else if (dataInput instanceof Closeable) {
+			((Closeable) dataInput).close();
+		}
+	}
+
+	/*
+	 * Copies the fractions of an array into a new, longer one.
+	 */
+	private static FractionArray grow(FractionArray argArray, int argLength) {
+		FractionArray locArray = new FractionArray(argLength);
+		System.arraycopy(argArray.numerators, 0, locArray.numerators, 0, argArray.length());
+		System.arraycopy(argArray.denominators, 0, locArray.denominators, 0, argArray.length());
+		return locArray;
+	}
+
+	/*
+	 * Makes the bytes of the next fraction available in the buffer, unless the
+	 * source ends first.
+	 */
+	private void prepareFraction() throws IOException {
+		if (dataInput == null) {
+			fill(FractionCodec.MAX_ENCODED_LENGTH);
+		} else {
+			((Buffer) buffer).clear();
+			if ((readVarint() & 1) != 0) {
+				readVarint();
+			}
+			((Buffer) buffer).flip();
+		}
+	}
+
+	/*
+	 * Reads ahead from a stream or a channel until at least the given number
+	 * of bytes remain, or the source ends.
+	 */
+	private void fill(int argBytes) throws IOException {
+		if (buffer.remaining() >= argBytes || endOfInput) {
+			return;
+		}
+		buffer.compact();
+		while (buffer.position() < argBytes && !endOfInput) {
+			int locRead;
+			if (stream != null) {
+				locRead = stream.read(buffer.array(), buffer.position(), buffer.remaining());
+				if (locRead > 0) {
+					((Buffer) buffer).position(buffer.position() + locRead);
+				}
+			} else {
+				locRead = channel.read(buffer);
+			}
+			endOfInput = locRead < 0;
+		}
+		((Buffer) buffer).flip();
+	}
+
+	/*
+	 * Copies the bytes of a variable-length integer from the data input into
+	 * the buffer, and returns its first byte.
+	 */
+	private byte readVarint() throws IOException {
+		byte locFirst = dataInput.readByte();
+		byte locByte = locFirst;
+		buffer.put(locByte);
+		// Longer values are left to the codec to reject
+		for (int i = 1; i < MAX_VARINT_LENGTH && locByte < 0; i++) {
+			locByte = dataInput.readByte();
+			buffer.put(locByte);
+		}
+		return locFirst;
+	}
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A writer of {@link Fraction}s in the compact binary format of
+ * {@link FractionCodec}, to an {@link OutputStream}, a
+ * {@link WritableByteChannel} or a {@link DataOutput}.
+ * <p>
+ * Bytes are encoded into an internal buffer. With streams and channels, the
+ * buffer is only written when full, flushed or closed, so that small writes
+ * cost no system call. With a {@link DataOutput}, the buffer is written at the
+ * end of each call, so that fractions can be interleaved with other values
+ * written directly to the {@link DataOutput}.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class FractionOutput implements Flushable, Closeable {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	/*
+	 * Flipped, cleared and moved as a Buffer: the covariant ByteBuffer
+	 * overrides of these methods do not exist before Java 9.
+	 */
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+	private final OutputStream stream;
+	private final WritableByteChannel channel;
+	private final DataOutput dataOutput;
+
+	private FractionOutput(OutputStream argStream, WritableByteChannel argChannel, DataOutput argDataOutput) {
+		stream = argStream;
+		channel = argChannel;
+		dataOutput = argDataOutput;
+	}
+
+	/**
+	 * Creates a writer to an {@link OutputStream}.
+	 *
+	 * @param argStream
+	 *            the destination
+	 * @return a new writer, which needs to be flushed or closed
+	 */
+	public static FractionOutput toStream(OutputStream argStream) {
+		return new FractionOutput(argStream, null, null);
+	}
+
+	/**
+	 * Creates a writer to a {@link WritableByteChannel}.
+	 *
+	 * @param argChannel
+	 *            the destination, in blocking mode
+	 * @return a new writer, which needs to be flushed or closed
+	 */
+	public static FractionOutput toChannel(WritableByteChannel argChannel) {
+		return new FractionOutput(null, argChannel, null);
+	}
+
+	/**
+	 * Creates a writer to a {@link DataOutput}, which writes through at the end
+	 * of each call.
+	 *
+	 * @param argDataOutput
+	 *            the destination
+	 * @return a new writer
+	 */
+	public static FractionOutput toDataOutput(DataOutput argDataOutput) {
+		return new FractionOutput(null, null, argDataOutput);
+	}
+
+	/**
+	 * Writes a {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be written
+	 * @throws IOException
+	 *             if the destination fails
+	 */
+	public void write(Fraction argFraction) throws IOException {
+		ensureRemaining(FractionCodec.MAX_ENCODED_LENGTH);
+		FractionCodec.encode(argFraction, buffer);
+		writeThrough();
+	}
+
+	/**
+	 * Writes the fractions of a {@link FractionArray}, preceded by its length,
+	 * without creating any {@link Fraction}.
+	 *
+	 * @param argArray
+	 *            the {@link FractionArray} to be written
+	 * @throws IOException
+	 *             if the destination fails
+	 */
+	public void write(FractionArray argArray) throws IOException {
+		ensureRemaining(FractionCodec.MAX_ENCODED_LENGTH);
+		FractionCodec.encodeLength(argArray.length(), buffer);
+		for (int i = 0; i < argArray.length(); i++) {
+			ensureRemaining(FractionCodec.MAX_ENCODED_LENGTH);
+			FractionCodec.encode(argArray.numerators[i], argArray.denominators[i], buffer);
+		}
+		writeThrough();
+	}
+
+	/**
+	 * Writes the buffered bytes, then flushes the destination if it is
+	 * {@link Flushable}.
+	 *
+	 * @throws IOException
+	 *             if the destination fails
+	 */
+	@Override
+	public void flush() throws IOException {
+		drain();
+		if (stream != null) {
+			stream.flush();
+		} else if (dataOutput instanceof Flushable) {
+			((Flushable) dataOutput).flush();
+		}
+	}
+
+	/**
+	 * Flushes this writer, then closes the destination if it is
+	 * {@link Closeable}.
+	 *
+	 * @throws IOException
+	 *             if the destination fails
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+		if (stream != null) {
+			stream.close();
+		} else if (channel != null) {
+			channel.close();
+		} else if (dataOutput instanceof Closeable) {
+			((Closeable) dataOutput).close();
+		}
+	}
+
+	private void ensureRemaining(int argBytes) throws IOException {
+		if (buffer.remaining() < argBytes) {
+			drain();
+		}
+	}
+
+	private void writeThrough() throws IOException {
+		if (dataOutput != null) {
+			drain();
+		}
+	}
+
+	private void drain() throws IOException {
+		((Buffer) buffer).flip();
+		if (stream != null) {
+			stream.write(buffer.array(), 0, buffer.limit());
+		} else if (channel != null) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} else {
+			dataOutput.write(buffer.array(), 0, buffer.limit());
+		}
+		((Buffer) buffer).clear();
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.function.Consumer;
+
+/**
+ * A set of fractions, stored as packed primitive keys in an open-addressing
+ * hash table, so that adding, looking up and removing fractions never
+ * allocates, apart from growing the table.
+ * <p>
+ * Fractions can be provided either as {@link Fraction}s, or as numerators and
+ * denominators, which are reduced as by the {@link Fraction} constructor. This
+ * class is not thread-safe.
+ */
+public final class FractionSet extends FractionHashTable {
+
+	/**
+	 * Constructs an empty set.
+	 */
+	public FractionSet() {
+		this(0);
+	}
+
+	/**
+	 * Constructs an empty set sized for the provided number of fractions.
+	 *
+	 * @param argExpectedSize
+	 *            the expected number of fractions
+	 * @throws IllegalArgumentException
+	 *             if the expected size is negative
+	 */
+	public FractionSet(int argExpectedSize) {
+		super(argExpectedSize);
+	}
+
+	/**
+	 * Adds a {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be added
+	 * @return <code>true</code> if the set did not contain it
+	 */
+	public boolean add(Fraction argFraction) {
+		return insert(key(argFraction)) < 0;
+	}
+
+	/**
+	 * Adds a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return <code>true</code> if the set did not contain it
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public boolean add(int argNumerator, int argDenominator) {
+		return insert(key(argNumerator, argDenominator)) < 0;
+	}
+
+	/**
+	 * Checks whether this set contains a {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be looked up
+	 * @return <code>true</code> if the set contains it
+	 */
+	public boolean contains(Fraction argFraction) {
+		return find(key(argFraction)) >= 0;
+	}
+
+	/**
+	 * Checks whether this set contains a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return <code>true</code> if the set contains it
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public boolean contains(int argNumerator, int argDenominator) {
+		return find(key(argNumerator, argDenominator)) >= 0;
+	}
+
+	/**
+	 * Removes a {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be removed
+	 * @return <code>true</code> if the set contained it
+	 */
+	public boolean remove(Fraction argFraction) {
+		return remove(key(argFraction));
+	}
+
+	/**
+	 * Removes a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return <code>true</code> if the set contained it
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public boolean remove(int argNumerator, int argDenominator) {
+		return remove(key(argNumerator, argDenominator));
+	}
+
+	/**
+	 * Performs an action on each fraction of this set, in no particular order.
+	 *
+	 * @param argAction
+	 *            the action
+	 */
+	public void forEach(Consumer<? super Fraction> argAction) {
+		for (long locKey : keys) {
+			if (locKey != 0) {
+				argAction.accept(fraction(locKey));
+			}
+		}
+	}
+
+	/**
+	 * Copies the fractions of this set into a {@link FractionArray}, in no
+	 * particular order.
+	 *
+	 * @return a new {@link FractionArray}
+	 */
+	public FractionArray toFractionArray() {
+		FractionArray locArray = new FractionArray(size());
+		int locIndex = 0;
+		for (long locKey : keys) {
+			if (locKey != 0) {
+				locArray.numerators[locIndex] = (int) (locKey >> 32);
+				locArray.denominators[locIndex] = (int) locKey;
+				locIndex++;
+			}
+		}
+		return locArray;
+	}
+
+	@Override
+	public String toString() {
+		return toFractionArray().toString();
+	}
+
+	@Override
+	void moveValue(int argFrom, int argTo) {
+		// No value
+	}
+
+	@Override
+	void clearValue(int argSlot) {
+		// No value
+	}
+
+	@Override
+	void rehashValues(int[] argSlots, int argCapacity) {
+		// No value
+	}
+
+	private boolean remove(long argKey) {
+		int locSlot = find(argKey);
+		if (locSlot < 0) {
+			return false;
+		}
+		removeAt(locSlot);
+		return true;
+	}
+
+}
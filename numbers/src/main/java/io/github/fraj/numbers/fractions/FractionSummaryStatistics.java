@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.function.Consumer;
+
+/**
+ * A state object for collecting exact statistics (count, sum, minimum, maximum
+ * and average) about {@link Fraction}s, in the manner of
+ * {@link java.util.IntSummaryStatistics}.
+ * <p>
+ * This class is not thread-safe, but is designed to work with parallel streams
+ * through {@link FractionCollectors#summaryStatistics()}.
+ */
+public class FractionSummaryStatistics implements Consumer<Fraction> {
+
+	private long count;
+	private final FractionAccumulator sum = new FractionAccumulator();
+	private Fraction min;
+	private Fraction max;
+
+	/**
+	 * Records a new {@link Fraction} into the summary information.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be recorded
+	 */
+	@Override
+	public void accept(Fraction argFraction) {
+		count++;
+		sum.add(argFraction);
+		if (min == null || argFraction.compareTo(min) < 0) {
+			min = argFraction;
+		}
+		if (max == null || argFraction.compareTo(max) > 0) {
+			max = argFraction;
+		}
+	}
+
+	/**
+	 * Combines the state of another {@link FractionSummaryStatistics} into
+	 * this one.
+	 *
+	 * @param argOther
+	 *            the {@link FractionSummaryStatistics} to be combined
+	 */
+	public void combine(FractionSummaryStatistics argOther) {
+		if (argOther.count == 0) {
+			return;
+		}
+		count += argOther.count;
+		sum.add(argOther.sum);
+		if (min == null || argOther.min.compareTo(min) < 0) {
+			min = argOther.min;
+		}
+		if (max == null || argOther.max.compareTo(max) > 0) {
+			max = argOther.max;
+		}
+	}
+
+	/**
+	 * Gets the number of recorded {@link Fraction}s.
+	 *
+	 * @return the number of recorded {@link Fraction}s
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the exact sum of recorded {@link Fraction}s, or zero if none has
+	 * been recorded.
+	 *
+	 * @return the sum of recorded {@link Fraction}s
+	 */
+	public BigFraction getSum() {
+		return sum.toBigFraction();
+	}
+
+	/**
+	 * Gets the minimum recorded {@link Fraction}.
+	 *
+	 * @return the minimum recorded {@link Fraction}, or <code>null</code> if
+	 *         none has been recorded
+	 */
+	public Fraction getMin() {
+		return min;
+	}
+
+	/**
+	 * Gets the maximum recorded {@link Fraction}.
+	 *
+	 * @return the maximum recorded {@link Fraction}, or <code>null</code> if
+	 *         none has been recorded
+	 */
+	public Fraction getMax() {
+		return max;
+	}
+
+	/**
+	 * Gets the exact arithmetic mean of recorded {@link Fraction}s, or zero if
+	 * none has been recorded.
+	 *
+	 * @return the arithmetic mean of recorded {@link Fraction}s
+	 */
+	public BigFraction getAverage() {
+		return (count == 0) ? BigFraction.ZERO : getSum().divide(new BigFraction(count));
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{count=" + count + ", sum=" + getSum() + ", min=" + min + ", average="
+				+ getAverage() + ", max=" + max + "}";
+	}
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A map from fractions to <code>int</code> values, stored as packed primitive
+ * keys in an open-addressing hash table, so that putting, looking up and
+ * removing entries never allocates, apart from growing the table.
+ * <p>
+ * Keys can be provided either as {@link Fraction}s, or as numerators and
+ * denominators, which are reduced as by the {@link Fraction} constructor. This
+ * class is not thread-safe.
+ */
+public final class FractionToIntMap extends FractionHashTable {
+
+	private int[] values;
+
+	/**
+	 * Constructs an empty map.
+	 */
+	public FractionToIntMap() {
+		this(0);
+	}
+
+	/**
+	 * Constructs an empty map sized for the provided number of entries.
+	 *
+	 * @param argExpectedSize
+	 *            the expected number of entries
+	 * @throws IllegalArgumentException
+	 *             if the expected size is negative
+	 */
+	public FractionToIntMap(int argExpectedSize) {
+		super(argExpectedSize);
+		values = new int[keys.length];
+	}
+
+	/**
+	 * Gets the value of a {@link Fraction}.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @param argDefault
+	 *            the value to be returned if the map does not contain it
+	 * @return its value, or the default value
+	 */
+	public int getOrDefault(Fraction argKey, int argDefault) {
+		return get(key(argKey), argDefault);
+	}
+
+	/**
+	 * Gets the value of a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argDefault
+	 *            the value to be returned if the map does not contain it
+	 * @return its value, or the default value
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public int getOrDefault(int argNumerator, int argDenominator, int argDefault) {
+		return get(key(argNumerator, argDenominator), argDefault);
+	}
+
+	/**
+	 * Checks whether this map contains a {@link Fraction}.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @return <code>true</code> if the map contains it
+	 */
+	public boolean containsKey(Fraction argKey) {
+		return find(key(argKey)) >= 0;
+	}
+
+	/**
+	 * Checks whether this map contains a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return <code>true</code> if the map contains it
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public boolean containsKey(int argNumerator, int argDenominator) {
+		return find(key(argNumerator, argDenominator)) >= 0;
+	}
+
+	/**
+	 * Sets the value of a {@link Fraction}.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @param argValue
+	 *            its new value
+	 */
+	public void put(Fraction argKey, int argValue) {
+		int locSlot = slot(insert(key(argKey)));
+		values[locSlot] = argValue;
+	}
+
+	/**
+	 * Sets the value of a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argValue
+	 *            its new value
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public void put(int argNumerator, int argDenominator, int argValue) {
+		int locSlot = slot(insert(key(argNumerator, argDenominator)));
+		values[locSlot] = argValue;
+	}
+
+	/**
+	 * Adds an increment to the value of a {@link Fraction}, which is 0 if the
+	 * map does not contain it yet.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @param argIncrement
+	 *            the increment
+	 * @return its new value
+	 */
+	public int addTo(Fraction argKey, int argIncrement) {
+		int locSlot = slot(insert(key(argKey)));
+		return values[locSlot] += argIncrement;
+	}
+
+	/**
+	 * Adds an increment to the value of a fraction, which is 0 if the map does
+	 * not contain it yet.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argIncrement
+	 *            the increment
+	 * @return its new value
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public int addTo(int argNumerator, int argDenominator, int argIncrement) {
+		int locSlot = slot(insert(key(argNumerator, argDenominator)));
+		return values[locSlot] += argIncrement;
+	}
+
+	/**
+	 * Removes the entry of a {@link Fraction}.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @return <code>true</code> if the map contained it
+	 */
+	public boolean remove(Fraction argKey) {
+		return remove(key(argKey));
+	}
+
+	/**
+	 * Removes the entry of a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return <code>true</code> if the map contained it
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public boolean remove(int argNumerator, int argDenominator) {
+		return remove(key(argNumerator, argDenominator));
+	}
+
+	/**
+	 * Performs an action on each entry of this map, in no particular order.
+	 *
+	 * @param argAction
+	 *            the action, taking the fraction and its value
+	 */
+	public void forEach(ObjIntConsumer<? super Fraction> argAction) {
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				argAction.accept(fraction(keys[i]), values[i]);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder locBuilder = new StringBuilder("{");
+		forEach((argKey, argValue) -> {
+			if (locBuilder.length() > 1) {
+				locBuilder.append(", ");
+			}
+			locBuilder.append(argKey).append('=').append(argValue);
+		});
+		return locBuilder.append('}').toString();
+	}
+
+	@Override
+	void moveValue(int argFrom, int argTo) {
+		values[argTo] = values[argFrom];
+	}
+
+	@Override
+	void clearValue(int argSlot) {
+		values[argSlot] = 0;
+	}
+
+	@Override
+	void rehashValues(int[] argSlots, int argCapacity) {
+		int[] locValues = new int[argCapacity];
+		for (int i = 0; i < argSlots.length; i++) {
+			if (argSlots[i] >= 0) {
+				locValues[argSlots[i]] = values[i];
+			}
+		}
+		values = locValues;
+	}
+
+	private int get(long argKey, int argDefault) {
+		int locSlot = find(argKey);
+		return (locSlot < 0) ? argDefault : values[locSlot];
+	}
+
+	private boolean remove(long argKey) {
+		int locSlot = find(argKey);
+		if (locSlot < 0) {
+			return false;
+		}
+		removeAt(locSlot);
+		return true;
+	}
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A map from fractions to objects, stored as packed primitive keys in an
+ * open-addressing hash table, so that putting, looking up and removing entries
+ * never allocates, apart from growing the table.
+ * <p>
+ * Keys can be provided either as {@link Fraction}s, or as numerators and
+ * denominators, which are reduced as by the {@link Fraction} constructor.
+ * Values can be <code>null</code>. This class is not thread-safe.
+ *
+ * @param <V>
+ *            the type of values
+ */
+public final class FractionToObjectMap<V> extends FractionHashTable {
+
+	private Object[] values;
+
+	/**
+	 * Constructs an empty map.
+	 */
+	public FractionToObjectMap() {
+		this(0);
+	}
+
+	/**
+	 * Constructs an empty map sized for the provided number of entries.
+	 *
+	 * @param argExpectedSize
+	 *            the expected number of entries
+	 * @throws IllegalArgumentException
+	 *             if the expected size is negative
+	 */
+	public FractionToObjectMap(int argExpectedSize) {
+		super(argExpectedSize);
+		values = new Object[keys.length];
+	}
+
+	/**
+	 * Gets the value of a {@link Fraction}.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @return its value, or <code>null</code> if the map does not contain it
+	 */
+	public V get(Fraction argKey) {
+		return get(key(argKey));
+	}
+
+	/**
+	 * Gets the value of a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return its value, or <code>null</code> if the map does not contain it
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public V get(int argNumerator, int argDenominator) {
+		return get(key(argNumerator, argDenominator));
+	}
+
+	/**
+	 * Checks whether this map contains a {@link Fraction}.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @return <code>true</code> if the map contains it
+	 */
+	public boolean containsKey(Fraction argKey) {
+		return find(key(argKey)) >= 0;
+	}
+
+	/**
+	 * Checks whether this map contains a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return <code>true</code> if the map contains it
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public boolean containsKey(int argNumerator, int argDenominator) {
+		return find(key(argNumerator, argDenominator)) >= 0;
+	}
+
+	/**
+	 * Sets the value of a {@link Fraction}.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @param argValue
+	 *            its new value
+	 * @return its previous value, or <code>null</code> if the map did not
+	 *         contain it
+	 */
+	public V put(Fraction argKey, V argValue) {
+		return put(key(argKey), argValue);
+	}
+
+	/**
+	 * Sets the value of a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argValue
+	 *            its new value
+	 * @return its previous value, or <code>null</code> if the map did not
+	 *         contain it
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public V put(int argNumerator, int argDenominator, V argValue) {
+		return put(key(argNumerator, argDenominator), argValue);
+	}
+
+	/**
+	 * Gets the value of a {@link Fraction}, computing it first if the map does
+	 * not contain it or maps it to <code>null</code>.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @param argFunction
+	 *            the function computing its value, which is not stored if
+	 *            <code>null</code>
+	 * @return its current value
+	 */
+	public V computeIfAbsent(Fraction argKey, Function<? super Fraction, ? extends V> argFunction) {
+		long locKey = key(argKey);
+		int locSlot = find(locKey);
+		if (locSlot >= 0 && values[locSlot] != null) {
+			return value(locSlot);
+		}
+		V locValue = argFunction.apply(argKey);
+		if (locValue != null) {
+			// The function may have modified the map
+			put(locKey, locValue);
+		}
+		return locValue;
+	}
+
+	/**
+	 * Removes the entry of a {@link Fraction}.
+	 *
+	 * @param argKey
+	 *            the {@link Fraction}
+	 * @return its previous value, or <code>null</code> if the map did not
+	 *         contain it
+	 */
+	public V remove(Fraction argKey) {
+		return remove(key(argKey));
+	}
+
+	/**
+	 * Removes the entry of a fraction.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return its previous value, or <code>null</code> if the map did not
+	 *         contain it
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public V remove(int argNumerator, int argDenominator) {
+		return remove(key(argNumerator, argDenominator));
+	}
+
+	/**
+	 * Performs an action on each entry of this map, in no particular order.
+	 *
+	 * @param argAction
+	 *            the action, taking the fraction and its value
+	 */
+	public void forEach(BiConsumer<? super Fraction, ? super V> argAction) {
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				argAction.accept(fraction(keys[i]), value(i));
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder locBuilder = new StringBuilder("{");
+		forEach((argKey, argValue) -> {
+			if (locBuilder.length() > 1) {
+				locBuilder.append(", ");
+			}
+			locBuilder.append(argKey).append('=').append(argValue);
+		});
+		return locBuilder.append('}').toString();
+	}
+
+	@Override
+	void moveValue(int argFrom, int argTo) {
+		values[argTo] = values[argFrom];
+	}
+
+	@Override
+	void clearValue(int argSlot) {
+		values[argSlot] = null;
+	}
+
+	@Override
+	void rehashValues(int[] argSlots, int argCapacity) {
+		Object[] locValues = new Object[argCapacity];
+		for (int i = 0; i < argSlots.length; i++) {
+			if (argSlots[i] >= 0) {
+				locValues[argSlots[i]] = values[i];
+			}
+		}
+		values = locValues;
+	}
+
+	private V get(long argKey) {
+		int locSlot = find(argKey);
+		return (locSlot < 0) ? null : value(locSlot);
+	}
+
+	private V put(long argKey, V argValue) {
+		int locSlot = slot(insert(argKey));
+		V locPrevious = value(locSlot);
+		values[locSlot] = argValue;
+		return locPrevious;
+	}
+
+	private V remove(long argKey) {
+		int locSlot = find(argKey);
+		if (locSlot < 0) {
+			return null;
+		}
+		V locPrevious = value(locSlot);
+		removeAt(locSlot);
+		return locPrevious;
+	}
+
+	/*
+	 * Values are only ever stored through methods taking a V.
+	 */
+	@SuppressWarnings("unchecked")
+	private V value(int argSlot) {
+		return (V) values[argSlot];
+	}
+
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.math.BigInteger;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * An immutable number defined as the fraction of 2 long integers.
+ * <p>
+ * Unlike {@link Fraction}, arithmetic operations never silently truncate their
+ * result: operands are cross-reduced before being multiplied, so that
+ * intermediate values stay as small as possible, and an
+ * {@link ArithmeticException} is thrown when the (reduced) result does not fit
+ * in 64-bit components.
+ */
+public class LongFraction extends Number implements Comparable<LongFraction> {
+
+	/**
+	 * A {@link LongFraction} instance for zero
+	 */
+	public static final LongFraction ZERO = new LongFraction(0);
+
+	private static final long serialVersionUID = 1L;
+
+	private final long numerator;
+	private final long denominator;
+
+	/**
+	 * Constructs a fraction from the two provided long integers as its
+	 * numerator and denominator.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @throws ArithmeticException
+	 *             if denominator is zero, or if the reduced fraction cannot be
+	 *             represented with a positive long denominator
+	 */
+	public LongFraction(long argNumerator, long argDenominator) {
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		long locGcd = GCD.of(argNumerator, argDenominator);
+		long locNumerator = argNumerator / locGcd;
+		long locDenominator = argDenominator / locGcd;
+		if (locDenominator < 0) {
+			locNumerator = Math.negateExact(locNumerator);
+			locDenominator = Math.negateExact(locDenominator);
+		}
+		numerator = locNumerator;
+		denominator = locDenominator;
+	}
+
+	/**
+	 * Constructs a fraction from the single provided long integer as its
+	 * numerator (denominator is 1).
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 */
+	public LongFraction(long argNumerator) {
+		this(argNumerator, 1L, true);
+	}
+
+	/**
+	 * Constructs a fraction with the same value as the provided
+	 * {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the {@link Fraction} to be converted
+	 */
+	public LongFraction(Fraction argFraction) {
+		this(argFraction.getNumerator(), argFraction.getDenominator(), true);
+	}
+
+	/*
+	 * Constructor for components which are already known to be reduced, with a
+	 * positive denominator: the boolean is only there to tell it apart from the
+	 * public constructor.
+	 */
+	private LongFraction(long argNumerator, long argDenominator, boolean argReduced) {
+		numerator = argNumerator;
+		denominator = argDenominator;
+	}
+
+	/**
+	 * Gets the fraction's (reduced) numerator.
+	 *
+	 * @return the fraction's (reduced) numerator
+	 */
+	public long getNumerator() {
+		return numerator;
+	}
+
+	/**
+	 * Gets the fraction's (reduced) denominator.
+	 *
+	 * @return the fraction's (reduced) denominator
+	 */
+	public long getDenominator() {
+		return denominator;
+	}
+
+	@Override
+	public int intValue() {
+		return (int) longValue();
+	}
+
+	@Override
+	public long longValue() {
+		return numerator / denominator;
+	}
+
+	@Override
+	public float floatValue() {
+		return (float) doubleValue();
+	}
+
+	@Override
+	public double doubleValue() {
+		return (double) numerator / denominator;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Long.hashCode(numerator);
+		result = prime * result + Long.hashCode(denominator);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		LongFraction other = (LongFraction) obj;
+		return (numerator == other.numerator) && (denominator == other.denominator);
+	}
+
+	@Override
+	public String toString() {
+		return (denominator == 1) ? (Long.toString(numerator))
+				: (Long.toString(numerator) + "/" + Long.toString(denominator));
+	}
+
+	@Override
+	public int compareTo(LongFraction argOther) {
+		if (denominator == argOther.denominator) {
+			return Long.compare(numerator, argOther.numerator);
+		}
+		try {
+			return Long.compare(Math.multiplyExact(numerator, argOther.denominator),
+					Math.multiplyExact(argOther.numerator, denominator));
+		} catch (ArithmeticException e) {
+			return BigInteger.valueOf(numerator).multiply(BigInteger.valueOf(argOther.denominator))
+					.compareTo(BigInteger.valueOf(argOther.numerator).multiply(BigInteger.valueOf(denominator)));
+		}
+	}
+
+	/**
+	 * Returns a {@link LongFraction} resulting from adding the specified
+	 * {@link LongFraction} to this.
+	 *
+	 * @param argOther
+	 *            the {@link LongFraction} to be added
+	 * @return this + argOther
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public LongFraction add(LongFraction argOther) {
+		return add(argOther.numerator, argOther.denominator);
+	}
+
+	/**
+	 * Returns a {@link LongFraction} resulting from substracting the specified
+	 * {@link LongFraction} from this.
+	 *
+	 * @param argOther
+	 *            the {@link LongFraction} to be substracted
+	 * @return this - argOther
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public LongFraction substract(LongFraction argOther) {
+		return add(Math.negateExact(argOther.numerator), argOther.denominator);
+	}
+
+	/*
+	 * Adds a reduced fraction with a positive denominator, dividing out the
+	 * GCD of the denominators before multiplying (Knuth, TAOCP 4.5.1), so that
+	 * the result comes out reduced without a final GCD on the full values.
+	 */
+	private LongFraction add(long argNumerator, long argDenominator) {
+		if (argNumerator == 0) {
+			return this;
+		}
+		if (numerator == 0) {
+			return new LongFraction(argNumerator, argDenominator, true);
+		}
+		long locGcd = GCD.of(denominator, argDenominator);
+		if (locGcd == 1) {
+			long locNewNumerator = Math.addExact(Math.multiplyExact(numerator, argDenominator),
+					Math.multiplyExact(argNumerator, denominator));
+			return new LongFraction(locNewNumerator, Math.multiplyExact(denominator, argDenominator), true);
+		}
+		long locNewNumerator = Math.addExact(Math.multiplyExact(numerator, argDenominator / locGcd),
+				Math.multiplyExact(argNumerator, denominator / locGcd));
+		if (locNewNumerator == 0) {
+			return ZERO;
+		}
+		long locSecondGcd = GCD.of(locNewNumerator, locGcd);
+		return new LongFraction(locNewNumerator / locSecondGcd,
+				Math.multiplyExact(denominator / locGcd, argDenominator / locSecondGcd), true);
+	}
+
+	/**
+	 * Returns a {@link LongFraction} resulting from negating this.
+	 *
+	 * @return -this
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public LongFraction negate() {
+		return new LongFraction(Math.negateExact(numerator), denominator, true);
+	}
+
+	/**
+	 * Returns a {@link LongFraction} resulting from multiplying this by the
+	 * specified {@link LongFraction}.
+	 *
+	 * @param argOther
+	 *            the {@link LongFraction} to be multiplied by
+	 * @return this * argOther
+	 * @throws ArithmeticException
+	 *             if the result overflows
+	 */
+	public LongFraction multiply(LongFraction argOther) {
+		return multiply(argOther.numerator, argOther.denominator);
+	}
+
+	/*
+	 * Multiplies by a reduced fraction after cross-reducing each numerator
+	 * with the other denominator, so that the product comes out reduced.
+	 */
+	private LongFraction multiply(long argNumerator, long argDenominator) {
+		if (numerator == 0 || argNumerator == 0) {
+			return ZERO;
+		}
+		long locLeftGcd = GCD.of(numerator, argDenominator);
+		long locRightGcd = GCD.of(argNumerator, denominator);
+		long locNewNumerator = Math.multiplyExact(numerator / locLeftGcd, argNumerator / locRightGcd);
+		long locNewDenominator = Math.multiplyExact(denominator / locRightGcd, argDenominator / locLeftGcd);
+		if (locNewDenominator < 0) {
+			locNewNumerator = Math.negateExact(locNewNumerator);
+			locNewDenominator = Math.negateExact(locNewDenominator);
+		}
+		return new LongFraction(locNewNumerator, locNewDenominator, true);
+	}
+
+	/**
+	 * Returns a {@link LongFraction} resulting from inverting this.
+	 *
+	 * @return this^-1
+	 * @throws ArithmeticException
+	 *             if this is zero, or if the result overflows
+	 */
+	public LongFraction invert() {
+		if (numerator == 0) {
+			throw new ArithmeticException();
+		}
+		return (numerator < 0) ? new LongFraction(Math.negateExact(denominator), Math.negateExact(numerator), true)
+				: new LongFraction(denominator, numerator, true);
+	}
+
+	/**
+	 * Returns a {@link LongFraction} resulting from dividing this by the
+	 * specified {@link LongFraction}.
+	 *
+	 * @param argOther
+	 *            the {@link LongFraction} to be divided by
+	 * @return this / argOther
+	 * @throws ArithmeticException
+	 *             if argOther is zero, or if the result overflows
+	 */
+	public LongFraction divide(LongFraction argOther) {
+		if (argOther.numerator == 0) {
+			throw new ArithmeticException();
+		}
+		return multiply(argOther.denominator, argOther.numerator);
+	}
+
+	/**
+	 * Tells whether this {@link LongFraction} holds an integer value.
+	 *
+	 * @return <code>true</code> if this holds an integer value, otherwise false
+	 */
+	public boolean isInteger() {
+		return denominator == 1;
+	}
+
+	/**
+	 * Converts this to a {@link Fraction}.
+	 *
+	 * @return a {@link Fraction} with the same value as this
+	 * @throws ArithmeticException
+	 *             if numerator or denominator does not fit in an int
+	 */
+	public Fraction toFraction() {
+		return new Fraction(Math.toIntExact(numerator), Math.toIntExact(denominator));
+	}
+
+}
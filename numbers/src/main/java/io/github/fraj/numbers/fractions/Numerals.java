@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parsing and formatting of decimal int numerals straight from and to
+ * characters or ASCII bytes, without intermediate Strings.
+ * <p>
+ * Numerals are parsed as by {@link Integer#parseInt(String)}: an optional
+ * sign followed by at least one digit, accumulated negatively so that
+ * {@link Integer#MIN_VALUE} is accepted. Strings are only created for the
+ * messages of exceptions.
+ */
+final class Numerals {
+
+	/*
+	 * Powers of ten which fit in an int, indexed by exponent.
+	 */
+	private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000,
+			1000000000 };
+
+	private Numerals() {
+		// Default private constructor
+	}
+
+	/**
+	 * Finds the first slash in a range of characters.
+	 *
+	 * @param argText
+	 *            the characters
+	 * @param argFrom
+	 *            the index of the first character, inclusive
+	 * @param argTo
+	 *            the index of the last character, exclusive
+	 * @return the index of the slash, or -1 if there is none
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 */
+	static int indexOfSlash(CharSequence argText, int argFrom, int argTo) {
+		checkRange(argText.length(), argFrom, argTo);
+		for (int i = argFrom; i < argTo; i++) {
+			if (argText.charAt(i) == '/') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first slash in a range of ASCII bytes.
+	 *
+	 * @param argBytes
+	 *            the bytes
+	 * @param argFrom
+	 *            the index of the first byte, inclusive
+	 * @param argTo
+	 *            the index of the last byte, exclusive
+	 * @return the index of the slash, or -1 if there is none
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of bounds
+	 */
+	static int indexOfSlash(byte[] argBytes, int argFrom, int argTo) {
+		checkRange(argBytes.length, argFrom, argTo);
+		for (int i = argFrom; i < argTo; i++) {
+			if (argBytes[i] == '/') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first slash in a range of ASCII bytes, between absolute
+	 * indexes of a buffer.
+	 *
+	 * @param argBuffer
+	 *            the buffer
+	 * @param argFrom
+	 *            the index of the first byte, inclusive
+	 * @param argTo
+	 *            the index of the last byte, exclusive
+	 * @return the index of the slash, or -1 if there is none
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the limit of the buffer
+	 */
+	static int indexOfSlash(ByteBuffer argBuffer, int argFrom, int argTo) {
+		checkRange(argBuffer.limit(), argFrom, argTo);
+		for (int i = argFrom; i < argTo; i++) {
+			if (argBuffer.get(i) == '/') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Parses an int from a range of characters.
+	 *
+	 * @param argText
+	 *            the characters
+	 * @param argFrom
+	 *            the index of the first character, inclusive
+	 * @param argTo
+	 *            the index of the last character, exclusive
+	 * @return the parsed int
+	 * @throws NumberFormatException
+	 *             if the range does not hold an int numeral
+	 */
+	static int parseInt(CharSequence argText, int argFrom, int argTo) {
+		int i = argFrom;
+		boolean locNegative = false;
+		if (i < argTo && (argText.charAt(i) == '-' || argText.charAt(i) == '+')) {
+			locNegative = argText.charAt(i) == '-';
+			i++;
+		}
+		if (i == argTo) {
+			throw invalid(argText.subSequence(argFrom, argTo));
+		}
+		int locLimit = locNegative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+		int locResult = 0;
+		for (; i < argTo; i++) {
+			int locDigit = argText.charAt(i) - '0';
+			if (locDigit < 0 || locDigit > 9 || locResult < Integer.MIN_VALUE / 10) {
+				throw invalid(argText.subSequence(argFrom, argTo));
+			}
+			locResult *= 10;
+			if (locResult < locLimit + locDigit) {
+				throw invalid(argText.subSequence(argFrom, argTo));
+			}
+			locResult -= locDigit;
+		}
+		return locNegative ? locResult : -locResult;
+	}
+
+	/**
+	 * Parses an int from a range of ASCII bytes.
+	 *
+	 * @param argBytes
+	 *            the bytes
+	 * @param argFrom
+	 *            the index of the first byte, inclusive
+	 * @param argTo
+	 *            the index of the last byte, exclusive
+	 * @return the parsed int
+	 * @throws NumberFormatException
+	 *             if the range does not hold an int numeral
+	 */
+	static int parseInt(byte[] argBytes, int argFrom, int argTo) {
+		int i = argFrom;
+		boolean locNegative = false;
+		if (i < argTo && (argBytes[i] == '-' || argBytes[i] == '+')) {
+			locNegative = argBytes[i] == '-';
+			i++;
+		}
+		if (i == argTo) {
+			throw invalid(new String(argBytes, argFrom, argTo - argFrom, StandardCharsets.US_ASCII));
+		}
+		int locLimit = locNegative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+		int locResult = 0;
+		for (; i < argTo; i++) {
+			int locDigit = argBytes[i] - '0';
+			if (locDigit < 0 || locDigit > 9 || locResult < Integer.MIN_VALUE / 10) {
+				throw invalid(new String(argBytes, argFrom, argTo - argFrom, StandardCharsets.US_ASCII));
+			}
+			locResult *= 10;
+			if (locResult < locLimit + locDigit) {
+				throw invalid(new String(argBytes, argFrom, argTo - argFrom, StandardCharsets.US_ASCII));
+			}
+			locResult -= locDigit;
+		}
+		return locNegative ? locResult : -locResult;
+	}
+
+	/**
+	 * Parses an int from a range of ASCII bytes, between absolute indexes of a
+	 * buffer.
+	 *
+	 * @param argBuffer
+	 *            the buffer
+	 * @param argFrom
+	 *            the index of the first byte, inclusive
+	 * @param argTo
+	 *            the index of the last byte, exclusive
+	 * @return the parsed int
+	 * @throws NumberFormatException
+	 *             if the range does not hold an int numeral
+	 */
+	static int parseInt(ByteBuffer argBuffer, int argFrom, int argTo) {
+		int i = argFrom;
+		boolean locNegative = false;
+		if (i < argTo && (argBuffer.get(i) == '-' || argBuffer.get(i) == '+')) {
+			locNegative = argBuffer.get(i) == '-';
+			i++;
+		}
+		if (i == argTo) {
+			throw invalid(argBuffer, argFrom, argTo);
+		}
+		int locLimit = locNegative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+		int locResult = 0;
+		for (; i < argTo; i++) {
+			int locDigit = argBuffer.get(i) - '0';
+			if (locDigit < 0 || locDigit > 9 || locResult < Integer.MIN_VALUE / 10) {
+				throw invalid(argBuffer, argFrom, argTo);
+			}
+			locResult *= 10;
+			if (locResult < locLimit + locDigit) {
+				throw invalid(argBuffer, argFrom, argTo);
+			}
+			locResult -= locDigit;
+		}
+		return locNegative ? locResult : -locResult;
+	}
+
+	/**
+	 * Computes the number of characters of the numeral of an int.
+	 *
+	 * @param argValue
+	 *            the int
+	 * @return the number of characters, including the minus sign
+	 */
+	static int length(int argValue) {
+		long locValue = Math.abs((long) argValue);
+		int locLength = 1;
+		while (locLength < POWERS_OF_TEN.length && locValue >= POWERS_OF_TEN[locLength]) {
+			locLength++;
+		}
+		return (argValue < 0) ? locLength + 1 : locLength;
+	}
+
+	/**
+	 * Appends the numeral of an int, digit by digit.
+	 *
+	 * @param argAppendable
+	 *            the destination
+	 * @param argValue
+	 *            the int
+	 * @throws IOException
+	 *             if the destination fails
+	 */
+	static void appendTo(Appendable argAppendable, int argValue) throws IOException {
+		if (argValue < 0) {
+			argAppendable.append('-');
+		}
+		long locValue = Math.abs((long) argValue);
+		for (int i = length(argValue) - ((argValue < 0) ? 2 : 1); i >= 0; i--) {
+			argAppendable.append((char) ('0' + locValue / POWERS_OF_TEN[i] % 10));
+		}
+	}
+
+	/**
+	 * Writes the numeral of an int as ASCII bytes.
+	 *
+	 * @param argBytes
+	 *            the destination
+	 * @param argOffset
+	 *            the index of the first byte to be written
+	 * @param argValue
+	 *            the int
+	 * @return the index following the last written byte
+	 */
+	static int writeTo(byte[] argBytes, int argOffset, int argValue) {
+		int locEnd = argOffset + length(argValue);
+		long locValue = Math.abs((long) argValue);
+		int i = locEnd;
+		do {
+			argBytes[--i] = (byte) ('0' + locValue % 10);
+			locValue /= 10;
+		} while (locValue != 0);
+		if (argValue < 0) {
+			argBytes[--i] = '-';
+		}
+		return locEnd;
+	}
+
+	/**
+	 * Writes the numeral of an int as ASCII bytes, at the position of a
+	 * buffer, which is moved past them.
+	 *
+	 * @param argBuffer
+	 *            the destination
+	 * @param argValue
+	 *            the int
+	 * @throws BufferOverflowException
+	 *             if the buffer has not enough remaining bytes
+	 */
+	static void writeTo(ByteBuffer argBuffer, int argValue) {
+		int locLength = length(argValue);
+		if (argBuffer.remaining() < locLength) {
+			throw new BufferOverflowException();
+		}
+		int locEnd = argBuffer.position() + locLength;
+		long locValue = Math.abs((long) argValue);
+		int i = locEnd;
+		do {
+			argBuffer.put(--i, (byte) ('0' + locValue % 10));
+			locValue /= 10;
+		} while (locValue != 0);
+		if (argValue < 0) {
+			argBuffer.put(--i, (byte) '-');
+		}
+		// Called on Buffer, which has the only position(int) of Java 8
+		((Buffer) argBuffer).position(locEnd);
+	}
+
+	private static void checkRange(int argLength, int argFrom, int argTo) {
+		if (argFrom < 0 || argTo > argLength || argFrom > argTo) {
+			throw new IndexOutOfBoundsException("Range [" + argFrom + ", " + argTo + ") out of bounds for length "
+					+ argLength);
+		}
+	}
+
+	private static NumberFormatException invalid(CharSequence argText) {
+		return new NumberFormatException("For input string: \"" + argText + "\"");
+	}
+
+	private static NumberFormatException invalid(ByteBuffer argBuffer, int argFrom, int argTo) {
+		StringBuilder locText = new StringBuilder(argTo - argFrom);
+		for (int i = argFrom; i < argTo; i++) {
+			locText.append((char) (argBuffer.get(i) & 0xff));
+		}
+		return invalid(locText);
+	}
+
+}
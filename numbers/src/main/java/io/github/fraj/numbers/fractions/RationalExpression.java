@@ -0,0 +1,509 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * A lazy arithmetic expression over fractions, recorded as a directed acyclic
+ * graph of operations and only evaluated on demand.
+ * <p>
+ * Building an expression neither computes nor allocates anything but its node.
+ * Evaluating it fuses all its operations into a single numerator and
+ * denominator computation, without reducing intermediate values nor creating
+ * intermediate fractions: they are only reduced when an operation would
+ * otherwise overflow long integers, so that the result is reduced once. Values
+ * which do not fit even once reduced are promoted to {@link BigInteger}s, and
+ * are then reduced after each operation, as their growth would otherwise
+ * outweigh the reductions saved, until they fit in long integers again. The
+ * unreduced value of each node is memoized, so that a
+ * subexpression shared by several operands, or by several expressions, is only
+ * computed once.
+ * <p>
+ * Evaluation does not recurse, so that expressions may be arbitrarily deep.
+ * This class is not thread-safe, as evaluation memoizes values in the nodes.
+ */
+public final class RationalExpression {
+
+	private static final int VALUE = 0;
+	private static final int ADD = 1;
+	private static final int SUBSTRACT = 2;
+	private static final int MULTIPLY = 3;
+	private static final int DIVIDE = 4;
+	private static final int NEGATE = 5;
+	private static final int INVERT = 6;
+
+	private final int operator;
+	private final RationalExpression left;
+	private final RationalExpression right;
+
+	/*
+	 * Memoized value, in compact form with a positive (but not necessarily
+	 * reduced) denominator while bigDenominator is null, and meaningful once
+	 * evaluated is true.
+	 */
+	private boolean evaluated;
+	private long numerator;
+	private long denominator;
+	private BigInteger bigNumerator;
+	private BigInteger bigDenominator;
+
+	/*
+	 * Memoized reduced value.
+	 */
+	private BigFraction value;
+
+	private RationalExpression(int argOperator, RationalExpression argLeft, RationalExpression argRight) {
+		operator = argOperator;
+		left = argLeft;
+		right = argRight;
+	}
+
+	private RationalExpression(long argNumerator, long argDenominator) {
+		this(VALUE, null, null);
+		evaluated = true;
+		if (argDenominator > 0) {
+			numerator = argNumerator;
+			denominator = argDenominator;
+		} else if (argNumerator != Long.MIN_VALUE && argDenominator != Long.MIN_VALUE) {
+			numerator = -argNumerator;
+			denominator = -argDenominator;
+		} else {
+			bigNumerator = BigInteger.valueOf(argNumerator).negate();
+			bigDenominator = BigInteger.valueOf(argDenominator).negate();
+		}
+	}
+
+	/**
+	 * Returns an expression holding the value of the provided {@link Fraction}.
+	 *
+	 * @param argFraction
+	 *            the value
+	 * @return a constant {@link RationalExpression}
+	 */
+	public static RationalExpression of(Fraction argFraction) {
+		return new RationalExpression(argFraction.getNumerator(), argFraction.getDenominator());
+	}
+
+	/**
+	 * Returns an expression holding the value of the provided
+	 * {@link BigFraction}.
+	 *
+	 * @param argFraction
+	 *            the value
+	 * @return a constant {@link RationalExpression}
+	 */
+	public static RationalExpression of(BigFraction argFraction) {
+		BigInteger locNumerator = argFraction.getNumerator();
+		BigInteger locDenominator = argFraction.getDenominator();
+		if (locNumerator.bitLength() < Long.SIZE && locDenominator.bitLength() < Long.SIZE) {
+			return new RationalExpression(locNumerator.longValue(), locDenominator.longValue());
+		}
+		RationalExpression locExpression = new RationalExpression(VALUE, null, null);
+		locExpression.evaluated = true;
+		locExpression.bigNumerator = locNumerator;
+		locExpression.bigDenominator = locDenominator;
+		return locExpression;
+	}
+
+	/**
+	 * Returns an expression holding the fraction of the two provided long
+	 * integers.
+	 *
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @return a constant {@link RationalExpression}
+	 * @throws ArithmeticException
+	 *             if denominator is zero
+	 */
+	public static RationalExpression of(long argNumerator, long argDenominator) {
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		return new RationalExpression(argNumerator, argDenominator);
+	}
+
+	/**
+	 * Returns an expression holding the provided long integer.
+	 *
+	 * @param argValue
+	 *            the value
+	 * @return a constant {@link RationalExpression}
+	 */
+	public static RationalExpression of(long argValue) {
+		return new RationalExpression(argValue, 1);
+	}
+
+	/**
+	 * Returns an expression adding the specified {@link RationalExpression} to
+	 * this.
+	 *
+	 * @param argOther
+	 *            the {@link RationalExpression} to be added
+	 * @return this + argOther
+	 */
+	public RationalExpression add(RationalExpression argOther) {
+		return new RationalExpression(ADD, this, argOther);
+	}
+
+	/**
+	 * Returns an expression adding the specified {@link Fraction} to this.
+	 *
+	 * @param argOther
+	 *            the {@link Fraction} to be added
+	 * @return this + argOther
+	 */
+	public RationalExpression add(Fraction argOther) {
+		return add(of(argOther));
+	}
+
+	/**
+	 * Returns an expression substracting the specified
+	 * {@link RationalExpression} from this, without any intermediate negation.
+	 *
+	 * @param argOther
+	 *            the {@link RationalExpression} to be substracted
+	 * @return this - argOther
+	 */
+	public RationalExpression substract(RationalExpression argOther) {
+		return new RationalExpression(SUBSTRACT, this, argOther);
+	}
+
+	/**
+	 * Returns an expression substracting the specified {@link Fraction} from
+	 * this.
+	 *
+	 * @param argOther
+	 *            the {@link Fraction} to be substracted
+	 * @return this - argOther
+	 */
+	public RationalExpression substract(Fraction argOther) {
+		return substract(of(argOther));
+	}
+
+	/**
+	 * Returns an expression multiplying this by the specified
+	 * {@link RationalExpression}.
+	 *
+	 * @param argOther
+	 *            the {@link RationalExpression} to be multiplied by
+	 * @return this * argOther
+	 */
+	public RationalExpression multiply(RationalExpression argOther) {
+		return new RationalExpression(MULTIPLY, this, argOther);
+	}
+
+	/**
+	 * Returns an expression multiplying this by the specified {@link Fraction}.
+	 *
+	 * @param argOther
+	 *            the {@link Fraction} to be multiplied by
+	 * @return this * argOther
+	 */
+	public RationalExpression multiply(Fraction argOther) {
+		return multiply(of(argOther));
+	}
+
+	/**
+	 * Returns an expression dividing this by the specified
+	 * {@link RationalExpression}, without any intermediate inversion. A
+	 * division by zero only throws on evaluation.
+	 *
+	 * @param argOther
+	 *            the {@link RationalExpression} to be divided by
+	 * @return this / argOther
+	 */
+	public RationalExpression divide(RationalExpression argOther) {
+		return new RationalExpression(DIVIDE, this, argOther);
+	}
+
+	/**
+	 * Returns an expression dividing this by the specified {@link Fraction}. A
+	 * division by zero only throws on evaluation.
+	 *
+	 * @param argOther
+	 *            the {@link Fraction} to be divided by
+	 * @return this / argOther
+	 */
+	public RationalExpression divide(Fraction argOther) {
+		return divide(of(argOther));
+	}
+
+	/**
+	 * Returns an expression negating this.
+	 *
+	 * @return -this
+	 */
+	public RationalExpression negate() {
+		return new RationalExpression(NEGATE, this, null);
+	}
+
+	/**
+	 * Returns an expression inverting this. An inversion of zero only throws
+	 * on evaluation.
+	 *
+	 * @return 1 / this
+	 */
+	public RationalExpression invert() {
+		return new RationalExpression(INVERT, this, null);
+	}
+
+	/**
+	 * Evaluates this expression, computing the subexpressions which have not
+	 * been yet, and reduces the result.
+	 *
+	 * @return the exact value of this expression
+	 * @throws ArithmeticException
+	 *             if a divisor is zero
+	 */
+	public BigFraction evaluate() {
+		if (value == null) {
+			evaluateUnreduced();
+			value = isCompact() ? new BigFraction(numerator, denominator)
+					: new BigFraction(bigNumerator, bigDenominator);
+		}
+		return value;
+	}
+
+	/**
+	 * Evaluates this expression and converts the result to a {@link Fraction}.
+	 *
+	 * @return the exact value of this expression
+	 * @throws ArithmeticException
+	 *             if a divisor is zero, or if the reduced numerator or
+	 *             denominator does not fit in an int
+	 */
+	public Fraction toFraction() {
+		if (value == null) {
+			evaluateUnreduced();
+			if (isCompact()) {
+				// Reduces straight to a Fraction, without any BigFraction
+				long locGcd = GCD.of(numerator, denominator);
+				return Fraction.ofReduced(Math.toIntExact(numerator / locGcd), Math.toIntExact(denominator / locGcd));
+			}
+		}
+		return evaluate().toFraction();
+	}
+
+	@Override
+	public String toString() {
+		switch (operator) {
+		case VALUE:
+			return isCompact() ? new BigFraction(numerator, denominator).toString()
+					: new BigFraction(bigNumerator, bigDenominator).toString();
+		case ADD:
+			return "(" + left + " + " + right + ")";
+		case SUBSTRACT:
+			return "(" + left + " - " + right + ")";
+		case MULTIPLY:
+			return "(" + left + " * " + right + ")";
+		case DIVIDE:
+			return "(" + left + " / " + right + ")";
+		case NEGATE:
+			return "-" + left;
+		default:
+			return "(1 / " + left + ")";
+		}
+	}
+
+	private boolean isCompact() {
+		return bigDenominator == null;
+	}
+
+	/*
+	 * Evaluates the nodes in post-order, with an explicit stack instead of
+	 * recursion, skipping those which are memoized already.
+	 */
+	private void evaluateUnreduced() {
+		if (evaluated) {
+			return;
+		}
+		ArrayDeque<RationalExpression> locStack = new ArrayDeque<>();
+		locStack.push(this);
+		while (!locStack.isEmpty()) {
+			RationalExpression locNode = locStack.peek();
+			if (!locNode.left.evaluated) {
+				locStack.push(locNode.left);
+			} else if (locNode.right != null && !locNode.right.evaluated) {
+				locStack.push(locNode.right);
+			} else {
+				locStack.pop();
+				if (!locNode.evaluated) {
+					locNode.compute();
+				}
+			}
+		}
+	}
+
+	/*
+	 * Computes the value of this node from the memoized values of its
+	 * operands, in compact form as long as possible.
+	 */
+	private void compute() {
+		if ((operator == DIVIDE && right.signum() == 0) || (operator == INVERT && left.signum() == 0)) {
+			throw new ArithmeticException();
+		}
+		if (left.isCompact() && (right == null || right.isCompact())) {
+			if (!computeCompact()) {
+				// Reduces the operands, without changing their values, and retries
+				left.reduceCompact();
+				if (right != null) {
+					right.reduceCompact();
+				}
+				if (!computeCompact()) {
+					computeBig();
+				}
+			}
+		} else {
+			computeBig();
+		}
+		evaluated = true;
+	}
+
+	/*
+	 * Reduces an arbitrary-precision value, and converts it back to compact
+	 * form if it fits.
+	 */
+	private void reduceBig() {
+		BigInteger locGcd = bigNumerator.gcd(bigDenominator);
+		if (!locGcd.equals(BigInteger.ONE)) {
+			bigNumerator = bigNumerator.divide(locGcd);
+			bigDenominator = bigDenominator.divide(locGcd);
+		}
+		if (bigNumerator.bitLength() < Long.SIZE && bigDenominator.bitLength() < Long.SIZE) {
+			numerator = bigNumerator.longValue();
+			denominator = bigDenominator.longValue();
+			bigNumerator = null;
+			bigDenominator = null;
+		}
+	}
+
+	/*
+	 * Returns false if the value does not fit in long integers, leaving this
+	 * node unchanged.
+	 */
+	private boolean computeCompact() {
+		long locNumerator;
+		long locDenominator;
+		try {
+			switch (operator) {
+			case ADD:
+			case SUBSTRACT:
+				long locRight = (operator == ADD) ? right.numerator : Math.negateExact(right.numerator);
+				if (left.denominator == right.denominator) {
+					locNumerator = Math.addExact(left.numerator, locRight);
+					locDenominator = left.denominator;
+				} else {
+					// The denominator is the LCM of the denominators
+					long locGcd = GCD.of(left.denominator, right.denominator);
+					locNumerator = Math.addExact(Math.multiplyExact(left.numerator, right.denominator / locGcd),
+							Math.multiplyExact(locRight, left.denominator / locGcd));
+					locDenominator = Math.multiplyExact(left.denominator, right.denominator / locGcd);
+				}
+				break;
+			case MULTIPLY:
+				locNumerator = Math.multiplyExact(left.numerator, right.numerator);
+				locDenominator = Math.multiplyExact(left.denominator, right.denominator);
+				break;
+			case DIVIDE:
+				locNumerator = Math.multiplyExact(left.numerator, right.denominator);
+				locDenominator = Math.multiplyExact(left.denominator, right.numerator);
+				if (locDenominator < 0) {
+					locNumerator = Math.negateExact(locNumerator);
+					locDenominator = Math.negateExact(locDenominator);
+				}
+				break;
+			case NEGATE:
+				locNumerator = Math.negateExact(left.numerator);
+				locDenominator = left.denominator;
+				break;
+			default:
+				locNumerator = (left.numerator > 0) ? left.denominator : -left.denominator;
+				locDenominator = (left.numerator > 0) ? left.numerator : Math.negateExact(left.numerator);
+				break;
+			}
+		} catch (ArithmeticException e) {
+			return false;
+		}
+		numerator = locNumerator;
+		denominator = locDenominator;
+		return true;
+	}
+
+	private int signum() {
+		return isCompact() ? Long.signum(numerator) : bigNumerator.signum();
+	}
+
+	private void computeBig() {
+		BigInteger locLeftNumerator = left.getBigNumerator();
+		BigInteger locLeftDenominator = left.getBigDenominator();
+		switch (operator) {
+		case ADD:
+		case SUBSTRACT:
+			// The denominator is the LCM of the denominators
+			BigInteger locGcd = locLeftDenominator.gcd(right.getBigDenominator());
+			BigInteger locRightFactor = right.getBigDenominator().divide(locGcd);
+			BigInteger locRight = right.getBigNumerator().multiply(locLeftDenominator.divide(locGcd));
+			bigNumerator = locLeftNumerator.multiply(locRightFactor);
+			bigNumerator = (operator == ADD) ? bigNumerator.add(locRight) : bigNumerator.subtract(locRight);
+			bigDenominator = locLeftDenominator.multiply(locRightFactor);
+			break;
+		case MULTIPLY:
+			bigNumerator = locLeftNumerator.multiply(right.getBigNumerator());
+			bigDenominator = locLeftDenominator.multiply(right.getBigDenominator());
+			break;
+		case DIVIDE:
+			bigNumerator = locLeftNumerator.multiply(right.getBigDenominator());
+			bigDenominator = locLeftDenominator.multiply(right.getBigNumerator());
+			if (bigDenominator.signum() < 0) {
+				bigNumerator = bigNumerator.negate();
+				bigDenominator = bigDenominator.negate();
+			}
+			break;
+		case NEGATE:
+			bigNumerator = locLeftNumerator.negate();
+			bigDenominator = locLeftDenominator;
+			break;
+		default:
+			bigNumerator = (locLeftNumerator.signum() > 0) ? locLeftDenominator : locLeftDenominator.negate();
+			bigDenominator = locLeftNumerator.abs();
+			break;
+		}
+		reduceBig();
+	}
+
+	private BigInteger getBigNumerator() {
+		return isCompact() ? BigInteger.valueOf(numerator) : bigNumerator;
+	}
+
+	private BigInteger getBigDenominator() {
+		return isCompact() ? BigInteger.valueOf(denominator) : bigDenominator;
+	}
+
+	private void reduceCompact() {
+		long locGcd = GCD.of(numerator, denominator);
+		if (locGcd > 1) {
+			numerator /= locGcd;
+			denominator /= locGcd;
+		}
+	}
+
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import java.util.Arrays;
+
+/**
+ * A walker on the Stern-Brocot tree, which holds every positive fraction
+ * exactly once, each node being the mediant of its nearest ancestors on the
+ * left and on the right, starting from the bounds <code>0/1</code> and
+ * <code>1/0</code>. An in-order walk of the nodes whose denominators do not
+ * exceed <code>N</code> yields the positive fractions of the Farey sequence of
+ * order <code>N</code>.
+ * <p>
+ * The static methods answer range queries by descending the tree by runs of
+ * moves in the same direction, which are the terms of continued fraction
+ * expansions, so that they take a logarithmic number of steps.
+ * <p>
+ * A walker is not thread-safe.
+ */
+public final class SternBrocotTree {
+
+	// The current node is the mediant of its left and right bounds
+	private long leftNumerator;
+	private long leftDenominator = 1;
+	private long rightNumerator = 1;
+	private long rightDenominator;
+	private long depth;
+
+	/**
+	 * Constructs a walker at the root of the tree, <code>1/1</code>.
+	 */
+	public SternBrocotTree() {
+		// Bounds 0/1 and 1/0
+	}
+
+	/**
+	 * Gets the numerator of the current node.
+	 *
+	 * @return the numerator of the current node
+	 */
+	public int getNumerator() {
+		return (int) (leftNumerator + rightNumerator);
+	}
+
+	/**
+	 * Gets the denominator of the current node.
+	 *
+	 * @return the denominator of the current node
+	 */
+	public int getDenominator() {
+		return (int) (leftDenominator + rightDenominator);
+	}
+
+	/**
+	 * Gets the current node.
+	 *
+	 * @return the current node
+	 */
+	public Fraction get() {
+		return Fraction.ofReduced(getNumerator(), getDenominator());
+	}
+
+	/**
+	 * Gets the depth of the current node, which is 0 for the root.
+	 *
+	 * @return the depth of the current node
+	 */
+	public long getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Moves down to the left child of the current node.
+	 *
+	 * @return this walker
+	 * @throws ArithmeticException
+	 *             if the child does not fit in int components
+	 */
+	public SternBrocotTree left() {
+		return left(1);
+	}
+
+	/**
+	 * Moves down the provided number of times to the left, to the node
+	 * <code>(k a + c) / (k b + d)</code> between the left bound
+	 * <code>a / b</code> and the current node <code>c / d</code>.
+	 *
+	 * @param argSteps
+	 *            the number of moves, positive or zero
+	 * @return this walker
+	 * @throws IllegalArgumentException
+	 *             if the number of moves is negative
+	 * @throws ArithmeticException
+	 *             if the node reached does not fit in int components, in which
+	 *             case the walker does not move
+	 */
+	public SternBrocotTree left(int argSteps) {
+		checkSteps(argSteps);
+		long locNumerator = leftNumerator + rightNumerator;
+		long locDenominator = leftDenominator + rightDenominator;
+		checkNode(locNumerator + argSteps * leftNumerator, locDenominator + argSteps * leftDenominator);
+		if (argSteps > 0) {
+			rightNumerator = locNumerator + (argSteps - 1) * leftNumerator;
+			rightDenominator = locDenominator + (argSteps - 1) * leftDenominator;
+			depth += argSteps;
+		}
+		return this;
+	}
+
+	/**
+	 * Moves down to the right child of the current node.
+	 *
+	 * @return this walker
+	 * @throws ArithmeticException
+	 *             if the child does not fit in int components
+	 */
+	public SternBrocotTree right() {
+		return right(1);
+	}
+
+	/**
+	 * Moves down the provided number of times to the right, to the node
+	 * <code>(c + k e) / (d + k f)</code> between the current node
+	 * <code>c / d</code> and the right bound <code>e / f</code>.
+	 *
+	 * @param argSteps
+	 *            the number of moves, positive or zero
+	 * @return this walker
+	 * @throws IllegalArgumentException
+	 *             if the number of moves is negative
+	 * @throws ArithmeticException
+	 *             if the node reached does not fit in int components, in which
+	 *             case the walker does not move
+	 */
+	public SternBrocotTree right(int argSteps) {
+		checkSteps(argSteps);
+		long locNumerator = leftNumerator + rightNumerator;
+		long locDenominator = leftDenominator + rightDenominator;
+		checkNode(locNumerator + argSteps * rightNumerator, locDenominator + argSteps * rightDenominator);
+		if (argSteps > 0) {
+			leftNumerator = locNumerator + (argSteps - 1) * rightNumerator;
+			leftDenominator = locDenominator + (argSteps - 1) * rightDenominator;
+			depth += argSteps;
+		}
+		return this;
+	}
+
+	/**
+	 * Moves back to the root of the tree.
+	 *
+	 * @return this walker
+	 */
+	public SternBrocotTree reset() {
+		leftNumerator = 0;
+		leftDenominator = 1;
+		rightNumerator = 1;
+		rightDenominator = 0;
+		depth = 0;
+		return this;
+	}
+
+	/**
+	 * Computes the path from the root to a positive fraction, as the lengths
+	 * of its runs of moves, starting with a run to the right which may be
+	 * empty. They are the terms of the continued fraction expansion of the
+	 * fraction, the last one being decremented.
+	 *
+	 * @param argFraction
+	 *            a positive fraction
+	 * @return the lengths of alternate runs of right and left moves
+	 * @throws IllegalArgumentException
+	 *             if the fraction is not positive
+	 */
+	public static int[] path(Fraction argFraction) {
+		if (argFraction.getNumerator() <= 0) {
+			throw new IllegalArgumentException("Not a positive fraction: " + argFraction);
+		}
+		int[] locRuns = new int[16];
+		int locLength = 0;
+		long locNumerator = argFraction.getNumerator();
+		long locDenominator = argFraction.getDenominator();
+		while (locDenominator != 0) {
+			if (locLength == locRuns.length) {
+				locRuns = Arrays.copyOf(locRuns, locLength << 1);
+			}
+			locRuns[locLength++] = (int) (locNumerator / locDenominator);
+			long locRemainder = locNumerator % locDenominator;
+			locNumerator = locDenominator;
+			locDenominator = locRemainder;
+		}
+		locRuns[locLength - 1]--;
+		return Arrays.copyOf(locRuns, locLength);
+	}
+
+	/**
+	 * Returns the greatest fraction not greater than the provided one among
+	 * those whose denominator does not exceed the provided bound.
+	 *
+	 * @param argFraction
+	 *            the fraction
+	 * @param argMaxDenominator
+	 *            the maximum denominator, positive
+	 * @return the greatest fraction with a denominator up to the bound which
+	 *         is not greater than the provided one
+	 * @throws IllegalArgumentException
+	 *             if the maximum denominator is not positive
+	 * @throws ArithmeticException
+	 *             if the result does not fit in int components
+	 */
+	public static Fraction floor(Fraction argFraction, int argMaxDenominator) {
+		return floor(argFraction.getNumerator(), argFraction.getDenominator(), argMaxDenominator, false);
+	}
+
+	/**
+	 * Returns the smallest fraction not smaller than the provided one among
+	 * those whose denominator does not exceed the provided bound.
+	 *
+	 * @param argFraction
+	 *            the fraction
+	 * @param argMaxDenominator
+	 *            the maximum denominator, positive
+	 * @return the smallest fraction with a denominator up to the bound which
+	 *         is not smaller than the provided one
+	 * @throws IllegalArgumentException
+	 *             if the maximum denominator is not positive
+	 * @throws ArithmeticException
+	 *             if the result does not fit in int components
+	 */
+	public static Fraction ceiling(Fraction argFraction, int argMaxDenominator) {
+		// ceiling(x) = -floor(-x)
+		return floor(-(long) argFraction.getNumerator(), argFraction.getDenominator(), argMaxDenominator, true);
+	}
+
+	/**
+	 * Returns the simplest fraction strictly between two fractions, which has
+	 * the smallest denominator, and then the smallest absolute numerator, of
+	 * all the fractions in the interval. It is their nearest common ancestor in
+	 * the Stern-Brocot tree, extended to non-positive fractions by symmetry and
+	 * by 0.
+	 *
+	 * @param argLower
+	 *            the lower bound (exclusive)
+	 * @param argUpper
+	 *            the upper bound (exclusive)
+	 * @return the simplest fraction in the open interval
+	 * @throws IllegalArgumentException
+	 *             if the lower bound is not smaller than the upper bound
+	 */
+	public static Fraction simplestBetween(Fraction argLower, Fraction argUpper) {
+		if (argLower.compareTo(argUpper) >= 0) {
+			throw new IllegalArgumentException("Empty interval (" + argLower + ", " + argUpper + ")");
+		}
+		if (argLower.getNumerator() < 0 && argUpper.getNumerator() > 0) {
+			return Fraction.valueOf(0);
+		}
+		if (argUpper.getNumerator() <= 0) {
+			long[] locSimplest = simplestBetween(-(long) argUpper.getNumerator(), argUpper.getDenominator(),
+					-(long) argLower.getNumerator(), argLower.getDenominator());
+			return Fraction.ofReduced((int) -locSimplest[0], (int) locSimplest[1]);
+		}
+		long[] locSimplest = simplestBetween(argLower.getNumerator(), argLower.getDenominator(),
+				argUpper.getNumerator(), argUpper.getDenominator());
+		return Fraction.ofReduced((int) locSimplest[0], (int) locSimplest[1]);
+	}
+
+	/*
+	 * Descends from the root until the mediant falls in (p/q, r/s), with
+	 * 0 <= p/q < r/s: right runs skip mediants up to p/q, left runs mediants
+	 * from r/s. Components stay below those of the bounds, so no product
+	 * exceeds 2^63.
+	 */
+	private static long[] simplestBetween(long argLowerNumerator, long argLowerDenominator, long argUpperNumerator,
+			long argUpperDenominator) {
+		long a = 0;
+		long b = 1;
+		long c = 1;
+		long d = 0;
+		while (true) {
+			long locRight = (argLowerNumerator * b - a * argLowerDenominator)
+					/ (c * argLowerDenominator - argLowerNumerator * d);
+			a += locRight * c;
+			b += locRight * d;
+			if ((a + c) * argUpperDenominator < argUpperNumerator * (b + d)) {
+				return new long[] { a + c, b + d };
+			}
+			long locLeft = (c * argUpperDenominator - argUpperNumerator * d)
+					/ (argUpperNumerator * b - a * argUpperDenominator);
+			c += locLeft * a;
+			d += locLeft * b;
+			if ((a + c) * argLowerDenominator > argLowerNumerator * (b + d)) {
+				return new long[] { a + c, b + d };
+			}
+		}
+	}
+
+	/*
+	 * Splits p/q into its integer part k and its fractional part in [0, 1),
+	 * which is walked down from the bounds 0/1 and 1/1: right runs stop at the
+	 * last node up to it, left runs at the last node above it, and both at the
+	 * maximum denominator, beyond which lies no other candidate.
+	 */
+	private static Fraction floor(long argNumerator, long argDenominator, int argMaxDenominator, boolean argNegate) {
+		if (argMaxDenominator <= 0) {
+			throw new IllegalArgumentException("Maximum denominator must be positive: " + argMaxDenominator);
+		}
+		long locInteger = Math.floorDiv(argNumerator, argDenominator);
+		long p = argNumerator - locInteger * argDenominator;
+		long q = argDenominator;
+		long a = 0;
+		long b = 1;
+		long c = 1;
+		long d = 1;
+		if (q > argMaxDenominator) {
+			while (true) {
+				long locRight = Math.min((p * b - a * q) / (c * q - p * d), (argMaxDenominator - b) / d);
+				a += locRight * c;
+				b += locRight * d;
+				if (a * q == p * b || b + d > argMaxDenominator) {
+					break;
+				}
+				// (a + c) / (b + d) > p / q
+				long locLeft = Math.min((c * q - p * d - 1) / (p * b - a * q), (argMaxDenominator - d) / b);
+				c += locLeft * a;
+				d += locLeft * b;
+				if (b + d > argMaxDenominator) {
+					break;
+				}
+			}
+		} else {
+			a = p;
+			b = q;
+		}
+		long locNumerator = Math.addExact(Math.multiplyExact(locInteger, b), a);
+		if (argNegate) {
+			locNumerator = -locNumerator;
+		}
+		return Fraction.ofReduced(Math.toIntExact(locNumerator), (int) b);
+	}
+
+	private static void checkSteps(int argSteps) {
+		if (argSteps < 0) {
+			throw new IllegalArgumentException("Negative number of moves: " + argSteps);
+		}
+	}
+
+	private static void checkNode(long argNumerator, long argDenominator) {
+		if (argNumerator > Integer.MAX_VALUE || argDenominator > Integer.MAX_VALUE) {
+			throw new ArithmeticException("Node overflows int components");
+		}
+	}
+
+}
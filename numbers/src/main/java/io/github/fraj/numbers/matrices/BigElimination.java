@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.matrices;
+
+import java.math.BigInteger;
+
+/**
+ * Fraction-free elimination with arbitrary-precision integer entries, used
+ * when {@link LongElimination} overflows.
+ */
+final class BigElimination extends FractionFreeElimination {
+
+	final BigInteger[] entries;
+	final BigInteger[] scales;
+	private BigInteger previousPivot = BigInteger.ONE;
+
+	/**
+	 * Builds the integer matrix <code>[A | B]</code>, each row of which is
+	 * multiplied by the LCM of its denominators.
+	 *
+	 * @param argLeft
+	 *            the matrix A
+	 * @param argRight
+	 *            the matrix B, with the same number of rows as A, or
+	 *            <code>null</code>
+	 */
+	BigElimination(RationalMatrix argLeft, RationalMatrix argRight) {
+		super(argLeft.getRows(), argLeft.getColumns() + ((argRight == null) ? 0 : argRight.getColumns()));
+		entries = new BigInteger[rows * width];
+		scales = new BigInteger[rows];
+		BigInteger[] locDenominators = new BigInteger[width];
+		for (int i = 0; i < rows; i++) {
+			BigInteger locScale = BigInteger.ONE;
+			for (int j = 0; j < width; j++) {
+				locDenominators[j] = (j < argLeft.getColumns())
+						? BigInteger.valueOf(argLeft.getDenominator(i, j))
+						: BigInteger.valueOf(argRight.getDenominator(i, j - argLeft.getColumns()));
+				locScale = locScale.divide(locScale.gcd(locDenominators[j])).multiply(locDenominators[j]);
+			}
+			scales[i] = locScale;
+			for (int j = 0; j < width; j++) {
+				BigInteger locNumerator = (j < argLeft.getColumns()) ? BigInteger.valueOf(argLeft.getNumerator(i, j))
+						: BigInteger.valueOf(argRight.getNumerator(i, j - argLeft.getColumns()));
+				entries[i * width + j] = locNumerator.multiply(locScale.divide(locDenominators[j]));
+			}
+		}
+	}
+
+	@Override
+	int findPivot(int argFromRow, int argColumn) {
+		// The smallest pivot slows down the growth of entries
+		int locPivotRow = -1;
+		int locPivotLength = 0;
+		for (int i = argFromRow; i < rows; i++) {
+			BigInteger locEntry = entries[i * width + argColumn];
+			if (locEntry.signum() != 0 && (locPivotRow < 0 || locEntry.bitLength() < locPivotLength)) {
+				locPivotRow = i;
+				locPivotLength = locEntry.bitLength();
+			}
+		}
+		return locPivotRow;
+	}
+
+	@Override
+	void swapRows(int argLeft, int argRight) {
+		for (int j = 0; j < width; j++) {
+			BigInteger locEntry = entries[argLeft * width + j];
+			entries[argLeft * width + j] = entries[argRight * width + j];
+			entries[argRight * width + j] = locEntry;
+		}
+		BigInteger locScale = scales[argLeft];
+		scales[argLeft] = scales[argRight];
+		scales[argRight] = locScale;
+	}
+
+	@Override
+	void eliminate(int argRow, int argPivotRow, int argColumn, boolean argFull) {
+		int locRow = argRow * width;
+		int locPivotRow = argPivotRow * width;
+		BigInteger locPivot = entries[locPivotRow + argColumn];
+		BigInteger locFactor = entries[locRow + argColumn];
+		boolean locUnitPrevious = previousPivot.equals(BigInteger.ONE);
+		for (int j = argFull ? 0 : argColumn + 1; j < width; j++) {
+			if (j != argColumn) {
+				BigInteger locEntry = locPivot.multiply(entries[locRow + j])
+						.subtract(locFactor.multiply(entries[locPivotRow + j]));
+				entries[locRow + j] = locUnitPrevious ? locEntry : locEntry.divide(previousPivot);
+			}
+		}
+		entries[locRow + argColumn] = BigInteger.ZERO;
+	}
+
+	@Override
+	void setPreviousPivot(int argPivotRow, int argColumn) {
+		previousPivot = entries[argPivotRow * width + argColumn];
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.matrices;
+
+import java.util.stream.IntStream;
+
+/**
+ * Bareiss' fraction-free elimination over an integer matrix, stored row-major.
+ * <p>
+ * Each step replaces the entries of eliminated rows by
+ * <code>(pivot * a[i][j] - a[i][c] * a[k][j]) / previousPivot</code>, where
+ * the division is always exact, so that entries stay integers which are
+ * minors of the original matrix, and their size grows linearly instead of
+ * exponentially.
+ * <p>
+ * Forward elimination only processes rows below the pivot, and yields an
+ * echelon form whose last pivot is the determinant. Full elimination
+ * (Gauss-Jordan) processes all other rows, and yields a diagonal whose entries
+ * all equal the determinant, with the solutions of the system scaled by the
+ * determinant in the remaining columns.
+ * <p>
+ * Rows are eliminated in parallel, in the common fork/join pool, for large
+ * matrices.
+ */
+abstract class FractionFreeElimination {
+
+	/*
+	 * Number of entries above which rows are eliminated in parallel.
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 14;
+
+	final int rows;
+	final int width;
+	private boolean negated;
+	private int rank;
+
+	FractionFreeElimination(int argRows, int argWidth) {
+		rows = argRows;
+		width = argWidth;
+	}
+
+	/**
+	 * Runs the elimination.
+	 *
+	 * @param argPivotColumns
+	 *            the number of leading columns searched for pivots
+	 * @param argFull
+	 *            whether rows above the pivots are eliminated too
+	 * @throws ArithmeticException
+	 *             if an intermediate value overflows
+	 */
+	final void run(int argPivotColumns, boolean argFull) {
+		boolean locParallel = (long) rows * width >= PARALLEL_THRESHOLD;
+		int locRow = 0;
+		for (int locColumn = 0; locColumn < argPivotColumns && locRow < rows; locColumn++) {
+			int locPivotRow = findPivot(locRow, locColumn);
+			if (locPivotRow < 0) {
+				continue;
+			}
+			if (locPivotRow != locRow) {
+				swapRows(locPivotRow, locRow);
+				negated = !negated;
+			}
+			final int locK = locRow;
+			final int locC = locColumn;
+			IntStream locRows = IntStream.range(argFull ? 0 : locK + 1, rows).filter(i -> i != locK);
+			(locParallel ? locRows.parallel() : locRows).forEach(i -> eliminate(i, locK, locC, argFull));
+			setPreviousPivot(locK, locC);
+			locRow++;
+		}
+		rank = locRow;
+	}
+
+	/**
+	 * Gets the rank of the matrix, restricted to its pivot columns.
+	 *
+	 * @return the rank
+	 */
+	final int getRank() {
+		return rank;
+	}
+
+	/**
+	 * Tells whether an odd number of rows swaps occurred, i.e. whether the
+	 * determinant of the eliminated matrix is the opposite of the last pivot.
+	 *
+	 * @return <code>true</code> if the determinant has to be negated
+	 */
+	final boolean isNegated() {
+		return negated;
+	}
+
+	/**
+	 * Finds the row holding the best pivot in the provided column, from the
+	 * provided row down.
+	 *
+	 * @param argFromRow
+	 *            the first candidate row
+	 * @param argColumn
+	 *            the pivot column
+	 * @return the index of the pivot row, or -1 if the column is zero
+	 */
+	abstract int findPivot(int argFromRow, int argColumn);
+
+	abstract void swapRows(int argLeft, int argRight);
+
+	/**
+	 * Eliminates the pivot column of a row.
+	 *
+	 * @param argRow
+	 *            the row to be updated
+	 * @param argPivotRow
+	 *            the pivot row
+	 * @param argColumn
+	 *            the pivot column
+	 * @param argFull
+	 *            whether the columns before the pivot have to be updated too
+	 */
+	abstract void eliminate(int argRow, int argPivotRow, int argColumn, boolean argFull);
+
+	abstract void setPreviousPivot(int argPivotRow, int argColumn);
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.matrices;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * Fraction-free elimination with long integer entries, which throws an
+ * {@link ArithmeticException} as soon as a value overflows.
+ */
+final class LongElimination extends FractionFreeElimination {
+
+	final long[] entries;
+	final long[] scales;
+	private long previousPivot = 1;
+
+	/**
+	 * Builds the integer matrix <code>[A | B]</code>, each row of which is
+	 * multiplied by the LCM of its denominators.
+	 *
+	 * @param argLeft
+	 *            the matrix A
+	 * @param argRight
+	 *            the matrix B, with the same number of rows as A, or
+	 *            <code>null</code>
+	 * @throws ArithmeticException
+	 *             if an entry of the integer matrix overflows
+	 */
+	LongElimination(RationalMatrix argLeft, RationalMatrix argRight) {
+		super(argLeft.getRows(), argLeft.getColumns() + ((argRight == null) ? 0 : argRight.getColumns()));
+		entries = new long[rows * width];
+		scales = new long[rows];
+		for (int i = 0; i < rows; i++) {
+			long locScale = 1;
+			for (int j = 0; j < width; j++) {
+				long locDenominator = denominator(argLeft, argRight, i, j);
+				locScale = GCD.lcm(locScale, locDenominator);
+			}
+			scales[i] = locScale;
+			for (int j = 0; j < width; j++) {
+				entries[i * width + j] = Math.multiplyExact(numerator(argLeft, argRight, i, j),
+						locScale / denominator(argLeft, argRight, i, j));
+			}
+		}
+	}
+
+	private static long numerator(RationalMatrix argLeft, RationalMatrix argRight, int argRow, int argColumn) {
+		return (argColumn < argLeft.getColumns()) ? argLeft.getNumerator(argRow, argColumn)
+				: argRight.getNumerator(argRow, argColumn - argLeft.getColumns());
+	}
+
+	private static long denominator(RationalMatrix argLeft, RationalMatrix argRight, int argRow, int argColumn) {
+		return (argColumn < argLeft.getColumns()) ? argLeft.getDenominator(argRow, argColumn)
+				: argRight.getDenominator(argRow, argColumn - argLeft.getColumns());
+	}
+
+	@Override
+	int findPivot(int argFromRow, int argColumn) {
+		// The smallest pivot slows down the growth of entries
+		int locPivotRow = -1;
+		long locPivot = 0;
+		for (int i = argFromRow; i < rows; i++) {
+			long locEntry = entries[i * width + argColumn];
+			if (locEntry != 0 && (locPivotRow < 0 || Math.abs(locEntry) < Math.abs(locPivot))) {
+				locPivotRow = i;
+				locPivot = locEntry;
+			}
+		}
+		return locPivotRow;
+	}
+
+	@Override
+	void swapRows(int argLeft, int argRight) {
+		for (int j = 0; j < width; j++) {
+			long locEntry = entries[argLeft * width + j];
+			entries[argLeft * width + j] = entries[argRight * width + j];
+			entries[argRight * width + j] = locEntry;
+		}
+		long locScale = scales[argLeft];
+		scales[argLeft] = scales[argRight];
+		scales[argRight] = locScale;
+	}
+
+	@Override
+	void eliminate(int argRow, int argPivotRow, int argColumn, boolean argFull) {
+		int locRow = argRow * width;
+		int locPivotRow = argPivotRow * width;
+		long locPivot = entries[locPivotRow + argColumn];
+		long locFactor = entries[locRow + argColumn];
+		for (int j = argFull ? 0 : argColumn + 1; j < width; j++) {
+			if (j != argColumn) {
+				entries[locRow + j] = Math.subtractExact(Math.multiplyExact(locPivot, entries[locRow + j]),
+						Math.multiplyExact(locFactor, entries[locPivotRow + j])) / previousPivot;
+			}
+		}
+		entries[locRow + argColumn] = 0;
+	}
+
+	@Override
+	void setPreviousPivot(int argPivotRow, int argColumn) {
+		previousPivot = entries[argPivotRow * width + argColumn];
+	}
+
+}
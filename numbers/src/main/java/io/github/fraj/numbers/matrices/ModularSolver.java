@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.matrices;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * A utility class to solve large linear systems exactly with modular
+ * arithmetic, as computer algebra systems do.
+ * <p>
+ * Once each row of the system is multiplied by the LCM of its denominators,
+ * the system is solved modulo several primes close to 2^31, in parallel, with
+ * plain long arithmetic which never overflows. Solutions modulo each prime are
+ * then combined with the Chinese Remainder Theorem, and the rational solution
+ * is recovered from the combined residues by rational reconstruction, i.e. by
+ * the extended Euclidean algorithm stopped halfway.
+ * <p>
+ * Enough primes are used for their product to exceed twice the square of
+ * Hadamard's bound on the minors of the system, which bounds both numerators
+ * and denominators of the solution (Cramer's rule): the result is always exact.
+ * Unlike {@link RationalMatrix#solve(RationalMatrix)}, the cost of each prime
+ * does not depend on the size of the entries, so this solver wins on large
+ * systems whose solutions have large components.
+ */
+public final class ModularSolver {
+
+	/*
+	 * Primes are searched downwards from the largest one below 2^31.
+	 */
+	private static final long FIRST_PRIME = Integer.MAX_VALUE;
+
+	/*
+	 * Minimum bit length of the primes, which bounds the number of primes
+	 * dividing the determinant of a regular system.
+	 */
+	private static final int PRIME_BITS = 30;
+
+	private ModularSolver() {
+		// Default private constructor
+	}
+
+	/**
+	 * Solves the linear system <code>A * X = B</code>, whose unknown X has as
+	 * many columns as the provided right-hand side B.
+	 *
+	 * @param argMatrix
+	 *            the square matrix A of the system
+	 * @param argRightHandSide
+	 *            the right-hand side B of the system
+	 * @return a new matrix holding the solution X
+	 * @throws IllegalArgumentException
+	 *             if A is not square, or if B does not have as many rows
+	 * @throws ArithmeticException
+	 *             if A is singular, or if an entry of the solution does not
+	 *             fit in long components
+	 */
+	public static RationalMatrix solve(RationalMatrix argMatrix, RationalMatrix argRightHandSide) {
+		int locSize = argMatrix.getRows();
+		if (argMatrix.getColumns() != locSize) {
+			throw new IllegalArgumentException("Matrix must be square");
+		}
+		if (argRightHandSide.getRows() != locSize) {
+			throw new IllegalArgumentException("Right-hand side must have as many rows as the matrix");
+		}
+		BigElimination locSystem = new BigElimination(argMatrix, argRightHandSide);
+		int locBoundBits = hadamardBits(locSystem.entries, locSize, locSystem.width);
+		int locSolutions = locSize * argRightHandSide.getColumns();
+
+		// Residues combined so far, modulo the product of primes
+		BigInteger[] locCombined = new BigInteger[locSolutions];
+		Arrays.fill(locCombined, BigInteger.ZERO);
+		BigInteger locModulus = BigInteger.ONE;
+		int locUnluckyPrimes = 0;
+		long locPrime = FIRST_PRIME + 2;
+		while (locModulus.bitLength() < 2 * locBoundBits + 3) {
+			int locBatch = Math.max(1, (2 * locBoundBits + 3 - locModulus.bitLength()) / PRIME_BITS + 1);
+			long[] locPrimes = new long[locBatch];
+			for (int k = 0; k < locBatch; k++) {
+				locPrime = previousPrime(locPrime);
+				locPrimes[k] = locPrime;
+			}
+			long[][] locResidues = IntStream.range(0, locBatch).parallel()
+					.mapToObj(k -> solveModulo(locSystem, locPrimes[k])).toArray(long[][]::new);
+			for (int k = 0; k < locBatch; k++) {
+				if (locResidues[k] == null) {
+					// The prime divides the determinant
+					if (++locUnluckyPrimes > locBoundBits / PRIME_BITS) {
+						throw new ArithmeticException("Matrix is singular");
+					}
+					continue;
+				}
+				combine(locCombined, locModulus, locResidues[k], locPrimes[k]);
+				locModulus = locModulus.multiply(BigInteger.valueOf(locPrimes[k]));
+			}
+		}
+
+		BigInteger locBound = BigInteger.ONE.shiftLeft((locModulus.bitLength() - 3) / 2);
+		RationalMatrix locSolution = new RationalMatrix(locSize, argRightHandSide.getColumns());
+		BigInteger locFinalModulus = locModulus;
+		IntStream.range(0, locSolutions).parallel().forEach(i -> reconstruct(locSolution, i, locCombined[i],
+				locFinalModulus, locBound));
+		return locSolution;
+	}
+
+	/**
+	 * Computes the inverse of a square matrix.
+	 *
+	 * @param argMatrix
+	 *            the matrix to be inverted
+	 * @return a new matrix holding the inverse
+	 * @throws IllegalArgumentException
+	 *             if the matrix is not square
+	 * @throws ArithmeticException
+	 *             if the matrix is singular, or if an entry of the inverse does
+	 *             not fit in long components
+	 */
+	public static RationalMatrix inverse(RationalMatrix argMatrix) {
+		return solve(argMatrix, RationalMatrix.identity(argMatrix.getRows()));
+	}
+
+	/*
+	 * Computes the number of bits of Hadamard's bound on the minors of the
+	 * integer matrix, i.e. the product of the Euclidean norms of its rows.
+	 */
+	private static int hadamardBits(BigInteger[] argEntries, int argRows, int argWidth) {
+		int locBits = 0;
+		for (int i = 0; i < argRows; i++) {
+			BigInteger locSquares = BigInteger.ZERO;
+			for (int j = 0; j < argWidth; j++) {
+				BigInteger locEntry = argEntries[i * argWidth + j];
+				locSquares = locSquares.add(locEntry.multiply(locEntry));
+			}
+			locBits += (locSquares.bitLength() + 1) / 2;
+		}
+		return locBits;
+	}
+
+	/*
+	 * Solves the system modulo a prime with Gauss-Jordan elimination, whose
+	 * products of residues below 2^31 fit in a long. Returns the solution
+	 * modulo the prime, row-major, or null if the matrix is singular modulo the
+	 * prime.
+	 */
+	private static long[] solveModulo(BigElimination argSystem, long argPrime) {
+		int locRows = argSystem.rows;
+		int locWidth = argSystem.width;
+		BigInteger locPrime = BigInteger.valueOf(argPrime);
+		long[] locEntries = new long[argSystem.entries.length];
+		for (int i = 0; i < locEntries.length; i++) {
+			BigInteger locEntry = argSystem.entries[i];
+			locEntries[i] = (locEntry.bitLength() < Long.SIZE) ? Math.floorMod(locEntry.longValue(), argPrime)
+					: locEntry.mod(locPrime).longValue();
+		}
+		long[] locCoefficients = new long[2];
+		for (int locColumn = 0; locColumn < locRows; locColumn++) {
+			int locPivotRow = locColumn;
+			while (locPivotRow < locRows && locEntries[locPivotRow * locWidth + locColumn] == 0) {
+				locPivotRow++;
+			}
+			if (locPivotRow == locRows) {
+				return null;
+			}
+			int locPivot = locColumn * locWidth;
+			if (locPivotRow != locColumn) {
+				for (int j = locColumn; j < locWidth; j++) {
+					long locEntry = locEntries[locPivotRow * locWidth + j];
+					locEntries[locPivotRow * locWidth + j] = locEntries[locPivot + j];
+					locEntries[locPivot + j] = locEntry;
+				}
+			}
+			long locInverse = inverse(locEntries[locPivot + locColumn], argPrime, locCoefficients);
+			for (int j = locColumn; j < locWidth; j++) {
+				locEntries[locPivot + j] = locEntries[locPivot + j] * locInverse % argPrime;
+			}
+			for (int i = 0; i < locRows; i++) {
+				long locFactor = locEntries[i * locWidth + locColumn];
+				if (i != locColumn && locFactor != 0) {
+					for (int j = locColumn; j < locWidth; j++) {
+						long locEntry = (locEntries[i * locWidth + j] - locFactor * locEntries[locPivot + j]) % argPrime;
+						locEntries[i * locWidth + j] = (locEntry < 0) ? locEntry + argPrime : locEntry;
+					}
+				}
+			}
+		}
+		long[] locSolution = new long[locRows * (locWidth - locRows)];
+		for (int i = 0; i < locRows; i++) {
+			System.arraycopy(locEntries, i * locWidth + locRows, locSolution, i * (locWidth - locRows),
+					locWidth - locRows);
+		}
+		return locSolution;
+	}
+
+	/*
+	 * Combines residues modulo a new prime into residues modulo the product of
+	 * previous primes (Chinese Remainder Theorem): x' = x + M * t with
+	 * t = (r - x) / M mod p.
+	 */
+	private static void combine(BigInteger[] argCombined, BigInteger argModulus, long[] argResidues, long argPrime) {
+		BigInteger locPrime = BigInteger.valueOf(argPrime);
+		long locInverse = inverse(argModulus.mod(locPrime).longValue(), argPrime, new long[2]);
+		IntStream locIndexes = IntStream.range(0, argCombined.length);
+		(argCombined.length >= 256 ? locIndexes.parallel() : locIndexes).forEach(i -> {
+			long locDifference = Math.floorMod(argResidues[i] - argCombined[i].mod(locPrime).longValue(), argPrime);
+			argCombined[i] = argCombined[i]
+					.add(argModulus.multiply(BigInteger.valueOf(locDifference * locInverse % argPrime)));
+		});
+	}
+
+	/*
+	 * Recovers the fraction a/b congruent to the residue, with |a| and b below
+	 * the bound, by running the extended Euclidean algorithm on the modulus
+	 * and the residue until the remainder falls below the bound (Wang).
+	 */
+	private static void reconstruct(RationalMatrix argSolution, int argIndex, BigInteger argResidue,
+			BigInteger argModulus, BigInteger argBound) {
+		BigInteger locPreviousRemainder = argModulus;
+		BigInteger locRemainder = argResidue;
+		BigInteger locPreviousCoefficient = BigInteger.ZERO;
+		BigInteger locCoefficient = BigInteger.ONE;
+		while (locRemainder.compareTo(argBound) > 0) {
+			BigInteger[] locQuotientAndRemainder = locPreviousRemainder.divideAndRemainder(locRemainder);
+			locPreviousRemainder = locRemainder;
+			locRemainder = locQuotientAndRemainder[1];
+			BigInteger locNextCoefficient = locPreviousCoefficient
+					.subtract(locQuotientAndRemainder[0].multiply(locCoefficient));
+			locPreviousCoefficient = locCoefficient;
+			locCoefficient = locNextCoefficient;
+		}
+		if (locCoefficient.abs().compareTo(argBound) > 0
+				|| (locRemainder.signum() != 0 && !locRemainder.gcd(locCoefficient).equals(BigInteger.ONE))) {
+			throw new ArithmeticException("Rational reconstruction failed");
+		}
+		int locColumns = argSolution.getColumns();
+		argSolution.set(argIndex / locColumns, argIndex % locColumns, locRemainder, locCoefficient);
+	}
+
+	/*
+	 * Computes the inverse of a non-zero residue modulo a prime, from the
+	 * Bezout coefficients written into the provided array.
+	 */
+	private static long inverse(long argResidue, long argPrime, long[] argCoefficients) {
+		GCD.extended(argResidue, argPrime, argCoefficients);
+		return Math.floorMod(argCoefficients[0], argPrime);
+	}
+
+	/*
+	 * Returns the largest prime below the provided odd number, tested with the
+	 * Miller-Rabin bases 2, 7 and 61, which are deterministic below 2^32.
+	 */
+	private static long previousPrime(long argOdd) {
+		long locCandidate = argOdd - 2;
+		while (!isPrime(locCandidate)) {
+			locCandidate -= 2;
+		}
+		return locCandidate;
+	}
+
+	private static boolean isPrime(long argOdd) {
+		long locOddPart = argOdd - 1;
+		int locTwos = Long.numberOfTrailingZeros(locOddPart);
+		locOddPart >>= locTwos;
+		for (long locBase : new long[] { 2, 7, 61 }) {
+			long locPower = power(locBase, locOddPart, argOdd);
+			if (locPower == 1 || locPower == argOdd - 1) {
+				continue;
+			}
+			boolean locComposite = true;
+			for (int i = 1; i < locTwos && locComposite; i++) {
+				locPower = locPower * locPower % argOdd;
+				locComposite = (locPower != argOdd - 1);
+			}
+			if (locComposite) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long power(long argBase, long argExponent, long argModulus) {
+		long locResult = 1;
+		long locBase = argBase % argModulus;
+		for (long locExponent = argExponent; locExponent > 0; locExponent >>= 1) {
+			if ((locExponent & 1) != 0) {
+				locResult = locResult * locBase % argModulus;
+			}
+			locBase = locBase * locBase % argModulus;
+		}
+		return locResult;
+	}
+
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.matrices;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import io.github.fraj.numbers.fractions.BigFraction;
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.LongFraction;
+import io.github.fraj.numbers.util.GCD;
+
+/**
+ * A mutable matrix of fractions of long integers, stored row-major as two
+ * parallel arrays of reduced numerators and (positive) denominators.
+ * <p>
+ * Determinant, rank, inverse and solutions of linear systems are computed
+ * exactly with Bareiss' fraction-free elimination: each row is first
+ * multiplied by the LCM of its denominators, and the resulting integer matrix
+ * is eliminated without any fraction nor GCD, with long integers as long as
+ * they do not overflow, then with {@link BigInteger}s. Rows are eliminated in
+ * parallel for large matrices.
+ * <p>
+ * Like {@link LongFraction}, an {@link ArithmeticException} is thrown when a
+ * reduced entry of a result does not fit in long components.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class RationalMatrix {
+
+	private final int rows;
+	private final int columns;
+	private final long[] numerators;
+	private final long[] denominators;
+
+	/**
+	 * Constructs a matrix of the provided dimensions, filled with zeros.
+	 *
+	 * @param argRows
+	 *            the number of rows
+	 * @param argColumns
+	 *            the number of columns
+	 * @throws IllegalArgumentException
+	 *             if a dimension is negative
+	 */
+	public RationalMatrix(int argRows, int argColumns) {
+		if (argRows < 0 || argColumns < 0) {
+			throw new IllegalArgumentException("Dimensions must not be negative");
+		}
+		rows = argRows;
+		columns = argColumns;
+		numerators = new long[Math.multiplyExact(argRows, argColumns)];
+		denominators = new long[numerators.length];
+		Arrays.fill(denominators, 1);
+	}
+
+	/**
+	 * Constructs a matrix holding the provided fractions.
+	 *
+	 * @param argEntries
+	 *            the rows of fractions to be held
+	 * @throws IllegalArgumentException
+	 *             if rows have different lengths
+	 */
+	public RationalMatrix(Fraction[][] argEntries) {
+		this(argEntries.length, (argEntries.length == 0) ? 0 : argEntries[0].length);
+		for (int i = 0; i < rows; i++) {
+			checkRowLength(argEntries[i].length);
+			for (int j = 0; j < columns; j++) {
+				numerators[i * columns + j] = argEntries[i][j].getNumerator();
+				denominators[i * columns + j] = argEntries[i][j].getDenominator();
+			}
+		}
+	}
+
+	/**
+	 * Constructs a matrix holding the provided long integers.
+	 *
+	 * @param argEntries
+	 *            the rows of long integers to be held
+	 * @throws IllegalArgumentException
+	 *             if rows have different lengths
+	 */
+	public RationalMatrix(long[][] argEntries) {
+		this(argEntries.length, (argEntries.length == 0) ? 0 : argEntries[0].length);
+		for (int i = 0; i < rows; i++) {
+			checkRowLength(argEntries[i].length);
+			System.arraycopy(argEntries[i], 0, numerators, i * columns, columns);
+		}
+	}
+
+	/**
+	 * Returns a new identity matrix of the provided size.
+	 *
+	 * @param argSize
+	 *            the number of rows and columns
+	 * @return the identity matrix
+	 */
+	public static RationalMatrix identity(int argSize) {
+		RationalMatrix locIdentity = new RationalMatrix(argSize, argSize);
+		for (int i = 0; i < argSize; i++) {
+			locIdentity.numerators[i * argSize + i] = 1;
+		}
+		return locIdentity;
+	}
+
+	/**
+	 * Gets the number of rows.
+	 *
+	 * @return the number of rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Gets the number of columns.
+	 *
+	 * @return the number of columns
+	 */
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Gets the (reduced) numerator of the entry at the provided position.
+	 *
+	 * @param argRow
+	 *            the row of the entry
+	 * @param argColumn
+	 *            the column of the entry
+	 * @return the (reduced) numerator
+	 */
+	public long getNumerator(int argRow, int argColumn) {
+		return numerators[index(argRow, argColumn)];
+	}
+
+	/**
+	 * Gets the (reduced) denominator of the entry at the provided position.
+	 *
+	 * @param argRow
+	 *            the row of the entry
+	 * @param argColumn
+	 *            the column of the entry
+	 * @return the (reduced) denominator
+	 */
+	public long getDenominator(int argRow, int argColumn) {
+		return denominators[index(argRow, argColumn)];
+	}
+
+	/**
+	 * Gets the entry at the provided position.
+	 *
+	 * @param argRow
+	 *            the row of the entry
+	 * @param argColumn
+	 *            the column of the entry
+	 * @return the entry
+	 */
+	public LongFraction get(int argRow, int argColumn) {
+		int locIndex = index(argRow, argColumn);
+		return new LongFraction(numerators[locIndex], denominators[locIndex]);
+	}
+
+	/**
+	 * Sets the entry at the provided position.
+	 *
+	 * @param argRow
+	 *            the row of the entry
+	 * @param argColumn
+	 *            the column of the entry
+	 * @param argFraction
+	 *            the new value
+	 */
+	public void set(int argRow, int argColumn, Fraction argFraction) {
+		int locIndex = index(argRow, argColumn);
+		numerators[locIndex] = argFraction.getNumerator();
+		denominators[locIndex] = argFraction.getDenominator();
+	}
+
+	/**
+	 * Sets the entry at the provided position.
+	 *
+	 * @param argRow
+	 *            the row of the entry
+	 * @param argColumn
+	 *            the column of the entry
+	 * @param argFraction
+	 *            the new value
+	 */
+	public void set(int argRow, int argColumn, LongFraction argFraction) {
+		int locIndex = index(argRow, argColumn);
+		numerators[locIndex] = argFraction.getNumerator();
+		denominators[locIndex] = argFraction.getDenominator();
+	}
+
+	/**
+	 * Sets the entry at the provided position to the fraction of the two
+	 * provided long integers, which is reduced.
+	 *
+	 * @param argRow
+	 *            the row of the entry
+	 * @param argColumn
+	 *            the column of the entry
+	 * @param argNumerator
+	 *            the numerator of the new value
+	 * @param argDenominator
+	 *            the denominator of the new value
+	 * @throws ArithmeticException
+	 *             if denominator is zero, or if the reduced fraction cannot be
+	 *             represented with a positive long denominator
+	 */
+	public void set(int argRow, int argColumn, long argNumerator, long argDenominator) {
+		if (argDenominator == 0) {
+			throw new ArithmeticException();
+		}
+		int locIndex = index(argRow, argColumn);
+		long locGcd = GCD.of(argNumerator, argDenominator);
+		long locNumerator = argNumerator / locGcd;
+		long locDenominator = argDenominator / locGcd;
+		if (locDenominator < 0) {
+			locNumerator = Math.negateExact(locNumerator);
+			locDenominator = Math.negateExact(locDenominator);
+		}
+		numerators[locIndex] = locNumerator;
+		denominators[locIndex] = locDenominator;
+	}
+
+	/**
+	 * Computes the exact determinant of this square matrix.
+	 *
+	 * @return the determinant
+	 * @throws IllegalArgumentException
+	 *             if this matrix is not square
+	 */
+	public BigFraction determinant() {
+		checkSquare();
+		if (rows == 0) {
+			return new BigFraction(1);
+		}
+		try {
+			LongElimination locElimination = new LongElimination(this, null);
+			locElimination.run(columns, false);
+			if (locElimination.getRank() < rows) {
+				return BigFraction.ZERO;
+			}
+			BigInteger locScale = BigInteger.ONE;
+			for (long locRowScale : locElimination.scales) {
+				locScale = locScale.multiply(BigInteger.valueOf(locRowScale));
+			}
+			return new BigFraction(determinant(locElimination, BigInteger.valueOf(lastPivot(locElimination))),
+					locScale);
+		} catch (ArithmeticException e) {
+			// Falls through to the arbitrary-precision elimination
+		}
+		BigElimination locElimination = new BigElimination(this, null);
+		locElimination.run(columns, false);
+		if (locElimination.getRank() < rows) {
+			return BigFraction.ZERO;
+		}
+		BigInteger locScale = BigInteger.ONE;
+		for (BigInteger locRowScale : locElimination.scales) {
+			locScale = locScale.multiply(locRowScale);
+		}
+		return new BigFraction(determinant(locElimination, locElimination.entries[locElimination.entries.length - 1]),
+				locScale);
+	}
+
+	/**
+	 * Computes the rank of this matrix.
+	 *
+	 * @return the rank
+	 */
+	public int rank() {
+		try {
+			LongElimination locElimination = new LongElimination(this, null);
+			locElimination.run(columns, false);
+			return locElimination.getRank();
+		} catch (ArithmeticException e) {
+			// Falls through to the arbitrary-precision elimination
+		}
+		BigElimination locElimination = new BigElimination(this, null);
+		locElimination.run(columns, false);
+		return locElimination.getRank();
+	}
+
+	/**
+	 * Computes the inverse of this square matrix.
+	 *
+	 * @return a new matrix holding the inverse of this
+	 * @throws IllegalArgumentException
+	 *             if this matrix is not square
+	 * @throws ArithmeticException
+	 *             if this matrix is singular, or if an entry of the inverse
+	 *             does not fit in long components
+	 */
+	public RationalMatrix inverse() {
+		return solve(identity(rows));
+	}
+
+	/**
+	 * Solves the linear system <code>this * X = B</code>, whose unknown X has
+	 * as many columns as the provided right-hand side B.
+	 *
+	 * @param argRightHandSide
+	 *            the right-hand side B of the system
+	 * @return a new matrix holding the solution X
+	 * @throws IllegalArgumentException
+	 *             if this matrix is not square, or if the right-hand side does
+	 *             not have as many rows
+	 * @throws ArithmeticException
+	 *             if this matrix is singular, or if an entry of the solution
+	 *             does not fit in long components
+	 */
+	public RationalMatrix solve(RationalMatrix argRightHandSide) {
+		checkSquare();
+		if (argRightHandSide.rows != rows) {
+			throw new IllegalArgumentException("Right-hand side must have as many rows as the matrix");
+		}
+		RationalMatrix locSolution = new RationalMatrix(rows, argRightHandSide.columns);
+		LongElimination locLongElimination = null;
+		try {
+			locLongElimination = new LongElimination(this, argRightHandSide);
+			locLongElimination.run(columns, true);
+		} catch (ArithmeticException e) {
+			locLongElimination = null;
+		}
+		if (locLongElimination != null) {
+			checkRegular(locLongElimination);
+			long[] locEntries = locLongElimination.entries;
+			int locWidth = locLongElimination.width;
+			for (int i = 0; i < rows; i++) {
+				for (int j = 0; j < locSolution.columns; j++) {
+					locSolution.set(i, j, locEntries[i * locWidth + columns + j], locEntries[i * locWidth + i]);
+				}
+			}
+			return locSolution;
+		}
+		BigElimination locBigElimination = new BigElimination(this, argRightHandSide);
+		locBigElimination.run(columns, true);
+		checkRegular(locBigElimination);
+		BigInteger[] locEntries = locBigElimination.entries;
+		int locWidth = locBigElimination.width;
+		for (int i = 0; i < rows; i++) {
+			for (int j = 0; j < locSolution.columns; j++) {
+				locSolution.set(i, j, locEntries[i * locWidth + columns + j], locEntries[i * locWidth + i]);
+			}
+		}
+		return locSolution;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + columns;
+		result = prime * result + Arrays.hashCode(numerators);
+		result = prime * result + Arrays.hashCode(denominators);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RationalMatrix other = (RationalMatrix) obj;
+		return (rows == other.rows) && (columns == other.columns) && Arrays.equals(numerators, other.numerators)
+				&& Arrays.equals(denominators, other.denominators);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder locBuilder = new StringBuilder("[");
+		for (int i = 0; i < rows; i++) {
+			locBuilder.append((i > 0) ? ", [" : "[");
+			for (int j = 0; j < columns; j++) {
+				if (j > 0) {
+					locBuilder.append(", ");
+				}
+				locBuilder.append(numerators[i * columns + j]);
+				if (denominators[i * columns + j] != 1) {
+					locBuilder.append('/').append(denominators[i * columns + j]);
+				}
+			}
+			locBuilder.append(']');
+		}
+		return locBuilder.append(']').toString();
+	}
+
+	private int index(int argRow, int argColumn) {
+		if (argRow < 0 || argRow >= rows || argColumn < 0 || argColumn >= columns) {
+			throw new IndexOutOfBoundsException("(" + argRow + ", " + argColumn + ")");
+		}
+		return argRow * columns + argColumn;
+	}
+
+	private void checkRowLength(int argLength) {
+		if (argLength != columns) {
+			throw new IllegalArgumentException("Rows must have the same length");
+		}
+	}
+
+	private void checkSquare() {
+		if (rows != columns) {
+			throw new IllegalArgumentException("Matrix must be square");
+		}
+	}
+
+	private void checkRegular(FractionFreeElimination argElimination) {
+		if (argElimination.getRank() < rows) {
+			throw new ArithmeticException("Matrix is singular");
+		}
+	}
+
+	private static long lastPivot(LongElimination argElimination) {
+		return argElimination.entries[argElimination.entries.length - 1];
+	}
+
+	private static BigInteger determinant(FractionFreeElimination argElimination, BigInteger argLastPivot) {
+		return argElimination.isNegated() ? argLastPivot.negate() : argLastPivot;
+	}
+
+	/*
+	 * Sets an entry from arbitrary-precision components, which must fit in
+	 * long integers once reduced.
+	 */
+	void set(int argRow, int argColumn, BigInteger argNumerator, BigInteger argDenominator) {
+		BigInteger locGcd = argNumerator.gcd(argDenominator);
+		BigInteger locNumerator = argNumerator.divide(locGcd);
+		BigInteger locDenominator = argDenominator.divide(locGcd);
+		if (locDenominator.signum() < 0) {
+			locNumerator = locNumerator.negate();
+			locDenominator = locDenominator.negate();
+		}
+		int locIndex = index(argRow, argColumn);
+		numerators[locIndex] = locNumerator.longValueExact();
+		denominators[locIndex] = locDenominator.longValueExact();
+	}
+
+}
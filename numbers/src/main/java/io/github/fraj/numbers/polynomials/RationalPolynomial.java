@@ -0,0 +1,498 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.polynomials;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import io.github.fraj.numbers.fractions.BigFraction;
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.FractionArray;
+
+/**
+ * An immutable polynomial with rational coefficients, held in content and
+ * primitive part form: a rational content times a polynomial with integer
+ * coefficients, whose greatest common divisor is 1 and whose leading
+ * coefficient is positive. Coefficients thus share a single denominator, and
+ * arithmetic runs on integers only.
+ * <p>
+ * By Gauss's lemma, the product of two primitive polynomials is primitive, so
+ * multiplication needs no reduction at all: it multiplies the contents, and the
+ * primitive parts by schoolbook multiplication, or by Karatsuba's algorithm
+ * above a threshold degree. Much like {@link BigFraction} does, primitive parts
+ * whose coefficients fit in a long are also held as a <code>long</code> array,
+ * on which evaluation runs Horner's scheme with primitive, overflow-checked
+ * arithmetic, only falling back to {@link BigInteger}s when it overflows.
+ */
+public final class RationalPolynomial {
+
+	/**
+	 * The zero polynomial, whose degree is -1
+	 */
+	public static final RationalPolynomial ZERO = new RationalPolynomial(BigFraction.ZERO, new BigInteger[0]);
+
+	/*
+	 * Below this number of coefficients, schoolbook multiplication is faster
+	 * than Karatsuba's algorithm.
+	 */
+	private static final int KARATSUBA_THRESHOLD = 32;
+
+	private final BigFraction content;
+	private final BigInteger[] coefficients;
+
+	/*
+	 * The primitive part when all its coefficients fit in a long, null
+	 * otherwise.
+	 */
+	private final long[] compactCoefficients;
+
+	/*
+	 * Constructor for a primitive part which is already normalized.
+	 */
+	private RationalPolynomial(BigFraction argContent, BigInteger[] argCoefficients) {
+		content = argContent;
+		coefficients = argCoefficients;
+		compactCoefficients = compact(argCoefficients);
+	}
+
+	/**
+	 * Returns a polynomial from its coefficients.
+	 *
+	 * @param argCoefficients
+	 *            the coefficients, from degree 0 upwards
+	 * @return a {@link RationalPolynomial} with the provided coefficients
+	 */
+	public static RationalPolynomial of(Fraction... argCoefficients) {
+		BigFraction[] locCoefficients = new BigFraction[argCoefficients.length];
+		for (int i = 0; i < argCoefficients.length; i++) {
+			locCoefficients[i] = new BigFraction(argCoefficients[i]);
+		}
+		return of(locCoefficients);
+	}
+
+	/**
+	 * Returns a polynomial from its coefficients.
+	 *
+	 * @param argCoefficients
+	 *            the coefficients, from degree 0 upwards
+	 * @return a {@link RationalPolynomial} with the provided coefficients
+	 */
+	public static RationalPolynomial of(BigFraction... argCoefficients) {
+		// Common denominator of all coefficients
+		BigInteger locDenominator = BigInteger.ONE;
+		for (BigFraction locCoefficient : argCoefficients) {
+			BigInteger locOther = locCoefficient.getDenominator();
+			locDenominator = locDenominator.divide(locDenominator.gcd(locOther)).multiply(locOther);
+		}
+		BigInteger[] locIntegers = new BigInteger[argCoefficients.length];
+		for (int i = 0; i < argCoefficients.length; i++) {
+			locIntegers[i] = argCoefficients[i].getNumerator()
+					.multiply(locDenominator.divide(argCoefficients[i].getDenominator()));
+		}
+		return normalize(locIntegers, new BigFraction(BigInteger.ONE, locDenominator));
+	}
+
+	/**
+	 * Returns a polynomial from its integer coefficients.
+	 *
+	 * @param argCoefficients
+	 *            the coefficients, from degree 0 upwards
+	 * @return a {@link RationalPolynomial} with the provided coefficients
+	 */
+	public static RationalPolynomial of(long... argCoefficients) {
+		BigInteger[] locIntegers = new BigInteger[argCoefficients.length];
+		for (int i = 0; i < argCoefficients.length; i++) {
+			locIntegers[i] = BigInteger.valueOf(argCoefficients[i]);
+		}
+		return normalize(locIntegers, new BigFraction(1));
+	}
+
+	/**
+	 * Gets the degree of this polynomial.
+	 *
+	 * @return the degree, or -1 for the zero polynomial
+	 */
+	public int degree() {
+		return coefficients.length - 1;
+	}
+
+	/**
+	 * Gets a coefficient of this polynomial.
+	 *
+	 * @param argDegree
+	 *            the degree of the coefficient
+	 * @return the coefficient, which is zero beyond the degree
+	 * @throws IllegalArgumentException
+	 *             if the degree is negative
+	 */
+	public BigFraction getCoefficient(int argDegree) {
+		if (argDegree < 0) {
+			throw new IllegalArgumentException("Negative degree: " + argDegree);
+		}
+		if (argDegree >= coefficients.length || coefficients[argDegree].signum() == 0) {
+			return BigFraction.ZERO;
+		}
+		return content.multiply(new BigFraction(coefficients[argDegree], BigInteger.ONE));
+	}
+
+	/**
+	 * Gets the content of this polynomial, i.e. the rational factor of its
+	 * primitive part, whose sign is the sign of the leading coefficient.
+	 *
+	 * @return the content, which is zero for the zero polynomial
+	 */
+	public BigFraction getContent() {
+		return content;
+	}
+
+	/**
+	 * Gets the primitive part of this polynomial, i.e. the polynomial with
+	 * coprime integer coefficients and a positive leading coefficient of
+	 * which it is a rational multiple.
+	 *
+	 * @return the primitive part, which is zero for the zero polynomial
+	 */
+	public RationalPolynomial primitivePart() {
+		return (content.signum() == 0) ? ZERO : new RationalPolynomial(new BigFraction(1), coefficients);
+	}
+
+	/**
+	 * Returns a {@link RationalPolynomial} resulting from adding the specified
+	 * {@link RationalPolynomial} to this.
+	 *
+	 * @param argOther
+	 *            the {@link RationalPolynomial} to be added
+	 * @return this + argOther
+	 */
+	public RationalPolynomial add(RationalPolynomial argOther) {
+		if (content.signum() == 0) {
+			return argOther;
+		}
+		if (argOther.content.signum() == 0) {
+			return this;
+		}
+		// (a/b) P + (c/d) Q = (a d P + c b Q) / (b d)
+		BigInteger locLeftFactor = content.getNumerator().multiply(argOther.content.getDenominator());
+		BigInteger locRightFactor = argOther.content.getNumerator().multiply(content.getDenominator());
+		BigInteger[] locSum = new BigInteger[Math.max(coefficients.length, argOther.coefficients.length)];
+		for (int i = 0; i < locSum.length; i++) {
+			BigInteger locLeft = (i < coefficients.length) ? coefficients[i].multiply(locLeftFactor) : BigInteger.ZERO;
+			locSum[i] = (i < argOther.coefficients.length)
+					? locLeft.add(argOther.coefficients[i].multiply(locRightFactor)) : locLeft;
+		}
+		return normalize(locSum,
+				new BigFraction(BigInteger.ONE, content.getDenominator().multiply(argOther.content.getDenominator())));
+	}
+
+	/**
+	 * Returns a {@link RationalPolynomial} resulting from substracting the
+	 * specified {@link RationalPolynomial} from this.
+	 *
+	 * @param argOther
+	 *            the {@link RationalPolynomial} to be substracted
+	 * @return this - argOther
+	 */
+	public RationalPolynomial substract(RationalPolynomial argOther) {
+		return add(argOther.negate());
+	}
+
+	/**
+	 * Returns a {@link RationalPolynomial} resulting from negating this.
+	 *
+	 * @return -this
+	 */
+	public RationalPolynomial negate() {
+		return (content.signum() == 0) ? this : new RationalPolynomial(content.negate(), coefficients);
+	}
+
+	/**
+	 * Returns a {@link RationalPolynomial} resulting from multiplying this by
+	 * the specified {@link RationalPolynomial}: the contents are multiplied,
+	 * and so are the primitive parts, by Karatsuba's algorithm above a
+	 * threshold degree.
+	 *
+	 * @param argOther
+	 *            the {@link RationalPolynomial} to be multiplied by
+	 * @return this * argOther
+	 */
+	public RationalPolynomial multiply(RationalPolynomial argOther) {
+		if (content.signum() == 0 || argOther.content.signum() == 0) {
+			return ZERO;
+		}
+		return new RationalPolynomial(content.multiply(argOther.content),
+				multiply(coefficients, argOther.coefficients));
+	}
+
+	/**
+	 * Returns a {@link RationalPolynomial} resulting from multiplying this by
+	 * the specified {@link Fraction}, which only changes its content.
+	 *
+	 * @param argFactor
+	 *            the {@link Fraction} to be multiplied by
+	 * @return this * argFactor
+	 */
+	public RationalPolynomial multiply(Fraction argFactor) {
+		if (content.signum() == 0 || argFactor.getNumerator() == 0) {
+			return ZERO;
+		}
+		return new RationalPolynomial(content.multiply(new BigFraction(argFactor)), coefficients);
+	}
+
+	/**
+	 * Evaluates this polynomial at a {@link Fraction}, by Horner's scheme on
+	 * the primitive part, homogenized so that it runs on integers: no object
+	 * is allocated per step while intermediate values fit in a long.
+	 *
+	 * @param argPoint
+	 *            the point of evaluation
+	 * @return the exact value of this polynomial at the point
+	 */
+	public BigFraction evaluate(Fraction argPoint) {
+		if (content.signum() == 0) {
+			return BigFraction.ZERO;
+		}
+		int locNumerator = argPoint.getNumerator();
+		int locDenominator = argPoint.getDenominator();
+		if (compactCoefficients != null) {
+			try {
+				return evaluateCompact(locNumerator, locDenominator);
+			} catch (ArithmeticException e) {
+				// Falls through to the arbitrary-precision evaluation
+			}
+		}
+		return evaluateBig(BigInteger.valueOf(locNumerator), BigInteger.valueOf(locDenominator));
+	}
+
+	/**
+	 * Evaluates this polynomial at each point of a {@link FractionArray},
+	 * reading its components without creating any {@link Fraction}.
+	 *
+	 * @param argPoints
+	 *            the points of evaluation
+	 * @return the exact values of this polynomial at the points, in the same
+	 *         order
+	 */
+	public BigFraction[] evaluate(FractionArray argPoints) {
+		BigFraction[] locValues = new BigFraction[argPoints.length()];
+		for (int i = 0; i < locValues.length; i++) {
+			int locNumerator = argPoints.getNumerator(i);
+			int locDenominator = argPoints.getDenominator(i);
+			if (content.signum() == 0) {
+				locValues[i] = BigFraction.ZERO;
+				continue;
+			}
+			if (compactCoefficients != null) {
+				try {
+					locValues[i] = evaluateCompact(locNumerator, locDenominator);
+					continue;
+				} catch (ArithmeticException e) {
+					// Falls through to the arbitrary-precision evaluation
+				}
+			}
+			locValues[i] = evaluateBig(BigInteger.valueOf(locNumerator), BigInteger.valueOf(locDenominator));
+		}
+		return locValues;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * content.hashCode() + Arrays.hashCode(coefficients);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		RationalPolynomial other = (RationalPolynomial) obj;
+		return content.equals(other.content) && Arrays.equals(coefficients, other.coefficients);
+	}
+
+	@Override
+	public String toString() {
+		if (content.signum() == 0) {
+			return "0";
+		}
+		StringBuilder locBuilder = new StringBuilder();
+		for (int i = coefficients.length - 1; i >= 0; i--) {
+			BigFraction locCoefficient = getCoefficient(i);
+			if (locCoefficient.signum() == 0) {
+				continue;
+			}
+			if (locBuilder.length() > 0) {
+				locBuilder.append((locCoefficient.signum() < 0) ? " - " : " + ");
+				if (locCoefficient.signum() < 0) {
+					locCoefficient = locCoefficient.negate();
+				}
+			}
+			boolean locUnit = locCoefficient.getDenominator().equals(BigInteger.ONE)
+					&& locCoefficient.getNumerator().abs().equals(BigInteger.ONE);
+			if (i == 0 || !locUnit) {
+				locBuilder.append(locCoefficient);
+			} else if (locCoefficient.signum() < 0) {
+				locBuilder.append('-');
+			}
+			if (i > 0) {
+				locBuilder.append(locUnit ? "x" : " x");
+				if (i > 1) {
+					locBuilder.append('^').append(i);
+				}
+			}
+		}
+		return locBuilder.toString();
+	}
+
+	/*
+	 * Horner's scheme on p/q homogenized: acc = acc p + a_i q^(n-i), so that
+	 * the value is content * acc / q^n.
+	 */
+	private BigFraction evaluateCompact(int argNumerator, int argDenominator) {
+		int locDegree = compactCoefficients.length - 1;
+		long locAccumulator = compactCoefficients[locDegree];
+		long locPower = 1;
+		for (int i = locDegree - 1; i >= 0; i--) {
+			locPower = Math.multiplyExact(locPower, (long) argDenominator);
+			locAccumulator = Math.addExact(Math.multiplyExact(locAccumulator, (long) argNumerator),
+					Math.multiplyExact(compactCoefficients[i], locPower));
+		}
+		return content.multiply(new BigFraction(locAccumulator, locPower));
+	}
+
+	private BigFraction evaluateBig(BigInteger argNumerator, BigInteger argDenominator) {
+		int locDegree = coefficients.length - 1;
+		BigInteger locAccumulator = coefficients[locDegree];
+		BigInteger locPower = BigInteger.ONE;
+		for (int i = locDegree - 1; i >= 0; i--) {
+			locPower = locPower.multiply(argDenominator);
+			locAccumulator = locAccumulator.multiply(argNumerator).add(coefficients[i].multiply(locPower));
+		}
+		return content.multiply(new BigFraction(locAccumulator, locPower));
+	}
+
+	/*
+	 * Strips leading zeros, divides by the GCD of the coefficients and makes
+	 * the leading one positive, moving both factors into the content.
+	 */
+	private static RationalPolynomial normalize(BigInteger[] argCoefficients, BigFraction argScale) {
+		int locLength = argCoefficients.length;
+		while (locLength > 0 && argCoefficients[locLength - 1].signum() == 0) {
+			locLength--;
+		}
+		if (locLength == 0) {
+			return ZERO;
+		}
+		BigInteger locGcd = BigInteger.ZERO;
+		for (int i = 0; i < locLength && !locGcd.equals(BigInteger.ONE); i++) {
+			locGcd = locGcd.gcd(argCoefficients[i]);
+		}
+		if (argCoefficients[locLength - 1].signum() < 0) {
+			locGcd = locGcd.negate();
+		}
+		BigInteger[] locCoefficients = new BigInteger[locLength];
+		for (int i = 0; i < locLength; i++) {
+			locCoefficients[i] = argCoefficients[i].divide(locGcd);
+		}
+		return new RationalPolynomial(argScale.multiply(new BigFraction(locGcd, BigInteger.ONE)), locCoefficients);
+	}
+
+	/*
+	 * Karatsuba's algorithm: with A = A0 + x^m A1 and B = B0 + x^m B1,
+	 * A B = A0 B0 + x^m ((A0 + A1)(B0 + B1) - A0 B0 - A1 B1) + x^2m A1 B1.
+	 */
+	private static BigInteger[] multiply(BigInteger[] argLeft, BigInteger[] argRight) {
+		if (Math.min(argLeft.length, argRight.length) < KARATSUBA_THRESHOLD) {
+			return multiplySchoolbook(argLeft, argRight);
+		}
+		int locHalf = Math.max(argLeft.length, argRight.length) / 2;
+		BigInteger[] locProduct = zeros(argLeft.length + argRight.length - 1);
+		if (argLeft.length <= locHalf || argRight.length <= locHalf) {
+			// Unbalanced operands: the shorter one is multiplied by both halves
+			boolean locLeftShorter = argLeft.length <= locHalf;
+			BigInteger[] locShort = locLeftShorter ? argLeft : argRight;
+			BigInteger[] locLong = locLeftShorter ? argRight : argLeft;
+			addTo(locProduct, multiply(locShort, Arrays.copyOfRange(locLong, 0, locHalf)), 0);
+			addTo(locProduct, multiply(locShort, Arrays.copyOfRange(locLong, locHalf, locLong.length)), locHalf);
+			return locProduct;
+		}
+		BigInteger[] locLeftLow = Arrays.copyOfRange(argLeft, 0, locHalf);
+		BigInteger[] locLeftHigh = Arrays.copyOfRange(argLeft, locHalf, argLeft.length);
+		BigInteger[] locRightLow = Arrays.copyOfRange(argRight, 0, locHalf);
+		BigInteger[] locRightHigh = Arrays.copyOfRange(argRight, locHalf, argRight.length);
+		BigInteger[] locLow = multiply(locLeftLow, locRightLow);
+		BigInteger[] locHigh = multiply(locLeftHigh, locRightHigh);
+		BigInteger[] locMiddle = multiply(sum(locLeftLow, locLeftHigh), sum(locRightLow, locRightHigh));
+		for (int i = 0; i < locLow.length; i++) {
+			locMiddle[i] = locMiddle[i].subtract(locLow[i]);
+		}
+		for (int i = 0; i < locHigh.length; i++) {
+			locMiddle[i] = locMiddle[i].subtract(locHigh[i]);
+		}
+		addTo(locProduct, locLow, 0);
+		addTo(locProduct, locMiddle, locHalf);
+		addTo(locProduct, locHigh, 2 * locHalf);
+		return locProduct;
+	}
+
+	private static BigInteger[] multiplySchoolbook(BigInteger[] argLeft, BigInteger[] argRight) {
+		BigInteger[] locProduct = zeros(argLeft.length + argRight.length - 1);
+		for (int i = 0; i < argLeft.length; i++) {
+			if (argLeft[i].signum() != 0) {
+				for (int j = 0; j < argRight.length; j++) {
+					locProduct[i + j] = locProduct[i + j].add(argLeft[i].multiply(argRight[j]));
+				}
+			}
+		}
+		return locProduct;
+	}
+
+	private static BigInteger[] sum(BigInteger[] argLeft, BigInteger[] argRight) {
+		BigInteger[] locSum = zeros(Math.max(argLeft.length, argRight.length));
+		addTo(locSum, argLeft, 0);
+		addTo(locSum, argRight, 0);
+		return locSum;
+	}
+
+	/*
+	 * Adds the terms, some of which may be beyond the destination if they are
+	 * zeros, shifted by the provided degree.
+	 */
+	private static void addTo(BigInteger[] argDestination, BigInteger[] argTerms, int argShift) {
+		for (int i = 0; i < argTerms.length && i + argShift < argDestination.length; i++) {
+			argDestination[i + argShift] = argDestination[i + argShift].add(argTerms[i]);
+		}
+	}
+
+	private static BigInteger[] zeros(int argLength) {
+		BigInteger[] locZeros = new BigInteger[argLength];
+		Arrays.fill(locZeros, BigInteger.ZERO);
+		return locZeros;
+	}
+
+	private static long[] compact(BigInteger[] argCoefficients) {
+		long[] locCompact = new long[argCoefficients.length];
+		for (int i = 0; i < argCoefficients.length; i++) {
+			if (argCoefficients[i].bitLength() >= Long.SIZE) {
+				return null;
+			}
+			locCompact[i] = argCoefficients[i].longValue();
+		}
+		return locCompact;
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.util;
+
+/**
+ * Batch computations of greatest common divisors, behind
+ * {@link GCD#ofAll(int[], int[], int[])} and
+ * {@link GCD#reduceAll(int[], int[])}.
+ * <p>
+ * This is the scalar implementation. The multi-release JAR replaces this class
+ * on Java 17 and later with one which uses the Vector API when available.
+ * Array lengths are checked by the caller.
+ */
+final class BatchGCD {
+
+	private BatchGCD() {
+		// Default private constructor
+	}
+
+	static void ofAll(int[] argLeft, int[] argRight, int[] argResult) {
+		for (int i = 0; i < argResult.length; i++) {
+			argResult[i] = GCD.of(argLeft[i], argRight[i]);
+		}
+	}
+
+	static void reduceAll(int[] argNumerators, int[] argDenominators) {
+		for (int i = 0; i < argNumerators.length; i++) {
+			int locGcd = GCD.of(argNumerators[i], argDenominators[i]);
+			if (locGcd != 1 && locGcd != 0) {
+				argNumerators[i] /= locGcd;
+				argDenominators[i] /= locGcd;
+			}
+		}
+	}
+
+}
@@ -16,7 +16,11 @@
 package io.github.fraj.numbers.util;
 
 /**
- * A utility class to compute the greatest common divisor of two numbers.
+ * A utility class to compute the greatest common divisor of numbers, with
+ * their B&eacute;zout coefficients, and their least common multiple.
+ * <p>
+ * No method allocates: B&eacute;zout coefficients are written into an array
+ * provided by the caller, which can be reused across calls.
  */
 public final class GCD {
 	
@@ -37,8 +41,351 @@ public final class GCD {
 		return ofPositive(Math.abs(argLeft), Math.abs(argRight));
 	}
 
+	/**
+	 * Computes the (positive) greatest common divisor of two long integers.
+	 * 
+	 * @param argLeft
+	 *            the left side long integer
+	 * @param argRight
+	 *            the right side long integer
+	 * @return the greatest common divisor
+	 */
+	public static long of(long argLeft, long argRight) {
+		return ofPositive(Math.abs(argLeft), Math.abs(argRight));
+	}
+
+	/**
+	 * Computes the (positive) greatest common divisor of integers, stopping as
+	 * soon as it reaches 1.
+	 * 
+	 * @param argValues
+	 *            the integers
+	 * @return the greatest common divisor, 0 if there is no value or if all of
+	 *         them are 0
+	 */
+	public static int of(int... argValues) {
+		return of(argValues, 0, argValues.length);
+	}
+
+	/**
+	 * Computes the (positive) greatest common divisor of a range of integers,
+	 * stopping as soon as it reaches 1.
+	 * 
+	 * @param argValues
+	 *            the array holding the integers
+	 * @param argFrom
+	 *            the index of the first integer, inclusive
+	 * @param argTo
+	 *            the index of the last integer, exclusive
+	 * @return the greatest common divisor, 0 if the range is empty or if all of
+	 *         its integers are 0
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of the array
+	 */
+	public static int of(int[] argValues, int argFrom, int argTo) {
+		checkRange(argValues.length, argFrom, argTo);
+		int locGcd = 0;
+		for (int i = argFrom; i < argTo && locGcd != 1; i++) {
+			locGcd = ofPositive(locGcd, Math.abs(argValues[i]));
+		}
+		return locGcd;
+	}
+
+	/**
+	 * Computes the (positive) greatest common divisor of long integers,
+	 * stopping as soon as it reaches 1.
+	 * 
+	 * @param argValues
+	 *            the long integers
+	 * @return the greatest common divisor, 0 if there is no value or if all of
+	 *         them are 0
+	 */
+	public static long of(long... argValues) {
+		return of(argValues, 0, argValues.length);
+	}
+
+	/**
+	 * Computes the (positive) greatest common divisor of a range of long
+	 * integers, stopping as soon as it reaches 1.
+	 * 
+	 * @param argValues
+	 *            the array holding the long integers
+	 * @param argFrom
+	 *            the index of the first long integer, inclusive
+	 * @param argTo
+	 *            the index of the last long integer, exclusive
+	 * @return the greatest common divisor, 0 if the range is empty or if all of
+	 *         its long integers are 0
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is out of the bounds of the array
+	 */
+	public static long of(long[] argValues, int argFrom, int argTo) {
+		checkRange(argValues.length, argFrom, argTo);
+		long locGcd = 0;
+		for (int i = argFrom; i < argTo && locGcd != 1; i++) {
+			locGcd = ofPositive(locGcd, Math.abs(argValues[i]));
+		}
+		return locGcd;
+	}
+
+	/**
+	 * Computes the (positive) greatest common divisor of two integers, along
+	 * with B&eacute;zout coefficients x and y such that
+	 * <code>left * x + right * y = gcd</code>.
+	 * <p>
+	 * Coefficients are the minimal ones given by the extended Euclidean
+	 * algorithm: <code>|x| &lt;= |right / gcd|</code> and
+	 * <code>|y| &lt;= |left / gcd|</code>.
+	 * 
+	 * @param argLeft
+	 *            the left side integer
+	 * @param argRight
+	 *            the right side integer
+	 * @param argCoefficients
+	 *            an array of length at least 2, receiving x at index 0 and y at
+	 *            index 1
+	 * @return the greatest common divisor
+	 * @throws ArithmeticException
+	 *             if the greatest common divisor overflows an int, i.e. if both
+	 *             integers are {@link Integer#MIN_VALUE}, or one of them and 0
+	 */
+	public static int extended(int argLeft, int argRight, int[] argCoefficients) {
+		// Long arithmetic so that Integer.MIN_VALUE operands do not overflow
+		long locPreviousRemainder = argLeft;
+		long locRemainder = argRight;
+		long locPreviousLeft = 1;
+		long locLeft = 0;
+		long locPreviousRight = 0;
+		long locRight = 1;
+		while (locRemainder != 0) {
+			long locQuotient = locPreviousRemainder / locRemainder;
+			long locNext = locPreviousRemainder - locQuotient * locRemainder;
+			locPreviousRemainder = locRemainder;
+			locRemainder = locNext;
+			locNext = locPreviousLeft - locQuotient * locLeft;
+			locPreviousLeft = locLeft;
+			locLeft = locNext;
+			locNext = locPreviousRight - locQuotient * locRight;
+			locPreviousRight = locRight;
+			locRight = locNext;
+		}
+		if (locPreviousRemainder < 0) {
+			locPreviousRemainder = -locPreviousRemainder;
+			locPreviousLeft = -locPreviousLeft;
+			locPreviousRight = -locPreviousRight;
+		}
+		int locGcd = Math.toIntExact(locPreviousRemainder);
+		argCoefficients[0] = (int) locPreviousLeft;
+		argCoefficients[1] = (int) locPreviousRight;
+		return locGcd;
+	}
+
+	/**
+	 * Computes the (positive) greatest common divisor of two long integers,
+	 * along with B&eacute;zout coefficients x and y such that
+	 * <code>left * x + right * y = gcd</code>.
+	 * <p>
+	 * Coefficients are the minimal ones given by the extended Euclidean
+	 * algorithm: <code>|x| &lt;= |right / gcd|</code> and
+	 * <code>|y| &lt;= |left / gcd|</code>.
+	 * 
+	 * @param argLeft
+	 *            the left side long integer
+	 * @param argRight
+	 *            the right side long integer
+	 * @param argCoefficients
+	 *            an array of length at least 2, receiving x at index 0 and y at
+	 *            index 1
+	 * @return the greatest common divisor
+	 * @throws ArithmeticException
+	 *             if the greatest common divisor overflows a long, i.e. if both
+	 *             long integers are {@link Long#MIN_VALUE}, or one of them
+	 *             and 0
+	 */
+	public static long extended(long argLeft, long argRight, long[] argCoefficients) {
+		// Long.MIN_VALUE / -1 wraps to Long.MIN_VALUE instead of 2^63, which
+		// is the same value modulo 2^64: since every other step is a ring
+		// operation, remainders and coefficients are still exact whenever
+		// they fit in a long
+		long locPreviousRemainder = argLeft;
+		long locRemainder = argRight;
+		long locPreviousLeft = 1;
+		long locLeft = 0;
+		long locPreviousRight = 0;
+		long locRight = 1;
+		while (locRemainder != 0) {
+			long locQuotient = locPreviousRemainder / locRemainder;
+			long locNext = locPreviousRemainder - locQuotient * locRemainder;
+			locPreviousRemainder = locRemainder;
+			locRemainder = locNext;
+			locNext = locPreviousLeft - locQuotient * locLeft;
+			locPreviousLeft = locLeft;
+			locLeft = locNext;
+			locNext = locPreviousRight - locQuotient * locRight;
+			locPreviousRight = locRight;
+			locRight = locNext;
+		}
+		if (locPreviousRemainder == Long.MIN_VALUE) {
+			throw new ArithmeticException("long overflow");
+		}
+		if (locPreviousRemainder < 0) {
+			locPreviousRemainder = -locPreviousRemainder;
+			locPreviousLeft = -locPreviousLeft;
+			locPreviousRight = -locPreviousRight;
+		}
+		argCoefficients[0] = locPreviousLeft;
+		argCoefficients[1] = locPreviousRight;
+		return locPreviousRemainder;
+	}
+
+	/**
+	 * Computes the (positive) least common multiple of two integers.
+	 * 
+	 * @param argLeft
+	 *            the left side integer
+	 * @param argRight
+	 *            the right side integer
+	 * @return the least common multiple, 0 if one of the integers is 0
+	 * @throws ArithmeticException
+	 *             if the least common multiple overflows an int
+	 */
+	public static int lcm(int argLeft, int argRight) {
+		if (argLeft == 0 || argRight == 0) {
+			return 0;
+		}
+		// Dividing first keeps the product as small as the result itself
+		int locLcm = Math.abs(Math.multiplyExact(argLeft / of(argLeft, argRight), argRight));
+		if (locLcm < 0) {
+			throw new ArithmeticException("integer overflow");
+		}
+		return locLcm;
+	}
+
+	/**
+	 * Computes the (positive) least common multiple of two long integers.
+	 * 
+	 * @param argLeft
+	 *            the left side long integer
+	 * @param argRight
+	 *            the right side long integer
+	 * @return the least common multiple, 0 if one of the long integers is 0
+	 * @throws ArithmeticException
+	 *             if the least common multiple overflows a long
+	 */
+	public static long lcm(long argLeft, long argRight) {
+		if (argLeft == 0 || argRight == 0) {
+			return 0;
+		}
+		long locLcm = Math.abs(Math.multiplyExact(argLeft / of(argLeft, argRight), argRight));
+		if (locLcm < 0) {
+			throw new ArithmeticException("long overflow");
+		}
+		return locLcm;
+	}
+
+	/**
+	 * Computes the (positive) greatest common divisors of two arrays of
+	 * integers, element by element.
+	 * <p>
+	 * On Java 17 and later, when the <code>jdk.incubator.vector</code> module
+	 * is added to the runtime (<code>--add-modules jdk.incubator.vector</code>),
+	 * the binary algorithm runs in lock-step across the lanes of SIMD vectors.
+	 * Otherwise, each pair is processed as by {@link #of(int, int)}, with the
+	 * same results.
+	 * 
+	 * @param argLeft
+	 *            the left side integers
+	 * @param argRight
+	 *            the right side integers
+	 * @param argResult
+	 *            the array receiving the greatest common divisors, which may
+	 *            be one of the operand arrays
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 */
+	public static void ofAll(int[] argLeft, int[] argRight, int[] argResult) {
+		if (argLeft.length != argRight.length || argLeft.length != argResult.length) {
+			throw new IllegalArgumentException("Arrays must have the same length");
+		}
+		BatchGCD.ofAll(argLeft, argRight, argResult);
+	}
+
+	/**
+	 * Divides numerators and denominators held in two parallel arrays by their
+	 * (positive) greatest common divisor, in place. Signs are left unchanged,
+	 * as well as pairs of zeros.
+	 * <p>
+	 * Greatest common divisors are computed as by
+	 * {@link #ofAll(int[], int[], int[])}.
+	 * 
+	 * @param argNumerators
+	 *            the numerators
+	 * @param argDenominators
+	 *            the denominators
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 */
+	public static void reduceAll(int[] argNumerators, int[] argDenominators) {
+		if (argNumerators.length != argDenominators.length) {
+			throw new IllegalArgumentException("Arrays must have the same length");
+		}
+		BatchGCD.reduceAll(argNumerators, argDenominators);
+	}
+
+	private static void checkRange(int argLength, int argFrom, int argTo) {
+		if (argFrom < 0 || argTo > argLength || argFrom > argTo) {
+			throw new IndexOutOfBoundsException("Range [" + argFrom + ", " + argTo + ") out of bounds for length "
+					+ argLength);
+		}
+	}
+
+	/*
+	 * Binary (Stein's) algorithm: common factors of 2 are counted once with
+	 * numberOfTrailingZeros, then the odd parts are subtracted from each other,
+	 * which only takes shifts and subtractions instead of a division per step.
+	 * The loop is written with min/abs rather than a swap so that it compiles
+	 * to conditional moves: GCDBenchmark shows it beats Euclid's algorithm on
+	 * small and coprime operands, roughly ties near Integer.MAX_VALUE, and is
+	 * over three times faster on Fibonacci operands.
+	 * Operands are shifted unsigned so that Math.abs(Integer.MIN_VALUE) is
+	 * processed as 2^31.
+	 */
 	private static int ofPositive(int argLeft, int argRight) {
-		return argRight == 0 ? argLeft : ofPositive(argRight, argLeft % argRight);
+		if (argLeft == 0) {
+			return argRight;
+		}
+		if (argRight == 0) {
+			return argLeft;
+		}
+		int locShift = Integer.numberOfTrailingZeros(argLeft | argRight);
+		int locLeft = argLeft >>> Integer.numberOfTrailingZeros(argLeft);
+		int locRight = argRight;
+		do {
+			locRight >>>= Integer.numberOfTrailingZeros(locRight);
+			int locDifference = locRight - locLeft;
+			locLeft = Math.min(locLeft, locRight);
+			locRight = Math.abs(locDifference);
+		} while (locRight != 0);
+		return locLeft << locShift;
+	}
+
+	private static long ofPositive(long argLeft, long argRight) {
+		if (argLeft == 0) {
+			return argRight;
+		}
+		if (argRight == 0) {
+			return argLeft;
+		}
+		int locShift = Long.numberOfTrailingZeros(argLeft | argRight);
+		long locLeft = argLeft >>> Long.numberOfTrailingZeros(argLeft);
+		long locRight = argRight;
+		do {
+			locRight >>>= Long.numberOfTrailingZeros(locRight);
+			long locDifference = locRight - locLeft;
+			locLeft = Math.min(locLeft, locRight);
+			locRight = Math.abs(locDifference);
+		} while (locRight != 0);
+		return locLeft << locShift;
 	}
 
 }
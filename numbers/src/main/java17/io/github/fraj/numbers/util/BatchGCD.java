@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.util;
+
+/**
+ * Batch computations of greatest common divisors, behind
+ * {@link GCD#ofAll(int[], int[], int[])} and
+ * {@link GCD#reduceAll(int[], int[])}.
+ * <p>
+ * This is the Java 17 implementation of the multi-release JAR, which delegates
+ * to {@link VectorGCD} when the <code>jdk.incubator.vector</code> module has
+ * been added to the runtime, and processes pairs one by one otherwise.
+ * {@link VectorGCD} is only loaded in the former case, since its linkage
+ * fails without the module. Array lengths are checked by the caller.
+ */
+final class BatchGCD {
+
+	/*
+	 * Whether the Vector API can be used, i.e. whether its incubator module is
+	 * resolved and the preferred species holds more than one int.
+	 */
+	private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+			&& VectorGCD.isSupported();
+
+	private BatchGCD() {
+		// Default private constructor
+	}
+
+	static void ofAll(int[] argLeft, int[] argRight, int[] argResult) {
+		if (VECTORIZED) {
+			VectorGCD.ofAll(argLeft, argRight, argResult);
+			return;
+		}
+		for (int i = 0; i < argResult.length; i++) {
+			argResult[i] = GCD.of(argLeft[i], argRight[i]);
+		}
+	}
+
+	static void reduceAll(int[] argNumerators, int[] argDenominators) {
+		if (VECTORIZED) {
+			VectorGCD.reduceAll(argNumerators, argDenominators);
+			return;
+		}
+		for (int i = 0; i < argNumerators.length; i++) {
+			int locGcd = GCD.of(argNumerators[i], argDenominators[i]);
+			if (locGcd != 1 && locGcd != 0) {
+				argNumerators[i] /= locGcd;
+				argDenominators[i] /= locGcd;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.util;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Binary GCD computed in lock-step across the lanes of SIMD vectors, with the
+ * incubating Vector API.
+ * <p>
+ * Java 17 has no lanewise trailing zero count, so the common power of two is
+ * isolated as the lowest set bit of <code>left | right</code>, and each step of
+ * the main loop shifts by a single bit: with u odd, an odd v is first replaced
+ * by <code>|v - u|</code> (and u by <code>min(u, v)</code>), which is even, then
+ * v is halved. Lanes whose v reaches zero are left untouched by the remaining
+ * steps, and the loop ends when all of them have. Zero and
+ * {@link Integer#MIN_VALUE} operands, whose absolute value does not fit, are
+ * blended in at the end with the results {@link GCD#of(int, int)} gives.
+ */
+final class VectorGCD {
+
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+	private VectorGCD() {
+		// Default private constructor
+	}
+
+	static boolean isSupported() {
+		return SPECIES.length() > 1;
+	}
+
+	static void ofAll(int[] argLeft, int[] argRight, int[] argResult) {
+		int locBound = SPECIES.loopBound(argResult.length);
+		int i = 0;
+		for (; i < locBound; i += SPECIES.length()) {
+			of(IntVector.fromArray(SPECIES, argLeft, i), IntVector.fromArray(SPECIES, argRight, i))
+					.intoArray(argResult, i);
+		}
+		for (; i < argResult.length; i++) {
+			argResult[i] = GCD.of(argLeft[i], argRight[i]);
+		}
+	}
+
+	static void reduceAll(int[] argNumerators, int[] argDenominators) {
+		int locBound = SPECIES.loopBound(argNumerators.length);
+		int[] locGcds = new int[SPECIES.length()];
+		int i = 0;
+		for (; i < locBound; i += SPECIES.length()) {
+			IntVector locGcd = of(IntVector.fromArray(SPECIES, argNumerators, i),
+					IntVector.fromArray(SPECIES, argDenominators, i));
+			// Lanewise division is not intrinsified, hence scalar divisions
+			locGcd.intoArray(locGcds, 0);
+			for (int j = 0; j < locGcds.length; j++) {
+				if (locGcds[j] != 1 && locGcds[j] != 0) {
+					argNumerators[i + j] /= locGcds[j];
+					argDenominators[i + j] /= locGcds[j];
+				}
+			}
+		}
+		for (; i < argNumerators.length; i++) {
+			int locGcd = GCD.of(argNumerators[i], argDenominators[i]);
+			if (locGcd != 1 && locGcd != 0) {
+				argNumerators[i] /= locGcd;
+				argDenominators[i] /= locGcd;
+			}
+		}
+	}
+
+	private static IntVector of(IntVector argLeft, IntVector argRight) {
+		VectorMask<Integer> locLeftZero = argLeft.eq(0);
+		VectorMask<Integer> locRightZero = argRight.eq(0);
+		VectorMask<Integer> locLeftMin = argLeft.eq(Integer.MIN_VALUE);
+		VectorMask<Integer> locRightMin = argRight.eq(Integer.MIN_VALUE);
+		VectorMask<Integer> locSpecial = locLeftZero.or(locRightZero).or(locLeftMin).or(locRightMin);
+
+		// Special lanes are computed as gcd(1, 1), then overwritten
+		IntVector locU = argLeft.abs().blend(1, locSpecial);
+		IntVector locV = argRight.abs().blend(1, locSpecial);
+		IntVector locOr = locU.or(locV);
+		IntVector locPowerOfTwo = locOr.and(locOr.neg());
+
+		VectorMask<Integer> locEven = locU.and(1).eq(0);
+		while (locEven.anyTrue()) {
+			locU = locU.lanewise(VectorOperators.LSHR, 1, locEven);
+			locEven = locU.and(1).eq(0);
+		}
+		VectorMask<Integer> locActive = locV.compare(VectorOperators.NE, 0);
+		while (locActive.anyTrue()) {
+			VectorMask<Integer> locOdd = locV.and(1).eq(1);
+			IntVector locDifference = locV.sub(locU).abs();
+			locU = locU.blend(locU.min(locV), locOdd);
+			locV = locV.blend(locDifference, locOdd).lanewise(VectorOperators.LSHR, 1);
+			locActive = locV.compare(VectorOperators.NE, 0);
+		}
+		IntVector locGcd = locU.mul(locPowerOfTwo);
+
+		locGcd = locGcd.blend(argRight.abs(), locLeftZero);
+		locGcd = locGcd.blend(argLeft.abs(), locRightZero);
+		locGcd = locGcd.blend(argRight.and(argRight.neg()), locLeftMin.andNot(locRightZero));
+		return locGcd.blend(argLeft.and(argLeft.neg()), locRightMin.andNot(locLeftZero));
+	}
+
+}
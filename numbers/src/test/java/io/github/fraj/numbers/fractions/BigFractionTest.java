@@ -0,0 +1,435 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link BigFraction}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class BigFractionTest {
+
+	private static final BigFraction TEST_FRACTION = new BigFraction(117936, 15288);
+	private static final BigFraction TEST_FRACTION_LARGE = new BigFraction(Long.MAX_VALUE, Long.MAX_VALUE - 1);
+	private static final BigFraction TEST_FRACTION_HUGE = new BigFraction(
+			new BigInteger("1267650600228229401496703205377"), new BigInteger("1570042899082081611640534563"));
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link BigFraction#BigFraction(BigInteger, BigInteger)} in nominal case.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argExpectedAsString
+	 *            the expected string representation of the constructed
+	 *            {@link BigFraction}
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "117936, 15288, 54/7", "15288, -117936, -7/54", "0, -25, 0", "125, 25, 5",
+			"-9223372036854775808, -1, 9223372036854775808",
+			"1, -9223372036854775808, -1/9223372036854775808",
+			"2535301200456458802993406410754, 3140085798164163223281069126, 1267650600228229401496703205377/1570042899082081611640534563" })
+	public void testConstructor_BigInteger(String argNumerator, String argDenominator, String argExpectedAsString)
+			throws Exception {
+		assertEquals("Wrong reduced fraction", argExpectedAsString,
+				new BigFraction(new BigInteger(argNumerator), new BigInteger(argDenominator)).toString());
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link BigFraction#BigFraction(long, long)}
+	 * in nominal case.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argExpectedAsString
+	 *            the expected string representation of the constructed
+	 *            {@link BigFraction}
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "117936, 15288, 54/7", "-117936, -15288, 54/7", "0, 25, 0",
+			"-9223372036854775808, -1, 9223372036854775808", "1, -9223372036854775808, -1/9223372036854775808" })
+	public void testConstructor_Long(long argNumerator, long argDenominator, String argExpectedAsString)
+			throws Exception {
+		BigFraction locFraction = new BigFraction(argNumerator, argDenominator);
+		assertEquals("Wrong reduced fraction", argExpectedAsString, locFraction.toString());
+		assertEquals("Wrong reduced fraction", new BigFraction(BigInteger.valueOf(argNumerator),
+				BigInteger.valueOf(argDenominator)), locFraction);
+	}
+
+	/**
+	 * Runs unit test for {@link BigFraction#BigFraction(long, long)} in case
+	 * when denominator is 0.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testConstructor_ZeroAsDenominator() throws Exception {
+		new BigFraction(51, 0);
+	}
+
+	/**
+	 * Runs unit test for {@link BigFraction#BigFraction(BigInteger, BigInteger)}
+	 * in case when denominator is 0.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testConstructor_ZeroAsBigDenominator() throws Exception {
+		new BigFraction(BigInteger.ONE, BigInteger.ZERO);
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link BigFraction#equals(Object)} in
+	 * nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link BigFraction} that tests equality
+	 * @param argRight
+	 *            the {@link Object} to test equality with
+	 * @param argExpectedEquality
+	 *            the expected result of the equality test
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testEquals(BigFraction argLeft, Object argRight, boolean argExpectedEquality) throws Exception {
+		assertEquals("Wrong result to equals", argExpectedEquality, argLeft.equals(argRight));
+		if (argExpectedEquality) {
+			assertEquals("Wrong result to hashCode", argLeft.hashCode(), argRight.hashCode());
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestEquals() {
+		return new Object[][] { { TEST_FRACTION, new BigFraction(54, 7), true },
+				{ TEST_FRACTION, new BigFraction(BigInteger.valueOf(108), BigInteger.valueOf(14)), true },
+				{ TEST_FRACTION_HUGE, TEST_FRACTION_HUGE.add(BigFraction.ZERO), true },
+				{ TEST_FRACTION_HUGE, TEST_FRACTION, false }, { TEST_FRACTION, TEST_FRACTION_HUGE, false },
+				{ TEST_FRACTION, null, false }, { TEST_FRACTION, new LongFraction(54, 7), false } };
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link BigFraction#doubleValue()} in
+	 * nominal case.
+	 * 
+	 * @param argFraction
+	 *            the {@link BigFraction} to get the double value of
+	 * @param argExpectedValue
+	 *            the expected double value
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testDoubleValue(BigFraction argFraction, double argExpectedValue) throws Exception {
+		assertEquals("Wrong result to doubleValue", argExpectedValue, argFraction.doubleValue(), 0.0);
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestDoubleValue() {
+		return new Object[][] { { TEST_FRACTION, 7.714285714285714 }, { BigFraction.ZERO, 0 },
+				{ TEST_FRACTION_HUGE, 807.3987029076438 },
+				{ new BigFraction(BigInteger.valueOf(7387359159312280L), BigInteger.ONE.shiftLeft(124)),
+						Math.scalb(0.41008081149220166, -70) },
+				{ new BigFraction(BigInteger.ONE.shiftLeft(100).negate(), BigInteger.valueOf(3)),
+						-Math.scalb(1.0, 100) / 3 },
+				{ new BigFraction((1L << 54) + 3, 2), 9007199254740994.0 },
+				{ new BigFraction(BigInteger.ONE, BigInteger.ONE.shiftLeft(1074)), Double.MIN_VALUE },
+				{ new BigFraction(BigInteger.valueOf(3), BigInteger.ONE.shiftLeft(1076)), Double.MIN_VALUE },
+				{ new BigFraction(BigInteger.ONE, BigInteger.ONE.shiftLeft(1075)), 0.0 },
+				{ new BigFraction(BigInteger.valueOf(3), BigInteger.ONE.shiftLeft(1075)), 2 * Double.MIN_VALUE },
+				{ new BigFraction(BigInteger.ONE.shiftLeft(1024), BigInteger.ONE), Double.POSITIVE_INFINITY },
+				{ new BigFraction(BigInteger.ONE.shiftLeft(1024).subtract(BigInteger.ONE.shiftLeft(971)), BigInteger.ONE),
+						Double.MAX_VALUE } };
+	}
+
+	/**
+	 * Runs parameterized unit test for
+	 * {@link BigFraction#compareTo(BigFraction)} in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link BigFraction} that compares
+	 * @param argRight
+	 *            the {@link BigFraction} to compare to
+	 * @param argExpectedResult
+	 *            the expected result of the comparison
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testCompareTo(BigFraction argLeft, BigFraction argRight, int argExpectedResult) throws Exception {
+		assertEquals("Wrong result to compare", argExpectedResult, Integer.signum(argLeft.compareTo(argRight)));
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestCompareTo() {
+		return new Object[][] { { TEST_FRACTION, new BigFraction(54, 7), 0 }, { TEST_FRACTION, BigFraction.ZERO, 1 },
+				{ TEST_FRACTION, TEST_FRACTION_HUGE, -1 }, { TEST_FRACTION_HUGE, TEST_FRACTION_LARGE, 1 },
+				{ TEST_FRACTION_LARGE, new BigFraction(Long.MAX_VALUE - 1, Long.MAX_VALUE - 2), -1 } };
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link BigFraction#add(BigFraction)} in
+	 * nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link BigFraction} to add to
+	 * @param argRight
+	 *            the {@link BigFraction} to be added
+	 * @param argExpectedAsString
+	 *            the expected result of the addition
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testAdd(BigFraction argLeft, BigFraction argRight, String argExpectedAsString) throws Exception {
+		assertEquals("Wrong result to add", argExpectedAsString, argLeft.add(argRight).toString());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestAdd() {
+		return new Object[][] { { TEST_FRACTION, new BigFraction(1), "61/7" },
+				{ new BigFraction(1, 6), new BigFraction(1, 10), "4/15" },
+				{ TEST_FRACTION, TEST_FRACTION.negate(), "0" },
+				{ new BigFraction(Long.MAX_VALUE), new BigFraction(1), "9223372036854775808" },
+				{ TEST_FRACTION_LARGE, new BigFraction(1, 3),
+						"4099276460824344803/3074457345618258602" },
+				{ TEST_FRACTION_HUGE, TEST_FRACTION_HUGE.negate(), "0" },
+				{ TEST_FRACTION_HUGE.add(new BigFraction(1, 3)), TEST_FRACTION_HUGE.negate(), "1/3" } };
+	}
+
+	/**
+	 * Runs parameterized unit test for
+	 * {@link BigFraction#substract(BigFraction)} in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link BigFraction} to substract from
+	 * @param argRight
+	 *            the {@link BigFraction} to be substracted
+	 * @param argExpectedAsString
+	 *            the expected result of the substraction
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testSubstract(BigFraction argLeft, BigFraction argRight, String argExpectedAsString)
+			throws Exception {
+		assertEquals("Wrong result to substract", argExpectedAsString, argLeft.substract(argRight).toString());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestSubstract() {
+		return new Object[][] { { TEST_FRACTION, new BigFraction(1), "47/7" },
+				{ new BigFraction(Long.MIN_VALUE), new BigFraction(1), "-9223372036854775809" },
+				{ TEST_FRACTION_HUGE, TEST_FRACTION_HUGE, "0" } };
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link BigFraction#multiply(BigFraction)}
+	 * in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link BigFraction} to be multiplied
+	 * @param argRight
+	 *            the {@link BigFraction} to multiply by
+	 * @param argExpectedAsString
+	 *            the expected result of the multiplication
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testMultiply(BigFraction argLeft, BigFraction argRight, String argExpectedAsString)
+			throws Exception {
+		assertEquals("Wrong result to multiply", argExpectedAsString, argLeft.multiply(argRight).toString());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestMultiply() {
+		return new Object[][] { { TEST_FRACTION, new BigFraction(3, 2), "81/7" },
+				{ TEST_FRACTION, BigFraction.ZERO, "0" },
+				{ TEST_FRACTION_LARGE, TEST_FRACTION_LARGE,
+						"85070591730234615847396907784232501249/85070591730234615828950163710522949636" },
+				{ TEST_FRACTION_HUGE, TEST_FRACTION_HUGE.invert(), "1" },
+				{ TEST_FRACTION_HUGE, new BigFraction(new BigInteger("1570042899082081611640534563"),
+						new BigInteger("1267650600228229401496703205377")).multiply(TEST_FRACTION), "54/7" } };
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link BigFraction#divide(BigFraction)}
+	 * in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link BigFraction} to be divided
+	 * @param argRight
+	 *            the {@link BigFraction} to divide by
+	 * @param argExpectedAsString
+	 *            the expected result of the division
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testDivide(BigFraction argLeft, BigFraction argRight, String argExpectedAsString) throws Exception {
+		assertEquals("Wrong result to divide", argExpectedAsString, argLeft.divide(argRight).toString());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestDivide() {
+		return new Object[][] { { TEST_FRACTION, new BigFraction(3, 2), "36/7" },
+				{ TEST_FRACTION, new BigFraction(-3, 2), "-36/7" },
+				{ new BigFraction(1), new BigFraction(Long.MIN_VALUE), "-1/9223372036854775808" },
+				{ TEST_FRACTION_HUGE, TEST_FRACTION_HUGE, "1" } };
+	}
+
+	/**
+	 * Runs unit test for {@link BigFraction#divide(BigFraction)} in case with
+	 * zero.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testDivide_Zero() throws Exception {
+		TEST_FRACTION_HUGE.divide(BigFraction.ZERO);
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link BigFraction#invert()} in nominal
+	 * case.
+	 * 
+	 * @param argLeft
+	 *            the {@link BigFraction} to invert
+	 * @param argExpectedAsString
+	 *            the expected result of the inversion
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testInvert(BigFraction argLeft, String argExpectedAsString) throws Exception {
+		assertEquals("Wrong result to invert", argExpectedAsString, argLeft.invert().toString());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestInvert() {
+		return new Object[][] { { TEST_FRACTION, "7/54" }, { TEST_FRACTION.negate(), "-7/54" },
+				{ new BigFraction(Long.MIN_VALUE), "-1/9223372036854775808" },
+				{ TEST_FRACTION_HUGE.negate(), "-1570042899082081611640534563/1267650600228229401496703205377" } };
+	}
+
+	/**
+	 * Runs unit test showing that an inflated result goes back to the compact
+	 * form when it fits again.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testDeflation() throws Exception {
+		BigFraction locInflated = new BigFraction(Long.MAX_VALUE).add(new BigFraction(Long.MAX_VALUE));
+		try {
+			locInflated.toLongFraction();
+			fail("Inflated value should not fit a LongFraction");
+		} catch (ArithmeticException e) {
+			// Expected
+		}
+		assertEquals("Wrong deflated value", new LongFraction(Long.MAX_VALUE),
+				locInflated.divide(new BigFraction(2)).toLongFraction());
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link BigFraction#isInteger()} in
+	 * nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link BigFraction} to be tested
+	 * @param argExpectedResult
+	 *            the expected result of the test
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testIsInteger(BigFraction argLeft, boolean argExpectedResult) throws Exception {
+		assertEquals("Wrong result to integer test", argExpectedResult, argLeft.isInteger());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestIsInteger() {
+		return new Object[][] { { TEST_FRACTION, false }, { BigFraction.ZERO, true },
+				{ new BigFraction(Long.MAX_VALUE).multiply(new BigFraction(4)), true },
+				{ TEST_FRACTION_HUGE, false } };
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link BigFraction#toFraction()} in
+	 * nominal case.
+	 * 
+	 * @param argFraction
+	 *            the {@link BigFraction} to convert
+	 * @param argExpectedResult
+	 *            the expected result of the conversion
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testToFraction(BigFraction argFraction, Fraction argExpectedResult) throws Exception {
+		assertEquals("Wrong result to toFraction", argExpectedResult, argFraction.toFraction());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestToFraction() {
+		return new Object[][] { { TEST_FRACTION, new Fraction(54, 7) },
+				{ new BigFraction(new Fraction(-3, 4)), new Fraction(-3, 4) } };
+	}
+
+	/**
+	 * Runs unit test for {@link BigFraction#toFraction()} in case of overflow.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testToFraction_Overflow() throws Exception {
+		TEST_FRACTION_LARGE.toFraction();
+	}
+
+}
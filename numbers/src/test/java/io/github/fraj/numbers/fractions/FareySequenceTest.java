@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FareySequence}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FareySequenceTest {
+
+	/**
+	 * Runs unit test for {@link FareySequence#stream(int)} on a small order.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testStream() throws Exception {
+		assertEquals("Wrong sequence", "0, 1/5, 1/4, 1/3, 2/5, 1/2, 3/5, 2/3, 3/4, 4/5, 1",
+				FareySequence.stream(5).map(Fraction::toString).collect(Collectors.joining(", ")));
+		assertEquals("Wrong sequence", "0, 1", FareySequence.stream(1).map(Fraction::toString)
+				.collect(Collectors.joining(", ")));
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FareySequence#stream(int, Fraction, Fraction)} against a brute
+	 * force enumeration.
+	 * 
+	 * @param argOrder
+	 *            the maximum denominator
+	 * @param argFrom
+	 *            the lower bound
+	 * @param argTo
+	 *            the upper bound
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1, 0, 1", "7, 0, 1", "50, 0, 1", "30, 1/3, 1/2", "30, 10/31, 15/31", "12, -5/2, 3/2",
+			"20, 7/3, 7/3", "20, 1/21, 1/21", "20, 1/2, 1/3" })
+	public void testStreamRange(int argOrder, String argFrom, String argTo) throws Exception {
+		Fraction locFrom = Fraction.parse(argFrom);
+		Fraction locTo = Fraction.parse(argTo);
+		TreeSet<Fraction> locExpected = new TreeSet<>();
+		for (int locDenominator = 1; locDenominator <= argOrder; locDenominator++) {
+			for (int locNumerator = -3 * locDenominator; locNumerator <= 3 * locDenominator; locNumerator++) {
+				Fraction locFraction = new Fraction(locNumerator, locDenominator);
+				if (locFraction.compareTo(locFrom) >= 0 && locFraction.compareTo(locTo) <= 0) {
+					locExpected.add(locFraction);
+				}
+			}
+		}
+		assertEquals("Wrong sequence", new ArrayList<>(locExpected),
+				FareySequence.stream(argOrder, locFrom, locTo).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FareySequence#packed(int)} on
+	 * parallel streams, whose length is known in closed form.
+	 * 
+	 * @param argOrder
+	 *            the order of the sequence
+	 * @param argLength
+	 *            the expected length of the sequence
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "100, 3045", "1000, 304193" })
+	public void testPackedParallel(int argOrder, long argLength) throws Exception {
+		assertEquals("Wrong length", argLength, FareySequence.packed(argOrder).parallel().count());
+		long[] locSequential = FareySequence.packed(argOrder).toArray();
+		assertArrayEquals("Wrong parallel sequence", locSequential, FareySequence.packed(argOrder).parallel().toArray());
+		for (int i = 1; i < locSequential.length; i++) {
+			// Neighbours b/a < d/c satisfy b c - a d = -1
+			assertEquals("Not neighbours at " + i, 1,
+					(long) FractionArrays.numerator(locSequential[i]) * FractionArrays.denominator(locSequential[i - 1])
+							- (long) FractionArrays.numerator(locSequential[i - 1])
+									* FractionArrays.denominator(locSequential[i]));
+		}
+	}
+
+	/**
+	 * Runs unit test for
+	 * {@link FareySequence#spliterator(int, Fraction, Fraction)} when
+	 * splitting.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSpliterator() throws Exception {
+		Spliterator.OfLong locSuffix = FareySequence.spliterator(200, Fraction.valueOf(0), Fraction.valueOf(1));
+		Spliterator.OfLong locPrefix = locSuffix.trySplit();
+		assertNotNull("Not split", locPrefix);
+		List<Long> locAll = new ArrayList<>();
+		locPrefix.forEachRemaining((long argPacked) -> locAll.add(argPacked));
+		int locPrefixLength = locAll.size();
+		locSuffix.forEachRemaining((long argPacked) -> locAll.add(argPacked));
+		assertEquals("Unbalanced split", 0.5, (double) locPrefixLength / locAll.size(), 0.05);
+		assertEquals("Wrong split sequence",
+				StreamSupport.stream(FareySequence.spliterator(200, Fraction.valueOf(0), Fraction.valueOf(1)), false)
+						.collect(Collectors.toList()),
+				locAll);
+		assertNull("Split when small",
+				FareySequence.spliterator(5, Fraction.valueOf(0), Fraction.valueOf(1)).trySplit());
+	}
+
+	/**
+	 * Runs unit test for {@link FareySequence#stream(int)} in case when the
+	 * order is not positive.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testStream_InvalidOrder() throws Exception {
+		FareySequence.stream(0);
+	}
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FixedRational}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FixedRationalTest {
+
+	private static final long CENTS = 100;
+
+	/**
+	 * Runs parameterized unit tests for {@link FixedRational#of(Fraction, long)}
+	 * and accessors.
+	 *
+	 * @param argFraction
+	 *            the value
+	 * @param argScale
+	 *            the scale
+	 * @param argExpectedFixed
+	 *            whether the value is expected in fixed form
+	 * @param argExpectedUnits
+	 *            the expected number of units, if in fixed form
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1/4, 100, true, 25", "-3/5, 100, true, -60", "7, 100, true, 700", "0, 1000, true, 0",
+			"1/3, 100, false, 0", "5/8, 1024, true, 640", "2147483647, 4294967296, true, 9223372032559808512",
+			"2147483647, 8589934592, false, 0" })
+	public void testOf(String argFraction, long argScale, boolean argExpectedFixed, long argExpectedUnits)
+			throws Exception {
+		Fraction locFraction = Fraction.parse(argFraction);
+		FixedRational locFixed = FixedRational.of(locFraction, argScale);
+		assertEquals("Wrong form", argExpectedFixed, locFixed.isFixed());
+		if (argExpectedFixed) {
+			assertEquals("Wrong units", argExpectedUnits, locFixed.getUnits());
+			assertEquals("Wrong scale", argScale, locFixed.getScale());
+		}
+		assertEquals("Wrong fraction", locFraction, locFixed.toFraction());
+		assertEquals("Wrong long fraction", new LongFraction(locFraction), locFixed.toLongFraction());
+		assertEquals("Wrong string", locFraction.toString(), locFixed.toString());
+		assertEquals("Wrong double value", locFraction.doubleValue(), locFixed.doubleValue(), 0.0);
+		assertEquals("Wrong long value", locFraction.longValue(), locFixed.longValue());
+		assertEquals("Wrong value", FixedRational.of(new LongFraction(locFraction), argScale), locFixed);
+	}
+
+	/**
+	 * Runs unit test for {@link FixedRational#ofUnits(long, long)} and
+	 * {@link FixedRational#of(long, long)}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testOfUnits() throws Exception {
+		FixedRational locFixed = FixedRational.ofUnits(1250, CENTS);
+		assertTrue("Wrong form", locFixed.isFixed());
+		assertEquals("Wrong units", 1250, locFixed.getUnits());
+		assertEquals("Wrong fraction", new Fraction(25, 2), locFixed.toFraction());
+		assertEquals("Wrong value", FixedRational.of(12, CENTS).add(FixedRational.ofUnits(50, CENTS)), locFixed);
+		assertFalse("Wrong form", FixedRational.of(Long.MAX_VALUE, CENTS).isFixed());
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FixedRational#ofUnits(long, long)}
+	 * with a scale which is not positive.
+	 *
+	 * @param argScale
+	 *            the scale
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	@Parameters({ "0", "-100" })
+	public void testOfUnits_InvalidScale(long argScale) throws Exception {
+		FixedRational.ofUnits(1, argScale);
+	}
+
+	/**
+	 * Runs unit test for {@link FixedRational#getUnits()} in general form.
+	 *
+	 * @throws Exception
+	 *             expecting {@link IllegalStateException}, otherwise test fails
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testGetUnits_General() throws Exception {
+		FixedRational.of(new Fraction(1, 3), CENTS).getUnits();
+	}
+
+	/**
+	 * Runs parameterized unit tests for the arithmetic operations, against
+	 * {@link LongFraction}, checking the form of the results.
+	 *
+	 * @param argLeft
+	 *            the left operand
+	 * @param argLeftScale
+	 *            the scale of the left operand
+	 * @param argRight
+	 *            the right operand
+	 * @param argRightScale
+	 *            the scale of the right operand
+	 * @param argExpectedFixed
+	 *            whether the results of add, substract, multiply and divide
+	 *            are expected in fixed form, as a string of 4 characters
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1/4, 100, 3/4, 100, FFGG", "1/4, 100, 1/2, 100, FFGF", "1/100, 100, 1/100, 100, FFGF",
+			"1/4, 100, 1/3, 100, GGGF", "1/4, 100, 1/8, 1000, FFGF", "1/4, 100, 2/3, 3, GGGG",
+			"-7/10, 10, 3, 10, FFFG", "0, 100, 5, 100, FFFF", "1/2, 2, -1/2, 2, FFGF" })
+	public void testOperations(String argLeft, long argLeftScale, String argRight, long argRightScale,
+			String argExpectedFixed) throws Exception {
+		Fraction locLeftFraction = Fraction.parse(argLeft);
+		Fraction locRightFraction = Fraction.parse(argRight);
+		FixedRational locLeft = FixedRational.of(locLeftFraction, argLeftScale);
+		FixedRational locRight = FixedRational.of(locRightFraction, argRightScale);
+		LongFraction locLeftLong = new LongFraction(locLeftFraction);
+		LongFraction locRightLong = new LongFraction(locRightFraction);
+		FixedRational[] locResults = { locLeft.add(locRight), locLeft.substract(locRight), locLeft.multiply(locRight),
+				locLeft.divide(locRight) };
+		LongFraction[] locExpected = { locLeftLong.add(locRightLong), locLeftLong.substract(locRightLong),
+				locLeftLong.multiply(locRightLong), locLeftLong.divide(locRightLong) };
+		for (int i = 0; i < locResults.length; i++) {
+			assertEquals("Wrong result " + i, locExpected[i], locResults[i].toLongFraction());
+			assertEquals("Wrong form " + i, argExpectedFixed.charAt(i) == 'F', locResults[i].isFixed());
+		}
+		assertEquals("Wrong negation", locLeftLong.negate(), locLeft.negate().toLongFraction());
+		assertEquals("Wrong product", locLeftLong.multiply(new LongFraction(-3)),
+				locLeft.multiply(-3).toLongFraction());
+		assertEquals("Wrong comparison", Integer.signum(locLeftLong.compareTo(locRightLong)),
+				Integer.signum(locLeft.compareTo(locRight)));
+	}
+
+	/**
+	 * Runs unit test for the arithmetic operations of {@link FixedRational}
+	 * when units overflow long integers, so that results are computed in
+	 * general form.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testOperations_Overflow() throws Exception {
+		// 2^20 squared, whose units overflow before the rescale
+		FixedRational locPower = FixedRational.ofUnits(1L << 40, 1L << 20);
+		FixedRational locSquare = locPower.multiply(locPower);
+		assertTrue("Wrong form", locSquare.isFixed());
+		assertEquals("Wrong units", 1L << 60, locSquare.getUnits());
+		FixedRational locMin = FixedRational.ofUnits(Long.MIN_VALUE, 1);
+		assertEquals("Wrong quotient", new LongFraction(Long.MIN_VALUE),
+				locMin.divide(FixedRational.of(1, 1)).toLongFraction());
+		FixedRational locMax = FixedRational.ofUnits(Long.MAX_VALUE, 2);
+		try {
+			locMin.negate();
+			fail("Negation should overflow");
+		} catch (ArithmeticException e) {
+			// Expected
+		}
+		try {
+			locMax.divide(FixedRational.of(0, 2));
+			fail("Division by zero");
+		} catch (ArithmeticException e) {
+			// Expected
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link FixedRational#add(FixedRational)} on random
+	 * amounts of cents, against {@link Fraction#add(Fraction)}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testAdd_Cents() throws Exception {
+		Random locRandom = new Random(25);
+		FixedRational locSum = FixedRational.of(0, CENTS);
+		Fraction locExpected = Fraction.ZERO;
+		for (int i = 0; i < 1000; i++) {
+			Fraction locAmount = new Fraction(locRandom.nextInt(200001) - 100000, 100);
+			locSum = locSum.add(FixedRational.of(locAmount, CENTS));
+			locExpected = locExpected.add(locAmount);
+		}
+		assertTrue("Wrong form", locSum.isFixed());
+		assertEquals("Wrong sum", locExpected, locSum.toFraction());
+	}
+
+	/**
+	 * Runs unit test for {@link FixedRational#withScale(long)}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testWithScale() throws Exception {
+		FixedRational locFixed = FixedRational.ofUnits(1250, CENTS);
+		assertSame("Wrong rescale", locFixed, locFixed.withScale(CENTS));
+		assertEquals("Wrong units", 12500, locFixed.withScale(1000).getUnits());
+		assertEquals("Wrong units", 125, locFixed.withScale(10).getUnits());
+		assertEquals("Wrong units", 25, locFixed.withScale(2).getUnits());
+		assertFalse("Wrong form", FixedRational.ofUnits(1, CENTS).withScale(10).isFixed());
+		assertEquals("Wrong units", 1, FixedRational.of(new Fraction(1, 3), CENTS).withScale(3).getUnits());
+	}
+
+	/**
+	 * Runs unit test for {@link FixedRational#equals(Object)},
+	 * {@link FixedRational#hashCode()} and
+	 * {@link FixedRational#compareTo(FixedRational)} across forms and scales.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEquals() throws Exception {
+		FixedRational locCents = FixedRational.ofUnits(50, CENTS);
+		FixedRational locMillis = FixedRational.ofUnits(500, 1000);
+		// 1/3 + 1/6, computed in general form
+		FixedRational locGeneral = FixedRational.of(new Fraction(1, 3), CENTS)
+				.add(FixedRational.of(new Fraction(1, 6), 1000));
+		assertEquals("Wrong equality", locCents, locMillis);
+		assertEquals("Wrong hash code", locCents.hashCode(), locMillis.hashCode());
+		assertEquals("Wrong comparison", 0, locCents.compareTo(locMillis));
+		assertEquals("Wrong equality", locCents, locGeneral);
+		assertEquals("Wrong hash code", locCents.hashCode(), locGeneral.hashCode());
+		assertNotEquals("Wrong equality", locCents, FixedRational.ofUnits(51, CENTS));
+		assertTrue("Wrong comparison", locCents.compareTo(FixedRational.ofUnits(51, CENTS)) < 0);
+		assertNotEquals("Wrong equality", locCents, null);
+	}
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FractionAccumulator}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionAccumulatorTest {
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionAccumulator#add(long, long)} and
+	 * {@link FractionAccumulator#substract(long, long)} in nominal case.
+	 *
+	 * @param argLeftNumerator
+	 *            the numerator of the initial value
+	 * @param argLeftDenominator
+	 *            the denominator of the initial value
+	 * @param argRightNumerator
+	 *            the numerator of the value to be added
+	 * @param argRightDenominator
+	 *            the denominator of the value to be added
+	 * @param argExpectedSum
+	 *            the expected sum
+	 * @param argExpectedDifference
+	 *            the expected difference
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "54, 7, 1, 2, 115/14, 101/14", "54, 7, -1, -2, 115/14, 101/14", "1, 6, 1, 6, 1/3, 0",
+			"1, 6, 1, -3, -1/6, 1/2", "0, 1, 3, 9, 1/3, -1/3", "9223372036854775807, 2, 1, 2, 4611686018427387904, 4611686018427387903",
+			"-9223372036854775808, 3, -9223372036854775808, -3, 0, -18446744073709551616/3" })
+	public void testAddSubstract_Nominal(long argLeftNumerator, long argLeftDenominator, long argRightNumerator,
+			long argRightDenominator, String argExpectedSum, String argExpectedDifference) throws Exception {
+		FractionAccumulator locSum = new FractionAccumulator().add(argLeftNumerator, argLeftDenominator);
+		locSum.add(argRightNumerator, argRightDenominator);
+		assertEquals("Wrong sum", argExpectedSum, locSum.toString());
+		FractionAccumulator locDifference = new FractionAccumulator().add(argLeftNumerator, argLeftDenominator);
+		locDifference.substract(argRightNumerator, argRightDenominator);
+		assertEquals("Wrong difference", argExpectedDifference, locDifference.toString());
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionAccumulator#multiply(long, long)} and
+	 * {@link FractionAccumulator#divide(long, long)} in nominal case.
+	 *
+	 * @param argLeftNumerator
+	 *            the numerator of the initial value
+	 * @param argLeftDenominator
+	 *            the denominator of the initial value
+	 * @param argRightNumerator
+	 *            the numerator of the value to be multiplied by
+	 * @param argRightDenominator
+	 *            the denominator of the value to be multiplied by
+	 * @param argExpectedProduct
+	 *            the expected product
+	 * @param argExpectedQuotient
+	 *            the expected quotient
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "54, 7, 1, 2, 27/7, 108/7", "54, 7, -1, -2, 27/7, 108/7", "1, 6, -3, 2, -1/4, -1/9",
+			"0, 1, 3, 9, 0, 0", "-9223372036854775808, 1, 1, -1, 9223372036854775808, 9223372036854775808" })
+	public void testMultiplyDivide_Nominal(long argLeftNumerator, long argLeftDenominator, long argRightNumerator,
+			long argRightDenominator, String argExpectedProduct, String argExpectedQuotient) throws Exception {
+		FractionAccumulator locProduct = new FractionAccumulator().add(argLeftNumerator, argLeftDenominator);
+		locProduct.multiply(argRightNumerator, argRightDenominator);
+		assertEquals("Wrong product", argExpectedProduct, locProduct.toString());
+		FractionAccumulator locQuotient = new FractionAccumulator().add(argLeftNumerator, argLeftDenominator);
+		locQuotient.divide(argRightNumerator, argRightDenominator);
+		assertEquals("Wrong quotient", argExpectedQuotient, locQuotient.toString());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAccumulator#add(Fraction)} with a sum
+	 * which fits in a {@link Fraction}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testAdd_Fraction() throws Exception {
+		FractionAccumulator locAccumulator = new FractionAccumulator();
+		for (int i = 1; i <= 10; i++) {
+			locAccumulator.add(new Fraction(1, i));
+		}
+		assertEquals("Wrong sum", new Fraction(7381, 2520), locAccumulator.toFraction());
+		assertEquals("Wrong sign", 1, locAccumulator.signum());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAccumulator#add(LongFraction)} with a
+	 * sum which only fits in a {@link BigFraction}, then comes back to a
+	 * {@link Fraction} by substractions.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testAdd_Promoted() throws Exception {
+		FractionAccumulator locAccumulator = new FractionAccumulator(new Fraction(1, 3));
+		BigFraction locExpected = new BigFraction(1, 3);
+		for (int i = 1; i <= 60; i++) {
+			locAccumulator.add(new LongFraction(1, i));
+			locExpected = locExpected.add(new BigFraction(1, i));
+		}
+		assertEquals("Wrong sum", locExpected, locAccumulator.toBigFraction());
+		for (int i = 60; i >= 1; i--) {
+			locAccumulator.substract(new LongFraction(1, i));
+		}
+		assertEquals("Wrong difference", new Fraction(1, 3), locAccumulator.toFraction());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAccumulator#multiply(Fraction)} and
+	 * {@link FractionAccumulator#divide(Fraction)} with intermediate values
+	 * which overflow unless reduced.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testMultiplyDivide_Fraction() throws Exception {
+		FractionAccumulator locAccumulator = new FractionAccumulator(new Fraction(1));
+		for (int i = 1; i <= 100; i++) {
+			locAccumulator.multiply(new Fraction(i, i + 1));
+		}
+		assertEquals("Wrong product", new Fraction(1, 101), locAccumulator.toFraction());
+		for (int i = 1; i <= 100; i++) {
+			locAccumulator.divide(new Fraction(-i, i + 1));
+		}
+		assertEquals("Wrong quotient", new Fraction(1), locAccumulator.toFraction());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAccumulator#add(FractionAccumulator)}
+	 * and {@link FractionAccumulator#multiply(FractionAccumulator)}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testCombine() throws Exception {
+		FractionAccumulator locLeft = new FractionAccumulator(new Fraction(1, 2));
+		FractionAccumulator locRight = new FractionAccumulator().add(Long.MAX_VALUE, 1).add(Long.MAX_VALUE, 1);
+		locLeft.add(locRight);
+		assertEquals("Wrong sum", new BigFraction(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(2).add(BigInteger.ONE),
+				BigInteger.valueOf(2)), locLeft.toBigFraction());
+		locLeft.multiply(new FractionAccumulator(new Fraction(2, 3)));
+		assertEquals("Wrong product", new BigFraction(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(2).add(BigInteger.ONE),
+				BigInteger.valueOf(3)), locLeft.toBigFraction());
+		assertEquals("Wrong reset", Fraction.ZERO, locLeft.reset().toFraction());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAccumulator#toFraction()} in case when
+	 * the accumulated value does not fit in a {@link Fraction}.
+	 *
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testToFraction_Overflow() throws Exception {
+		new FractionAccumulator(new Fraction(Integer.MAX_VALUE)).add(new Fraction(1)).toFraction();
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAccumulator#toLongFraction()} in case
+	 * when the accumulated value does not fit in a {@link LongFraction}.
+	 *
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testToLongFraction_Overflow() throws Exception {
+		new FractionAccumulator().add(Long.MAX_VALUE, 1).add(1, 1).toLongFraction();
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAccumulator#add(long, long)} in case
+	 * when denominator is 0.
+	 *
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testAdd_ZeroAsDenominator() throws Exception {
+		new FractionAccumulator().add(1, 0);
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAccumulator#divide(Fraction)} in case
+	 * when divisor is 0.
+	 *
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testDivide_ByZero() throws Exception {
+		new FractionAccumulator(new Fraction(1)).divide(Fraction.ZERO);
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FractionAdder}.
+ */
+public class FractionAdderTest {
+
+	private static final int THREADS = 8;
+	private static final int UPDATES = 20000;
+
+	/**
+	 * Runs unit test for {@link FractionAdder} updated by a single thread.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testAdd_SingleThread() throws Exception {
+		FractionAdder locAdder = new FractionAdder();
+		assertEquals("Wrong initial sum", BigFraction.ZERO, locAdder.sum());
+		locAdder.add(new Fraction(1, 2));
+		locAdder.add(new LongFraction(Long.MAX_VALUE, 3));
+		locAdder.add(Long.MAX_VALUE, -3);
+		locAdder.add(1, 3);
+		assertEquals("Wrong sum", new BigFraction(5, 6), locAdder.sum());
+		assertEquals("Wrong string", "5/6", locAdder.toString());
+		assertEquals("Wrong sum before reset", new BigFraction(5, 6), locAdder.sumThenReset());
+		assertEquals("Wrong sum after reset", BigFraction.ZERO, locAdder.sum());
+		locAdder.add(1, 4);
+		locAdder.reset();
+		assertEquals("Wrong sum after reset", BigFraction.ZERO, locAdder.sum());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAdder} updated concurrently by several
+	 * threads.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testAdd_MultipleThreads() throws Exception {
+		FractionAdder locAdder = new FractionAdder();
+		ExecutorService locExecutor = Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch locStart = new CountDownLatch(1);
+			List<Future<?>> locFutures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				final int locDenominator = t + 2;
+				locFutures.add(locExecutor.submit(() -> {
+					locStart.await();
+					for (int i = 0; i < UPDATES; i++) {
+						locAdder.add(new Fraction(1, locDenominator));
+					}
+					return null;
+				}));
+			}
+			locStart.countDown();
+			for (Future<?> locFuture : locFutures) {
+				locFuture.get();
+			}
+		} finally {
+			locExecutor.shutdown();
+		}
+		BigFraction locExpected = BigFraction.ZERO;
+		for (int t = 0; t < THREADS; t++) {
+			locExpected = locExpected.add(new BigFraction(UPDATES, t + 2));
+		}
+		assertEquals("Wrong sum", locExpected, locAdder.sum());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionAdder#add(long, long)} in case when
+	 * denominator is 0.
+	 *
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testAdd_ZeroAsDenominator() throws Exception {
+		new FractionAdder().add(1, 0);
+	}
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FractionArray}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionArrayTest {
+
+	private static final Fraction[] TEST_FRACTIONS = { new Fraction(117936, 15288), new Fraction(-1, 2),
+			Fraction.ZERO, new Fraction(3, 4), new Fraction(5) };
+
+	/**
+	 * Runs unit test for {@link FractionArray#FractionArray(int)} in nominal
+	 * case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testConstructor_Length() throws Exception {
+		FractionArray locArray = new FractionArray(3);
+		assertEquals("Wrong length", 3, locArray.length());
+		assertArrayEquals("Wrong fractions", new Fraction[] { Fraction.ZERO, Fraction.ZERO, Fraction.ZERO },
+				locArray.toArray());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#FractionArray(int[], int[])} in
+	 * nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testConstructor_Components() throws Exception {
+		FractionArray locArray = new FractionArray(new int[] { 117936, 2, 0, -3, 10 }, new int[] { 15288, -4, 7, -4, 2 });
+		assertArrayEquals("Wrong fractions", TEST_FRACTIONS, locArray.toArray());
+		assertEquals("Wrong numerator", 54, locArray.getNumerator(0));
+		assertEquals("Wrong denominator", 7, locArray.getDenominator(0));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#FractionArray(int[], int[])} in
+	 * case when a denominator is 0.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testConstructor_ZeroAsDenominator() throws Exception {
+		new FractionArray(new int[] { 1, 2 }, new int[] { 1, 0 });
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#FractionArray(int[], int[])} in
+	 * case when lengths differ.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_DifferentLengths() throws Exception {
+		new FractionArray(new int[] { 1, 2 }, new int[] { 1 });
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#set(int, int, int)} in nominal
+	 * case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSet() throws Exception {
+		FractionArray locArray = new FractionArray(2);
+		locArray.set(0, 15288, -117936);
+		locArray.set(1, new Fraction(3, 9));
+		assertEquals("Wrong fraction", new Fraction(-7, 54), locArray.get(0));
+		assertEquals("Wrong fraction", new Fraction(1, 3), locArray.get(1));
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link FractionArray#add(FractionArray)}
+	 * in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the fractions to add to
+	 * @param argRight
+	 *            the fractions to be added
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters(method = "parametersForBinaryOperations")
+	public void testAdd(Fraction[] argLeft, Fraction[] argRight) throws Exception {
+		Fraction[] locExpected = new Fraction[argLeft.length];
+		for (int i = 0; i < argLeft.length; i++) {
+			locExpected[i] = argLeft[i].add(argRight[i]);
+		}
+		assertArrayEquals("Wrong result to add", locExpected,
+				new FractionArray(argLeft).add(new FractionArray(argRight)).toArray());
+	}
+
+	/**
+	 * Runs parameterized unit test for
+	 * {@link FractionArray#multiply(FractionArray)} in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the fractions to be multiplied
+	 * @param argRight
+	 *            the fractions to multiply by
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters(method = "parametersForBinaryOperations")
+	public void testMultiply(Fraction[] argLeft, Fraction[] argRight) throws Exception {
+		Fraction[] locExpected = new Fraction[argLeft.length];
+		for (int i = 0; i < argLeft.length; i++) {
+			locExpected[i] = argLeft[i].multiply(argRight[i]);
+		}
+		assertArrayEquals("Wrong result to multiply", locExpected,
+				new FractionArray(argLeft).multiply(new FractionArray(argRight)).toArray());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForBinaryOperations() {
+		return new Object[][] { { TEST_FRACTIONS, TEST_FRACTIONS },
+				{ TEST_FRACTIONS, new Fraction[] { new Fraction(-54, 7), new Fraction(1, 6), new Fraction(2, 3),
+						new Fraction(4, 3), Fraction.ZERO } } };
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#add(FractionArray)} in case of
+	 * overflow.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testAdd_Overflow() throws Exception {
+		new FractionArray(new Fraction(Integer.MAX_VALUE)).add(new FractionArray(new Fraction(1)));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#add(FractionArray)} in case when
+	 * lengths differ.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testAdd_DifferentLengths() throws Exception {
+		new FractionArray(TEST_FRACTIONS).add(new FractionArray(2));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#scale(Fraction)} in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testScale() throws Exception {
+		assertArrayEquals("Wrong result to scale",
+				new Fraction[] { new Fraction(-36, 7), new Fraction(1, 3), Fraction.ZERO, new Fraction(-1, 2),
+						new Fraction(-10, 3) },
+				new FractionArray(TEST_FRACTIONS).scale(new Fraction(-2, 3)).toArray());
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link FractionArray#sum()} in nominal
+	 * case.
+	 * 
+	 * @param argFractions
+	 *            the fractions to be summed
+	 * @param argExpectedResult
+	 *            the expected sum
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testSum(Fraction[] argFractions, Fraction argExpectedResult) throws Exception {
+		assertEquals("Wrong result to sum", argExpectedResult, new FractionArray(argFractions).sum());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestSum() {
+		return new Object[][] { { TEST_FRACTIONS, new Fraction(363, 28) }, { new Fraction[0], Fraction.ZERO },
+				{ new Fraction[] { new Fraction(1, 3), new Fraction(-1, 3) }, Fraction.ZERO },
+				{ new Fraction[] { new Fraction(Integer.MAX_VALUE), new Fraction(Integer.MAX_VALUE),
+						new Fraction(-Integer.MAX_VALUE) }, new Fraction(Integer.MAX_VALUE) } };
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#dot(FractionArray)} in nominal
+	 * case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testDot() throws Exception {
+		Fraction locExpected = Fraction.ZERO;
+		for (Fraction locFraction : TEST_FRACTIONS) {
+			locExpected = locExpected.add(locFraction.multiply(locFraction));
+		}
+		assertEquals("Wrong result to dot", locExpected,
+				new FractionArray(TEST_FRACTIONS).dot(new FractionArray(TEST_FRACTIONS)));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#sort()} on random fractions.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSort() throws Exception {
+		Random locRandom = new Random(42);
+		Fraction[] locFractions = new Fraction[1000];
+		for (int i = 0; i < locFractions.length; i++) {
+			locFractions[i] = new Fraction(locRandom.nextInt(200) - 100, 1 + locRandom.nextInt(50));
+		}
+		FractionArray locArray = new FractionArray(locFractions);
+		Arrays.sort(locFractions);
+		assertArrayEquals("Wrong result to sort", locFractions, locArray.sort().toArray());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#parallelSort()} on random
+	 * fractions.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testParallelSort() throws Exception {
+		Random locRandom = new Random(42);
+		Fraction[] locFractions = new Fraction[100000];
+		for (int i = 0; i < locFractions.length; i++) {
+			locFractions[i] = new Fraction(locRandom.nextInt(200) - 100, 1 + locRandom.nextInt(50));
+		}
+		FractionArray locArray = new FractionArray(locFractions);
+		Arrays.sort(locFractions);
+		assertArrayEquals("Wrong result to parallelSort", locFractions, locArray.parallelSort().toArray());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#toString()} in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testToString() throws Exception {
+		assertEquals("Wrong string", "[54/7, -1/2, 0, 3/4, 5]", new FractionArray(TEST_FRACTIONS).toString());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArray#equals(Object)} in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEquals() throws Exception {
+		FractionArray locArray = new FractionArray(TEST_FRACTIONS);
+		assertEquals("Wrong result to equals", locArray, new FractionArray(TEST_FRACTIONS));
+		assertEquals("Wrong result to hashCode", locArray.hashCode(), new FractionArray(TEST_FRACTIONS).hashCode());
+		assertNotEquals("Wrong result to equals", locArray, new FractionArray(TEST_FRACTIONS).scale(new Fraction(2)));
+	}
+
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FractionArrays}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionArraysTest {
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionArrays#sort(int[], int[])}
+	 * and {@link FractionArrays#parallelSort(int[], int[])} on random
+	 * fractions, which are not reduced.
+	 * 
+	 * @param argLength
+	 *            the number of fractions
+	 * @param argParallel
+	 *            whether to sort in parallel
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "0, false", "1, false", "15, false", "1000, false", "1000, true", "100000, true" })
+	public void testSort(int argLength, boolean argParallel) throws Exception {
+		int[] locNumerators = new int[argLength];
+		int[] locDenominators = new int[argLength];
+		Fraction[] locExpected = randomFractions(locNumerators, locDenominators);
+		Arrays.sort(locExpected);
+		if (argParallel) {
+			FractionArrays.parallelSort(locNumerators, locDenominators);
+		} else {
+			FractionArrays.sort(locNumerators, locDenominators);
+		}
+		for (int i = 0; i < argLength; i++) {
+			assertEquals("Wrong fraction at " + i, locExpected[i],
+					new Fraction(locNumerators[i], locDenominators[i]));
+		}
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionArrays#sort(long[])} and
+	 * {@link FractionArrays#parallelSort(long[])} on random fractions, as well
+	 * as {@link FractionArrays#binarySearch(long[], Fraction)}.
+	 * 
+	 * @param argLength
+	 *            the number of fractions
+	 * @param argParallel
+	 *            whether to sort in parallel
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "0, false", "1, false", "15, false", "1000, false", "1000, true", "100000, true" })
+	public void testSortPacked(int argLength, boolean argParallel) throws Exception {
+		Fraction[] locExpected = randomFractions(new int[argLength], new int[argLength]);
+		long[] locPacked = new long[argLength];
+		for (int i = 0; i < argLength; i++) {
+			locPacked[i] = FractionArrays.pack(locExpected[i]);
+		}
+		Arrays.sort(locExpected);
+		if (argParallel) {
+			FractionArrays.parallelSort(locPacked);
+		} else {
+			FractionArrays.sort(locPacked);
+		}
+		for (int i = 0; i < argLength; i++) {
+			assertEquals("Wrong fraction at " + i, locExpected[i], FractionArrays.unpack(locPacked[i]));
+		}
+		for (int i = 0; i < argLength; i += 97) {
+			int locIndex = FractionArrays.binarySearch(locPacked, locExpected[i]);
+			assertEquals("Wrong fraction found", locExpected[i], FractionArrays.unpack(locPacked[locIndex]));
+		}
+		assertEquals("Wrong insertion point", -argLength - 1,
+				FractionArrays.binarySearch(locPacked, new Fraction(Integer.MAX_VALUE)));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArrays#sort(int[], int[], int, int)}
+	 * on a range.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSort_Range() throws Exception {
+		int[] locNumerators = { 5, 3, 2, 1, 0 };
+		int[] locDenominators = { 1, 4, 4, 2, 1 };
+		FractionArrays.sort(locNumerators, locDenominators, 1, 4);
+		assertArrayEquals("Wrong numerators", new int[] { 5, 2, 1, 3, 0 }, locNumerators);
+		assertArrayEquals("Wrong denominators", new int[] { 1, 4, 2, 4, 1 }, locDenominators);
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionArrays#sort(int[], int[], int, int)} in case when the
+	 * range is out of bounds.
+	 * 
+	 * @param argFrom
+	 *            the index of the first fraction
+	 * @param argTo
+	 *            the index of the last fraction
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	@Parameters({ "-1, 2", "0, 4", "2, 1" })
+	public void testSort_InvalidRange(int argFrom, int argTo) throws Exception {
+		FractionArrays.sort(new int[3], new int[3], argFrom, argTo);
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArrays#sort(int[], int[])} in case
+	 * when arrays have different lengths.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testSort_LengthMismatch() throws Exception {
+		FractionArrays.sort(new int[3], new int[2]);
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArrays#select(int[], int[], int)} and
+	 * {@link FractionArrays#select(long[], int)} for every rank.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSelect() throws Exception {
+		int[] locNumerators = new int[300];
+		int[] locDenominators = new int[300];
+		Fraction[] locExpected = randomFractions(locNumerators, locDenominators);
+		long[] locPacked = new long[locExpected.length];
+		for (int i = 0; i < locPacked.length; i++) {
+			locPacked[i] = FractionArrays.pack(locExpected[i]);
+		}
+		Arrays.sort(locExpected);
+		for (int k = 0; k < locExpected.length; k++) {
+			assertEquals("Wrong selection", locExpected[k], FractionArrays.select(locNumerators, locDenominators, k));
+			for (int i = 0; i < locNumerators.length; i++) {
+				int locComparison = new Fraction(locNumerators[i], locDenominators[i]).compareTo(locExpected[k]);
+				assertTrue("Wrong partition", (i < k) ? locComparison <= 0 : locComparison >= 0);
+			}
+			assertEquals("Wrong packed selection", locExpected[k],
+					FractionArrays.unpack(FractionArrays.select(locPacked, k)));
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArrays#select(long[], int)} in case
+	 * when the rank is out of bounds.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testSelect_InvalidRank() throws Exception {
+		FractionArrays.select(new long[3], 3);
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionArrays#median(int[], int[])} and
+	 * {@link FractionArrays#median(long[])} in nominal case.
+	 * 
+	 * @param argFractions
+	 *            the fractions, separated by spaces
+	 * @param argExpected
+	 *            the expected median
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "3/4, 3/4", "1/2 1/3, 5/12", "5 -1 2/4 7, 11/4", "1 2 3 4 5 6 7 8 9 10 11 12 13 14 15 16 17 18 19 20, 21/2",
+			"2147483647 2147483647, 2147483647", "1/3 1/6, 1/4" })
+	public void testMedian(String argFractions, String argExpected) throws Exception {
+		String[] locValues = argFractions.split(" ");
+		int[] locNumerators = new int[locValues.length];
+		int[] locDenominators = new int[locValues.length];
+		long[] locPacked = new long[locValues.length];
+		for (int i = 0; i < locValues.length; i++) {
+			Fraction locFraction = Fraction.parse(locValues[i]);
+			locNumerators[i] = locFraction.getNumerator();
+			locDenominators[i] = locFraction.getDenominator();
+			locPacked[i] = FractionArrays.pack(locFraction);
+		}
+		assertEquals("Wrong median", argExpected, FractionArrays.median(locNumerators, locDenominators).toString());
+		assertEquals("Wrong packed median", argExpected, FractionArrays.median(locPacked).toString());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArrays#median(int[], int[])} in case
+	 * when the median overflows.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testMedian_Overflow() throws Exception {
+		FractionArrays.median(new int[] { 1, 1 }, new int[] { 2147483647, 2147483646 });
+	}
+
+	/**
+	 * Runs unit test for {@link FractionArrays#median(long[])} in case when the
+	 * array is empty.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testMedian_Empty() throws Exception {
+		FractionArrays.median(new long[0]);
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionArrays#binarySearch(int[], int[], Fraction)} in nominal
+	 * case.
+	 * 
+	 * @param argKey
+	 *            the fraction to search for
+	 * @param argExpected
+	 *            the expected result
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "-1, -1", "-1/2, 0", "1/3, 1", "2/3, 2", "1/2, -3", "1, 3", "3/2, -5" })
+	public void testBinarySearch(String argKey, int argExpected) throws Exception {
+		// Denominators need not be reduced
+		int[] locNumerators = { -2, 2, 4, 3 };
+		int[] locDenominators = { 4, 6, 6, 3 };
+		assertEquals("Wrong index", argExpected,
+				FractionArrays.binarySearch(locNumerators, locDenominators, Fraction.parse(argKey)));
+	}
+
+	/*
+	 * Fills parallel arrays with random fractions, many of which are equal,
+	 * and returns them.
+	 */
+	private static Fraction[] randomFractions(int[] argNumerators, int[] argDenominators) {
+		Random locRandom = new Random(19);
+		Fraction[] locFractions = new Fraction[argNumerators.length];
+		for (int i = 0; i < locFractions.length; i++) {
+			argNumerators[i] = locRandom.nextInt(200) - 100;
+			argDenominators[i] = 1 + locRandom.nextInt(50);
+			locFractions[i] = new Fraction(argNumerators[i], argDenominators[i]);
+		}
+		return locFractions;
+	}
+
+}
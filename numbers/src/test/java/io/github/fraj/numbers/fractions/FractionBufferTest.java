@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FractionBuffer}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionBufferTest {
+
+	/**
+	 * Temporary folder for mapped files
+	 */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#allocateDirect(long)} in nominal
+	 * case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testAllocateDirect() throws Exception {
+		FractionBuffer locBuffer = FractionBuffer.allocateDirect(3);
+		assertEquals("Wrong capacity", 3, locBuffer.capacity());
+		for (int i = 0; i < 3; i++) {
+			assertEquals("Wrong initial value", Fraction.ZERO, locBuffer.get(i));
+		}
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionBuffer#set(long, int, int)}
+	 * in nominal case.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argExpectedNumerator
+	 *            the expected reduced numerator of the stored fraction
+	 * @param argExpectedDenominator
+	 *            the expected reduced denominator of the stored fraction
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "117936, 15288, 54, 7", "15288, -117936, -7, 54", "-117936, -15288, 54, 7", "0, 25, 0, 1" })
+	public void testSet(int argNumerator, int argDenominator, int argExpectedNumerator, int argExpectedDenominator)
+			throws Exception {
+		FractionBuffer locBuffer = FractionBuffer.allocateDirect(2).set(1, argNumerator, argDenominator);
+		assertEquals("Wrong numerator for reduced fraction", argExpectedNumerator, locBuffer.getNumerator(1));
+		assertEquals("Wrong denominator for reduced fraction", argExpectedDenominator, locBuffer.getDenominator(1));
+		assertEquals("Wrong fraction", new Fraction(argNumerator, argDenominator), locBuffer.get(1));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#set(long, int, int)} in case
+	 * when denominator is 0.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testSet_ZeroAsDenominator() throws Exception {
+		FractionBuffer.allocateDirect(1).set(0, 1, 0);
+	}
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#get(long)} in case when index is
+	 * out of bounds.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link IndexOutOfBoundsException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGet_OutOfBounds() throws Exception {
+		FractionBuffer.allocateDirect(1).get(1);
+	}
+
+	/**
+	 * Runs unit test for relative {@link FractionBuffer#put(int, int)} and
+	 * {@link FractionBuffer#get()} in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSequentialAccess() throws Exception {
+		FractionBuffer locBuffer = FractionBuffer.allocateDirect(3);
+		locBuffer.put(2, 4).put(new Fraction(3)).put(-6, 9);
+		assertFalse("Buffer should be full", locBuffer.hasRemaining());
+		locBuffer.position(0);
+		assertEquals("Wrong fraction", new Fraction(1, 2), locBuffer.get());
+		assertEquals("Wrong fraction", new Fraction(3), locBuffer.get());
+		assertEquals("Wrong fraction", new Fraction(-2, 3), locBuffer.get());
+		assertEquals("Wrong position", 3, locBuffer.position());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#put(int, int)} in case when the
+	 * buffer is full.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link BufferOverflowException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = BufferOverflowException.class)
+	public void testPut_Overflow() throws Exception {
+		FractionBuffer.allocateDirect(1).put(1, 2).put(1, 3);
+	}
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#sum()} in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSum() throws Exception {
+		FractionBuffer locBuffer = FractionBuffer.allocateDirect(100);
+		for (int i = 0; i < 100; i++) {
+			locBuffer.put(1, (i + 1) * (i + 2));
+		}
+		assertEquals("Wrong sum", new BigFraction(100, 101), locBuffer.sum());
+		assertEquals("Wrong partial sum", new BigFraction(50, 51 * 101), locBuffer.sum(50, 100));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#sum()} in case when the sum
+	 * overflows a long.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSum_Overflow() throws Exception {
+		FractionBuffer locBuffer = FractionBuffer.allocateDirect(4);
+		locBuffer.put(1, Integer.MAX_VALUE).put(1, Integer.MAX_VALUE - 1).put(1, Integer.MAX_VALUE - 2).put(1,
+				Integer.MAX_VALUE - 3);
+		BigFraction locExpected = BigFraction.ZERO;
+		for (int i = 0; i < 4; i++) {
+			locExpected = locExpected.add(new BigFraction(1, Integer.MAX_VALUE - i));
+		}
+		assertEquals("Wrong sum", locExpected, locBuffer.sum());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#map(Path, long)} and
+	 * {@link FractionBuffer#map(Path)} in nominal case: values written to a file
+	 * are read back when the file is reopened.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testMap() throws Exception {
+		Path locPath = folder.newFile().toPath();
+		FractionBuffer locBuffer = FractionBuffer.map(locPath, 3);
+		locBuffer.put(117936, 15288).put(-1, 3).put(5, 1).force();
+		assertEquals("Wrong file size", 3 * FractionBuffer.BYTES, Files.size(locPath));
+		FractionBuffer locReopened = FractionBuffer.map(locPath);
+		assertEquals("Wrong capacity", 3, locReopened.capacity());
+		assertEquals("Wrong fraction", new Fraction(54, 7), locReopened.get(0));
+		assertEquals("Wrong fraction", new Fraction(-1, 3), locReopened.get(1));
+		assertEquals("Wrong fraction", new Fraction(5), locReopened.get(2));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#map(Path, long)} on a new file,
+	 * then on an extended one: new fractions are zeros.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testMap_NewFile() throws Exception {
+		Path locPath = folder.getRoot().toPath().resolve("new.bin");
+		FractionBuffer locBuffer = FractionBuffer.map(locPath, 3);
+		assertEquals("Wrong fraction", Fraction.ZERO, locBuffer.get(0));
+		assertEquals("Wrong denominator", 1, locBuffer.getDenominator(2));
+		assertEquals("Wrong sum", BigFraction.ZERO, locBuffer.sum());
+		locBuffer.set(2, new Fraction(1, 3)).force();
+		FractionBuffer locExtended = FractionBuffer.map(locPath, 5).normalize();
+		assertEquals("Wrong fraction", new Fraction(1, 3), locExtended.get(2));
+		assertEquals("Wrong fraction", Fraction.ZERO, locExtended.get(4));
+		assertEquals("Wrong sum", new BigFraction(1, 3), locExtended.sum());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#map(Path)} in case of writing.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ReadOnlyBufferException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = ReadOnlyBufferException.class)
+	public void testMap_ReadOnly() throws Exception {
+		Path locPath = folder.newFile().toPath();
+		FractionBuffer.map(locPath, 1).force();
+		FractionBuffer.map(locPath).set(0, Fraction.ZERO);
+	}
+
+	/**
+	 * Runs unit test for {@link FractionBuffer#normalize()} on a file which was
+	 * not written by a {@link FractionBuffer}.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testNormalize() throws Exception {
+		Path locPath = folder.newFile().toPath();
+		ByteBuffer locContent = ByteBuffer.allocate(3 * FractionBuffer.BYTES);
+		locContent.putInt(117936).putInt(15288).putInt(2).putInt(-4).putInt(3).putInt(7);
+		Files.write(locPath, locContent.array());
+		FractionBuffer locBuffer = FractionBuffer.map(locPath, 3).normalize();
+		assertEquals("Wrong numerator", 54, locBuffer.getNumerator(0));
+		assertEquals("Wrong denominator", 7, locBuffer.getDenominator(0));
+		assertEquals("Wrong numerator", -1, locBuffer.getNumerator(1));
+		assertEquals("Wrong denominator", 2, locBuffer.getDenominator(1));
+		assertEquals("Wrong fraction", new Fraction(3, 7), locBuffer.get(2));
+	}
+
+}
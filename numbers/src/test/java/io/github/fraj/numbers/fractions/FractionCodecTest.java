@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FractionCodec}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionCodecTest {
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionCodec#encode(Fraction, ByteBuffer)} and
+	 * {@link FractionCodec#decode(ByteBuffer)} in nominal case.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argExpectedLength
+	 *            the expected number of bytes of the encoded fraction
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "0, 1, 1", "-1, 1, 1", "31, 1, 1", "-32, 1, 1", "32, 1, 2", "1, 2, 2", "-3, 4, 2", "22, 7, 2",
+			"355, 113, 3", "2147483647, 1, 5", "-2147483648, 1, 5", "2147483647, 2147483646, 10",
+			"-2147483648, 2147483647, 10" })
+	public void testEncodeDecode(int argNumerator, int argDenominator, int argExpectedLength) throws Exception {
+		Fraction locFraction = new Fraction(argNumerator, argDenominator);
+		assertEquals("Wrong encoded length", argExpectedLength, FractionCodec.encodedLength(locFraction));
+		ByteBuffer locBuffer = ByteBuffer.allocate(FractionCodec.MAX_ENCODED_LENGTH + 1);
+		locBuffer.put((byte) 42);
+		FractionCodec.encode(locFraction, locBuffer);
+		assertEquals("Wrong position after encoding", 1 + argExpectedLength, locBuffer.position());
+		locBuffer.flip().position(1);
+		assertEquals("Wrong decoded fraction", locFraction, FractionCodec.decode(locBuffer));
+		assertFalse("Remaining bytes after decoding", locBuffer.hasRemaining());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionCodec#encode(Fraction, ByteBuffer)} in
+	 * case when the buffer is too small.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEncode_Overflow() throws Exception {
+		ByteBuffer locBuffer = ByteBuffer.allocate(3);
+		locBuffer.put((byte) 42);
+		try {
+			FractionCodec.encode(new Fraction(355, 113), locBuffer);
+			fail("BufferOverflowException expected");
+		} catch (BufferOverflowException e) {
+			assertEquals("Position moved", 1, locBuffer.position());
+		}
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionCodec#decode(ByteBuffer)}
+	 * in case when the input is truncated.
+	 * 
+	 * @param argBytes
+	 *            the input bytes
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "5", "-128", "5 -1 -1" })
+	public void testDecode_Underflow(String argBytes) throws Exception {
+		ByteBuffer locBuffer = bytes(argBytes);
+		try {
+			FractionCodec.decode(locBuffer);
+			fail("BufferUnderflowException expected");
+		} catch (BufferUnderflowException e) {
+			assertEquals("Position moved", 0, locBuffer.position());
+		}
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionCodec#decode(ByteBuffer)}
+	 * in case when the input is malformed.
+	 * 
+	 * @param argBytes
+	 *            the input bytes
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "9 0", "1 2", "-128 -128 -128 -128 -128 0", "-1 -1 -1 -1 127", "5 -1 -1 -1 -1 7" })
+	public void testDecode_Malformed(String argBytes) throws Exception {
+		ByteBuffer locBuffer = bytes(argBytes);
+		try {
+			FractionCodec.decode(locBuffer);
+			fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Position moved", 0, locBuffer.position());
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link FractionCodec#encode(FractionArray, ByteBuffer)}
+	 * and {@link FractionCodec#decodeArray(ByteBuffer)} in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEncodeDecodeArray() throws Exception {
+		FractionArray locArray = new FractionArray(new Fraction(1, 2), Fraction.ZERO, new Fraction(-355, 113),
+				new Fraction(Integer.MIN_VALUE, 1));
+		ByteBuffer locBuffer = ByteBuffer.allocate(64);
+		FractionCodec.encode(locArray, locBuffer);
+		assertEquals("Wrong encoded length", 1 + 2 + 1 + 3 + 5, locBuffer.position());
+		locBuffer.flip();
+		assertEquals("Wrong decoded array", locArray, FractionCodec.decodeArray(locBuffer));
+		assertFalse("Remaining bytes after decoding", locBuffer.hasRemaining());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionCodec#decodeArray(ByteBuffer)} in case
+	 * when the input is truncated or malformed.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testDecodeArray_Invalid() throws Exception {
+		ByteBuffer locBuffer = bytes("-1 -1 -1 -1 7 0");
+		try {
+			FractionCodec.decodeArray(locBuffer);
+			fail("BufferUnderflowException expected");
+		} catch (BufferUnderflowException e) {
+			assertEquals("Position moved", 0, locBuffer.position());
+		}
+		locBuffer = bytes("2 0 9 0");
+		try {
+			FractionCodec.decodeArray(locBuffer);
+			fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Position moved", 0, locBuffer.position());
+		}
+	}
+
+	/*
+	 * Wraps bytes separated by spaces.
+	 */
+	private static ByteBuffer bytes(String argBytes) {
+		String[] locValues = argBytes.split(" ");
+		ByteBuffer locBuffer = ByteBuffer.allocate(locValues.length);
+		for (String locValue : locValues) {
+			locBuffer.put(Byte.parseByte(locValue));
+		}
+		locBuffer.flip();
+		return locBuffer;
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FractionCollectors}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionCollectorsTest {
+
+	private static Stream<Fraction> fractions(int argCount, boolean argParallel) {
+		IntStream locIndexes = IntStream.rangeClosed(1, argCount);
+		return (argParallel ? locIndexes.parallel() : locIndexes)
+				.mapToObj(i -> new Fraction(i % 17 - 8, i % 13 + 1));
+	}
+
+	private static BigFraction expectedSum(int argCount) {
+		BigFraction locSum = BigFraction.ZERO;
+		for (int i = 1; i <= argCount; i++) {
+			locSum = locSum.add(new BigFraction(i % 17 - 8, i % 13 + 1));
+		}
+		return locSum;
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionCollectors#summing()}.
+	 *
+	 * @param argCount
+	 *            the number of {@link Fraction}s to be summed
+	 * @param argParallel
+	 *            whether the stream is parallel
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "0, false", "1, false", "10000, false", "0, true", "1, true", "10000, true" })
+	public void testSumming(int argCount, boolean argParallel) throws Exception {
+		assertEquals("Wrong sum", expectedSum(argCount),
+				fractions(argCount, argParallel).collect(FractionCollectors.summing()));
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionCollectors#averaging()}.
+	 *
+	 * @param argCount
+	 *            the number of {@link Fraction}s to be averaged
+	 * @param argParallel
+	 *            whether the stream is parallel
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "0, false", "1, false", "10000, false", "0, true", "1, true", "10000, true" })
+	public void testAveraging(int argCount, boolean argParallel) throws Exception {
+		BigFraction locExpected = (argCount == 0) ? BigFraction.ZERO
+				: expectedSum(argCount).divide(new BigFraction(argCount));
+		assertEquals("Wrong average", locExpected,
+				fractions(argCount, argParallel).collect(FractionCollectors.averaging()));
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionCollectors#product()},
+	 * with a product which only fits in a {@link BigFraction}.
+	 *
+	 * @param argParallel
+	 *            whether the stream is parallel
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "false", "true" })
+	public void testProduct(boolean argParallel) throws Exception {
+		BigFraction locExpected = new BigFraction(1);
+		for (int i = 1; i <= 200; i++) {
+			locExpected = locExpected.multiply(new BigFraction(i + 1, 2 * i + 1));
+		}
+		IntStream locIndexes = IntStream.rangeClosed(1, 200);
+		assertEquals("Wrong product", locExpected, (argParallel ? locIndexes.parallel() : locIndexes)
+				.mapToObj(i -> new Fraction(i + 1, 2 * i + 1)).collect(FractionCollectors.product()));
+		assertEquals("Wrong empty product", new BigFraction(1),
+				Stream.<Fraction> empty().collect(FractionCollectors.product()));
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionCollectors#summaryStatistics()}.
+	 *
+	 * @param argParallel
+	 *            whether the stream is parallel
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "false", "true" })
+	public void testSummaryStatistics(boolean argParallel) throws Exception {
+		FractionSummaryStatistics locStatistics = fractions(10000, argParallel)
+				.collect(FractionCollectors.summaryStatistics());
+		assertEquals("Wrong count", 10000, locStatistics.getCount());
+		assertEquals("Wrong sum", expectedSum(10000), locStatistics.getSum());
+		assertEquals("Wrong min", new Fraction(-8), locStatistics.getMin());
+		assertEquals("Wrong max", new Fraction(8), locStatistics.getMax());
+		assertEquals("Wrong average", expectedSum(10000).divide(new BigFraction(10000)), locStatistics.getAverage());
+	}
+
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FractionInput}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionInputTest {
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionInput#readFraction()}
+	 * and {@link FractionInput#readFractionArray()} on fractions written by
+	 * {@link FractionOutput}, across all kinds of sources.
+	 * 
+	 * @param argSource
+	 *            the kind of source
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "STREAM", "CHANNEL", "DATA_INPUT" })
+	public void testRoundTrip(String argSource) throws Exception {
+		Random locRandom = new Random(17);
+		Fraction[] locFractions = new Fraction[5000];
+		for (int i = 0; i < locFractions.length; i++) {
+			int locDenominator = (locRandom.nextInt(4) == 0) ? 1 : locRandom.nextInt(Integer.MAX_VALUE) + 1;
+			locFractions[i] = new Fraction(locRandom.nextInt(), locDenominator);
+		}
+		FractionArray locArray = new FractionArray(locFractions);
+		ByteArrayOutputStream locStream = new ByteArrayOutputStream();
+		try (FractionOutput locOutput = FractionOutput.toStream(locStream)) {
+			for (Fraction locFraction : locFractions) {
+				locOutput.write(locFraction);
+			}
+			locOutput.write(locArray);
+		}
+		try (FractionInput locInput = open(argSource, locStream.toByteArray())) {
+			for (Fraction locFraction : locFractions) {
+				assertEquals("Wrong fraction", locFraction, locInput.readFraction());
+			}
+			assertEquals("Wrong array", locArray, locInput.readFractionArray());
+			try {
+				locInput.readFraction();
+				fail("EOFException expected");
+			} catch (EOFException e) {
+				// Expected exception
+			}
+		}
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionInput#readFraction()} in
+	 * case when the source ends within a fraction.
+	 * 
+	 * @param argSource
+	 *            the kind of source
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = EOFException.class)
+	@Parameters({ "STREAM", "CHANNEL", "DATA_INPUT" })
+	public void testReadFraction_Truncated(String argSource) throws Exception {
+		open(argSource, new byte[] { 5, -1 }).readFraction();
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionInput#readFraction()} in
+	 * case when the source holds a fraction which is not reduced.
+	 * 
+	 * @param argSource
+	 *            the kind of source
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "STREAM", "CHANNEL", "DATA_INPUT" })
+	public void testReadFraction_Malformed(String argSource) throws Exception {
+		try {
+			open(argSource, new byte[] { 9, 0 }).readFraction();
+			fail("IOException expected");
+		} catch (IOException e) {
+			assertTrue("Wrong cause", e.getCause() instanceof IllegalArgumentException);
+		}
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionInput#readFractionArray()} in case when the source ends
+	 * within the array.
+	 * 
+	 * @param argSource
+	 *            the kind of source
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = EOFException.class)
+	@Parameters({ "STREAM", "CHANNEL", "DATA_INPUT" })
+	public void testReadFractionArray_Truncated(String argSource) throws Exception {
+		open(argSource, new byte[] { 3, 0, 5, 0 }).readFractionArray();
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionInput#readFractionArray()} in case when the source holds
+	 * a huge length but few fractions: arrays must not be allocated upfront.
+	 * 
+	 * @param argSource
+	 *            the kind of source
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "STREAM", "CHANNEL", "DATA_INPUT" })
+	public void testReadFractionArray_HugeLength(String argSource) throws Exception {
+		byte[][] locHeaders = { { -1, -1, -1, -1, 7, 2, 4 }, { -128, -128, -128, -128, 1, 2 } };
+		for (byte[] locHeader : locHeaders) {
+			try {
+				open(argSource, locHeader).readFractionArray();
+				fail("EOFException expected");
+			} catch (EOFException e) {
+				// Expected exception
+			}
+		}
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link FractionInput#readFractionArray()} with an array longer than the
+	 * chunks it is read by.
+	 * 
+	 * @param argSource
+	 *            the kind of source
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "STREAM", "CHANNEL", "DATA_INPUT" })
+	public void testReadFractionArray_Long(String argSource) throws Exception {
+		FractionArray locArray = new FractionArray(20001);
+		for (int i = 0; i < locArray.length(); i++) {
+			locArray.set(i, i - 10000, 1 + i % 7);
+		}
+		ByteArrayOutputStream locStream = new ByteArrayOutputStream();
+		try (FractionOutput locOutput = FractionOutput.toStream(locStream)) {
+			locOutput.write(locArray);
+		}
+		assertEquals("Wrong array", locArray, open(argSource, locStream.toByteArray()).readFractionArray());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionInput#fromDataInput(java.io.DataInput)}
+	 * when interleaving fractions with other values.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testFromDataInput() throws Exception {
+		DataInputStream locDataInput = new DataInputStream(
+				new ByteArrayInputStream(new byte[] { 42, 89, 5, 43, 2, 5, 0, 4, 44 }));
+		FractionInput locInput = FractionInput.fromDataInput(locDataInput);
+		assertEquals("Wrong byte", 42, locDataInput.readByte());
+		assertEquals("Wrong fraction", new Fraction(22, 7), locInput.readFraction());
+		assertEquals("Wrong byte", 43, locDataInput.readByte());
+		assertEquals("Wrong array", new FractionArray(new Fraction(1, 2), new Fraction(1, 1)), locInput.readFractionArray());
+		assertEquals("Wrong byte", 44, locDataInput.readByte());
+	}
+
+	/*
+	 * Opens a reader of the given kind over bytes.
+	 */
+	private static FractionInput open(String argSource, byte[] argBytes) {
+		ByteArrayInputStream locStream = new ByteArrayInputStream(argBytes);
+		switch (argSource) {
+		case "STREAM":
+			return FractionInput.fromStream(locStream);
+		case "CHANNEL":
+			return FractionInput.fromChannel(Channels.newChannel(locStream));
+		default:
+			return FractionInput.fromDataInput(new DataInputStream(locStream));
+		}
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+
+/**
+ * Unit tests for {@link FractionOutput}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionOutputTest {
+
+	/**
+	 * Runs unit test for {@link FractionOutput#toStream(java.io.OutputStream)}
+	 * in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testToStream() throws Exception {
+		ByteArrayOutputStream locStream = new ByteArrayOutputStream();
+		FractionOutput locOutput = FractionOutput.toStream(locStream);
+		locOutput.write(new Fraction(1, 2));
+		locOutput.write(new Fraction(-1, 1));
+		assertEquals("Written before flush", 0, locStream.size());
+		locOutput.flush();
+		assertArrayEquals("Wrong bytes", new byte[] { 5, 0, 2 }, locStream.toByteArray());
+	}
+
+	/**
+	 * Runs unit test for
+	 * {@link FractionOutput#toChannel(java.nio.channels.WritableByteChannel)}
+	 * when writing more than the internal buffer holds.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testToChannel() throws Exception {
+		ByteArrayOutputStream locStream = new ByteArrayOutputStream();
+		try (FractionOutput locOutput = FractionOutput.toChannel(Channels.newChannel(locStream))) {
+			for (int i = 0; i < 10000; i++) {
+				locOutput.write(new Fraction(Integer.MAX_VALUE, Integer.MAX_VALUE - 1));
+			}
+		}
+		assertEquals("Wrong length", 10000 * FractionCodec.MAX_ENCODED_LENGTH, locStream.size());
+		ByteBuffer locBuffer = ByteBuffer.wrap(locStream.toByteArray());
+		for (int i = 0; i < 10000; i++) {
+			assertEquals("Wrong fraction", new Fraction(Integer.MAX_VALUE, Integer.MAX_VALUE - 1),
+					FractionCodec.decode(locBuffer));
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link FractionOutput#toDataOutput(java.io.DataOutput)}
+	 * when interleaving fractions with other values.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testToDataOutput() throws Exception {
+		ByteArrayOutputStream locStream = new ByteArrayOutputStream();
+		DataOutputStream locDataOutput = new DataOutputStream(locStream);
+		FractionOutput locOutput = FractionOutput.toDataOutput(locDataOutput);
+		locDataOutput.writeByte(42);
+		locOutput.write(new Fraction(22, 7));
+		locDataOutput.writeByte(43);
+		locOutput.write(new FractionArray(new Fraction(1, 2), new Fraction(1, 1)));
+		locDataOutput.writeByte(44);
+		assertArrayEquals("Wrong bytes", new byte[] { 42, 89, 5, 43, 2, 5, 0, 4, 44 }, locStream.toByteArray());
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link FractionSet}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionSetTest {
+
+	/**
+	 * Runs parameterized unit tests for {@link FractionSet#add(int, int)},
+	 * {@link FractionSet#contains(Fraction)} and
+	 * {@link FractionSet#remove(int, int)}, which reduce fractions.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "117936, 15288", "15288, -117936", "-117936, -15288", "0, 25", "-2147483648, 1",
+			"2147483647, 2147483646" })
+	public void testAddContainsRemove(int argNumerator, int argDenominator) throws Exception {
+		FractionSet locSet = new FractionSet();
+		assertTrue("Fraction not added", locSet.add(argNumerator, argDenominator));
+		assertFalse("Fraction added twice", locSet.add(new Fraction(argNumerator, argDenominator)));
+		assertTrue("Fraction not found", locSet.contains(new Fraction(argNumerator, argDenominator)));
+		assertTrue("Fraction not found", locSet.contains(argNumerator, argDenominator));
+		assertEquals("Wrong size", 1, locSet.size());
+		assertEquals("Wrong fractions", new FractionArray(new Fraction(argNumerator, argDenominator)),
+				locSet.toFractionArray());
+		assertTrue("Fraction not removed", locSet.remove(argNumerator, argDenominator));
+		assertFalse("Fraction removed twice", locSet.remove(new Fraction(argNumerator, argDenominator)));
+		assertTrue("Set not empty", locSet.isEmpty());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionSet#add(int, int)} in case when
+	 * denominator is 0.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testAdd_ZeroDenominator() throws Exception {
+		new FractionSet().add(1, 0);
+	}
+
+	/**
+	 * Runs unit test for {@link FractionSet#FractionSet(int)} in case when the
+	 * expected size is negative.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testFractionSet_NegativeSize() throws Exception {
+		new FractionSet(-1);
+	}
+
+	/**
+	 * Runs unit test for {@link FractionSet} on all the fractions of a Farey
+	 * sequence, which are added, looked up and partly removed.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testFarey() throws Exception {
+		FractionSet locSet = new FractionSet();
+		int locSize = 0;
+		for (int locDenominator = 1; locDenominator <= 100; locDenominator++) {
+			for (int locNumerator = 0; locNumerator <= locDenominator; locNumerator++) {
+				if (locSet.add(locNumerator, locDenominator)) {
+					locSize++;
+				}
+			}
+		}
+		// |F(100)| = 1 + sum of Euler's totient up to 100
+		assertEquals("Wrong size", 3045, locSize);
+		assertEquals("Wrong size", locSize, locSet.size());
+		for (int locDenominator = 1; locDenominator <= 100; locDenominator++) {
+			for (int locNumerator = 0; locNumerator <= locDenominator; locNumerator++) {
+				assertTrue("Fraction not found", locSet.contains(locNumerator, locDenominator));
+			}
+		}
+		for (int locDenominator = 1; locDenominator <= 100; locDenominator++) {
+			for (int locNumerator = 0; locNumerator <= locDenominator; locNumerator++) {
+				if (new Fraction(locNumerator, locDenominator).getNumerator() % 2 == 0) {
+					locSet.remove(locNumerator, locDenominator);
+				}
+			}
+		}
+		for (int locDenominator = 1; locDenominator <= 100; locDenominator++) {
+			for (int locNumerator = 0; locNumerator <= locDenominator; locNumerator++) {
+				Fraction locFraction = new Fraction(locNumerator, locDenominator);
+				assertEquals("Wrong membership", locFraction.getNumerator() % 2 != 0, locSet.contains(locFraction));
+			}
+		}
+		locSet.clear();
+		assertTrue("Set not empty", locSet.isEmpty());
+		assertFalse("Fraction found", locSet.contains(1, 2));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionSet} against a {@link HashSet}, on
+	 * random additions and removals.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testRandom() throws Exception {
+		Random locRandom = new Random(18);
+		FractionSet locSet = new FractionSet();
+		Set<Fraction> locExpected = new HashSet<>();
+		for (int i = 0; i < 100000; i++) {
+			Fraction locFraction = new Fraction(locRandom.nextInt(64) - 32, locRandom.nextInt(64) + 1);
+			if (locRandom.nextBoolean()) {
+				assertEquals("Wrong addition", locExpected.add(locFraction), locSet.add(locFraction));
+			} else {
+				assertEquals("Wrong removal", locExpected.remove(locFraction), locSet.remove(locFraction));
+			}
+			assertEquals("Wrong size", locExpected.size(), locSet.size());
+		}
+		Set<Fraction> locActual = new HashSet<>();
+		locSet.forEach(locActual::add);
+		assertEquals("Wrong fractions", locExpected, locActual);
+	}
+
+}
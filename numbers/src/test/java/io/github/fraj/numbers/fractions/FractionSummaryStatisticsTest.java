@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FractionSummaryStatistics}.
+ */
+public class FractionSummaryStatisticsTest {
+
+	/**
+	 * Runs unit test for {@link FractionSummaryStatistics} when no
+	 * {@link Fraction} has been recorded.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEmpty() throws Exception {
+		FractionSummaryStatistics locStatistics = new FractionSummaryStatistics();
+		assertEquals("Wrong count", 0, locStatistics.getCount());
+		assertEquals("Wrong sum", BigFraction.ZERO, locStatistics.getSum());
+		assertNull("Wrong min", locStatistics.getMin());
+		assertNull("Wrong max", locStatistics.getMax());
+		assertEquals("Wrong average", BigFraction.ZERO, locStatistics.getAverage());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionSummaryStatistics#accept(Fraction)} and
+	 * {@link FractionSummaryStatistics#combine(FractionSummaryStatistics)}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testAcceptCombine() throws Exception {
+		FractionSummaryStatistics locLeft = new FractionSummaryStatistics();
+		locLeft.accept(new Fraction(1, 2));
+		locLeft.accept(new Fraction(-2, 3));
+		FractionSummaryStatistics locRight = new FractionSummaryStatistics();
+		locRight.accept(new Fraction(5, 4));
+		locLeft.combine(locRight);
+		locLeft.combine(new FractionSummaryStatistics());
+		assertEquals("Wrong count", 3, locLeft.getCount());
+		assertEquals("Wrong sum", new BigFraction(13, 12), locLeft.getSum());
+		assertEquals("Wrong min", new Fraction(-2, 3), locLeft.getMin());
+		assertEquals("Wrong max", new Fraction(5, 4), locLeft.getMax());
+		assertEquals("Wrong average", new BigFraction(13, 36), locLeft.getAverage());
+		assertEquals("Wrong string",
+				"FractionSummaryStatistics{count=3, sum=13/12, min=-2/3, average=13/36, max=5/4}", locLeft.toString());
+	}
+
+}
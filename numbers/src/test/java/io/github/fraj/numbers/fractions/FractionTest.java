@@ -17,6 +17,14 @@ package io.github.fraj.numbers.fractions;
 
 import static org.junit.Assert.*;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -97,6 +105,67 @@ public class FractionTest {
 		new Fraction(51, 0);
 	}
 
+	/**
+	 * Runs parameterized unit tests for {@link Fraction#valueOf(int, int)} in
+	 * nominal case.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argExpectedNumerator
+	 *            the expected reduced numerator of the returned {@link Fraction}
+	 * @param argExpectedDenominator
+	 *            the expected reduced denominator of the returned
+	 *            {@link Fraction}
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "117936, 15288, 54, 7", "15288, -117936, -7, 54", "-117936, -15288, 54, 7", "3, 17, 3, 17",
+			"0, 25, 0, 1", "125, 25, 5, 1", "-2, 4, -1, 2", "6, -16, -3, 8", "16, 16, 1, 1", "-16, 1, -16, 1" })
+	public void testValueOf_Nominal(int argNumerator, int argDenominator, int argExpectedNumerator,
+			int argExpectedDenominator) throws Exception {
+		Fraction locFraction = Fraction.valueOf(argNumerator, argDenominator);
+		assertEquals("Wrong numerator for reduced fraction", argExpectedNumerator, locFraction.getNumerator());
+		assertEquals("Wrong denominator for reduced fraction", argExpectedDenominator, locFraction.getDenominator());
+		assertEquals("Wrong fraction", new Fraction(argNumerator, argDenominator), locFraction);
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#valueOf(int, int)} in case when
+	 * denominator is 0.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testValueOf_ZeroAsDenominator() throws Exception {
+		Fraction.valueOf(1, 0);
+	}
+
+	/**
+	 * Runs unit test showing that small fractions are shared instances, whether
+	 * they are returned by {@link Fraction#valueOf(int, int)} or by arithmetic
+	 * operations.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testValueOf_Cached() throws Exception {
+		Fraction locHalf = Fraction.valueOf(1, 2);
+		assertSame("Small fraction should be cached", locHalf, Fraction.valueOf(1, 2));
+		assertSame("Non reduced small fraction should be cached", locHalf, Fraction.valueOf(-8, -16));
+		assertSame("Reduced fraction should be cached", locHalf, Fraction.valueOf(117936, 235872));
+		assertSame("Zero should be cached", Fraction.ZERO, Fraction.valueOf(0, -7));
+		assertSame("Integer should be cached", Fraction.valueOf(3, 1), Fraction.valueOf(3));
+		assertSame("Sum should be cached", locHalf, new Fraction(1, 4).add(new Fraction(1, 4)));
+		assertSame("Product should be cached", locHalf, new Fraction(3, 4).multiply(new Fraction(2, 3)));
+		assertSame("Inverse should be cached", locHalf, new Fraction(2).invert());
+		assertNotSame("Large fraction should not be cached", Fraction.valueOf(1, 1000), Fraction.valueOf(1, 1000));
+	}
+
 	/**
 	 * Runs parameterized unit tests for {@link Fraction#toString()} in nominal
 	 * case.
@@ -483,6 +552,284 @@ public class FractionTest {
 		TEST_FRACTION.divide(Fraction.ZERO);
 	}
 
+	/**
+	 * Runs parameterized unit test for
+	 * {@link Fraction#multiplyAdd(Fraction, Fraction)} in nominal case.
+	 * 
+	 * @param argAccumulator
+	 *            the {@link Fraction} to be added to
+	 * @param argLeft
+	 *            the left {@link Fraction} of the product
+	 * @param argRight
+	 *            the right {@link Fraction} of the product
+	 * @param argExpectedResult
+	 *            the expected result
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1/2, 1/3, 3/4, 3/4", "0, 2/3, -3/2, -1", "7, 0, 5/3, 7", "-1/6, 1/2, 1/3, 0",
+			"54/7, 15288/117936, 7, 3259/378", "2147483647, -1, 2147483646, 1",
+			"1/2147483646, 1/2147483647, -2147483647/2147483646, 0",
+			"-2147483648, 2147483647/2147483646, 2147483646/2147483647, -2147483647", "1/6, 1/2, 1/3, 1/3",
+			"-1/2147483646, 1/1073741823, 1073741823, 2147483645/2147483646" })
+	public void testMultiplyAdd(String argAccumulator, String argLeft, String argRight, String argExpectedResult)
+			throws Exception {
+		assertEquals("Wrong result to multiply add", Fraction.parse(argExpectedResult),
+				Fraction.parse(argAccumulator).multiplyAdd(Fraction.parse(argLeft), Fraction.parse(argRight)));
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#multiplyAdd(Fraction, Fraction)} in
+	 * case the result does not fit in a {@link Fraction}.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testMultiplyAdd_Overflow() throws Exception {
+		new Fraction(1, Integer.MAX_VALUE).multiplyAdd(new Fraction(1, Integer.MAX_VALUE - 1),
+				new Fraction(1, Integer.MAX_VALUE - 2));
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#dot(Fraction[], Fraction[])} and
+	 * {@link Fraction#dot(int[], int[], int[], int[])} against a loop of
+	 * {@link Fraction#multiplyAdd(Fraction, Fraction)}.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testDot() throws Exception {
+		int[] locDenominators = { 1, 2, 3, 4, 6, 12 };
+		Random locRandom = new Random(23);
+		for (int locLength = 0; locLength < 50; locLength++) {
+			Fraction[] locLeft = new Fraction[locLength];
+			Fraction[] locRight = new Fraction[locLength];
+			Fraction locExpected = Fraction.ZERO;
+			for (int i = 0; i < locLength; i++) {
+				locLeft[i] = new Fraction(locRandom.nextInt(41) - 20,
+						locDenominators[locRandom.nextInt(locDenominators.length)]);
+				locRight[i] = new Fraction(locRandom.nextInt(41) - 20,
+						locDenominators[locRandom.nextInt(locDenominators.length)]);
+				locExpected = locExpected.multiplyAdd(locLeft[i], locRight[i]);
+			}
+			assertEquals("Wrong dot product", locExpected, Fraction.dot(locLeft, locRight));
+			int[] locLeftNumerators = new int[locLength];
+			int[] locLeftDenominators = new int[locLength];
+			int[] locRightNumerators = new int[locLength];
+			int[] locRightDenominators = new int[locLength];
+			for (int i = 0; i < locLength; i++) {
+				locLeftNumerators[i] = locLeft[i].getNumerator();
+				locLeftDenominators[i] = locLeft[i].getDenominator();
+				// Unreduced, with negative denominators
+				locRightNumerators[i] = -3 * locRight[i].getNumerator();
+				locRightDenominators[i] = -3 * locRight[i].getDenominator();
+			}
+			assertEquals("Wrong dot product", locExpected,
+					Fraction.dot(locLeftNumerators, locLeftDenominators, locRightNumerators, locRightDenominators));
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#dot(Fraction[], Fraction[])} in case
+	 * of arrays of different lengths.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testDot_LengthMismatch() throws Exception {
+		Fraction.dot(new Fraction[] { TEST_FRACTION }, new Fraction[0]);
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#dot(int[], int[], int[], int[])} in
+	 * case with a zero denominator.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testDot_ZeroAsDenominator() throws Exception {
+		Fraction.dot(new int[] { 1 }, new int[] { 0 }, new int[] { 1 }, new int[] { 1 });
+	}
+
+	/**
+	 * Runs unit test for
+	 * {@link Fraction#linearCombination(Fraction, Fraction, Fraction, Fraction)}
+	 * and
+	 * {@link Fraction#linearCombination(Fraction, Fraction, Fraction, Fraction, Fraction, Fraction)}.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testLinearCombination() throws Exception {
+		Fraction locA1 = new Fraction(1, 2);
+		Fraction locB1 = new Fraction(2, 3);
+		Fraction locA2 = new Fraction(-3, 4);
+		Fraction locB2 = new Fraction(4, 5);
+		Fraction locA3 = new Fraction(5, 6);
+		Fraction locB3 = new Fraction(6, 7);
+		assertEquals("Wrong combination", new Fraction(-4, 15),
+				Fraction.linearCombination(locA1, locB1, locA2, locB2));
+		assertEquals("Wrong combination", new Fraction(47, 105),
+				Fraction.linearCombination(locA1, locB1, locA2, locB2, locA3, locB3));
+		// Intermediate values overflow, but not the result
+		Fraction locHuge = new Fraction(Integer.MAX_VALUE, Integer.MAX_VALUE - 1);
+		assertEquals("Wrong combination", Fraction.ZERO,
+				Fraction.linearCombination(locHuge, locHuge, locHuge.negate(), locHuge));
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link Fraction#pow(int)} in nominal
+	 * case.
+	 * 
+	 * @param argFraction
+	 *            the {@link Fraction} to be raised
+	 * @param argExponent
+	 *            the exponent
+	 * @param argExpectedResult
+	 *            the expected power
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "2/3, 0, 1", "0, 0, 1", "2/3, 1, 2/3", "2/3, 5, 32/243", "-2/3, 3, -8/27", "-2/3, 4, 16/81",
+			"2/3, -3, 27/8", "-2/3, -3, -27/8", "-1, -2147483648, 1", "1, 2147483647, 1", "0, 7, 0",
+			"-2, 31, -2147483648", "46340, 2, 2147395600", "1/46340, -2, 2147395600", "7/10, 9, 40353607/1000000000" })
+	public void testPow(String argFraction, int argExponent, String argExpectedResult) throws Exception {
+		assertEquals("Wrong power", Fraction.parse(argExpectedResult), Fraction.parse(argFraction).pow(argExponent));
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link Fraction#pow(int)} in case of
+	 * overflow or of a zero raised to a negative exponent.
+	 * 
+	 * @param argFraction
+	 *            the {@link Fraction} to be raised
+	 * @param argExponent
+	 *            the exponent
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	@Parameters({ "2, 31", "46341, 2", "1/46341, 2", "-2, -31", "0, -1", "10/7, 12", "3, -2147483648" })
+	public void testPow_Overflow(String argFraction, int argExponent) throws Exception {
+		Fraction.parse(argFraction).pow(argExponent);
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link Fraction#floor()},
+	 * {@link Fraction#ceil()}, {@link Fraction#integerPart()} and
+	 * {@link Fraction#fractionalPart()}.
+	 * 
+	 * @param argFraction
+	 *            the {@link Fraction} to be tested
+	 * @param argExpectedFloor
+	 *            the expected floor
+	 * @param argExpectedCeiling
+	 *            the expected ceiling
+	 * @param argExpectedIntegerPart
+	 *            the expected integer part
+	 * @param argExpectedFractionalPart
+	 *            the expected fractional part
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "7/3, 2, 3, 2, 1/3", "-7/3, -3, -2, -2, -1/3", "6, 6, 6, 6, 0", "-6, -6, -6, -6, 0",
+			"1/2, 0, 1, 0, 1/2", "-1/2, -1, 0, 0, -1/2", "0, 0, 0, 0, 0",
+			"-2147483648, -2147483648, -2147483648, -2147483648, 0",
+			"2147483647/2, 1073741823, 1073741824, 1073741823, 1/2",
+			"-2147483648/2147483647, -2, -1, -1, -1/2147483647" })
+	public void testFloorCeil(String argFraction, int argExpectedFloor, int argExpectedCeiling,
+			int argExpectedIntegerPart, String argExpectedFractionalPart) throws Exception {
+		Fraction locFraction = Fraction.parse(argFraction);
+		assertEquals("Wrong floor", argExpectedFloor, locFraction.floor());
+		assertEquals("Wrong ceiling", argExpectedCeiling, locFraction.ceil());
+		assertEquals("Wrong integer part", argExpectedIntegerPart, locFraction.integerPart());
+		assertEquals("Wrong fractional part", Fraction.parse(argExpectedFractionalPart),
+				locFraction.fractionalPart());
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#round(RoundingMode)} against
+	 * {@link BigDecimal#setScale(int, RoundingMode)}, for all rounding modes.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testRound() throws Exception {
+		int[] locNumerators = { 0, 1, 2, 3, 4, 5, 7, 9, 11, 15, 25, 1000001, Integer.MAX_VALUE, Integer.MIN_VALUE };
+		int[] locDenominators = { 1, 2, 3, 4, 8, 10, 1000000, Integer.MAX_VALUE };
+		for (RoundingMode locMode : RoundingMode.values()) {
+			for (int locNumerator : locNumerators) {
+				for (int locDenominator : locDenominators) {
+					for (int locSign = -1; locSign <= 1; locSign += 2) {
+						if (locNumerator == Integer.MIN_VALUE && locSign > 0) {
+							continue;
+						}
+						Fraction locFraction = new Fraction(locSign * locNumerator, locDenominator);
+						BigDecimal locDecimal = new BigDecimal(locFraction.getNumerator())
+								.divide(new BigDecimal(locFraction.getDenominator()), MathContext.DECIMAL128);
+						int locExpected;
+						try {
+							locExpected = locDecimal.setScale(0, locMode).intValueExact();
+						} catch (ArithmeticException e) {
+							try {
+								locFraction.round(locMode);
+								fail("Rounding should be necessary for " + locFraction);
+							} catch (ArithmeticException e2) {
+								// Expected
+							}
+							continue;
+						}
+						assertEquals("Wrong rounding of " + locFraction + " " + locMode, locExpected,
+								locFraction.round(locMode));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link Fraction#sqrtExact()} in
+	 * nominal case.
+	 * 
+	 * @param argFraction
+	 *            the {@link Fraction} to be tested
+	 * @param argExpectedResult
+	 *            the expected square root
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "0, 0", "1, 1", "4/9, 2/3", "1/2147395600, 1/46340", "2147395600/2147302921, 46340/46339",
+			"144, 12" })
+	public void testSqrtExact(String argFraction, String argExpectedResult) throws Exception {
+		assertEquals("Wrong square root", Fraction.parse(argExpectedResult), Fraction.parse(argFraction).sqrtExact());
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link Fraction#sqrtExact()} in case of
+	 * a value which is not a perfect square.
+	 * 
+	 * @param argFraction
+	 *            the {@link Fraction} to be tested
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	@Parameters({ "2", "4/8", "-4", "2147483647", "1/2147395599", "9/2147483647" })
+	public void testSqrtExact_NotSquare(String argFraction) throws Exception {
+		Fraction.parse(argFraction).sqrtExact();
+	}
+
 	/**
 	 * Runs parameterized unit test for {@link Fraction#isInteger()} in nominal
 	 * case.
@@ -510,4 +857,341 @@ public class FractionTest {
 				{ new Fraction(54, 3), true} };
 	}
 
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link Fraction#approximate(double, int)}.
+	 * 
+	 * @param argValue
+	 *            the double to be approximated
+	 * @param argMaxDenominator
+	 *            the maximum denominator
+	 * @param argExpectedResult
+	 *            the expected approximation
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testApproximate(double argValue, int argMaxDenominator, Fraction argExpectedResult)
+			throws Exception {
+		assertEquals("Wrong approximation", argExpectedResult, Fraction.approximate(argValue, argMaxDenominator));
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestApproximate() {
+		return new Object[][] { { Math.PI, 10, new Fraction(22, 7) }, { Math.PI, 100, new Fraction(311, 99) },
+				{ Math.PI, 1000, new Fraction(355, 113) }, { -Math.PI, 1000, new Fraction(-355, 113) },
+				{ Math.PI, Integer.MAX_VALUE, new Fraction(1881244168, 598818617) },
+				{ 0.1, 10, new Fraction(1, 10) }, { -0.333, 100, new Fraction(-1, 3) },
+				{ 0.5, 1, new Fraction(0) }, { 0.7, 2, new Fraction(1, 2) }, { 0.75, 2, new Fraction(1) }, { 0.0, 7, new Fraction(0) },
+				{ -0.0, 7, new Fraction(0) }, { 1e-3, 1000, new Fraction(1, 1000) }, { 1e-10, 1000, new Fraction(0) },
+				{ 0.9999999, 1000, new Fraction(1) }, { Double.MIN_VALUE, Integer.MAX_VALUE, new Fraction(0) },
+				{ 0x1p-40, Integer.MAX_VALUE, new Fraction(0) }, { 0x1p-30, Integer.MAX_VALUE, new Fraction(1, 1 << 30) },
+				{ 2147483647.0, 5, new Fraction(Integer.MAX_VALUE) },
+				{ -2147483648.0, 1, new Fraction(Integer.MIN_VALUE) },
+				{ 2147483647.75, 2, new Fraction(Integer.MAX_VALUE) },
+				{ -2147483647.75, 2, new Fraction(Integer.MIN_VALUE) } };
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#approximate(double, int)} against a
+	 * brute-force search over all denominators, with exact comparisons.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testApproximate_BruteForce() throws Exception {
+		Random locRandom = new Random(42);
+		for (int locTest = 0; locTest < 500; locTest++) {
+			double locValue = (locRandom.nextDouble() - 0.5) * Math.scalb(1.0, locRandom.nextInt(12) - 4);
+			int locMaxDenominator = 1 + locRandom.nextInt(200);
+			BigDecimal locExact = new BigDecimal(locValue);
+			Fraction locBest = null;
+			BigDecimal locBestDistance = null;
+			for (int q = 1; q <= locMaxDenominator; q++) {
+				long locFloor = (long) Math.floor(locValue * q);
+				for (long p = locFloor - 1; p <= locFloor + 2; p++) {
+					BigDecimal locDistance = locExact.multiply(BigDecimal.valueOf(q))
+							.subtract(BigDecimal.valueOf(p)).abs()
+							.divide(BigDecimal.valueOf(q), MathContext.DECIMAL128);
+					if (locBestDistance == null || locDistance.compareTo(locBestDistance) < 0) {
+						locBest = new Fraction((int) p, q);
+						locBestDistance = locDistance;
+					}
+				}
+			}
+			assertEquals("Wrong approximation of " + locValue + " up to " + locMaxDenominator, locBest,
+					Fraction.approximate(locValue, locMaxDenominator));
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#approximate(double, int)} with a
+	 * maximum denominator which is not positive.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testApproximate_NegativeMaxDenominator() throws Exception {
+		Fraction.approximate(0.5, 0);
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link Fraction#approximate(double, int)} with doubles which cannot be
+	 * approximated with int components.
+	 * 
+	 * @param argValue
+	 *            the double to be approximated
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	@Parameters({ "NaN", "Infinity", "-Infinity", "3e9", "2147483648.0", "-2147483648.4" })
+	public void testApproximate_Overflow(double argValue) throws Exception {
+		Fraction.approximate(argValue, 2);
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link Fraction#approximate(double, double)}.
+	 * 
+	 * @param argValue
+	 *            the double to be approximated
+	 * @param argEpsilon
+	 *            the maximum distance
+	 * @param argExpectedResult
+	 *            the expected approximation
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testApproximateEpsilon(double argValue, double argEpsilon, Fraction argExpectedResult)
+			throws Exception {
+		assertEquals("Wrong approximation", argExpectedResult, Fraction.approximate(argValue, argEpsilon));
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestApproximateEpsilon() {
+		return new Object[][] { { Math.PI, 0.2, new Fraction(3) }, { Math.PI, 1e-2, new Fraction(22, 7) },
+				{ Math.PI, 1e-3, new Fraction(201, 64) }, { -Math.PI, 1e-3, new Fraction(-201, 64) },
+				{ Math.PI, 1e-6, new Fraction(355, 113) }, { 0.5, 0.0, new Fraction(1, 2) },
+				{ 0.3333, 1e-3, new Fraction(1, 3) }, { 0.6, 0.5, new Fraction(1) }, { 0.4, 0.5, new Fraction(0) },
+				{ 2.5, 0.0, new Fraction(5, 2) }, { 1e-12, 1e-9, new Fraction(0) },
+				{ 1e-6, 1e-9, new Fraction(1, 999001) }, { 1e-6, 1e-12, new Fraction(1, 1000000) },
+				{ 0.1, 0.0, new Fraction(1, 10) } };
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#approximate(double, double)} against
+	 * a search over increasing denominators.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testApproximateEpsilon_BruteForce() throws Exception {
+		Random locRandom = new Random(42);
+		for (int locTest = 0; locTest < 2000; locTest++) {
+			double locValue = (locRandom.nextDouble() - 0.5) * 100;
+			double locEpsilon = Math.scalb(1.0, -3 - locRandom.nextInt(12));
+			Fraction locExpected = null;
+			for (int q = 1; locExpected == null; q++) {
+				long locFloor = (long) Math.floor(Math.abs(locValue) * q);
+				for (long p = locFloor; p <= locFloor + 1 && locExpected == null; p++) {
+					if (Math.abs(Math.abs(locValue) - (double) p / q) <= locEpsilon) {
+						locExpected = new Fraction((int) ((locValue < 0) ? -p : p), q);
+					}
+				}
+			}
+			assertEquals("Wrong approximation of " + locValue + " within " + locEpsilon, locExpected,
+					Fraction.approximate(locValue, locEpsilon));
+		}
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link Fraction#approximate(double, double)} when no fraction with int
+	 * components is close enough.
+	 * 
+	 * @param argValue
+	 *            the double to be approximated
+	 * @param argEpsilon
+	 *            the maximum distance
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	@Parameters({ "1e-300, 0.0", "1e-300, 1e-310", "NaN, 1.0", "3e9, 1.0", "-2147483648.4, 1.0" })
+	public void testApproximateEpsilon_NotRepresentable(double argValue, double argEpsilon) throws Exception {
+		Fraction.approximate(argValue, argEpsilon);
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#approximate(double, double)} with a
+	 * negative tolerance.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testApproximateEpsilon_NegativeEpsilon() throws Exception {
+		Fraction.approximate(0.5, -1.0);
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link Fraction#parse(CharSequence)},
+	 * {@link Fraction#parse(byte[], int, int)} and
+	 * {@link Fraction#parse(ByteBuffer, int, int)}, within surrounding
+	 * characters.
+	 * 
+	 * @param argText
+	 *            the characters to be parsed
+	 * @param argExpectedResult
+	 *            the expected {@link Fraction}
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1/2, 1/2", "-1/2, -1/2", "1/-2, -1/2", "+3/+6, 1/2", "-4/-6, 2/3", "0/-5, 0", "7, 7", "-7, -7",
+			"2147483647/1, 2147483647", "-2147483648, -2147483648", "12/2147483647, 12/2147483647",
+			"0010/0100, 1/10" })
+	public void testParse(String argText, String argExpectedResult) throws Exception {
+		Fraction locExpected = Fraction.parse(argExpectedResult);
+		assertEquals("Wrong string value", argExpectedResult, locExpected.toString());
+		assertEquals("Wrong result to parse", locExpected, Fraction.parse(argText));
+		String locLine = "a;" + argText + ";b";
+		assertEquals("Wrong result to parse", locExpected, Fraction.parse(locLine, 2, 2 + argText.length()));
+		byte[] locBytes = locLine.getBytes(StandardCharsets.US_ASCII);
+		assertEquals("Wrong result to parse bytes", locExpected, Fraction.parse(locBytes, 2, 2 + argText.length()));
+		ByteBuffer locBuffer = ByteBuffer.allocateDirect(locBytes.length);
+		locBuffer.put(locBytes).flip();
+		assertEquals("Wrong result to parse buffer", locExpected,
+				Fraction.parse(locBuffer, 2, 2 + argText.length()));
+		assertEquals("Parsing should not move the buffer", 0, locBuffer.position());
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link Fraction#parse(CharSequence)}
+	 * and {@link Fraction#parse(byte[], int, int)} with malformed input.
+	 * 
+	 * @param argText
+	 *            the characters to be parsed
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "", "-", "/", "1/", "/2", "1//2", "1/2/3", "a/2", "1 /2", "2147483648", "-2147483649/1",
+			"1/99999999999", "1.5" })
+	public void testParse_Malformed(String argText) throws Exception {
+		try {
+			Fraction.parse(argText);
+			fail("Malformed characters should not be parsed");
+		} catch (NumberFormatException e) {
+			// Expected
+		}
+		byte[] locBytes = argText.getBytes(StandardCharsets.US_ASCII);
+		try {
+			Fraction.parse(locBytes, 0, locBytes.length);
+			fail("Malformed bytes should not be parsed");
+		} catch (NumberFormatException e) {
+			// Expected
+		}
+		try {
+			Fraction.parse(ByteBuffer.wrap(locBytes), 0, locBytes.length);
+			fail("Malformed buffer should not be parsed");
+		} catch (NumberFormatException e) {
+			// Expected
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#parse(CharSequence)} with zero as
+	 * denominator.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testParse_ZeroAsDenominator() throws Exception {
+		Fraction.parse("1/0");
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#parse(byte[], int, int)} with a range
+	 * out of bounds.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link IndexOutOfBoundsException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testParse_OutOfBounds() throws Exception {
+		Fraction.parse(new byte[] { '1', '/', '2' }, 1, 4);
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link Fraction#formatTo(Appendable)},
+	 * {@link Fraction#formatTo(byte[], int)} and
+	 * {@link Fraction#formatTo(ByteBuffer)}, against
+	 * {@link Fraction#toString()}.
+	 * 
+	 * @param argNumerator
+	 *            the numerator of the {@link Fraction} to be formatted
+	 * @param argDenominator
+	 *            the denominator of the {@link Fraction} to be formatted
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1, 2", "-1, 2", "0, 1", "7, 1", "-7, 1", "10, 1", "100, 9", "-2147483648, 1",
+			"2147483647, 1", "1, 2147483647", "-2147483647, 1000000000", "999999999, 1000000000" })
+	public void testFormatTo(int argNumerator, int argDenominator) throws Exception {
+		Fraction locFraction = new Fraction(argNumerator, argDenominator);
+		String locExpected = locFraction.toString();
+		StringBuilder locBuilder = new StringBuilder("[");
+		locFraction.formatTo(locBuilder);
+		assertEquals("Wrong appended characters", "[" + locExpected, locBuilder.toString());
+		byte[] locBytes = new byte[locExpected.length() + 2];
+		assertEquals("Wrong end offset", locExpected.length() + 1, locFraction.formatTo(locBytes, 1));
+		assertEquals("Wrong written bytes", locExpected,
+				new String(locBytes, 1, locExpected.length(), StandardCharsets.US_ASCII));
+		ByteBuffer locBuffer = ByteBuffer.allocate(locExpected.length() + 1);
+		locBuffer.put((byte) '[');
+		locFraction.formatTo(locBuffer);
+		assertEquals("Wrong buffer position", locExpected.length() + 1, locBuffer.position());
+		assertEquals("Wrong written buffer", "[" + locExpected,
+				new String(locBuffer.array(), StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Runs unit test for {@link Fraction#formatTo(byte[], int)} when the array
+	 * is too short.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testFormatTo_TooShort() throws Exception {
+		byte[] locBytes = new byte[4];
+		try {
+			new Fraction(-1, 12).formatTo(locBytes, 0);
+			fail("Formatting should not overflow the array");
+		} catch (IndexOutOfBoundsException e) {
+			assertArrayEquals("Nothing should be written", new byte[4], locBytes);
+		}
+		ByteBuffer locBuffer = ByteBuffer.allocate(4);
+		try {
+			new Fraction(-1, 12).formatTo(locBuffer);
+			fail("Formatting should not overflow the buffer");
+		} catch (BufferOverflowException e) {
+			assertEquals("Nothing should be written", 0, locBuffer.position());
+		}
+	}
+
 }
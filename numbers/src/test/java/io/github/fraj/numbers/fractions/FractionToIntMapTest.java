@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+
+/**
+ * Unit tests for {@link FractionToIntMap}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionToIntMapTest {
+
+	/**
+	 * Runs unit test for {@link FractionToIntMap#put(int, int, int)} and
+	 * {@link FractionToIntMap#getOrDefault(Fraction, int)} in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testPutGet() throws Exception {
+		FractionToIntMap locMap = new FractionToIntMap();
+		locMap.put(2, 4, 7);
+		locMap.put(new Fraction(-3), 8);
+		assertEquals("Wrong value", 7, locMap.getOrDefault(new Fraction(1, 2), -1));
+		assertEquals("Wrong value", 8, locMap.getOrDefault(6, -2, -1));
+		assertEquals("Wrong default value", -1, locMap.getOrDefault(1, 3, -1));
+		assertTrue("Key not found", locMap.containsKey(-1, -2));
+		assertFalse("Key found", locMap.containsKey(new Fraction(3)));
+		locMap.put(1, 2, 9);
+		assertEquals("Wrong replaced value", 9, locMap.getOrDefault(1, 2, -1));
+		assertEquals("Wrong size", 2, locMap.size());
+		assertEquals("Wrong string", 2, locMap.toString().split(", ").length);
+	}
+
+	/**
+	 * Runs unit test for {@link FractionToIntMap#addTo(int, int, int)} in
+	 * nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testAddTo() throws Exception {
+		FractionToIntMap locMap = new FractionToIntMap();
+		for (int locDenominator = 1; locDenominator <= 12; locDenominator++) {
+			for (int locNumerator = 0; locNumerator <= locDenominator; locNumerator++) {
+				locMap.addTo(locNumerator, locDenominator, 1);
+			}
+		}
+		// 1/2 is reached from 6 denominators, 0 and 1 from all of them
+		assertEquals("Wrong count", 6, locMap.getOrDefault(new Fraction(1, 2), 0));
+		assertEquals("Wrong count", 12, locMap.getOrDefault(0, 1, 0));
+		assertEquals("Wrong count", 13, locMap.addTo(new Fraction(1), 1));
+		assertEquals("Wrong count", 1, locMap.getOrDefault(5, 12, 0));
+	}
+
+	/**
+	 * Runs unit test for {@link FractionToIntMap} against a {@link HashMap}, on
+	 * random updates and removals.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testRandom() throws Exception {
+		Random locRandom = new Random(18);
+		FractionToIntMap locMap = new FractionToIntMap(10);
+		Map<Fraction, Integer> locExpected = new HashMap<>();
+		for (int i = 0; i < 100000; i++) {
+			Fraction locFraction = new Fraction(locRandom.nextInt(64) - 32, locRandom.nextInt(64) + 1);
+			switch (locRandom.nextInt(3)) {
+			case 0:
+				locExpected.put(locFraction, i);
+				locMap.put(locFraction, i);
+				break;
+			case 1:
+				assertEquals("Wrong sum", (int) locExpected.merge(locFraction, i, Integer::sum),
+						locMap.addTo(locFraction, i));
+				break;
+			default:
+				assertEquals("Wrong removal", locExpected.remove(locFraction) != null, locMap.remove(locFraction));
+			}
+			assertEquals("Wrong size", locExpected.size(), locMap.size());
+		}
+		Map<Fraction, Integer> locActual = new HashMap<>();
+		locMap.forEach(locActual::put);
+		assertEquals("Wrong entries", locExpected, locActual);
+		locMap.clear();
+		assertTrue("Map not empty", locMap.isEmpty());
+		assertEquals("Value kept after clear", 1, locMap.addTo(1, 2, 1));
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+
+/**
+ * Unit tests for {@link FractionToObjectMap}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class FractionToObjectMapTest {
+
+	/**
+	 * Runs unit test for {@link FractionToObjectMap#put(int, int, Object)},
+	 * {@link FractionToObjectMap#get(Fraction)} and
+	 * {@link FractionToObjectMap#remove(int, int)} in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testPutGetRemove() throws Exception {
+		FractionToObjectMap<String> locMap = new FractionToObjectMap<>();
+		assertNull("Previous value", locMap.put(2, 4, "half"));
+		assertEquals("Wrong previous value", "half", locMap.put(new Fraction(1, 2), "one half"));
+		assertEquals("Wrong value", "one half", locMap.get(-1, -2));
+		assertNull("Value found", locMap.get(new Fraction(1, 3)));
+		assertEquals("Wrong string", "{1/2=one half}", locMap.toString());
+		assertEquals("Wrong removed value", "one half", locMap.remove(3, 6));
+		assertNull("Value removed twice", locMap.remove(new Fraction(1, 2)));
+		assertFalse("Key found", locMap.containsKey(1, 2));
+	}
+
+	/**
+	 * Runs unit test for
+	 * {@link FractionToObjectMap#computeIfAbsent(Fraction, java.util.function.Function)}
+	 * in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testComputeIfAbsent() throws Exception {
+		FractionToObjectMap<String> locMap = new FractionToObjectMap<>();
+		assertEquals("Wrong computed value", "3/4", locMap.computeIfAbsent(new Fraction(3, 4), Fraction::toString));
+		assertEquals("Value computed twice", "3/4", locMap.computeIfAbsent(new Fraction(3, 4), argKey -> "other"));
+		assertNull("Null value", locMap.computeIfAbsent(new Fraction(1, 4), argKey -> null));
+		assertFalse("Null value stored", locMap.containsKey(1, 4));
+		assertEquals("Wrong size", 1, locMap.size());
+	}
+
+	/**
+	 * Runs unit test for {@link FractionToObjectMap} against a {@link HashMap},
+	 * on random updates and removals.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testRandom() throws Exception {
+		Random locRandom = new Random(18);
+		FractionToObjectMap<Integer> locMap = new FractionToObjectMap<>();
+		Map<Fraction, Integer> locExpected = new HashMap<>();
+		for (int i = 0; i < 100000; i++) {
+			Fraction locFraction = new Fraction(locRandom.nextInt(64) - 32, locRandom.nextInt(64) + 1);
+			if (locRandom.nextBoolean()) {
+				assertEquals("Wrong previous value", locExpected.put(locFraction, i), locMap.put(locFraction, i));
+			} else {
+				assertEquals("Wrong removed value", locExpected.remove(locFraction), locMap.remove(locFraction));
+			}
+			assertEquals("Wrong value", locExpected.get(locFraction), locMap.get(locFraction));
+			assertEquals("Wrong size", locExpected.size(), locMap.size());
+		}
+		Map<Fraction, Integer> locActual = new HashMap<>();
+		locMap.forEach(locActual::put);
+		assertEquals("Wrong entries", locExpected, locActual);
+	}
+
+}
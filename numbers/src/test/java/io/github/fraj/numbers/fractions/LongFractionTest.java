@@ -0,0 +1,468 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link LongFraction}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class LongFractionTest {
+
+	private static final LongFraction TEST_FRACTION_REDUCED = new LongFraction(54, 7);
+	private static final LongFraction TEST_FRACTION = new LongFraction(117936, 15288);
+	private static final LongFraction TEST_FRACTION_LARGE = new LongFraction(Long.MAX_VALUE, Long.MAX_VALUE - 1);
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link LongFraction#LongFraction(long, long)} in nominal case.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argExpectedNumerator
+	 *            the expected reduced numerator of the constructed
+	 *            {@link LongFraction}
+	 * @param argExpectedDenominator
+	 *            the expected reduced denominator of the constructed
+	 *            {@link LongFraction}
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "117936, 15288, 54, 7", "-117936, 15288, -54, 7", "15288, -117936, -7, 54",
+			"-117936, -15288, 54, 7", "0, 25, 0, 1", "0, -25, 0, 1", "125, 25, 5, 1",
+			"9223372036854775806, 4611686018427387903, 2, 1",
+			"-9223372036854775808, -9223372036854775808, 1, 1", "-9223372036854775808, 6, -4611686018427387904, 3" })
+	public void testConstructor_Nominal(long argNumerator, long argDenominator, long argExpectedNumerator,
+			long argExpectedDenominator) throws Exception {
+		LongFraction locFraction = new LongFraction(argNumerator, argDenominator);
+		assertEquals("Wrong numerator for reduced fraction", argExpectedNumerator, locFraction.getNumerator());
+		assertEquals("Wrong denominator for reduced fraction", argExpectedDenominator, locFraction.getDenominator());
+	}
+
+	/**
+	 * Runs unit test for {@link LongFraction#LongFraction(long, long)} in case
+	 * when denominator is 0.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testConstructor_ZeroAsDenominator() throws Exception {
+		new LongFraction(51, 0);
+	}
+
+	/**
+	 * Runs unit test for {@link LongFraction#LongFraction(long, long)} in case
+	 * when the denominator cannot be made positive.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testConstructor_MinValueAsDenominator() throws Exception {
+		new LongFraction(1, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Runs unit test for {@link LongFraction#LongFraction(Fraction)} in nominal
+	 * case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testConstructor_Fraction() throws Exception {
+		assertEquals("Wrong converted fraction", TEST_FRACTION, new LongFraction(new Fraction(117936, 15288)));
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link LongFraction#toString()} in
+	 * nominal case.
+	 * 
+	 * @param argNumerator
+	 *            the fraction's numerator
+	 * @param argDenominator
+	 *            the fraction's denominator
+	 * @param argExpectedAsString
+	 *            the expected string representation of the constructed
+	 *            {@link LongFraction}
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "117936, 15288, 54/7", "15288, -117936, -7/54", "0, 25, 0", "125, 25, 5",
+			"9223372036854775807, 9223372036854775806, 9223372036854775807/9223372036854775806" })
+	public void testToString_Nominal(long argNumerator, long argDenominator, String argExpectedAsString)
+			throws Exception {
+		assertEquals("Wrong string for reduced fraction", argExpectedAsString,
+				new LongFraction(argNumerator, argDenominator).toString());
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link LongFraction#equals(Object)} in
+	 * nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link LongFraction} that tests equality
+	 * @param argRight
+	 *            the {@link Object} to test equality with
+	 * @param argExpectedEquality
+	 *            the expected result of the equality test
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testEquals(LongFraction argLeft, Object argRight, boolean argExpectedEquality) throws Exception {
+		assertEquals("Wrong result to equals", argExpectedEquality, argLeft.equals(argRight));
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestEquals() {
+		return new Object[][] { { TEST_FRACTION, TEST_FRACTION_REDUCED, true }, { TEST_FRACTION, TEST_FRACTION, true },
+				{ TEST_FRACTION, null, false }, { TEST_FRACTION, new Fraction(54, 7), false },
+				{ TEST_FRACTION_REDUCED, new LongFraction(55, 7), false },
+				{ TEST_FRACTION_REDUCED, new LongFraction(54, 11), false } };
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link LongFraction#doubleValue()} in
+	 * nominal case.
+	 * 
+	 * @param argFraction
+	 *            the {@link LongFraction} to get the double value of
+	 * @param argExpectedValue
+	 *            the expected double value
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testDoubleValue(LongFraction argFraction, double argExpectedValue) throws Exception {
+		assertEquals("Wrong result to doubleValue", argExpectedValue, argFraction.doubleValue(), 0.0);
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestDoubleValue() {
+		return new Object[][] { { TEST_FRACTION, 7.714285714285714 }, { LongFraction.ZERO, 0 },
+				{ new LongFraction(31), 31 } };
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link LongFraction#longValue()} in
+	 * nominal case.
+	 * 
+	 * @param argFraction
+	 *            the {@link LongFraction} to get the long value of
+	 * @param argExpectedValue
+	 *            the expected long value
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testLongValue(LongFraction argFraction, long argExpectedValue) throws Exception {
+		assertEquals("Wrong result to longValue", argExpectedValue, argFraction.longValue());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestLongValue() {
+		return new Object[][] { { TEST_FRACTION, 7 }, { TEST_FRACTION.negate(), -7 },
+				{ new LongFraction(Long.MAX_VALUE), Long.MAX_VALUE } };
+	}
+
+	/**
+	 * Runs parameterized unit test for
+	 * {@link LongFraction#compareTo(LongFraction)} in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link LongFraction} that compares
+	 * @param argRight
+	 *            the {@link LongFraction} to compare to
+	 * @param argExpectedResult
+	 *            the expected result of the comparison
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testCompareTo(LongFraction argLeft, LongFraction argRight, int argExpectedResult) throws Exception {
+		assertEquals("Wrong result to compare", argExpectedResult, Integer.signum(argLeft.compareTo(argRight)));
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestCompareTo() {
+		return new Object[][] { { TEST_FRACTION, TEST_FRACTION_REDUCED, 0 }, { TEST_FRACTION, LongFraction.ZERO, 1 },
+				{ LongFraction.ZERO, TEST_FRACTION, -1 }, { TEST_FRACTION, new LongFraction(55, 7), -1 },
+				{ TEST_FRACTION, new LongFraction(54, 8), 1 },
+				{ TEST_FRACTION_LARGE, new LongFraction(Long.MAX_VALUE - 1, Long.MAX_VALUE - 2), -1 },
+				{ new LongFraction(Long.MAX_VALUE - 1, Long.MAX_VALUE - 2), TEST_FRACTION_LARGE, 1 },
+				{ TEST_FRACTION_LARGE, TEST_FRACTION_LARGE, 0 } };
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link LongFraction#add(LongFraction)} in
+	 * nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link LongFraction} to add to
+	 * @param argRight
+	 *            the {@link LongFraction} to be added
+	 * @param argExpectedResult
+	 *            the expected result of the addition
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testAdd(LongFraction argLeft, LongFraction argRight, LongFraction argExpectedResult)
+			throws Exception {
+		assertEquals("Wrong result to add", argExpectedResult, argLeft.add(argRight));
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestAdd() {
+		return new Object[][] { { TEST_FRACTION, new LongFraction(1), new LongFraction(61, 7) },
+				{ TEST_FRACTION, LongFraction.ZERO, TEST_FRACTION }, { LongFraction.ZERO, TEST_FRACTION, TEST_FRACTION },
+				{ TEST_FRACTION, TEST_FRACTION.negate(), LongFraction.ZERO },
+				{ new LongFraction(1, 6), new LongFraction(1, 10), new LongFraction(4, 15) },
+				{ new LongFraction(1, 6), new LongFraction(5, 6), new LongFraction(1) },
+				{ new LongFraction(1, 3_000_000_000L), new LongFraction(1, 6_000_000_000L),
+						new LongFraction(1, 2_000_000_000L) },
+				{ TEST_FRACTION_LARGE, TEST_FRACTION_LARGE.negate(), LongFraction.ZERO } };
+	}
+
+	/**
+	 * Runs unit test for {@link LongFraction#add(LongFraction)} in case of
+	 * overflow.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testAdd_Overflow() throws Exception {
+		TEST_FRACTION_LARGE.add(new LongFraction(1, 3));
+	}
+
+	/**
+	 * Runs parameterized unit test for
+	 * {@link LongFraction#substract(LongFraction)} in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link LongFraction} to substract from
+	 * @param argRight
+	 *            the {@link LongFraction} to be substracted
+	 * @param argExpectedResult
+	 *            the expected result of the substraction
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testSubstract(LongFraction argLeft, LongFraction argRight, LongFraction argExpectedResult)
+			throws Exception {
+		assertEquals("Wrong result to substract", argExpectedResult, argLeft.substract(argRight));
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestSubstract() {
+		return new Object[][] { { TEST_FRACTION, new LongFraction(1), new LongFraction(47, 7) },
+				{ TEST_FRACTION, TEST_FRACTION, LongFraction.ZERO },
+				{ new LongFraction(1, 6), new LongFraction(1, 10), new LongFraction(1, 15) } };
+	}
+
+	/**
+	 * Runs parameterized unit test for
+	 * {@link LongFraction#multiply(LongFraction)} in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link LongFraction} to be multiplied
+	 * @param argRight
+	 *            the {@link LongFraction} to multiply by
+	 * @param argExpectedResult
+	 *            the expected result of the multiplication
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testMultiply(LongFraction argLeft, LongFraction argRight, LongFraction argExpectedResult)
+			throws Exception {
+		assertEquals("Wrong result to multiply", argExpectedResult, argLeft.multiply(argRight));
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestMultiply() {
+		return new Object[][] { { TEST_FRACTION, new LongFraction(3, 2), new LongFraction(81, 7) },
+				{ TEST_FRACTION, LongFraction.ZERO, LongFraction.ZERO },
+				{ TEST_FRACTION, new LongFraction(-1), TEST_FRACTION.negate() },
+				{ TEST_FRACTION_LARGE, TEST_FRACTION_LARGE.invert(), new LongFraction(1) },
+				{ TEST_FRACTION_LARGE, new LongFraction(Long.MAX_VALUE - 1, Long.MAX_VALUE), new LongFraction(1) } };
+	}
+
+	/**
+	 * Runs unit test for {@link LongFraction#multiply(LongFraction)} in case of
+	 * overflow.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testMultiply_Overflow() throws Exception {
+		TEST_FRACTION_LARGE.multiply(TEST_FRACTION_LARGE);
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link LongFraction#invert()} in nominal
+	 * case.
+	 * 
+	 * @param argLeft
+	 *            the {@link LongFraction} to invert
+	 * @param argExpectedResult
+	 *            the expected result of the inversion
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testInvert(LongFraction argLeft, LongFraction argExpectedResult) throws Exception {
+		assertEquals("Wrong result to invert", argExpectedResult, argLeft.invert());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestInvert() {
+		return new Object[][] { { TEST_FRACTION, new LongFraction(7, 54) },
+				{ TEST_FRACTION.negate(), new LongFraction(-7, 54) } };
+	}
+
+	/**
+	 * Runs unit test for {@link LongFraction#invert()} in case with zero.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testInvert_Zero() throws Exception {
+		LongFraction.ZERO.invert();
+	}
+
+	/**
+	 * Runs parameterized unit test for
+	 * {@link LongFraction#divide(LongFraction)} in nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link LongFraction} to be divided
+	 * @param argRight
+	 *            the {@link LongFraction} to divide by
+	 * @param argExpectedResult
+	 *            the expected result of the division
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testDivide(LongFraction argLeft, LongFraction argRight, LongFraction argExpectedResult)
+			throws Exception {
+		assertEquals("Wrong result to divide", argExpectedResult, argLeft.divide(argRight));
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestDivide() {
+		return new Object[][] { { TEST_FRACTION, new LongFraction(3, 2), new LongFraction(36, 7) },
+				{ TEST_FRACTION, new LongFraction(-1), TEST_FRACTION.negate() },
+				{ TEST_FRACTION, new LongFraction(-3, 2), new LongFraction(-36, 7) },
+				{ TEST_FRACTION_LARGE, TEST_FRACTION_LARGE, new LongFraction(1) } };
+	}
+
+	/**
+	 * Runs unit test for {@link LongFraction#divide(LongFraction)} in case with
+	 * zero.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testDivide_Zero() throws Exception {
+		TEST_FRACTION.divide(LongFraction.ZERO);
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link LongFraction#toFraction()} in
+	 * nominal case.
+	 * 
+	 * @param argFraction
+	 *            the {@link LongFraction} to convert
+	 * @param argExpectedResult
+	 *            the expected result of the conversion
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testToFraction(LongFraction argFraction, Fraction argExpectedResult) throws Exception {
+		assertEquals("Wrong result to toFraction", argExpectedResult, argFraction.toFraction());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestToFraction() {
+		return new Object[][] { { TEST_FRACTION, new Fraction(54, 7) }, { LongFraction.ZERO, Fraction.ZERO } };
+	}
+
+	/**
+	 * Runs unit test for {@link LongFraction#toFraction()} in case of overflow.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testToFraction_Overflow() throws Exception {
+		TEST_FRACTION_LARGE.toFraction();
+	}
+
+	/**
+	 * Runs parameterized unit test for {@link LongFraction#isInteger()} in
+	 * nominal case.
+	 * 
+	 * @param argLeft
+	 *            the {@link LongFraction} to be tested
+	 * @param argExpectedResult
+	 *            the expected result of the test
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters
+	public void testIsInteger(LongFraction argLeft, boolean argExpectedResult) throws Exception {
+		assertEquals("Wrong result to integer test", argExpectedResult, argLeft.isInteger());
+	}
+
+	@SuppressWarnings("unused")
+	private static Object[][] parametersForTestIsInteger() {
+		return new Object[][] { { TEST_FRACTION, false }, { TEST_FRACTION.add(new LongFraction(2, 7)), true },
+				{ LongFraction.ZERO, true } };
+	}
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link RationalExpression}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class RationalExpressionTest {
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link RationalExpression#add(RationalExpression)},
+	 * {@link RationalExpression#substract(RationalExpression)},
+	 * {@link RationalExpression#multiply(RationalExpression)} and
+	 * {@link RationalExpression#divide(RationalExpression)}.
+	 *
+	 * @param argLeftNumerator
+	 *            the numerator of the left operand
+	 * @param argLeftDenominator
+	 *            the denominator of the left operand
+	 * @param argRightNumerator
+	 *            the numerator of the right operand
+	 * @param argRightDenominator
+	 *            the denominator of the right operand
+	 * @param argExpectedSum
+	 *            the expected sum
+	 * @param argExpectedDifference
+	 *            the expected difference
+	 * @param argExpectedProduct
+	 *            the expected product
+	 * @param argExpectedQuotient
+	 *            the expected quotient
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "54, 7, 1, 2, 115/14, 101/14, 27/7, 108/7", "54, 7, -1, -2, 115/14, 101/14, 27/7, 108/7",
+			"1, 6, 1, 6, 1/3, 0, 1/36, 1", "1, 6, 1, -3, -1/6, 1/2, -1/18, -1/2", "0, 1, 3, 9, 1/3, -1/3, 0, 0",
+			"9223372036854775807, 2, 1, 2, 4611686018427387904, 4611686018427387903, 9223372036854775807/4, 9223372036854775807",
+			"-9223372036854775808, 3, -9223372036854775808, -3, 0, -18446744073709551616/3, -85070591730234615865843651857942052864/9, -1",
+			"-9223372036854775808, 1, 1, -1, -9223372036854775809, -9223372036854775807, 9223372036854775808, 9223372036854775808" })
+	public void testOperations(long argLeftNumerator, long argLeftDenominator, long argRightNumerator,
+			long argRightDenominator, String argExpectedSum, String argExpectedDifference, String argExpectedProduct,
+			String argExpectedQuotient) throws Exception {
+		RationalExpression locLeft = RationalExpression.of(argLeftNumerator, argLeftDenominator);
+		RationalExpression locRight = RationalExpression.of(argRightNumerator, argRightDenominator);
+		assertEquals("Wrong sum", argExpectedSum, locLeft.add(locRight).evaluate().toString());
+		assertEquals("Wrong difference", argExpectedDifference, locLeft.substract(locRight).evaluate().toString());
+		assertEquals("Wrong product", argExpectedProduct, locLeft.multiply(locRight).evaluate().toString());
+		assertEquals("Wrong quotient", argExpectedQuotient, locLeft.divide(locRight).evaluate().toString());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalExpression#negate()} and
+	 * {@link RationalExpression#invert()}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testNegateInvert() throws Exception {
+		RationalExpression locExpression = RationalExpression.of(new Fraction(-3, 4));
+		assertEquals("Wrong negation", new BigFraction(3, 4), locExpression.negate().evaluate());
+		assertEquals("Wrong inversion", new BigFraction(-4, 3), locExpression.invert().evaluate());
+		assertEquals("Wrong negation", "9223372036854775808",
+				RationalExpression.of(Long.MIN_VALUE).negate().evaluate().toString());
+		assertEquals("Wrong inversion", "-1/9223372036854775808",
+				RationalExpression.of(Long.MIN_VALUE).invert().evaluate().toString());
+		assertEquals("Wrong inversion", new BigFraction(-4, 3),
+				locExpression.invert().negate().invert().invert().negate().evaluate());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalExpression#evaluate()} on a chain of
+	 * operations mixing all of them.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEvaluate_Chain() throws Exception {
+		Fraction locA = new Fraction(1, 2);
+		Fraction locB = new Fraction(2, 3);
+		Fraction locC = new Fraction(-3, 4);
+		Fraction locD = new Fraction(5, 6);
+		RationalExpression locExpression = RationalExpression.of(locA).add(locB).multiply(locC).divide(locD)
+				.substract(locA);
+		assertEquals("Wrong value", locA.add(locB).multiply(locC).divide(locD).substract(locA),
+				locExpression.toFraction());
+		assertSame("Wrong memoization", locExpression.evaluate(), locExpression.evaluate());
+		assertEquals("Wrong string", "((((1/2 + 2/3) * -3/4) / 5/6) - 1/2)", locExpression.toString());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalExpression#evaluate()} on a graph
+	 * whose every node is shared twice, which can only be evaluated in a
+	 * reasonable time if subexpressions are memoized.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(timeout = 10000)
+	public void testEvaluate_Shared() throws Exception {
+		RationalExpression locExpression = RationalExpression.of(new Fraction(1, 3));
+		for (int i = 0; i < 200; i++) {
+			locExpression = locExpression.add(locExpression);
+		}
+		assertEquals("Wrong value", new BigFraction(BigInteger.ONE.shiftLeft(200), BigInteger.valueOf(3)),
+				locExpression.evaluate());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalExpression#evaluate()} on a deep
+	 * expression, whose evaluation must not overflow the stack, against
+	 * {@link FractionAccumulator}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEvaluate_Deep() throws Exception {
+		RationalExpression locExpression = RationalExpression.of(0);
+		FractionAccumulator locAccumulator = new FractionAccumulator();
+		for (int i = 1; i <= 100000; i++) {
+			Fraction locTerm = new Fraction((i % 2 == 0) ? 1 : -1, i % 13 + 1);
+			locExpression = locExpression.add(locTerm);
+			locAccumulator.add(locTerm);
+		}
+		assertEquals("Wrong value", locAccumulator.toBigFraction(), locExpression.evaluate());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalExpression#evaluate()} when
+	 * intermediate values do not fit in long integers.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEvaluate_Overflow() throws Exception {
+		// Product of (k + 1) / k for k = 1 to 100, i.e. 101, through huge unreduced values
+		RationalExpression locProduct = RationalExpression.of(1);
+		BigFraction locExpected = new BigFraction(1);
+		for (int k = 1; k <= 100; k++) {
+			locProduct = locProduct.multiply(RationalExpression.of(k + 1, k));
+			locExpected = locExpected.multiply(new BigFraction(k + 1, k));
+		}
+		assertEquals("Wrong value", new BigFraction(101), locProduct.evaluate());
+		// Sum of 1 / p for the primes below 100, whose denominator never fits
+		RationalExpression locSum = RationalExpression.of(0);
+		BigFraction locExpectedSum = BigFraction.ZERO;
+		for (int p = 2; p < 100; p++) {
+			if (BigInteger.valueOf(p).isProbablePrime(20)) {
+				locSum = locSum.add(new Fraction(1, p));
+				locExpectedSum = locExpectedSum.add(new BigFraction(1, p));
+			}
+		}
+		assertEquals("Wrong value", locExpectedSum, locSum.evaluate());
+		BigFraction locBig = new BigFraction(BigInteger.TEN.pow(30), BigInteger.valueOf(7));
+		assertEquals("Wrong value", locBig.multiply(new BigFraction(1, 2)),
+				RationalExpression.of(locBig).divide(new Fraction(2, 1)).evaluate());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalExpression#evaluate()} when a divisor
+	 * is zero, which only throws on evaluation.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEvaluate_DivisionByZero() throws Exception {
+		RationalExpression locZero = RationalExpression.of(1).substract(RationalExpression.of(1));
+		RationalExpression locQuotient = RationalExpression.of(1).divide(locZero);
+		try {
+			locQuotient.evaluate();
+			fail("Division by zero");
+		} catch (ArithmeticException e) {
+			// Expected
+		}
+		try {
+			locZero.invert().evaluate();
+			fail("Inversion of zero");
+		} catch (ArithmeticException e) {
+			// Expected
+		}
+		try {
+			RationalExpression.of(1, 0);
+			fail("Zero denominator");
+		} catch (ArithmeticException e) {
+			// Expected
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link RationalExpression#toFraction()} when the
+	 * result does not fit in a {@link Fraction}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testToFraction_Overflow() throws Exception {
+		RationalExpression.of(Integer.MAX_VALUE).add(RationalExpression.of(1)).toFraction();
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.fractions;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link SternBrocotTree}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class SternBrocotTreeTest {
+
+	/**
+	 * Runs unit test for {@link SternBrocotTree#left()} and
+	 * {@link SternBrocotTree#right()} in nominal case.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testWalk() throws Exception {
+		SternBrocotTree locTree = new SternBrocotTree();
+		assertEquals("Wrong root", new Fraction(1), locTree.get());
+		assertEquals("Wrong node", new Fraction(1, 2), locTree.left().get());
+		assertEquals("Wrong node", new Fraction(2, 3), locTree.right().get());
+		assertEquals("Wrong node", new Fraction(3, 5), locTree.left().get());
+		assertEquals("Wrong node", new Fraction(5, 8), locTree.right().get());
+		assertEquals("Wrong depth", 4, locTree.getDepth());
+		assertEquals("Wrong node", new Fraction(4), locTree.reset().right(3).get());
+		assertEquals("Wrong node", new Fraction(13, 4), locTree.left(3).get());
+		assertEquals("Wrong node", new Fraction(13, 4), locTree.right(0).get());
+		assertEquals("Wrong depth", 6, locTree.getDepth());
+	}
+
+	/**
+	 * Runs unit test for {@link SternBrocotTree#right(int)} in case when the
+	 * node overflows.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testRight_Overflow() throws Exception {
+		SternBrocotTree locTree = new SternBrocotTree().right(Integer.MAX_VALUE - 1);
+		try {
+			locTree.right();
+			fail("ArithmeticException expected");
+		} catch (ArithmeticException e) {
+			assertEquals("Walker moved", new Fraction(Integer.MAX_VALUE), locTree.get());
+		}
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link SternBrocotTree#path(Fraction)}
+	 * in nominal case, walking the path back.
+	 * 
+	 * @param argFraction
+	 *            the fraction
+	 * @param argExpected
+	 *            the expected runs, separated by spaces
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1, 0", "3, 2", "1/3, 0 2", "5/8, 0 1 1 1 1", "355/113, 3 7 15", "2147483647/2147483646, 1 2147483645" })
+	public void testPath(String argFraction, String argExpected) throws Exception {
+		int[] locPath = SternBrocotTree.path(Fraction.parse(argFraction));
+		assertEquals("Wrong path", argExpected, Arrays.toString(locPath).replaceAll("[\\[\\],]", ""));
+		SternBrocotTree locTree = new SternBrocotTree();
+		for (int i = 0; i < locPath.length; i++) {
+			if (i % 2 == 0) {
+				locTree.right(locPath[i]);
+			} else {
+				locTree.left(locPath[i]);
+			}
+		}
+		assertEquals("Wrong node", Fraction.parse(argFraction), locTree.get());
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link SternBrocotTree#floor(Fraction, int)}
+	 * and {@link SternBrocotTree#ceiling(Fraction, int)} in nominal case.
+	 * 
+	 * @param argFraction
+	 *            the fraction
+	 * @param argMaxDenominator
+	 *            the maximum denominator
+	 * @param argFloor
+	 *            the expected floor
+	 * @param argCeiling
+	 *            the expected ceiling
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "355/113, 100, 311/99, 22/7", "355/113, 113, 355/113, 355/113", "-355/113, 7, -22/7, -3",
+			"1/2, 1, 0, 1", "-1/1000, 10, -1/10, 0", "2147483646/2147483647, 2, 1/2, 1",
+			"-2147483648, 5, -2147483648, -2147483648" })
+	public void testFloorCeiling(String argFraction, int argMaxDenominator, String argFloor, String argCeiling)
+			throws Exception {
+		Fraction locFraction = Fraction.parse(argFraction);
+		assertEquals("Wrong floor", Fraction.parse(argFloor), SternBrocotTree.floor(locFraction, argMaxDenominator));
+		assertEquals("Wrong ceiling", Fraction.parse(argCeiling),
+				SternBrocotTree.ceiling(locFraction, argMaxDenominator));
+	}
+
+	/**
+	 * Runs unit test for {@link SternBrocotTree#floor(Fraction, int)} and
+	 * {@link SternBrocotTree#ceiling(Fraction, int)} against a brute force
+	 * search.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testFloorCeiling_Random() throws Exception {
+		Random locRandom = new Random(20);
+		for (int i = 0; i < 1000; i++) {
+			Fraction locFraction = new Fraction(locRandom.nextInt(2000) - 1000, 1 + locRandom.nextInt(500));
+			int locMaxDenominator = 1 + locRandom.nextInt(30);
+			Fraction locFloor = null;
+			Fraction locCeiling = null;
+			for (int locDenominator = 1; locDenominator <= locMaxDenominator; locDenominator++) {
+				int locNumerator = (int) Math.floor((double) locFraction.getNumerator() * locDenominator
+						/ locFraction.getDenominator());
+				Fraction locBelow = new Fraction(locNumerator, locDenominator);
+				Fraction locAbove = (locBelow.compareTo(locFraction) == 0) ? locBelow
+						: new Fraction(locNumerator + 1, locDenominator);
+				locFloor = (locFloor == null || locBelow.compareTo(locFloor) > 0) ? locBelow : locFloor;
+				locCeiling = (locCeiling == null || locAbove.compareTo(locCeiling) < 0) ? locAbove : locCeiling;
+			}
+			assertEquals("Wrong floor of " + locFraction, locFloor, SternBrocotTree.floor(locFraction, locMaxDenominator));
+			assertEquals("Wrong ceiling of " + locFraction, locCeiling,
+					SternBrocotTree.ceiling(locFraction, locMaxDenominator));
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link SternBrocotTree#floor(Fraction, int)} in case
+	 * when the maximum denominator is not positive.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testFloor_InvalidMaxDenominator() throws Exception {
+		SternBrocotTree.floor(new Fraction(1, 3), 0);
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link SternBrocotTree#simplestBetween(Fraction, Fraction)} in nominal
+	 * case.
+	 * 
+	 * @param argLower
+	 *            the lower bound
+	 * @param argUpper
+	 *            the upper bound
+	 * @param argExpected
+	 *            the expected simplest fraction
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "0, 1, 1/2", "1/3, 1/2, 2/5", "3/7, 4/9, 7/16", "-1/2, 3, 0", "-7/2, -3, -10/3", "5/2, 9/2, 3",
+			"0, 1/1000, 1/1001", "311/99, 22/7, 333/106", "1, 2147483647, 2" })
+	public void testSimplestBetween(String argLower, String argUpper, String argExpected) throws Exception {
+		assertEquals("Wrong simplest fraction", Fraction.parse(argExpected),
+				SternBrocotTree.simplestBetween(Fraction.parse(argLower), Fraction.parse(argUpper)));
+	}
+
+	/**
+	 * Runs unit test for
+	 * {@link SternBrocotTree#simplestBetween(Fraction, Fraction)} against a
+	 * brute force search.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSimplestBetween_Random() throws Exception {
+		Random locRandom = new Random(20);
+		for (int i = 0; i < 1000; i++) {
+			Fraction locLower = new Fraction(locRandom.nextInt(200) - 100, 1 + locRandom.nextInt(50));
+			Fraction locUpper = new Fraction(locRandom.nextInt(200) - 100, 1 + locRandom.nextInt(50));
+			if (locLower.compareTo(locUpper) >= 0) {
+				continue;
+			}
+			Fraction locExpected = null;
+			for (int locDenominator = 1; locExpected == null; locDenominator++) {
+				for (int locNumerator = 0; locNumerator <= 100 * locDenominator && locExpected == null; locNumerator++) {
+					for (int locSign : new int[] { 1, -1 }) {
+						Fraction locFraction = new Fraction(locSign * locNumerator, locDenominator);
+						if (locExpected == null && locFraction.compareTo(locLower) > 0
+								&& locFraction.compareTo(locUpper) < 0) {
+							locExpected = locFraction;
+						}
+					}
+				}
+			}
+			assertEquals("Wrong simplest fraction between " + locLower + " and " + locUpper, locExpected,
+					SternBrocotTree.simplestBetween(locLower, locUpper));
+		}
+	}
+
+	/**
+	 * Runs unit test for
+	 * {@link SternBrocotTree#simplestBetween(Fraction, Fraction)} in case when
+	 * the interval is empty.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testSimplestBetween_Empty() throws Exception {
+		SternBrocotTree.simplestBetween(new Fraction(1, 2), new Fraction(1, 2));
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.matrices;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.github.fraj.numbers.fractions.Fraction;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link ModularSolver}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class ModularSolverTest {
+
+	private static RationalMatrix random(int argRows, int argColumns, long argSeed) {
+		Random locRandom = new Random(argSeed);
+		RationalMatrix locMatrix = new RationalMatrix(argRows, argColumns);
+		for (int i = 0; i < argRows; i++) {
+			for (int j = 0; j < argColumns; j++) {
+				locMatrix.set(i, j, locRandom.nextInt(19) - 9, 1 + locRandom.nextInt(9));
+			}
+		}
+		return locMatrix;
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link ModularSolver#inverse} on
+	 * Hilbert matrices, against {@link RationalMatrix#inverse()}.
+	 *
+	 * @param argSize
+	 *            the size of the Hilbert matrix
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1", "2", "5", "10" })
+	public void testInverse_Hilbert(int argSize) throws Exception {
+		RationalMatrix locHilbert = new RationalMatrix(argSize, argSize);
+		for (int i = 0; i < argSize; i++) {
+			for (int j = 0; j < argSize; j++) {
+				locHilbert.set(i, j, 1, i + j + 1);
+			}
+		}
+		assertEquals("Wrong inverse", locHilbert.inverse(), ModularSolver.inverse(locHilbert));
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link ModularSolver#solve} on random
+	 * systems, against {@link RationalMatrix#solve(RationalMatrix)}.
+	 *
+	 * @param argSize
+	 *            the size of the system
+	 * @param argSeed
+	 *            the seed of the random entries
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "3, 1", "4, 2", "6, 3" })
+	public void testSolve_Random(int argSize, long argSeed) throws Exception {
+		RationalMatrix locMatrix = random(argSize, argSize, argSeed);
+		RationalMatrix locRightHandSide = random(argSize, 2, -argSeed);
+		assertEquals("Wrong solution", locMatrix.solve(locRightHandSide),
+				ModularSolver.solve(locMatrix, locRightHandSide));
+	}
+
+	/**
+	 * Runs unit test for {@link ModularSolver#solve} with negative and zero
+	 * solutions.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSolve() throws Exception {
+		RationalMatrix locMatrix = new RationalMatrix(new Fraction[][] { { new Fraction(1, 2), new Fraction(1, 3) },
+				{ new Fraction(1, 4), new Fraction(1, 5) } });
+		RationalMatrix locRightHandSide = new RationalMatrix(new long[][] { { 1, 0, 0 }, { 2, 7, 0 } });
+		assertEquals("Wrong solution", new RationalMatrix(new long[][] { { -28, -140, 0 }, { 45, 210, 0 } }),
+				ModularSolver.solve(locMatrix, locRightHandSide));
+	}
+
+	/**
+	 * Runs unit test for {@link ModularSolver#inverse} in case when matrix is
+	 * singular.
+	 *
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testInverse_Singular() throws Exception {
+		ModularSolver.inverse(new RationalMatrix(new long[][] { { 1, 2, 3 }, { 2, 4, 6 }, { 0, 1, 1 } }));
+	}
+
+	/**
+	 * Runs unit test for {@link ModularSolver#solve} in case when matrix is
+	 * not square.
+	 *
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testSolve_NotSquare() throws Exception {
+		ModularSolver.solve(new RationalMatrix(2, 3), new RationalMatrix(2, 1));
+	}
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.matrices;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.github.fraj.numbers.fractions.BigFraction;
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.LongFraction;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link RationalMatrix}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class RationalMatrixTest {
+
+	private static final RationalMatrix TEST_MATRIX = new RationalMatrix(new Fraction[][] {
+			{ new Fraction(1, 2), new Fraction(1, 3) }, { new Fraction(1, 4), new Fraction(1, 5) } });
+
+	private static final RationalMatrix TEST_MATRIX_SINGULAR = new RationalMatrix(
+			new long[][] { { 1, 2, 3 }, { 2, 4, 6 }, { 0, 1, 1 } });
+
+	/*
+	 * The Hilbert matrix, whose entries are 1 / (i + j + 1), is notoriously
+	 * ill-conditioned, with an inverse of integers.
+	 */
+	private static RationalMatrix hilbert(int argSize) {
+		RationalMatrix locHilbert = new RationalMatrix(argSize, argSize);
+		for (int i = 0; i < argSize; i++) {
+			for (int j = 0; j < argSize; j++) {
+				locHilbert.set(i, j, 1, i + j + 1);
+			}
+		}
+		return locHilbert;
+	}
+
+	private static BigInteger binomial(int argN, int argK) {
+		BigInteger locBinomial = BigInteger.ONE;
+		for (int i = 0; i < argK; i++) {
+			locBinomial = locBinomial.multiply(BigInteger.valueOf(argN - i)).divide(BigInteger.valueOf(i + 1));
+		}
+		return locBinomial;
+	}
+
+	private static BigInteger inverseHilbert(int argSize, int argRow, int argColumn) {
+		int i = argRow + 1;
+		int j = argColumn + 1;
+		BigInteger locEntry = BigInteger.valueOf(i + j - 1).multiply(binomial(argSize + i - 1, argSize - j))
+				.multiply(binomial(argSize + j - 1, argSize - i)).multiply(binomial(i + j - 2, i - 1).pow(2));
+		return ((i + j) % 2 == 0) ? locEntry : locEntry.negate();
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#RationalMatrix(Fraction[][])}
+	 * and accessors.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testConstructor() throws Exception {
+		assertEquals("Wrong rows", 2, TEST_MATRIX.getRows());
+		assertEquals("Wrong columns", 2, TEST_MATRIX.getColumns());
+		assertEquals("Wrong numerator", 1, TEST_MATRIX.getNumerator(1, 0));
+		assertEquals("Wrong denominator", 4, TEST_MATRIX.getDenominator(1, 0));
+		assertEquals("Wrong entry", new LongFraction(1, 5), TEST_MATRIX.get(1, 1));
+		assertEquals("Wrong string", "[[1/2, 1/3], [1/4, 1/5]]", TEST_MATRIX.toString());
+		assertEquals("Wrong identity", new RationalMatrix(new long[][] { { 1, 0 }, { 0, 1 } }),
+				RationalMatrix.identity(2));
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#RationalMatrix(long[][])} in
+	 * case when rows have different lengths.
+	 *
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_RaggedRows() throws Exception {
+		new RationalMatrix(new long[][] { { 1, 2 }, { 3 } });
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#set(int, int, long, long)}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSet() throws Exception {
+		RationalMatrix locMatrix = new RationalMatrix(1, 3);
+		locMatrix.set(0, 0, 117936, -15288);
+		locMatrix.set(0, 1, new Fraction(3, 4));
+		locMatrix.set(0, 2, new LongFraction(Long.MAX_VALUE, 2));
+		assertEquals("Wrong string", "[[-54/7, 3/4, 9223372036854775807/2]]", locMatrix.toString());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#get(int, int)} in case when
+	 * position is out of bounds.
+	 *
+	 * @throws Exception
+	 *             expecting {@link IndexOutOfBoundsException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGet_OutOfBounds() throws Exception {
+		TEST_MATRIX.get(0, 2);
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link RationalMatrix#determinant()}
+	 * and {@link RationalMatrix#rank()} on Hilbert matrices, whose determinant
+	 * is the inverse of an integer.
+	 *
+	 * @param argSize
+	 *            the size of the Hilbert matrix
+	 * @param argExpectedInverseDeterminant
+	 *            the expected inverse of the determinant
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1, 1", "2, 12", "3, 2160", "4, 6048000", "5, 266716800000",
+			"8, 365356847125734485878112256000000" })
+	public void testDeterminant_Hilbert(int argSize, String argExpectedInverseDeterminant) throws Exception {
+		RationalMatrix locHilbert = hilbert(argSize);
+		assertEquals("Wrong determinant",
+				new BigFraction(BigInteger.ONE, new BigInteger(argExpectedInverseDeterminant)),
+				locHilbert.determinant());
+		assertEquals("Wrong rank", argSize, locHilbert.rank());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#determinant()} and
+	 * {@link RationalMatrix#rank()} in other cases.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testDeterminant() throws Exception {
+		assertEquals("Wrong determinant", new BigFraction(1, 60), TEST_MATRIX.determinant());
+		assertEquals("Wrong determinant", new BigFraction(-1),
+				new RationalMatrix(new long[][] { { 0, 1 }, { 1, 0 } }).determinant());
+		assertEquals("Wrong determinant", BigFraction.ZERO, TEST_MATRIX_SINGULAR.determinant());
+		assertEquals("Wrong rank", 2, TEST_MATRIX_SINGULAR.rank());
+		assertEquals("Wrong rank", 1, new RationalMatrix(new long[][] { { 0, 2, 4, 6 }, { 0, 1, 2, 3 } }).rank());
+		assertEquals("Wrong rank", 0, new RationalMatrix(3, 2).rank());
+		assertEquals("Wrong determinant", new BigFraction(1), new RationalMatrix(0, 0).determinant());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#determinant()} in case when
+	 * matrix is not square.
+	 *
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testDeterminant_NotSquare() throws Exception {
+		new RationalMatrix(2, 3).determinant();
+	}
+
+	/**
+	 * Runs parameterized unit tests for {@link RationalMatrix#inverse()} on
+	 * Hilbert matrices, which need arbitrary-precision elimination beyond the
+	 * smallest sizes.
+	 *
+	 * @param argSize
+	 *            the size of the Hilbert matrix
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1", "2", "3", "5", "8", "10" })
+	public void testInverse_Hilbert(int argSize) throws Exception {
+		RationalMatrix locInverse = hilbert(argSize).inverse();
+		for (int i = 0; i < argSize; i++) {
+			for (int j = 0; j < argSize; j++) {
+				assertEquals("Wrong inverse entry", new LongFraction(inverseHilbert(argSize, i, j).longValueExact()),
+						locInverse.get(i, j));
+			}
+		}
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#inverse()} on a matrix large
+	 * enough to be eliminated in parallel.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testInverse_Parallel() throws Exception {
+		int locSize = 130;
+		RationalMatrix locMatrix = new RationalMatrix(locSize, locSize);
+		RationalMatrix locExpected = RationalMatrix.identity(locSize);
+		for (int i = 0; i < locSize; i++) {
+			for (int j = 0; j <= i; j++) {
+				locMatrix.set(i, j, new Fraction(1));
+			}
+			if (i > 0) {
+				locExpected.set(i, i - 1, new Fraction(-1));
+			}
+		}
+		assertEquals("Wrong inverse", locExpected, locMatrix.inverse());
+		assertEquals("Wrong determinant", new BigFraction(1), locMatrix.determinant());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#solve(RationalMatrix)}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testSolve() throws Exception {
+		RationalMatrix locRightHandSide = new RationalMatrix(new long[][] { { 1, 0 }, { 2, 7 } });
+		RationalMatrix locSolution = TEST_MATRIX.solve(locRightHandSide);
+		assertEquals("Wrong solution", new RationalMatrix(new long[][] { { -28, -140 }, { 45, 210 } }), locSolution);
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#inverse()} in case when matrix
+	 * is singular.
+	 *
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void testInverse_Singular() throws Exception {
+		TEST_MATRIX_SINGULAR.inverse();
+	}
+
+	/**
+	 * Runs unit test for {@link RationalMatrix#solve(RationalMatrix)} in case
+	 * when right-hand side does not have as many rows as the matrix.
+	 *
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testSolve_WrongRows() throws Exception {
+		TEST_MATRIX.solve(new RationalMatrix(3, 1));
+	}
+
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2017 François Rajchenbach (f.rajchenbach@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fraj.numbers.polynomials;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.github.fraj.numbers.fractions.BigFraction;
+import io.github.fraj.numbers.fractions.Fraction;
+import io.github.fraj.numbers.fractions.FractionArray;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Unit tests for {@link RationalPolynomial}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class RationalPolynomialTest {
+
+	/*
+	 * 3/2 x^2 - x + 1/4
+	 */
+	private static final RationalPolynomial TEST_POLYNOMIAL = RationalPolynomial.of(new Fraction(1, 4),
+			new Fraction(-1, 1), new Fraction(3, 2));
+
+	private static RationalPolynomial random(Random argRandom, int argLength) {
+		Fraction[] locCoefficients = new Fraction[argLength];
+		for (int i = 0; i < argLength; i++) {
+			locCoefficients[i] = new Fraction(argRandom.nextInt(2001) - 1000, argRandom.nextInt(100) + 1);
+		}
+		return RationalPolynomial.of(locCoefficients);
+	}
+
+	/*
+	 * Reference product on coefficients, without content nor Karatsuba.
+	 */
+	private static RationalPolynomial naiveProduct(RationalPolynomial argLeft, RationalPolynomial argRight) {
+		BigFraction[] locProduct = new BigFraction[argLeft.degree() + argRight.degree() + 1];
+		for (int k = 0; k < locProduct.length; k++) {
+			locProduct[k] = BigFraction.ZERO;
+			for (int i = Math.max(0, k - argRight.degree()); i <= Math.min(k, argLeft.degree()); i++) {
+				locProduct[k] = locProduct[k].add(argLeft.getCoefficient(i).multiply(argRight.getCoefficient(k - i)));
+			}
+		}
+		return RationalPolynomial.of(locProduct);
+	}
+
+	/**
+	 * Runs unit test for {@link RationalPolynomial#of(Fraction...)} and
+	 * accessors.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testOf() throws Exception {
+		assertEquals("Wrong degree", 2, TEST_POLYNOMIAL.degree());
+		assertEquals("Wrong coefficient", new BigFraction(1, 4), TEST_POLYNOMIAL.getCoefficient(0));
+		assertEquals("Wrong coefficient", new BigFraction(-1), TEST_POLYNOMIAL.getCoefficient(1));
+		assertEquals("Wrong coefficient", new BigFraction(3, 2), TEST_POLYNOMIAL.getCoefficient(2));
+		assertEquals("Wrong coefficient", BigFraction.ZERO, TEST_POLYNOMIAL.getCoefficient(3));
+		assertEquals("Wrong content", new BigFraction(1, 4), TEST_POLYNOMIAL.getContent());
+		assertEquals("Wrong primitive part", RationalPolynomial.of(1, -4, 6), TEST_POLYNOMIAL.primitivePart());
+		assertEquals("Wrong degree", -1, RationalPolynomial.of(0, 0).degree());
+		assertEquals("Wrong zero", RationalPolynomial.ZERO, RationalPolynomial.of(new Fraction(0, 1)));
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link RationalPolynomial#getContent()}.
+	 *
+	 * @param argCoefficients
+	 *            the integer coefficients
+	 * @param argContent
+	 *            the expected content
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "4 -6 8, 2", "-4 6 -8, -2", "3 0 0, 3", "0 5, 5", "-7, -7", "2 3, 1" })
+	public void testGetContent(String argCoefficients, long argContent) throws Exception {
+		String[] locTokens = argCoefficients.split(" ");
+		long[] locCoefficients = new long[locTokens.length];
+		for (int i = 0; i < locTokens.length; i++) {
+			locCoefficients[i] = Long.parseLong(locTokens[i]);
+		}
+		assertEquals("Wrong content", new BigFraction(argContent),
+				RationalPolynomial.of(locCoefficients).getContent());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalPolynomial#toString()}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testToString() throws Exception {
+		assertEquals("Wrong string", "3/2 x^2 - x + 1/4", TEST_POLYNOMIAL.toString());
+		assertEquals("Wrong string", "-x^3 + 2 x", RationalPolynomial.of(0, 2, 0, -1).toString());
+		assertEquals("Wrong string", "x - 1", RationalPolynomial.of(-1, 1).toString());
+		assertEquals("Wrong string", "-5", RationalPolynomial.of(-5).toString());
+		assertEquals("Wrong string", "0", RationalPolynomial.ZERO.toString());
+	}
+
+	/**
+	 * Runs unit test for {@link RationalPolynomial#add(RationalPolynomial)},
+	 * {@link RationalPolynomial#substract(RationalPolynomial)} and
+	 * {@link RationalPolynomial#negate()}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testAdd() throws Exception {
+		RationalPolynomial locOther = RationalPolynomial.of(new Fraction(3, 4), new Fraction(1, 3),
+				new Fraction(-3, 2));
+		assertEquals("Wrong sum", RationalPolynomial.of(new Fraction(1, 1), new Fraction(-2, 3)),
+				TEST_POLYNOMIAL.add(locOther));
+		assertEquals("Wrong difference", RationalPolynomial.of(new Fraction(-1, 2), new Fraction(-4, 3),
+				new Fraction(3, 1)), TEST_POLYNOMIAL.substract(locOther));
+		assertEquals("Wrong difference", RationalPolynomial.ZERO, TEST_POLYNOMIAL.substract(TEST_POLYNOMIAL));
+		assertEquals("Wrong sum", TEST_POLYNOMIAL, RationalPolynomial.ZERO.add(TEST_POLYNOMIAL));
+		assertEquals("Wrong negation", TEST_POLYNOMIAL, TEST_POLYNOMIAL.negate().negate());
+		assertEquals("Wrong negation", "-3/2 x^2 + x - 1/4", TEST_POLYNOMIAL.negate().toString());
+	}
+
+	/**
+	 * Runs unit test for
+	 * {@link RationalPolynomial#multiply(RationalPolynomial)} and
+	 * {@link RationalPolynomial#multiply(Fraction)}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testMultiply() throws Exception {
+		// (x - 1/2) (x + 1/2) = x^2 - 1/4
+		assertEquals("Wrong product", RationalPolynomial.of(new Fraction(-1, 4), new Fraction(0, 1),
+				new Fraction(1, 1)),
+				RationalPolynomial.of(new Fraction(-1, 2), new Fraction(1, 1))
+						.multiply(RationalPolynomial.of(new Fraction(1, 2), new Fraction(1, 1))));
+		assertEquals("Wrong product", RationalPolynomial.ZERO, TEST_POLYNOMIAL.multiply(RationalPolynomial.ZERO));
+		assertEquals("Wrong product", RationalPolynomial.of(new Fraction(-1, 6), new Fraction(2, 3),
+				new Fraction(-1, 1)), TEST_POLYNOMIAL.multiply(new Fraction(-2, 3)));
+		assertEquals("Wrong product", RationalPolynomial.ZERO, TEST_POLYNOMIAL.multiply(new Fraction(0, 1)));
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link RationalPolynomial#multiply(RationalPolynomial)} against the
+	 * schoolbook product, across the Karatsuba threshold and with unbalanced
+	 * degrees.
+	 *
+	 * @param argLeftLength
+	 *            the number of coefficients of the left operand
+	 * @param argRightLength
+	 *            the number of coefficients of the right operand
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "1, 1", "5, 3", "31, 31", "32, 32", "33, 40", "64, 64", "100, 35", "40, 150", "129, 128" })
+	public void testMultiplyKaratsuba(int argLeftLength, int argRightLength) throws Exception {
+		Random locRandom = new Random(argLeftLength * 1000 + argRightLength);
+		RationalPolynomial locLeft = random(locRandom, argLeftLength);
+		RationalPolynomial locRight = random(locRandom, argRightLength);
+		RationalPolynomial locProduct = locLeft.multiply(locRight);
+		assertEquals("Wrong degree", argLeftLength + argRightLength - 2, locProduct.degree());
+		assertEquals("Wrong product", naiveProduct(locLeft, locRight), locProduct);
+		assertEquals("Wrong product", locProduct, locRight.multiply(locLeft));
+	}
+
+	/**
+	 * Runs parameterized unit tests for
+	 * {@link RationalPolynomial#evaluate(Fraction)}.
+	 *
+	 * @param argPoint
+	 *            the point of evaluation
+	 * @param argValue
+	 *            the expected value of 3/2 x^2 - x + 1/4
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "0, 1/4", "1, 3/4", "-1, 11/4", "1/2, 1/8", "-2/3, 19/12", "1/3, 1/12" })
+	public void testEvaluate(String argPoint, String argValue) throws Exception {
+		Fraction locValue = Fraction.parse(argValue);
+		assertEquals("Wrong value", new BigFraction(locValue), TEST_POLYNOMIAL.evaluate(Fraction.parse(argPoint)));
+		assertEquals("Wrong value", BigFraction.ZERO, RationalPolynomial.ZERO.evaluate(Fraction.parse(argPoint)));
+	}
+
+	/**
+	 * Runs unit test for {@link RationalPolynomial#evaluate(Fraction)} when
+	 * intermediate values overflow a long, or coefficients do not fit in one.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEvaluateOverflow() throws Exception {
+		// (x - 1)^10 at 1 + 1/1000000 is 10^-60
+		RationalPolynomial locPower = RationalPolynomial.of(-1, 1);
+		RationalPolynomial locLinear = locPower;
+		for (int i = 1; i < 10; i++) {
+			locPower = locPower.multiply(locLinear);
+		}
+		assertEquals("Wrong value", new BigFraction(BigInteger.ONE, BigInteger.TEN.pow(60)),
+				locPower.evaluate(new Fraction(1000001, 1000000)));
+		// Coefficients beyond a long
+		BigInteger locHuge = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(3));
+		RationalPolynomial locBig = RationalPolynomial.of(new BigFraction(locHuge, BigInteger.ONE),
+				new BigFraction(1, 7));
+		assertEquals("Wrong value", new BigFraction(locHuge.multiply(BigInteger.valueOf(7)).add(BigInteger.valueOf(2)),
+				BigInteger.valueOf(7)), locBig.evaluate(new Fraction(2, 1)));
+	}
+
+	/**
+	 * Runs unit test for {@link RationalPolynomial#evaluate(FractionArray)}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEvaluateArray() throws Exception {
+		Random locRandom = new Random(21);
+		RationalPolynomial locPolynomial = random(locRandom, 12);
+		FractionArray locPoints = new FractionArray(100);
+		for (int i = 0; i < locPoints.length(); i++) {
+			locPoints.set(i, new Fraction(locRandom.nextInt(2001) - 1000, locRandom.nextInt(1000) + 1));
+		}
+		BigFraction[] locValues = locPolynomial.evaluate(locPoints);
+		assertEquals("Wrong length", locPoints.length(), locValues.length);
+		for (int i = 0; i < locValues.length; i++) {
+			assertEquals("Wrong value", locPolynomial.evaluate(locPoints.get(i)), locValues[i]);
+		}
+		assertArrayEquals("Wrong values", new BigFraction[] { BigFraction.ZERO, BigFraction.ZERO },
+				RationalPolynomial.ZERO.evaluate(new FractionArray(2)));
+	}
+
+	/**
+	 * Runs unit test for {@link RationalPolynomial#equals(Object)} and
+	 * {@link RationalPolynomial#hashCode()}.
+	 *
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testEquals() throws Exception {
+		RationalPolynomial locSame = RationalPolynomial.of(1, -4, 6).multiply(new Fraction(1, 4));
+		assertEquals("Wrong equality", TEST_POLYNOMIAL, locSame);
+		assertEquals("Wrong hash code", TEST_POLYNOMIAL.hashCode(), locSame.hashCode());
+		assertNotEquals("Wrong equality", TEST_POLYNOMIAL, TEST_POLYNOMIAL.negate());
+		assertNotEquals("Wrong equality", TEST_POLYNOMIAL, null);
+	}
+
+}
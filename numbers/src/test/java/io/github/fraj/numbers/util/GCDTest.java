@@ -15,8 +15,15 @@
  */
 package io.github.fraj.numbers.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -44,9 +51,340 @@ public class GCDTest {
 	 */
 	@Test
 	@Parameters({ "117936, 15288, 2184", "15288, 117936, 2184", "-117936, 15288, 2184", "15288, -117936, 2184", "-117936, -15288, 2184", "-15288, -117936, 2184",
-			"3, 17, 1", "17, 3, 1", "0, 25, 25", "25, 0, 25", "0, 0, 0" })
+			"3, 17, 1", "17, 3, 1", "0, 25, 25", "25, 0, 25", "0, 0, 0", "1836311903, 1134903170, 1",
+			"2147483647, 2147483646, 1", "-2147483648, 6, 2", "-2147483648, 1073741824, 1073741824" })
 	public void testOf(int argLeft, int argRight, int argExpected) throws Exception {
 		assertEquals("Wrong GCD value", argExpected, GCD.of(argLeft, argRight));
 	}
 
+	/**
+	 * Tests {@link GCD#of(long, long)}.
+	 * 
+	 * @param argLeft
+	 *            the left number for GCD computation
+	 * @param argRight
+	 *            the right number for GCD computation
+	 * @param argExpected
+	 *            the expected result for GCD computation
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "117936, 15288, 2184", "-117936, -15288, 2184", "3, 17, 1", "0, 25, 25", "25, 0, 25", "0, 0, 0",
+			"7540113804746346429, 4660046610375530309, 1", "9223372036854775807, 9223372036854775806, 1",
+			"-9223372036854775808, 6, 2", "12621038976000000, 117936000000000, 943488000000" })
+	public void testOfLong(long argLeft, long argRight, long argExpected) throws Exception {
+		assertEquals("Wrong GCD value", argExpected, GCD.of(argLeft, argRight));
+	}
+
+	/**
+	 * Tests {@link GCD#of(int...)} and {@link GCD#of(int[], int, int)}.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testOfArray() throws Exception {
+		assertEquals("Wrong GCD value", 0, GCD.of(new int[0]));
+		assertEquals("Wrong GCD value", 0, GCD.of(0, 0, 0));
+		assertEquals("Wrong GCD value", 6, GCD.of(-12, 18, 0, 30));
+		assertEquals("Wrong GCD value", 1, GCD.of(12, 18, 5, Integer.MIN_VALUE));
+		assertEquals("Wrong GCD value", 1073741824, GCD.of(Integer.MIN_VALUE, 1073741824, 0));
+		int[] locValues = { 7, 12, 18, 30, 35 };
+		assertEquals("Wrong GCD value", 6, GCD.of(locValues, 1, 4));
+		assertEquals("Wrong GCD value", 1, GCD.of(locValues, 0, 5));
+		assertEquals("Wrong GCD value", 0, GCD.of(locValues, 2, 2));
+	}
+
+	/**
+	 * Tests {@link GCD#of(long...)} and {@link GCD#of(long[], int, int)}.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testOfLongArray() throws Exception {
+		assertEquals("Wrong GCD value", 0L, GCD.of(new long[0]));
+		assertEquals("Wrong GCD value", 943488000000L, GCD.of(12621038976000000L, -117936000000000L, 0L));
+		long[] locValues = { 3, 1L << 40, 3L << 41, 5L << 42, 7 };
+		assertEquals("Wrong GCD value", 1L << 40, GCD.of(locValues, 1, 4));
+		assertEquals("Wrong GCD value", 1L, GCD.of(locValues, 0, 5));
+	}
+
+	/**
+	 * Tests {@link GCD#of(int[], int, int)} with an invalid range.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link IndexOutOfBoundsException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testOfArray_InvalidRange() throws Exception {
+		GCD.of(new int[] { 1, 2, 3 }, 2, 4);
+	}
+
+	/**
+	 * Tests {@link GCD#extended(int, int, int[])}.
+	 * 
+	 * @param argLeft
+	 *            the left number for GCD computation
+	 * @param argRight
+	 *            the right number for GCD computation
+	 * @param argExpected
+	 *            the expected result for GCD computation
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "240, 46, 2", "46, 240, 2", "-240, 46, 2", "240, -46, 2", "-240, -46, 2", "3, 17, 1", "0, 25, 25",
+			"25, 0, 25", "0, 0, 0", "1836311903, 1134903170, 1", "2147483647, 2147483646, 1",
+			"-2147483648, 6, 2", "-2147483648, 2147483647, 1", "2147483647, -2147483648, 1", "-2147483648, -1, 1",
+			"-1, -2147483648, 1", "-2147483648, 1073741824, 1073741824" })
+	public void testExtended(int argLeft, int argRight, int argExpected) throws Exception {
+		int[] locCoefficients = new int[2];
+		assertEquals("Wrong GCD value", argExpected, GCD.extended(argLeft, argRight, locCoefficients));
+		assertEquals("Wrong Bezout identity", argExpected,
+				(long) argLeft * locCoefficients[0] + (long) argRight * locCoefficients[1]);
+		if (argExpected != 0) {
+			assertEquals("Coefficient too large", true,
+					Math.abs((long) locCoefficients[0]) <= Math.max(1, Math.abs((long) argRight / argExpected)));
+		}
+	}
+
+	/**
+	 * Tests {@link GCD#extended(long, long, long[])}.
+	 * 
+	 * @param argLeft
+	 *            the left number for GCD computation
+	 * @param argRight
+	 *            the right number for GCD computation
+	 * @param argExpected
+	 *            the expected result for GCD computation
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "240, 46, 2", "-240, -46, 2", "0, 25, 25", "25, 0, 25", "0, 0, 0",
+			"7540113804746346429, 4660046610375530309, 1", "9223372036854775807, 9223372036854775806, 1",
+			"-9223372036854775808, 6, 2", "-9223372036854775808, -1, 1", "-1, -9223372036854775808, 1",
+			"-9223372036854775808, 9223372036854775807, 1", "9223372036854775807, -9223372036854775808, 1",
+			"-9223372036854775808, 4611686018427387904, 4611686018427387904",
+			"12621038976000000, 117936000000000, 943488000000" })
+	public void testExtendedLong(long argLeft, long argRight, long argExpected) throws Exception {
+		long[] locCoefficients = new long[2];
+		assertEquals("Wrong GCD value", argExpected, GCD.extended(argLeft, argRight, locCoefficients));
+		assertEquals("Wrong Bezout identity", BigInteger.valueOf(argExpected),
+				BigInteger.valueOf(argLeft).multiply(BigInteger.valueOf(locCoefficients[0]))
+						.add(BigInteger.valueOf(argRight).multiply(BigInteger.valueOf(locCoefficients[1]))));
+	}
+
+	/**
+	 * Tests {@link GCD#extended(int, int, int[])} in case of overflow.
+	 * 
+	 * @param argLeft
+	 *            the left number for GCD computation
+	 * @param argRight
+	 *            the right number for GCD computation
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	@Parameters({ "-2147483648, 0", "0, -2147483648", "-2147483648, -2147483648" })
+	public void testExtended_Overflow(int argLeft, int argRight) throws Exception {
+		GCD.extended(argLeft, argRight, new int[2]);
+	}
+
+	/**
+	 * Tests {@link GCD#extended(long, long, long[])} in case of overflow.
+	 * 
+	 * @param argLeft
+	 *            the left number for GCD computation
+	 * @param argRight
+	 *            the right number for GCD computation
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	@Parameters({ "-9223372036854775808, 0", "0, -9223372036854775808", "-9223372036854775808, -9223372036854775808" })
+	public void testExtendedLong_Overflow(long argLeft, long argRight) throws Exception {
+		GCD.extended(argLeft, argRight, new long[2]);
+	}
+
+	/**
+	 * Tests {@link GCD#lcm(int, int)}.
+	 * 
+	 * @param argLeft
+	 *            the left number for LCM computation
+	 * @param argRight
+	 *            the right number for LCM computation
+	 * @param argExpected
+	 *            the expected result for LCM computation
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "4, 6, 12", "-4, 6, 12", "-4, -6, 12", "0, 6, 0", "6, 0, 0", "46341, 46340, 2147441940",
+			"1073741824, 2, 1073741824" })
+	public void testLcm(int argLeft, int argRight, int argExpected) throws Exception {
+		assertEquals("Wrong LCM value", argExpected, GCD.lcm(argLeft, argRight));
+	}
+
+	/**
+	 * Tests {@link GCD#lcm(int, int)} in case of overflow.
+	 * 
+	 * @param argLeft
+	 *            the left number for LCM computation
+	 * @param argRight
+	 *            the right number for LCM computation
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	@Parameters({ "46341, 46343", "-2147483648, 1", "-2147483648, -2147483648", "2147483647, 2147483646" })
+	public void testLcm_Overflow(int argLeft, int argRight) throws Exception {
+		GCD.lcm(argLeft, argRight);
+	}
+
+	/**
+	 * Tests {@link GCD#lcm(long, long)}.
+	 * 
+	 * @param argLeft
+	 *            the left number for LCM computation
+	 * @param argRight
+	 *            the right number for LCM computation
+	 * @param argExpected
+	 *            the expected result for LCM computation
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	@Parameters({ "4, 6, 12", "-4, -6, 12", "0, 6, 0", "4294967296, 6442450944, 12884901888",
+			"3037000499, 3037000498, 9223372027889248502" })
+	public void testLcmLong(long argLeft, long argRight, long argExpected) throws Exception {
+		assertEquals("Wrong LCM value", argExpected, GCD.lcm(argLeft, argRight));
+	}
+
+	/**
+	 * Tests {@link GCD#lcm(long, long)} in case of overflow.
+	 * 
+	 * @param argLeft
+	 *            the left number for LCM computation
+	 * @param argRight
+	 *            the right number for LCM computation
+	 * @throws Exception
+	 *             expecting {@link ArithmeticException}, otherwise test fails
+	 */
+	@Test(expected = ArithmeticException.class)
+	@Parameters({ "3037000500, 3037000501", "-9223372036854775808, 1" })
+	public void testLcmLong_Overflow(long argLeft, long argRight) throws Exception {
+		GCD.lcm(argLeft, argRight);
+	}
+
+	/**
+	 * Tests {@link GCD#ofAll(int[], int[], int[])} against
+	 * {@link GCD#of(int, int)}, on more pairs than SIMD vectors have lanes.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testOfAll() throws Exception {
+		int[] locSpecial = { 0, 1, -1, 6, -12, 1 << 30, Integer.MAX_VALUE, Integer.MIN_VALUE };
+		Random locRandom = new Random(17);
+		int[] locLeft = new int[1001];
+		int[] locRight = new int[locLeft.length];
+		for (int i = 0; i < locLeft.length; i++) {
+			if (i % 2 == 0) {
+				locLeft[i] = locSpecial[locRandom.nextInt(locSpecial.length)];
+				locRight[i] = locSpecial[locRandom.nextInt(locSpecial.length)];
+			} else {
+				int locFactor = 1 + locRandom.nextInt(1 << 10);
+				locLeft[i] = locFactor * (locRandom.nextInt(1 << 20) - (1 << 19));
+				locRight[i] = locFactor * (locRandom.nextInt(1 << 20) - (1 << 19));
+			}
+		}
+		int[] locResult = new int[locLeft.length];
+		GCD.ofAll(locLeft, locRight, locResult);
+		for (int i = 0; i < locLeft.length; i++) {
+			assertEquals("Wrong GCD value", GCD.of(locLeft[i], locRight[i]), locResult[i]);
+		}
+		GCD.ofAll(locLeft, locRight, locLeft);
+		assertArrayEquals("Wrong GCD values in place", locResult, locLeft);
+	}
+
+	/**
+	 * Tests that the Vector API path of {@link GCD#ofAll(int[], int[], int[])}
+	 * and {@link GCD#reduceAll(int[], int[])} is the one under test, when the
+	 * build runs the tests against the classes for Java 17 and later.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testOfAll_Vectorized() throws Exception {
+		Assume.assumeTrue(Boolean.getBoolean("numbers.vectorized"));
+		Field locField = BatchGCD.class.getDeclaredField("VECTORIZED");
+		locField.setAccessible(true);
+		assertTrue("Vector API not used", locField.getBoolean(null));
+	}
+
+	/**
+	 * Tests {@link GCD#ofAll(int[], int[], int[])} with arrays of different
+	 * lengths.
+	 * 
+	 * @throws Exception
+	 *             expecting {@link IllegalArgumentException}, otherwise test
+	 *             fails
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testOfAll_LengthMismatch() throws Exception {
+		GCD.ofAll(new int[2], new int[2], new int[3]);
+	}
+
+	/**
+	 * Tests {@link GCD#reduceAll(int[], int[])} against
+	 * {@link GCD#of(int, int)}, on more pairs than SIMD vectors have lanes.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testReduceAll_Random() throws Exception {
+		Random locRandom = new Random(14);
+		int[] locNumerators = new int[1001];
+		int[] locDenominators = new int[locNumerators.length];
+		for (int i = 0; i < locNumerators.length; i++) {
+			int locFactor = 1 + locRandom.nextInt(1 << 10);
+			locNumerators[i] = locFactor * (locRandom.nextInt(1 << 20) - (1 << 19));
+			locDenominators[i] = locFactor * (locRandom.nextInt(1 << 20) - (1 << 19));
+		}
+		int[] locExpectedNumerators = locNumerators.clone();
+		int[] locExpectedDenominators = locDenominators.clone();
+		for (int i = 0; i < locNumerators.length; i++) {
+			int locGcd = GCD.of(locNumerators[i], locDenominators[i]);
+			if (locGcd != 0) {
+				locExpectedNumerators[i] /= locGcd;
+				locExpectedDenominators[i] /= locGcd;
+			}
+		}
+		GCD.reduceAll(locNumerators, locDenominators);
+		assertArrayEquals("Wrong numerators", locExpectedNumerators, locNumerators);
+		assertArrayEquals("Wrong denominators", locExpectedDenominators, locDenominators);
+	}
+
+	/**
+	 * Tests {@link GCD#reduceAll(int[], int[])}.
+	 * 
+	 * @throws Exception
+	 *             only in case of test failure
+	 */
+	@Test
+	public void testReduceAll() throws Exception {
+		int[] locNumerators = { 6, -6, 0, 0, 7, 1 << 30, 12, 35, -9, 1 << 20 };
+		int[] locDenominators = { 4, 4, 5, 0, -3, 1 << 29, 18, -14, 6, 3 << 19 };
+		GCD.reduceAll(locNumerators, locDenominators);
+		assertArrayEquals("Wrong numerators", new int[] { 3, -3, 0, 0, 7, 2, 2, 5, -3, 2 }, locNumerators);
+		assertArrayEquals("Wrong denominators", new int[] { 2, 2, 1, 0, -3, 1, 3, -2, 2, 3 }, locDenominators);
+	}
+
 }